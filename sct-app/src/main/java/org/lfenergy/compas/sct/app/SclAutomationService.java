@@ -11,7 +11,10 @@ import org.lfenergy.compas.sct.commons.api.ControlBlockEditor;
 import org.lfenergy.compas.sct.commons.api.SclEditor;
 import org.lfenergy.compas.sct.commons.api.SubstationEditor;
 import org.lfenergy.compas.sct.commons.dto.HeaderDTO;
+import org.lfenergy.compas.sct.commons.dto.StdUpdateReport;
 import org.lfenergy.compas.sct.commons.exception.ScdException;
+import org.lfenergy.compas.sct.commons.io.SclSource;
+import org.lfenergy.compas.sct.commons.io.StdLoader;
 
 import java.util.*;
 
@@ -22,6 +25,8 @@ import java.util.*;
  * </p>
  * <ul>
  *   <li>{@link SclAutomationService#createSCD(SCL, HeaderDTO, List) Adds all elements under the <b>SCL </b> object from given <b>SSD </b> and <b>STD </b> files}
+ *   <li>{@link SclAutomationService#createSCD(SCL, HeaderDTO, StdLoader, List) Same as above, the <b>STD </b> files being parsed concurrently, only the referenced ones being kept}
+ *   <li>{@link SclAutomationService#updateSCD(SCL, HeaderDTO, List) Replaces the elements of an existing <b>SCD </b> coming from changed <b>STD </b> files}
  *  </ul>
  */
 @RequiredArgsConstructor
@@ -41,14 +46,60 @@ public class SclAutomationService {
      * @throws ScdException
      */
     public SCL createSCD(@NonNull SCL ssd, @NonNull HeaderDTO headerDTO, List<SCL> stds) throws ScdException {
+        SCL scd = initScdWithSubstation(ssd, headerDTO);
+        sclEditor.importSTDElementsInSCD(scd, stds);
+        controlBlockEditor.removeAllControlBlocksAndDatasetsAndExtRefSrcBindings(scd);
+        return scd;
+    }
+
+    /**
+     * Create an SCD file like {@link #createSCD(SCL, HeaderDTO, List)}, from STD files which are not parsed yet.
+     * STD files are parsed concurrently by the given loader once the substation is added to the SCD, and only the ones
+     * referenced by the Substation/../LNode/Private COMPAS-ICDHeader of the SCD are kept in memory and imported, using
+     * the ICD_SYSTEM_VERSION_UUID already extracted by the loader.
+     * @param ssd : (mandatory) file contains substation datas
+     * @param headerDTO : (mandatory) object which hold header datas and historys' one
+     * @param stdLoader : (mandatory) parses the STD files
+     * @param stdSources : list of STD files containing IED datas (IED, Communication and DataTypeTemplate)
+     * @return an SCD object
+     * @throws ScdException
+     */
+    public SCL createSCD(@NonNull SCL ssd, @NonNull HeaderDTO headerDTO, @NonNull StdLoader stdLoader, List<SclSource> stdSources) throws ScdException {
+        SCL scd = initScdWithSubstation(ssd, headerDTO);
+        sclEditor.importSTDElementsInSCD(scd, stdLoader.loadReferencedStds(scd, stdSources));
+        controlBlockEditor.removeAllControlBlocksAndDatasetsAndExtRefSrcBindings(scd);
+        return scd;
+    }
+
+    private SCL initScdWithSubstation(SCL ssd, HeaderDTO headerDTO) {
         SCL scd = sclEditor.initScl(headerDTO.getId(), headerDTO.getVersion(), headerDTO.getRevision());
         if (!headerDTO.getHistoryItems().isEmpty()) {
             HeaderDTO.HistoryItem hItem = headerDTO.getHistoryItems().get(0);
             sclEditor.addHistoryItem(scd, hItem.getWho(), hItem.getWhat(), hItem.getWhy());
         }
         substationEditor.addSubstation(scd, ssd);
-        sclEditor.importSTDElementsInSCD(scd, stds);
-        controlBlockEditor.removeAllControlBlocksAndDatasetsAndExtRefSrcBindings(scd);
         return scd;
     }
+
+    /**
+     * Update an SCD file created by {@link #createSCD} with changed STD files, without importing again the unchanged
+     * STD files : only the IEDs, DataTypeTemplates types and ConnectedAPs of the changed STD files are replaced.
+     * ControlBlocks, DataSets and ExtRef source bindings are only removed from the replaced IEDs, and from the other
+     * IEDs where they are bound to the replaced IEDs : the other ones are kept as they are in the SCD.
+     * @param scd : (mandatory) SCD file to update
+     * @param headerDTO : (mandatory) object which hold historys' datas, first history item is added to the SCD
+     * @param changedStds : list of changed STD files, identified by their ICD_SYSTEM_VERSION_UUID
+     * @return what has been replaced in the SCD, and the ControlBlocks and ExtRef source bindings of the other IEDs
+     * removed because they were bound to the replaced IEDs
+     * @throws ScdException
+     */
+    public StdUpdateReport updateSCD(@NonNull SCL scd, @NonNull HeaderDTO headerDTO, List<SCL> changedStds) throws ScdException {
+        if (!headerDTO.getHistoryItems().isEmpty()) {
+            HeaderDTO.HistoryItem hItem = headerDTO.getHistoryItems().getFirst();
+            sclEditor.addHistoryItem(scd, hItem.getWho(), hItem.getWhat(), hItem.getWhy());
+        }
+        StdUpdateReport stdUpdateReport = sclEditor.updateSTDElementsInSCD(scd, changedStds);
+        return stdUpdateReport.withControlBlockCleanup(
+                controlBlockEditor.removeControlBlocksAndDatasetsAndExtRefSrcBindings(scd, stdUpdateReport.updatedIedNames()));
+    }
 }
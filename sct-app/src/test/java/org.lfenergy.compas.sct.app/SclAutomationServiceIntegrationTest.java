@@ -8,20 +8,29 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.lfenergy.compas.scl2007b4.model.LN0;
 import org.lfenergy.compas.scl2007b4.model.SCL;
+import org.lfenergy.compas.scl2007b4.model.TIED;
 import org.lfenergy.compas.sct.commons.*;
 import org.lfenergy.compas.sct.commons.api.ControlBlockEditor;
 import org.lfenergy.compas.sct.commons.api.DataTypeTemplateReader;
 import org.lfenergy.compas.sct.commons.api.SclEditor;
 import org.lfenergy.compas.sct.commons.api.SubstationEditor;
 import org.lfenergy.compas.sct.commons.dto.HeaderDTO;
+import org.lfenergy.compas.sct.commons.dto.SclReportItem;
+import org.lfenergy.compas.sct.commons.dto.StdUpdateReport;
 import org.lfenergy.compas.sct.commons.exception.ScdException;
+import org.lfenergy.compas.sct.commons.io.SclMarshaller;
+import org.lfenergy.compas.sct.commons.io.SclSource;
+import org.lfenergy.compas.sct.commons.io.StdLoader;
 import org.lfenergy.compas.sct.commons.scl.ControlService;
 import org.lfenergy.compas.sct.commons.scl.ExtRefService;
 import org.lfenergy.compas.sct.commons.scl.SclElementAdapter;
 import org.lfenergy.compas.sct.commons.scl.SclRootAdapter;
 import org.lfenergy.compas.sct.commons.scl.ldevice.LDeviceAdapter;
+import org.lfenergy.compas.sct.commons.testhelpers.SclGenerator;
 import org.lfenergy.compas.sct.commons.testhelpers.SclTestMarshaller;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
@@ -69,6 +78,24 @@ class SclAutomationServiceIntegrationTest {
         assertSclValidateXsd(scd);
     }
 
+    @Test
+    void createSCD_with_stdSources_should_import_only_referenced_stds() throws IOException {
+        // Given
+        SCL ssd = SclTestMarshaller.getSCLFromResource("scd-ied-dtt-com-import-stds/scd.xml");
+        List<SclSource> stdSources = List.of(
+                stdSource("scd-ied-dtt-com-import-stds/std_SITESITE1SCU1.xml"),
+                stdSource("scd-ied-dtt-com-import-stds/std.xml"));
+        StdLoader stdLoader = new StdLoader(new SclMarshaller(), 2);
+        // When
+        SCL scd = sclAutomationService.createSCD(ssd, headerDTO, stdLoader, stdSources);
+        // Then
+        assertThat(scd.getSubstation()).hasSize(1);
+        assertThat(scd.getIED()).hasSize(1);
+        assertThat(scd.getDataTypeTemplates()).isNotNull();
+        assertThat(scd.getCommunication().getSubNetwork()).hasSize(2);
+        assertSclValidateXsd(scd);
+    }
+
     @Test
     void createSCD_WithHItem_should_return_generatedSCD() {
         // Given
@@ -174,4 +201,76 @@ class SclAutomationServiceIntegrationTest {
         assertSclValidateXsd(scd);
     }
 
+    @Test
+    void createSCD_with_generated_inputs_should_import_all_ieds_and_allow_controlBlocks_creation() {
+        // Given
+        SclGenerator sclGenerator = new SclGenerator(4, 2, 6, 42L);
+        // When
+        SCL scd = sclAutomationService.createSCD(sclGenerator.generateSsd(), headerDTO, sclGenerator.generateStds());
+        List<SclReportItem> sclReportItems = controlBlockEditor.createDataSetAndControlBlocks(scd, sclGenerator.generateDaComm());
+        // Then
+        assertThat(scd.getIED()).extracting(TIED::getName)
+                .containsExactly(SclGenerator.iedName(0), SclGenerator.iedName(1), SclGenerator.iedName(2), SclGenerator.iedName(3));
+        assertThat(scd.getCommunication().getSubNetwork()).hasSize(1);
+        assertThat(sclReportItems.stream().noneMatch(SclReportItem::isError)).isTrue();
+        assertThat(scd.getIED().stream()
+                .flatMap(tied -> tied.getAccessPoint().getFirst().getServer().getLDevice().stream())
+                .anyMatch(tlDevice -> tlDevice.getLN0().isSetGSEControl())).isTrue();
+    }
+
+    @Test
+    void createSCD_with_generated_bays_should_import_all_ieds_in_their_bay() {
+        // Given
+        SclGenerator sclGenerator = SclGenerator.builder()
+                .bayCount(3)
+                .iedsPerBay(2)
+                .lDeviceCount(2)
+                .lnCount(2)
+                .extRefsPerLn(3)
+                .dttVariantCount(2)
+                .gooseFanOut(2)
+                .smvFanOut(1)
+                .seed(42L)
+                .build();
+        // When
+        SCL scd = sclAutomationService.createSCD(sclGenerator.generateSsd(), headerDTO, sclGenerator.generateStds());
+        List<SclReportItem> sclReportItems = controlBlockEditor.createDataSetAndControlBlocks(scd, sclGenerator.generateDaComm());
+        // Then
+        assertThat(scd.getIED()).hasSize(6);
+        assertThat(scd.getSubstation().getFirst().getVoltageLevel().getFirst().getBay()).hasSize(3);
+        assertThat(scd.getDataTypeTemplates().getLNodeType())
+                .filteredOn(tlNodeType -> tlNodeType.getLnClass().contains(SclGenerator.SOURCE_LN_CLASS))
+                .hasSizeGreaterThanOrEqualTo(2);
+        assertThat(sclReportItems.stream().noneMatch(SclReportItem::isError)).isTrue();
+    }
+
+    @Test
+    void updateSCD_with_generated_inputs_should_replace_changed_ied_only() {
+        // Given
+        SclGenerator sclGenerator = new SclGenerator(4, 2, 6, 42L);
+        SCL scd = sclAutomationService.createSCD(sclGenerator.generateSsd(), headerDTO, sclGenerator.generateStds());
+        TIED unchangedIed = scd.getIED().getFirst();
+        int typeCount = scd.getDataTypeTemplates().getLNodeType().size();
+        // When
+        StdUpdateReport stdUpdateReport = sclAutomationService.updateSCD(scd, headerDTO, List.of(sclGenerator.generateStd(2)));
+        // Then
+        assertThat(stdUpdateReport.updatedIedNames()).containsExactly(SclGenerator.iedName(2));
+        assertThat(stdUpdateReport.addedTypeIds()).isEmpty();
+        assertThat(stdUpdateReport.removedTypeIds()).isEmpty();
+        assertThat(scd.getIED()).extracting(TIED::getName)
+                .containsExactly(SclGenerator.iedName(0), SclGenerator.iedName(1), SclGenerator.iedName(2), SclGenerator.iedName(3));
+        assertThat(scd.getIED().getFirst()).isSameAs(unchangedIed);
+        assertThat(scd.getDataTypeTemplates().getLNodeType()).hasSize(typeCount);
+        assertThat(scd.getCommunication().getSubNetwork()).singleElement()
+                .satisfies(tSubNetwork -> assertThat(tSubNetwork.getConnectedAP()).hasSize(4));
+        assertSclValidateXsd(scd);
+    }
+
+    private static SclSource stdSource(String name) throws IOException {
+        try (InputStream inputStream = SclAutomationServiceIntegrationTest.class.getClassLoader().getResourceAsStream(name)) {
+            assertThat(inputStream).isNotNull();
+            return SclSource.of(name, inputStream.readAllBytes());
+        }
+    }
+
 }
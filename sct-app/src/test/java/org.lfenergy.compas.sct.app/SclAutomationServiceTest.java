@@ -13,7 +13,9 @@ import org.lfenergy.compas.scl2007b4.model.THeader;
 import org.lfenergy.compas.sct.commons.api.ControlBlockEditor;
 import org.lfenergy.compas.sct.commons.api.SclEditor;
 import org.lfenergy.compas.sct.commons.api.SubstationEditor;
+import org.lfenergy.compas.sct.commons.dto.ControlBlockCleanupReport;
 import org.lfenergy.compas.sct.commons.dto.HeaderDTO;
+import org.lfenergy.compas.sct.commons.dto.StdUpdateReport;
 import org.lfenergy.compas.sct.commons.exception.ScdException;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
@@ -192,4 +194,45 @@ class SclAutomationServiceTest {
                 .hasMessage("removeAllControlBlocksAndDatasetsAndExtRefSrcBindings fail");
     }
 
+    @Test
+    void updateSCD_with_headerHistory_should_update_scd_and_return_report() throws InvocationTargetException, IllegalAccessException, InstantiationException, NoSuchMethodException {
+        // Given
+        SCL scd = (SCL) BeanUtils.cloneBean(scl);
+        SCL std = (SCL) BeanUtils.cloneBean(scl);
+        HeaderDTO.HistoryItem historyItem = new HeaderDTO.HistoryItem();
+        historyItem.setWhat("test");
+        historyItem.setWho("name");
+        historyItem.setWhy("test");
+        headerDTO.getHistoryItems().add(historyItem);
+        StdUpdateReport stdUpdateReport = new StdUpdateReport(List.of("IED_NAME1"), List.of(), List.of(), List.of(), List.of());
+        when(sclEditor.updateSTDElementsInSCD(scd, List.of(std))).thenReturn(stdUpdateReport);
+        ControlBlockCleanupReport controlBlockCleanupReport = new ControlBlockCleanupReport(
+                List.of("/SCL/IED[@name=\"IED_NAME2\"]/AccessPoint/Server/LDevice[@inst=\"LD_INST21\"]/LN0/GSEControl[@name=\"CB_NAME\"]"), List.of());
+        when(controlBlockEditor.removeControlBlocksAndDatasetsAndExtRefSrcBindings(scd, List.of("IED_NAME1"))).thenReturn(controlBlockCleanupReport);
+        // When
+        StdUpdateReport result = sclAutomationService.updateSCD(scd, headerDTO, List.of(std));
+        // Then
+        assertThat(result).isEqualTo(stdUpdateReport.withControlBlockCleanup(controlBlockCleanupReport));
+        verify(sclEditor, times(0)).initScl(any(UUID.class), anyString(), anyString());
+        verify(sclEditor, times(1)).addHistoryItem(scd, historyItem.getWho(), historyItem.getWhat(), historyItem.getWhy());
+        verify(substationEditor, times(0)).addSubstation(any(SCL.class), any(SCL.class));
+        verify(sclEditor, times(0)).importSTDElementsInSCD(any(SCL.class), anyList());
+        verify(controlBlockEditor, times(0)).removeAllControlBlocksAndDatasetsAndExtRefSrcBindings(any(SCL.class));
+        verify(controlBlockEditor, times(1)).removeControlBlocksAndDatasetsAndExtRefSrcBindings(scd, List.of("IED_NAME1"));
+    }
+
+    @Test
+    void updateSCD_when_sclEditor_updateSTDElementsInSCD_Fail_should_throw_exception() throws InvocationTargetException, IllegalAccessException, InstantiationException, NoSuchMethodException {
+        // Given
+        SCL scd = (SCL) BeanUtils.cloneBean(scl);
+        SCL std = (SCL) BeanUtils.cloneBean(scl);
+        doThrow(new ScdException("updateSTDElementsInSCD fail"))
+                .when(sclEditor).updateSTDElementsInSCD(any(SCL.class), anyList());
+        // When Then
+        assertThatThrownBy(() -> sclAutomationService.updateSCD(scd, headerDTO, List.of(std)))
+                .isInstanceOf(ScdException.class)
+                .hasMessage("updateSTDElementsInSCD fail");
+        verify(controlBlockEditor, times(0)).removeControlBlocksAndDatasetsAndExtRefSrcBindings(any(SCL.class), anyCollection());
+    }
+
 }
@@ -0,0 +1,54 @@
+// SPDX-FileCopyrightText: 2025 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.benchmarks;
+
+import org.lfenergy.compas.scl2007b4.model.SCL;
+import org.lfenergy.compas.sct.commons.dto.SclReportItem;
+import org.lfenergy.compas.sct.commons.model.cbcom.CBCom;
+import org.lfenergy.compas.sct.commons.testhelpers.SclGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.lfenergy.compas.sct.benchmarks.SclBenchmarkFixtures.CONTROL_BLOCK_EDITOR;
+import static org.lfenergy.compas.sct.benchmarks.SclBenchmarkFixtures.createScdWithControlBlocks;
+
+/**
+ * Benchmark of {@link org.lfenergy.compas.sct.commons.api.ControlBlockEditor#configureNetworkForAllControlBlocks(SCL, CBCom)}:
+ * allocation of APPID, MAC-Address and VLAN to all ControlBlocks of the SCD.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(2)
+public class ConfigureNetworkBenchmark {
+
+    @Param({"10", "50", "200"})
+    private int iedCount;
+    @Param({"4"})
+    private int lDeviceCount;
+    @Param({"20"})
+    private int extRefCount;
+    @Param({"42"})
+    private long seed;
+
+    private SCL scd;
+    private CBCom cbCom;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        SclGenerator sclGenerator = new SclGenerator(iedCount, lDeviceCount, extRefCount, seed);
+        scd = createScdWithControlBlocks(sclGenerator);
+        cbCom = sclGenerator.generateCbCom();
+    }
+
+    @Benchmark
+    public List<SclReportItem> configureNetworkForAllControlBlocks() {
+        return CONTROL_BLOCK_EDITOR.configureNetworkForAllControlBlocks(scd, cbCom);
+    }
+}
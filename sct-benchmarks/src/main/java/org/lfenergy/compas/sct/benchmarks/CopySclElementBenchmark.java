@@ -0,0 +1,79 @@
+// SPDX-FileCopyrightText: 2025 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.benchmarks;
+
+import org.lfenergy.compas.scl2007b4.model.*;
+import org.lfenergy.compas.sct.commons.io.SclMarshaller;
+import org.lfenergy.compas.sct.commons.testhelpers.SclGenerator;
+import org.lfenergy.compas.sct.commons.util.SclElementCopier;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.lfenergy.compas.sct.benchmarks.SclBenchmarkFixtures.createScdWithControlBlocks;
+
+/**
+ * Benchmark of the deep copy of SCL elements : {@link #jaxbRoundTrip} marshals the element to a JAXBSource and
+ * unmarshals it, as Utils#copySclElement used to do, {@link #copier} and {@link #copierSharingPrivates} use
+ * {@link SclElementCopier}.
+ * <p>
+ * Copied elements are a LN with its DOIs, Inputs and DataSets, an IED with all its LDevices, and a STD.
+ * </p>
+ * Allocations are compared with the GC profiler : {@code -prof gc}, metric {@code gc.alloc.rate.norm} (bytes per operation).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(2)
+public class CopySclElementBenchmark {
+
+    private static final SclMarshaller SCL_MARSHALLER = new SclMarshaller();
+    private static final SclElementCopier COPIER_SHARING_PRIVATES = SclElementCopier.sharing(TPrivate.class);
+
+    @Param({"LN", "IED", "STD"})
+    private String element;
+    @Param({"10"})
+    private int iedCount;
+    @Param({"4"})
+    private int lDeviceCount;
+    @Param({"20"})
+    private int extRefCount;
+    @Param({"42"})
+    private long seed;
+
+    private Object original;
+    private Class<Object> originalClass;
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        SclGenerator sclGenerator = new SclGenerator(iedCount, lDeviceCount, extRefCount, seed);
+        TIED tied = createScdWithControlBlocks(sclGenerator).getIED().getFirst();
+        original = switch (element) {
+            case "LN" -> tied.getAccessPoint().getFirst().getServer().getLDevice().getLast().getLN0();
+            case "IED" -> tied;
+            case "STD" -> sclGenerator.generateStd(0);
+            default -> throw new IllegalArgumentException("Unknown element " + element);
+        };
+        originalClass = (Class<Object>) original.getClass();
+    }
+
+    @Benchmark
+    public Object jaxbRoundTrip() {
+        return SCL_MARSHALLER.copy(original, originalClass);
+    }
+
+    @Benchmark
+    public Object copier() {
+        return SclElementCopier.DEEP.copy(original, originalClass);
+    }
+
+    @Benchmark
+    public Object copierSharingPrivates() {
+        return COPIER_SHARING_PRIVATES.copy(original, originalClass);
+    }
+}
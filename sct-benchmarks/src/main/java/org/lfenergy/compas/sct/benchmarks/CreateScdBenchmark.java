@@ -0,0 +1,52 @@
+// SPDX-FileCopyrightText: 2025 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.benchmarks;
+
+import org.lfenergy.compas.scl2007b4.model.SCL;
+import org.lfenergy.compas.sct.commons.testhelpers.SclGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.lfenergy.compas.sct.benchmarks.SclBenchmarkFixtures.SCL_AUTOMATION_SERVICE;
+import static org.lfenergy.compas.sct.benchmarks.SclBenchmarkFixtures.newHeaderDTO;
+
+/**
+ * Benchmark of {@link org.lfenergy.compas.sct.app.SclAutomationService#createSCD}: Substation creation and import of
+ * all STDs. Inputs are modified by the import, so they are generated again before each iteration.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(2)
+public class CreateScdBenchmark {
+
+    @Param({"10", "50", "200"})
+    private int iedCount;
+    @Param({"4"})
+    private int lDeviceCount;
+    @Param({"20"})
+    private int extRefCount;
+    @Param({"42"})
+    private long seed;
+
+    private SCL ssd;
+    private List<SCL> stds;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        SclGenerator sclGenerator = new SclGenerator(iedCount, lDeviceCount, extRefCount, seed);
+        ssd = sclGenerator.generateSsd();
+        stds = sclGenerator.generateStds();
+    }
+
+    @Benchmark
+    public SCL createSCD() {
+        return SCL_AUTOMATION_SERVICE.createSCD(ssd, newHeaderDTO(), stds);
+    }
+}
@@ -0,0 +1,125 @@
+// SPDX-FileCopyrightText: 2025 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.benchmarks;
+
+import org.lfenergy.compas.scl2007b4.model.*;
+import org.lfenergy.compas.sct.commons.DataTypeTemplatesService;
+import org.lfenergy.compas.sct.commons.domain.DataPath;
+import org.lfenergy.compas.sct.commons.scl.SclIndex;
+import org.lfenergy.compas.sct.commons.scl.dtt.DataAttributeCatalogue;
+import org.lfenergy.compas.sct.commons.testhelpers.SclGenerator;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.lfenergy.compas.sct.benchmarks.SclBenchmarkFixtures.createScd;
+
+/**
+ * Benchmark of the representation of SDO and BDA paths while walking the DataTypeTemplates.
+ * <p>
+ * {@link #copyListPaths} copies the list of names at each step, as DoLinkedToDa and DataAttributeRef used to do,
+ * {@link #appendDataPaths} appends to a shared {@link DataPath}, and {@link #flattenDataTypeTemplates} measures the
+ * whole {@link DataTypeTemplatesService#getAllDoLinkedToDa(TDataTypeTemplates)}, with an empty catalogue.
+ * </p>
+ * Allocations are compared with the GC profiler : {@code -prof gc}, metric {@code gc.alloc.rate.norm} (bytes per operation).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(2)
+public class DataAttributePathBenchmark {
+
+    private static final DataTypeTemplatesService DATA_TYPE_TEMPLATES_SERVICE = new DataTypeTemplatesService();
+
+    @Param({"10"})
+    private int iedCount;
+    @Param({"1", "8"})
+    private int dttVariantCount;
+    @Param({"42"})
+    private long seed;
+
+    private TDataTypeTemplates dtt;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SclGenerator sclGenerator = SclGenerator.builder()
+                .iedsPerBay(iedCount)
+                .dttVariantCount(dttVariantCount)
+                .seed(seed)
+                .build();
+        dtt = createScd(sclGenerator).getDataTypeTemplates();
+    }
+
+    @Benchmark
+    public void copyListPaths(Blackhole blackhole) {
+        for (TDOType tdoType : dtt.getDOType()) {
+            walkWithLists(tdoType, new ArrayList<>(), new ArrayList<>(), blackhole);
+        }
+    }
+
+    @Benchmark
+    public void appendDataPaths(Blackhole blackhole) {
+        for (TDOType tdoType : dtt.getDOType()) {
+            walkWithDataPaths(tdoType, DataPath.empty(), blackhole);
+        }
+    }
+
+    @Benchmark
+    public long flattenDataTypeTemplates() {
+        DataAttributeCatalogue.invalidate(dtt);
+        return DATA_TYPE_TEMPLATES_SERVICE.getAllDoLinkedToDa(dtt).count();
+    }
+
+    private void walkWithLists(TDOType tdoType, List<String> sdoNames, List<String> bdaNames, Blackhole blackhole) {
+        for (TUnNaming sdoOrDa : tdoType.getSDOOrDA()) {
+            if (sdoOrDa instanceof TSDO tsdo) {
+                List<String> newSdoNames = new ArrayList<>(sdoNames);
+                newSdoNames.add(tsdo.getName());
+                SclIndex.findDOType(dtt, tsdo.getType()).ifPresent(nextDoType -> walkWithLists(nextDoType, newSdoNames, bdaNames, blackhole));
+            } else if (sdoOrDa instanceof TDA tda) {
+                walkBdasWithLists(tda, new ArrayList<>(sdoNames), new ArrayList<>(bdaNames), blackhole);
+            }
+        }
+    }
+
+    private void walkBdasWithLists(TAbstractDataAttribute daOrBda, List<String> sdoNames, List<String> bdaNames, Blackhole blackhole) {
+        if (daOrBda.getBType() != TPredefinedBasicTypeEnum.STRUCT) {
+            blackhole.consume(sdoNames);
+            blackhole.consume(bdaNames);
+            return;
+        }
+        SclIndex.findDAType(dtt, daOrBda.getType()).ifPresent(tdaType -> tdaType.getBDA().forEach(tbda -> {
+            List<String> newBdaNames = new ArrayList<>(bdaNames);
+            newBdaNames.add(tbda.getName());
+            walkBdasWithLists(tbda, new ArrayList<>(sdoNames), newBdaNames, blackhole);
+        }));
+    }
+
+    private void walkWithDataPaths(TDOType tdoType, DataPath sdoPath, Blackhole blackhole) {
+        for (TUnNaming sdoOrDa : tdoType.getSDOOrDA()) {
+            if (sdoOrDa instanceof TSDO tsdo) {
+                DataPath newSdoPath = sdoPath.append(tsdo.getName());
+                SclIndex.findDOType(dtt, tsdo.getType()).ifPresent(nextDoType -> walkWithDataPaths(nextDoType, newSdoPath, blackhole));
+            } else if (sdoOrDa instanceof TDA tda) {
+                walkBdasWithDataPaths(tda, sdoPath, DataPath.empty(), blackhole);
+            }
+        }
+    }
+
+    private void walkBdasWithDataPaths(TAbstractDataAttribute daOrBda, DataPath sdoPath, DataPath bdaPath, Blackhole blackhole) {
+        if (daOrBda.getBType() != TPredefinedBasicTypeEnum.STRUCT) {
+            blackhole.consume(sdoPath);
+            blackhole.consume(bdaPath);
+            return;
+        }
+        SclIndex.findDAType(dtt, daOrBda.getType()).ifPresent(tdaType -> tdaType.getBDA().forEach(tbda ->
+                walkBdasWithDataPaths(tbda, sdoPath, bdaPath.append(tbda.getName()), blackhole)));
+    }
+}
@@ -0,0 +1,53 @@
+// SPDX-FileCopyrightText: 2025 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.benchmarks;
+
+import org.lfenergy.compas.scl2007b4.model.SCL;
+import org.lfenergy.compas.sct.commons.testhelpers.SclGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.lfenergy.compas.sct.benchmarks.SclBenchmarkFixtures.SCL_EDITOR;
+import static org.lfenergy.compas.sct.benchmarks.SclBenchmarkFixtures.createScdWithSubstation;
+
+/**
+ * Benchmark of {@link org.lfenergy.compas.sct.commons.api.SclEditor#importSTDElementsInSCD}: import of IEDs,
+ * DataTypeTemplates and Communication of all STDs in a SCD which only contains the Substation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(2)
+public class ImportStdBenchmark {
+
+    @Param({"10", "50", "200"})
+    private int iedCount;
+    @Param({"4"})
+    private int lDeviceCount;
+    @Param({"20"})
+    private int extRefCount;
+    @Param({"42"})
+    private long seed;
+
+    private SCL scd;
+    private List<SCL> stds;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        SclGenerator sclGenerator = new SclGenerator(iedCount, lDeviceCount, extRefCount, seed);
+        scd = createScdWithSubstation(sclGenerator);
+        stds = sclGenerator.generateStds();
+    }
+
+    @Benchmark
+    public SCL importSTDElementsInSCD() {
+        SCL_EDITOR.importSTDElementsInSCD(scd, stds);
+        return scd;
+    }
+}
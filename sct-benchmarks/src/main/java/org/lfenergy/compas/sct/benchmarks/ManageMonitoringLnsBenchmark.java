@@ -0,0 +1,50 @@
+// SPDX-FileCopyrightText: 2025 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.benchmarks;
+
+import org.lfenergy.compas.scl2007b4.model.SCL;
+import org.lfenergy.compas.sct.commons.dto.SclReportItem;
+import org.lfenergy.compas.sct.commons.testhelpers.SclGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.lfenergy.compas.sct.benchmarks.SclBenchmarkFixtures.SCL_EDITOR;
+import static org.lfenergy.compas.sct.benchmarks.SclBenchmarkFixtures.createScdWithControlBlocks;
+
+/**
+ * Benchmark of {@link org.lfenergy.compas.sct.commons.api.SclEditor#manageMonitoringLns(SCL)}: update of LGOS and
+ * LSVS LNs of the LDSUIED LDevice of each IED from the bound ExtRefs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(2)
+public class ManageMonitoringLnsBenchmark {
+
+    @Param({"10", "50", "200"})
+    private int iedCount;
+    @Param({"4"})
+    private int lDeviceCount;
+    @Param({"20"})
+    private int extRefCount;
+    @Param({"42"})
+    private long seed;
+
+    private SCL scd;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        scd = createScdWithControlBlocks(new SclGenerator(iedCount, lDeviceCount, extRefCount, seed));
+    }
+
+    @Benchmark
+    public List<SclReportItem> manageMonitoringLns() {
+        return SCL_EDITOR.manageMonitoringLns(scd);
+    }
+}
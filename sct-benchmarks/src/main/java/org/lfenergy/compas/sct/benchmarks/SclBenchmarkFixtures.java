@@ -0,0 +1,87 @@
+// SPDX-FileCopyrightText: 2025 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.benchmarks;
+
+import org.lfenergy.compas.scl2007b4.model.SCL;
+import org.lfenergy.compas.sct.app.SclAutomationService;
+import org.lfenergy.compas.sct.commons.*;
+import org.lfenergy.compas.sct.commons.api.ControlBlockEditor;
+import org.lfenergy.compas.sct.commons.api.SclEditor;
+import org.lfenergy.compas.sct.commons.api.SubstationEditor;
+import org.lfenergy.compas.sct.commons.dto.HeaderDTO;
+import org.lfenergy.compas.sct.commons.scl.ControlService;
+import org.lfenergy.compas.sct.commons.scl.ExtRefService;
+import org.lfenergy.compas.sct.commons.testhelpers.SclGenerator;
+
+import java.util.UUID;
+
+/**
+ * Services under benchmark, and preparation of the SCD given to each step of the pipeline.
+ * Preparation is done in JMH setup methods, so it is not measured.
+ */
+public final class SclBenchmarkFixtures {
+
+    private static final LnService LN_SERVICE = new LnService();
+    private static final ExtRefService EXT_REF_SERVICE = new ExtRefService();
+    private static final LdeviceService LDEVICE_SERVICE = new LdeviceService(LN_SERVICE);
+
+    public static final SclEditor SCL_EDITOR = new SclService(new IedService(), LDEVICE_SERVICE, LN_SERVICE, EXT_REF_SERVICE, new DataTypeTemplatesService());
+    public static final SubstationEditor SUBSTATION_EDITOR = new SubstationService(new VoltageLevelService());
+    public static final ControlBlockEditor CONTROL_BLOCK_EDITOR = new ControlBlockEditorService(new ControlService(), LDEVICE_SERVICE, new ConnectedAPService(), new SubNetworkService(), EXT_REF_SERVICE);
+    public static final SclAutomationService SCL_AUTOMATION_SERVICE = new SclAutomationService(SCL_EDITOR, SUBSTATION_EDITOR, CONTROL_BLOCK_EDITOR);
+
+    private static final UUID HEADER_ID = UUID.fromString("6f8b0c1e-0d6c-4c52-9a53-1f3a6a1c2b10");
+
+    private SclBenchmarkFixtures() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * @return header of the generated SCDs, always the same
+     */
+    public static HeaderDTO newHeaderDTO() {
+        HeaderDTO headerDTO = new HeaderDTO();
+        headerDTO.setId(HEADER_ID);
+        headerDTO.setVersion("1.0");
+        headerDTO.setRevision("1.0");
+        return headerDTO;
+    }
+
+    /**
+     * Create an SCD with only a Substation, ready for STD import
+     *
+     * @param sclGenerator generator of the SSD
+     * @return new SCD
+     */
+    public static SCL createScdWithSubstation(SclGenerator sclGenerator) {
+        HeaderDTO headerDTO = newHeaderDTO();
+        SCL scd = SCL_EDITOR.initScl(headerDTO.getId(), headerDTO.getVersion(), headerDTO.getRevision());
+        SUBSTATION_EDITOR.addSubstation(scd, sclGenerator.generateSsd());
+        return scd;
+    }
+
+    /**
+     * Create an SCD with all IEDs imported from the STDs, like the output of {@link SclAutomationService#createSCD}
+     *
+     * @param sclGenerator generator of the SSD and STDs
+     * @return new SCD
+     */
+    public static SCL createScd(SclGenerator sclGenerator) {
+        return SCL_AUTOMATION_SERVICE.createSCD(sclGenerator.generateSsd(), newHeaderDTO(), sclGenerator.generateStds());
+    }
+
+    /**
+     * Create an SCD with all IEDs imported, and DataSets and ControlBlocks created for all ExtRefs, which are bound to
+     * their ControlBlock
+     *
+     * @param sclGenerator generator of the SSD, STDs and DACOMM
+     * @return new SCD
+     */
+    public static SCL createScdWithControlBlocks(SclGenerator sclGenerator) {
+        SCL scd = createScd(sclGenerator);
+        CONTROL_BLOCK_EDITOR.createDataSetAndControlBlocks(scd, sclGenerator.generateDaComm());
+        return scd;
+    }
+}
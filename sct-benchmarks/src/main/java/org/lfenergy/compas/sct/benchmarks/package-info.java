@@ -0,0 +1,13 @@
+// SPDX-FileCopyrightText: 2025 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+/**
+ * <h2>sct-benchmarks is a group of JMH benchmarks of the SCD generation pipeline</h2>
+ * <p>
+ * Inputs are synthetic SCL files built by {@link org.lfenergy.compas.sct.commons.testhelpers.SclGenerator}, sized by
+ * the <em>iedCount</em>, <em>lDeviceCount</em> and <em>extRefCount</em> parameters, from a fixed seed so that results
+ * of different commits can be compared.
+ * </p>
+ */
+package org.lfenergy.compas.sct.benchmarks;
@@ -6,6 +6,7 @@ package org.lfenergy.compas.sct.commons;
 
 import org.lfenergy.compas.scl2007b4.model.TConnectedAP;
 import org.lfenergy.compas.scl2007b4.model.TSubNetwork;
+import org.lfenergy.compas.sct.commons.scl.CommunicationIndex;
 
 import java.util.Optional;
 import java.util.function.Predicate;
@@ -28,4 +29,8 @@ public class ConnectedAPService {
         return getFilteredConnectedAP(tSubNetwork, tConnectedAPPredicate).findFirst();
     }
 
+    public Optional<TConnectedAP> findConnectedAP(TSubNetwork tSubNetwork, String iedName, String apName) {
+        return CommunicationIndex.findConnectedAP(tSubNetwork, iedName, apName);
+    }
+
 }
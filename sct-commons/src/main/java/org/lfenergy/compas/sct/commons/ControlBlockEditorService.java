@@ -5,26 +5,36 @@
 package org.lfenergy.compas.sct.commons;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.lfenergy.compas.scl2007b4.model.*;
 import org.lfenergy.compas.sct.commons.api.ControlBlockEditor;
+import org.lfenergy.compas.sct.commons.dto.ControlBlockCleanupReport;
+import org.lfenergy.compas.sct.commons.dto.ReportLocation;
 import org.lfenergy.compas.sct.commons.dto.SclReportItem;
+import org.lfenergy.compas.sct.commons.dto.SclReportSink;
 import org.lfenergy.compas.sct.commons.exception.ScdException;
 import org.lfenergy.compas.sct.commons.model.cbcom.*;
 import org.lfenergy.compas.sct.commons.model.da_comm.DACOMM;
+import org.lfenergy.compas.sct.commons.scl.CommunicationIndex;
 import org.lfenergy.compas.sct.commons.scl.ControlService;
 import org.lfenergy.compas.sct.commons.scl.ExtRefService;
 import org.lfenergy.compas.sct.commons.scl.SclRootAdapter;
 import org.lfenergy.compas.sct.commons.scl.ied.IEDAdapter;
+import org.lfenergy.compas.sct.commons.scl.ied.InputsAdapter;
 import org.lfenergy.compas.sct.commons.scl.ldevice.LDeviceAdapter;
 import org.lfenergy.compas.sct.commons.scl.ln.LNAdapter;
+import org.lfenergy.compas.sct.commons.util.AddressRangeAllocator;
 import org.lfenergy.compas.sct.commons.util.ControlBlockEnum;
-import org.lfenergy.compas.sct.commons.util.PrivateUtils;
+import org.lfenergy.compas.sct.commons.util.PrivateCache;
 import org.lfenergy.compas.sct.commons.util.SclConstructorHelper;
+import org.lfenergy.compas.sct.commons.util.SclListInitializer;
 import org.lfenergy.compas.sct.commons.util.Utils;
 
 import java.math.BigInteger;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.LongStream;
 import java.util.stream.Stream;
@@ -33,6 +43,7 @@ import static java.util.AbstractMap.SimpleEntry;
 import static org.lfenergy.compas.sct.commons.util.SclConstructorHelper.newAddress;
 import static org.lfenergy.compas.sct.commons.util.SclConstructorHelper.newP;
 
+@Slf4j
 @RequiredArgsConstructor
 public class ControlBlockEditorService implements ControlBlockEditor {
 
@@ -56,15 +67,28 @@ public class ControlBlockEditorService implements ControlBlockEditor {
     @Override
     public List<SclReportItem> analyzeDataGroups(SCL scd) {
         SclRootAdapter sclRootAdapter = new SclRootAdapter(scd);
-        return sclRootAdapter.streamIEDAdapters()
+        Map<ExtRefService.SourceControlBlockKey, Integer> fcdaCountByControlBlock = new ConcurrentHashMap<>();
+        return sclRootAdapter.streamIEDAdapters().toList()
+                .parallelStream()
                 .map(iedAdapter -> {
                     List<SclReportItem> list = new ArrayList<>();
                     list.addAll(iedAdapter.checkDataGroupCoherence());
-                    list.addAll(iedAdapter.checkBindingDataGroupCoherence());
+                    list.addAll(iedAdapter.checkBindingDataGroupCoherence(fcdaCountByControlBlock));
                     return list;
                 }).flatMap(Collection::stream).toList();
     }
 
+    @Override
+    public void analyzeDataGroups(SCL scd, SclReportSink sclReportSink) {
+        SclRootAdapter sclRootAdapter = new SclRootAdapter(scd);
+        Map<ExtRefService.SourceControlBlockKey, Integer> fcdaCountByControlBlock = new HashMap<>();
+        sclReportSink.addAll(sclRootAdapter.streamIEDAdapters()
+                .flatMap(iedAdapter -> Stream.<Supplier<List<SclReportItem>>>of(
+                                iedAdapter::checkDataGroupCoherence,
+                                () -> iedAdapter.checkBindingDataGroupCoherence(fcdaCountByControlBlock))
+                        .flatMap(check -> check.get().stream())));
+    }
+
     @Override
     public List<SclReportItem> createDataSetAndControlBlocks(SCL scd, DACOMM dacomm) {
         SclRootAdapter sclRootAdapter = new SclRootAdapter(scd);
@@ -75,11 +99,60 @@ public class ControlBlockEditorService implements ControlBlockEditor {
                 .toList();
     }
 
+    @Override
+    public List<SclReportItem> createDataSetAndControlBlocksInParallel(SCL scd, DACOMM dacomm) {
+        // JAXB list getters create missing lists : create them all before reading the SCL from several threads
+        SclListInitializer.initializeLists(scd);
+        SclListInitializer.initializeLists(dacomm);
+        SclRootAdapter sclRootAdapter = new SclRootAdapter(scd);
+        List<InputsAdapter.DataSetAndControlBlockPlan> plans = sclRootAdapter.streamIEDAdapters().toList()
+                .parallelStream()
+                .flatMap(IEDAdapter::streamLDeviceAdapters)
+                .flatMap(lDeviceAdapter -> lDeviceAdapter.planDataSetAndControlBlocks(dacomm.getFCDAs().getFCDA()).stream())
+                .toList();
+        return plans.stream()
+                .map(InputsAdapter.DataSetAndControlBlockPlan::apply)
+                .flatMap(List::stream)
+                .toList();
+    }
+
     @Override
     public void removeAllControlBlocksAndDatasetsAndExtRefSrcBindings(final SCL scl) {
         SclRootAdapter sclRootAdapter = new SclRootAdapter(scl);
-        List<LDeviceAdapter> lDeviceAdapters = sclRootAdapter.streamIEDAdapters()
-                .flatMap(IEDAdapter::streamLDeviceAdapters).toList();
+        removeAllControlBlocksAndDatasetsAndExtRefSrcBindingsOfLDevices(sclRootAdapter.streamIEDAdapters()
+                .flatMap(IEDAdapter::streamLDeviceAdapters).toList());
+    }
+
+    @Override
+    public ControlBlockCleanupReport removeControlBlocksAndDatasetsAndExtRefSrcBindings(SCL scl, Collection<String> iedNames) {
+        Set<String> cleanedIedNames = Set.copyOf(iedNames);
+        SclRootAdapter sclRootAdapter = new SclRootAdapter(scl);
+        Map<Boolean, List<LDeviceAdapter>> lDeviceAdaptersByCleanedIed = sclRootAdapter.streamIEDAdapters()
+                .collect(Collectors.partitioningBy(iedAdapter -> cleanedIedNames.contains(iedAdapter.getName()),
+                        Collectors.flatMapping(IEDAdapter::streamLDeviceAdapters, Collectors.toList())));
+        removeAllControlBlocksAndDatasetsAndExtRefSrcBindingsOfLDevices(lDeviceAdaptersByCleanedIed.get(true));
+        List<LDeviceAdapter> otherLDeviceAdapters = lDeviceAdaptersByCleanedIed.get(false);
+        // ControlBlocks of other IEDs subscribed by the cleaned IEDs
+        Set<ExtRefService.SourceControlBlockKey> removedControlBlockKeys = new HashSet<>();
+        List<String> removedControlBlocks = new ArrayList<>();
+        otherLDeviceAdapters.stream()
+                .flatMap(LDeviceAdapter::streamLNAdaptersIncludingLN0)
+                .flatMap(lnAdapter -> lnAdapter.removeControlBlocksTargeting(cleanedIedNames).stream())
+                .forEach(controlBlockAdapter -> {
+                    removedControlBlockKeys.add(controlBlockAdapter.toSourceControlBlockKey());
+                    removedControlBlocks.add(controlBlockAdapter.getReportLocation().toXPath());
+                });
+        // ExtRefs of other IEDs fed by the cleaned IEDs, or by a removed ControlBlock
+        List<String> unboundExtRefs = new ArrayList<>();
+        otherLDeviceAdapters.stream()
+                .map(LDeviceAdapter::getLN0Adapter)
+                .forEach(ln0 -> ln0.removeExtRefSourceBindings(tExtRef -> tExtRef.isSetSrcCBName()
+                                && (cleanedIedNames.contains(tExtRef.getIedName()) || removedControlBlockKeys.contains(ExtRefService.SourceControlBlockKey.from(tExtRef))))
+                        .forEach(tExtRef -> unboundExtRefs.add(ln0.getReportLocation().child("Inputs").child("ExtRef", "desc", tExtRef.getDesc()).toXPath())));
+        return new ControlBlockCleanupReport(removedControlBlocks, unboundExtRefs);
+    }
+
+    private static void removeAllControlBlocksAndDatasetsAndExtRefSrcBindingsOfLDevices(List<LDeviceAdapter> lDeviceAdapters) {
         // LN0
         lDeviceAdapters.stream()
                 .map(LDeviceAdapter::getLN0Adapter)
@@ -106,29 +179,33 @@ public class ControlBlockEditorService implements ControlBlockEditor {
         Map<CbKey, Mac> macsToReuse = subnetworksToReuse != null && !subnetworksToReuse.isEmpty() ?
                 computeMacToReuse(scd, subnetworksToReuse)
                 : Collections.emptyMap();
+        ControlBlockNetworkGraph controlBlockNetworkGraph = ControlBlockNetworkGraph.of(scd, ldeviceService, extRefService);
+        // IED Privates are read once per ControlBlock
+        PrivateCache privateCache = new PrivateCache();
         return Stream.concat(
-                        configureNetworkForControlBlocks(scd, appIdsToReuse, macsToReuse, cbCom, TCBType.GOOSE),
-                        configureNetworkForControlBlocks(scd, appIdsToReuse, macsToReuse, cbCom, TCBType.SV))
+                        configureNetworkForControlBlocks(scd, controlBlockNetworkGraph, privateCache, appIdsToReuse, macsToReuse, cbCom, TCBType.GOOSE).stream(),
+                        configureNetworkForControlBlocks(scd, controlBlockNetworkGraph, privateCache, appIdsToReuse, macsToReuse, cbCom, TCBType.SV).stream())
                 .toList();
     }
 
-    private Stream<SclReportItem> configureNetworkForControlBlocks(SCL scl, Map<CbKey, AppId> appIdsToReuse, Map<CbKey, Mac> macsToReuse, CBCom cbCom, TCBType tcbType) {
+    private List<SclReportItem> configureNetworkForControlBlocks(SCL scl, ControlBlockNetworkGraph controlBlockNetworkGraph, PrivateCache privateCache, Map<CbKey, AppId> appIdsToReuse, Map<CbKey, Mac> macsToReuse, CBCom cbCom, TCBType tcbType) {
         CbComSettings cbComSettings;
         try {
             cbComSettings = parseCbCom(cbCom, tcbType);
         } catch (ScdException ex) {
-            return Stream.of(SclReportItem.error("Control Block Communication setting files", ex.getMessage()));
+            return List.of(SclReportItem.error("Control Block Communication setting files", ex.getMessage()));
         }
-        List<Long> appIdToReuse = appIdsToReuse.values().stream().map(AppId::appId).toList();
-        List<Long> macToReuse = macsToReuse.values().stream().map(Mac::mac).toList();
-        PrimitiveIterator.OfLong appIdIterator = cbComSettings.appIds().filter(appId -> !appIdToReuse.contains(appId)).iterator();
-        List<Long> macAddresseList = cbComSettings.macAddresses().filter(mac -> !macToReuse.contains(mac)).boxed().toList();
-        return scl.getIED().stream()
+        AddressRangeAllocator appIdAllocator = cbComSettings.appIds();
+        AddressRangeAllocator macAllocator = cbComSettings.macAddresses();
+        appIdAllocator.reserveAll(appIdsToReuse.values().stream().mapToLong(AppId::appId));
+        macAllocator.reserveAll(macsToReuse.values().stream().mapToLong(Mac::mac));
+        // APPIDs are unique in the whole SCD, whereas MAC-Addresses only need to be unique among linked IEDs
+        PrimitiveIterator.OfLong appIdIterator = appIdAllocator.cursor();
+        List<SclReportItem> sclReportItems = scl.getIED().stream()
                 .filter(tied -> tied.getAccessPoint().stream()
                         .anyMatch(tAccessPoint -> tAccessPoint.isSetServer() && tAccessPoint.getServer().isSetLDevice()))
                 .flatMap(tied -> {
-                    List<Long> excludedMacAddresses = findExcludedMacAddresses(scl, tied, tcbType);
-                    Iterator<Long> authorizedMacAdressList = macAddresseList.stream().filter(mac -> !excludedMacAddresses.contains(mac)).iterator();
+                    PrimitiveIterator.OfLong authorizedMacAdressList = macAllocator.cursor(controlBlockNetworkGraph.findExcludedMacAddresses(tied.getName(), tcbType));
                     return tied.getAccessPoint().stream()
                             .filter(TAccessPoint::isSetServer)
                             .flatMap(tAccessPoint -> tAccessPoint.getServer().getLDevice().stream()
@@ -137,10 +214,9 @@ public class ControlBlockEditorService implements ControlBlockEditor {
                                                     .map(tControl -> {
                                                         String apName = tAccessPoint.getName();
                                                         IedApLd iedApLd = new IedApLd(tied, apName, lDevice);
-                                                        CriteriaOrError criteriaOrError = getCriteria(tied, tcbType, tControl.getName());
+                                                        CriteriaOrError criteriaOrError = getCriteria(privateCache, tied, tcbType, tControl.getName());
                                                         if (criteriaOrError.errorMessage != null) {
-                                                            return Optional.of(SclReportItem.error("""
-                                                                    /SCL/IED[@name="%s"]""".formatted(tied.getName()), criteriaOrError.errorMessage));
+                                                            return Optional.of(SclReportItem.error(iedLocation(tied), criteriaOrError.errorMessage));
                                                         }
 
                                                         Settings settings = cbComSettings.settingsByCriteria.get(criteriaOrError.criteria);
@@ -149,74 +225,19 @@ public class ControlBlockEditorService implements ControlBlockEditor {
                                                         }
                                                         AppId reuseAppId = appIdsToReuse.get(new CbKey(tied.getName(), lDevice.getInst(), tControl.getName()));
                                                         Mac reuseMac = macsToReuse.get(new CbKey(tied.getName(), lDevice.getInst(), tControl.getName()));
-                                                        TCommunication tCommunication = scl.getCommunication();
-
-                                                        Optional<TConnectedAP> optionalTConnectedAP = subNetworkService.getSubNetworks(tCommunication)
-                                                                .flatMap(tSubNetwork -> connectedAPService.getFilteredConnectedAP(tSubNetwork, connectedAP -> tied.getName().equals(connectedAP.getIedName()) && apName.equals(connectedAP.getApName())))
+                                                        Optional<TConnectedAP> optionalTConnectedAP = subNetworkService.getSubNetworks(scl.getCommunication())
+                                                                .flatMap(tSubNetwork -> connectedAPService.findConnectedAP(tSubNetwork, tied.getName(), apName).stream())
                                                                 .findFirst();
                                                         if (optionalTConnectedAP.isEmpty()) {
                                                             return newError(iedApLd, tControl, "Cannot configure communication for ControlBlock because no ConnectedAP found for AccessPoint");
                                                         }
-                                                        return configureControlBlockNetwork(tCommunication, settings, appIdIterator, authorizedMacAdressList, tControl, iedApLd, reuseAppId, reuseMac);
+                                                        return configureControlBlockNetwork(optionalTConnectedAP.get(), controlBlockNetworkGraph, settings, appIdIterator, authorizedMacAdressList, tControl, iedApLd, reuseAppId, reuseMac);
                                                     })
                                                     .flatMap(Optional::stream)));
-                });
-    }
-
-    private List<Long> findExcludedMacAddresses(SCL scl, TIED ied, TCBType tcbType) {
-        //We remove the addresses that are in a ExtRef of the IED.
-        List<Long> directLinkMacAdresses = getExtRefAddress(scl, ied).collect(Collectors.toCollection(ArrayList::new));
-
-        //We search for every IED that have an ExtRef that comes from the current IED and remove every address they have in their CB and ExtRef
-        List<TIED> iedWithExtRefFromCurrentCB = scl.getIED().stream()
-                .filter(tied -> !tied.getName().equals(ied.getName()))
-                .filter(tied -> ldeviceService.getLdevices(tied)
-                        .flatMap(extRefService::getExtRefs)
-                        .anyMatch(tExtRef -> ied.getName().equals(tExtRef.getIedName()))
-                )
-                .toList();
-
-        //addresses from CB
-        List<Long> addressesFromCBIed = getAddressFromListOfIed(scl, tcbType, iedWithExtRefFromCurrentCB).toList();
-
-        List<Long> addressesFromExtRefIed = iedWithExtRefFromCurrentCB.stream()
-                .flatMap(tied -> getExtRefAddress(scl, tied))
-                .toList();
-
-        directLinkMacAdresses.addAll(addressesFromCBIed);
-        directLinkMacAdresses.addAll(addressesFromExtRefIed);
-        return directLinkMacAdresses;
-    }
-
-    private Stream<Long> getExtRefAddress(SCL scl, TIED tied) {
-        return ldeviceService.getLdevices(tied)
-                .flatMap(extRefService::getExtRefs)
-                .filter(TExtRef::isSetSrcCBName)
-                .map(tExtRef -> new CbKey(tExtRef.getIedName(), tExtRef.getLdInst(), tExtRef.getSrcCBName()))
-                .flatMap(cbKey -> scl.getCommunication().getSubNetwork().stream()
-                        .flatMap(tSubNetwork -> tSubNetwork.getConnectedAP().stream()
-                                .filter(tConnectedAP -> tConnectedAP.getIedName().equals(cbKey.iedName()))
-                                .flatMap(tConnectedAP -> Stream.concat(tConnectedAP.getGSE().stream(), tConnectedAP.getSMV().stream()))
-                                .filter(cBlock -> cBlock.getCbName().equals(cbKey.cbName()) && cBlock.getLdInst().equals(cbKey.LDInst()))))
-                .filter(TControlBlock::isSetAddress)
-                .map(cBlock -> Utils.extractFromP(MAC_ADDRESS_P_TYPE, cBlock.getAddress().getP()))
-                .flatMap(Optional::stream)
-                .map(Utils::macAddressToLong);
-    }
-
-    private Stream<Long> getAddressFromListOfIed(SCL scl, TCBType tcbType, List<TIED> iedsToGetCBFrom) {
-        Set<String> iedNames = iedsToGetCBFrom.stream().map(TIED::getName).collect(Collectors.toSet());
-        return scl.getCommunication().getSubNetwork().stream()
-                .flatMap(tSubNetwork -> tSubNetwork.getConnectedAP().stream())
-                .filter(tConnectedAP -> iedNames.contains(tConnectedAP.getIedName()))
-                .flatMap(tConnectedAP -> switch (tcbType) {
-                    case GOOSE -> tConnectedAP.getGSE().stream();
-                    case SV -> tConnectedAP.getSMV().stream();
-                    default -> throw new IllegalArgumentException("Unsupported ControlBlock type " + tcbType);
                 })
-                .filter(TControlBlock::isSetAddress)
-                .flatMap(cBlock -> Utils.extractFromP(MAC_ADDRESS_P_TYPE, cBlock.getAddress().getP()).stream())
-                .map(Utils::macAddressToLong);
+                .toList();
+        log.debug("{} APPID {}, MAC-Address {}", tcbType, appIdAllocator, macAllocator);
+        return sclReportItems;
     }
 
     private CbComSettings parseCbCom(CBCom cbCom, TCBType tcbType) {
@@ -225,14 +246,14 @@ public class ControlBlockEditorService implements ControlBlockEditor {
                 .filter(tRange -> tcbType.equals(tRange.getCBType()))
                 .findFirst()
                 .orElseThrow(() -> new ScdException("Control Block Communication setting files does not contain AppIdRange for cbType " + tcbType.value()));
-        LongStream appIds = LongStream.range(Long.parseLong(appIdRange.getStart(), HEXADECIMAL_BASE), Long.parseLong(appIdRange.getEnd(), HEXADECIMAL_BASE) + 1);
+        AddressRangeAllocator appIds = newAddressRangeAllocator(Long.parseLong(appIdRange.getStart(), HEXADECIMAL_BASE), Long.parseLong(appIdRange.getEnd(), HEXADECIMAL_BASE));
 
         TRange macRange = Optional.ofNullable(cbCom.getMacRanges()).map(MacRanges::getMacRange).stream()
                 .flatMap(Collection::stream)
                 .filter(tRange -> tcbType.equals(tRange.getCBType()))
                 .findFirst()
                 .orElseThrow(() -> new ScdException("Control Block Communication setting files does not contain MacRange for cbType " + tcbType.value()));
-        LongStream macAddresses = LongStream.range(Utils.macAddressToLong(macRange.getStart()), Utils.macAddressToLong(macRange.getEnd()) + 1);
+        AddressRangeAllocator macAddresses = newAddressRangeAllocator(Utils.macAddressToLong(macRange.getStart()), Utils.macAddressToLong(macRange.getEnd()));
 
         Map<Criteria, Settings> settingsByCriteria = Optional.ofNullable(cbCom.getVlans()).map(Vlans::getVlan).stream()
                 .flatMap(Collection::stream)
@@ -242,13 +263,15 @@ public class ControlBlockEditorService implements ControlBlockEditor {
         return new CbComSettings(appIds, macAddresses, settingsByCriteria);
     }
 
-    private Optional<SclReportItem> configureControlBlockNetwork(TCommunication tCommunication, Settings settings, PrimitiveIterator.OfLong appIdIterator, Iterator<Long> macAddressesAuthorized, TControl tControl, IedApLd iedApLd, AppId reuseAppId, Mac reuseMac) {
-        Optional<TConnectedAP> optionalTConnectedAP = subNetworkService.getSubNetworks(tCommunication)
-                .flatMap(tSubNetwork -> connectedAPService.getFilteredConnectedAP(tSubNetwork, connectedAP -> iedApLd.ied().getName().equals(connectedAP.getIedName()) && iedApLd.apName().equals(connectedAP.getApName())))
-                .findFirst();
-        if (optionalTConnectedAP.isEmpty()) {
-            return newError(iedApLd, tControl, "Cannot configure communication for ControlBlock because no ConnectedAP found for AccessPoint");
+    private static AddressRangeAllocator newAddressRangeAllocator(long start, long end) {
+        try {
+            return new AddressRangeAllocator(start, end);
+        } catch (IllegalArgumentException e) {
+            throw new ScdException("Control Block Communication setting files contains an invalid range: " + e.getMessage());
         }
+    }
+
+    private Optional<SclReportItem> configureControlBlockNetwork(TConnectedAP tConnectedAP, ControlBlockNetworkGraph controlBlockNetworkGraph, Settings settings, PrimitiveIterator.OfLong appIdIterator, PrimitiveIterator.OfLong macAddressesAuthorized, TControl tControl, IedApLd iedApLd, AppId reuseAppId, Mac reuseMac) {
         if (settings.vlanId() == null) {
             return newError(iedApLd, tControl, "Cannot configure communication for this ControlBlock because no Vlan Id was provided in the settings");
         }
@@ -260,7 +283,7 @@ public class ControlBlockEditorService implements ControlBlockEditor {
             if (!appIdIterator.hasNext()) {
                 return newError(iedApLd, tControl, "Cannot configure communication for this ControlBlock because range of appId is exhausted");
             }
-            appId = new AppId(appIdIterator.next());
+            appId = new AppId(appIdIterator.nextLong());
         }
 
         if (reuseMac != null) {
@@ -269,7 +292,7 @@ public class ControlBlockEditorService implements ControlBlockEditor {
             if (!macAddressesAuthorized.hasNext()) {
                 return newError(iedApLd, tControl, "Cannot configure communication for this ControlBlock because range of mac addresses is exhausted");
             }
-            mac = new Mac(macAddressesAuthorized.next());
+            mac = new Mac(macAddressesAuthorized.nextLong());
         }
 
         List<TP> listOfPs = new ArrayList<>();
@@ -280,23 +303,23 @@ public class ControlBlockEditorService implements ControlBlockEditor {
             listOfPs.add(newP(VLAN_PRIORITY_P_TYPE, String.valueOf(settings.vlanPriority())));
         }
 
-        TConnectedAP tConnectedAP = optionalTConnectedAP.orElseThrow();
-        switch (tControl) {
+        TControlBlock tControlBlock = switch (tControl) {
             case TGSEControl ignored -> updateGseOrCreateIfNotExists(tConnectedAP, iedApLd.lDevice().getInst(), tControl.getName(), listOfPs, SclConstructorHelper.newDurationInMilliSec(settings.minTime), SclConstructorHelper.newDurationInMilliSec(settings.maxTime));
             case TSampledValueControl ignored -> updateSmvOrCreateIfNotExists(tConnectedAP, iedApLd.lDevice().getInst(), tControl.getName(), listOfPs);
             default -> throw new ScdException("Unsupported Control Block type for communication configuration : " + tControl.getClass().getName());
-        }
+        };
+        controlBlockNetworkGraph.addControlBlock(tConnectedAP.getIedName(), tControlBlock);
         return Optional.empty();
     }
 
     private Map<CbKey, AppId> computeAppIdsToReuse(SCL scd, List<TSubNetwork> subnetworksToReuse) {
-        List<CbKey> allControlBlocksInScd = scd.getIED().stream()
+        Set<CbKey> allControlBlocksInScd = scd.getIED().stream()
                 .flatMap(tIed -> ldeviceService.getLdevices(tIed)
                         .filter(TLDevice::isSetLN0)
                         .flatMap(tlDevice -> Stream.concat(tlDevice.getLN0().getGSEControl().stream(), tlDevice.getLN0().getSampledValueControl().stream())
                                 .map(tControlWithIEDName -> new CbKey(tIed.getName(), tlDevice.getInst(), tControlWithIEDName.getName()))
                         ))
-                .toList();
+                .collect(Collectors.toSet());
         return subnetworksToReuse.stream()
                 .flatMap(tSubNetwork -> tSubNetwork.getConnectedAP().stream())
                 .flatMap(tConnectedAP -> Stream.concat(tConnectedAP.getGSE().stream(), tConnectedAP.getSMV().stream())
@@ -310,13 +333,13 @@ public class ControlBlockEditorService implements ControlBlockEditor {
     }
 
     private Map<CbKey, Mac> computeMacToReuse(SCL scd, List<TSubNetwork> subnetworksToReuse) {
-        List<CbKey> allControlBlocksInScd = scd.getIED().stream()
+        Set<CbKey> allControlBlocksInScd = scd.getIED().stream()
                 .flatMap(tIed -> ldeviceService.getLdevices(tIed)
                         .filter(TLDevice::isSetLN0)
                         .flatMap(tlDevice -> Stream.concat(tlDevice.getLN0().getGSEControl().stream(), tlDevice.getLN0().getSampledValueControl().stream())
                                 .map(tControlWithIEDName -> new CbKey(tIed.getName(), tlDevice.getInst(), tControlWithIEDName.getName()))
                         ))
-                .toList();
+                .collect(Collectors.toSet());
         return subnetworksToReuse.stream()
                 .flatMap(tSubNetwork -> tSubNetwork.getConnectedAP().stream())
                 .flatMap(tConnectedAP -> Stream.concat(tConnectedAP.getGSE().stream(), tConnectedAP.getSMV().stream())
@@ -329,54 +352,39 @@ public class ControlBlockEditorService implements ControlBlockEditor {
                 .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
     }
 
-    private void updateGseOrCreateIfNotExists(TConnectedAP tConnectedAP, String ldInst, String cbName, List<TP> listOfP, TDurationInMilliSec minTime, TDurationInMilliSec maxTime) {
-        Optional<TGSE> optGse = tConnectedAP.isSetGSE() ?
-                tConnectedAP.getGSE().stream().filter(gse1 -> Objects.equals(ldInst, gse1.getLdInst()) && Objects.equals(cbName, gse1.getCbName())).findFirst()
-                : Optional.empty();
-        TGSE gse = optGse
-                .orElseGet(() -> {
-                            TGSE newGse = new TGSE();
-                            newGse.setLdInst(ldInst);
-                            newGse.setCbName(cbName);
-                            tConnectedAP.getGSE().add(newGse);
-                            return newGse;
-                        }
-                );
+    private TGSE updateGseOrCreateIfNotExists(TConnectedAP tConnectedAP, String ldInst, String cbName, List<TP> listOfP, TDurationInMilliSec minTime, TDurationInMilliSec maxTime) {
+        TGSE gse = CommunicationIndex.findOrCreateGse(tConnectedAP, ldInst, cbName);
         gse.setAddress(newAddress(listOfP));
         gse.setMinTime(minTime);
         gse.setMaxTime(maxTime);
+        return gse;
     }
 
     /**
      * Create A SMV Section or update an existing SMV Section (the network configuration of a SampledValueControl block)..
      */
-    private void updateSmvOrCreateIfNotExists(TConnectedAP tConnectedAP, String ldInst, String cbName, List<TP> listOfP) {
-        Optional<TSMV> optSmv = tConnectedAP.isSetSMV() ?
-                tConnectedAP.getSMV().stream().filter(smv1 -> Objects.equals(ldInst, smv1.getLdInst()) && Objects.equals(cbName, smv1.getCbName())).findFirst()
-                : Optional.empty();
-        TSMV smv = optSmv
-                .orElseGet(() -> {
-                            TSMV newSmv = new TSMV();
-                            newSmv.setLdInst(ldInst);
-                            newSmv.setCbName(cbName);
-                            tConnectedAP.getSMV().add(newSmv);
-                            return newSmv;
-                        }
-                );
+    private TSMV updateSmvOrCreateIfNotExists(TConnectedAP tConnectedAP, String ldInst, String cbName, List<TP> listOfP) {
+        TSMV smv = CommunicationIndex.findOrCreateSmv(tConnectedAP, ldInst, cbName);
         smv.setAddress(newAddress(listOfP));
+        return smv;
     }
 
     private static Optional<SclReportItem> newError(IedApLd iedApLd, TControl tControl, String message) {
-        return Optional.of(SclReportItem.error(iedApLd.getXPath() + "/LN0/" + controlBlockXPath(tControl),
+        return Optional.of(SclReportItem.error(iedApLd.getReportLocation().child("LN0")
+                        .child(ControlBlockEnum.from(tControl.getClass()).getElementName(), "name", tControl.getName()),
                 message));
     }
 
-    private static String controlBlockXPath(TControl tControl) {
-        return ControlBlockEnum.from(tControl.getClass()).getElementName() + "[@name=\"" + tControl.getName() + "\"]";
+    private static ReportLocation iedLocation(TIED tied) {
+        return ReportLocation.ROOT.child("SCL").child("IED", "name", tied.getName());
     }
 
     public CriteriaOrError getCriteria(TIED tied, TCBType cbType, String cbName) {
-        Optional<TCompasSystemVersion> compasSystemVersion = PrivateUtils.extractCompasPrivate(tied, TCompasSystemVersion.class);
+        return getCriteria(new PrivateCache(), tied, cbType, cbName);
+    }
+
+    private CriteriaOrError getCriteria(PrivateCache privateCache, TIED tied, TCBType cbType, String cbName) {
+        Optional<TCompasSystemVersion> compasSystemVersion = privateCache.extractCompasPrivate(tied, TCompasSystemVersion.class);
         if (compasSystemVersion.isEmpty()) {
             return new CriteriaOrError(null, "No private COMPAS-SystemVersion found in this IED");
         }
@@ -385,7 +393,7 @@ public class ControlBlockEditorService implements ControlBlockEditor {
             return new CriteriaOrError(null, "Missing MainSystemVersion or MinorSystemVersion attribute in COMPAS-SystemVersion private of IED");
         }
         String systemVersionWithoutV = removeVFromSystemVersion(compasSystemVersion.get());
-        Optional<TCompasICDHeader> compasICDHeader = PrivateUtils.extractCompasPrivate(tied, TCompasICDHeader.class);
+        Optional<TCompasICDHeader> compasICDHeader = privateCache.extractCompasPrivate(tied, TCompasICDHeader.class);
         if (compasICDHeader.isEmpty()) {
             return new CriteriaOrError(null, "No private COMPAS-ICDHeader found in this IED");
         }
@@ -524,13 +532,12 @@ public class ControlBlockEditorService implements ControlBlockEditor {
     /**
      * All settings of CbCom in a useful format
      */
-    record CbComSettings(LongStream appIds, LongStream macAddresses, Map<Criteria, Settings> settingsByCriteria) {
+    record CbComSettings(AddressRangeAllocator appIds, AddressRangeAllocator macAddresses, Map<Criteria, Settings> settingsByCriteria) {
     }
 
     record IedApLd(TIED ied, String apName, TLDevice lDevice) {
-        String getXPath() {
-            return """
-                    /SCL/IED[@name="%s"]/AccessPoint[@name="%s"]/Server/LDevice[@inst="%s"]""".formatted(ied.getName(), apName, lDevice.getInst());
+        ReportLocation getReportLocation() {
+            return iedLocation(ied).child("AccessPoint", "name", apName).child("Server").child("LDevice", "inst", lDevice.getInst());
         }
     }
 
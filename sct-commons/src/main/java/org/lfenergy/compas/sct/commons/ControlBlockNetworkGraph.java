@@ -0,0 +1,152 @@
+// SPDX-FileCopyrightText: 2025 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons;
+
+import org.lfenergy.compas.scl2007b4.model.*;
+import org.lfenergy.compas.sct.commons.ControlBlockEditorService.CbKey;
+import org.lfenergy.compas.sct.commons.ControlBlockEditorService.Mac;
+import org.lfenergy.compas.sct.commons.scl.ExtRefService;
+
+import java.util.*;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * Publisher to subscriber graph of the ControlBlocks of a SCD, with their communication (GSE and SMV) addresses.
+ * <p>
+ * The graph is built once, by reading all ExtRefs and all ConnectedAPs of the SCD, so that the MAC-Addresses to exclude
+ * for an IED can be read in time proportional to the number of its links, instead of scanning the whole SCD for each
+ * IED.
+ * Addresses are read from the GSE and SMV elements when requested, so updated addresses are seen. GSE and SMV elements
+ * created after the graph was built must be added with {@link #addControlBlock(String, TControlBlock)}.
+ * </p>
+ */
+final class ControlBlockNetworkGraph {
+
+    private final Map<CbKey, Set<String>> subscriberIedNamesByCbKey = new HashMap<>();
+    private final Map<String, Set<String>> subscriberIedNamesByIedName = new HashMap<>();
+    private final Map<String, Set<CbKey>> subscribedCbKeysByIedName = new HashMap<>();
+    private final Map<CbKey, List<TControlBlock>> controlBlocksByCbKey = new HashMap<>();
+    private final Map<String, List<TGSE>> gsesByIedName = new HashMap<>();
+    private final Map<String, List<TSMV>> smvsByIedName = new HashMap<>();
+    private final Set<TControlBlock> registeredControlBlocks = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    private ControlBlockNetworkGraph() {
+    }
+
+    /**
+     * Build the graph of a SCD
+     *
+     * @param scl            SCD
+     * @param ldeviceService service used to list LDevices of IEDs
+     * @param extRefService  service used to list ExtRefs of LDevices
+     * @return graph of the SCD
+     */
+    static ControlBlockNetworkGraph of(SCL scl, LdeviceService ldeviceService, ExtRefService extRefService) {
+        ControlBlockNetworkGraph graph = new ControlBlockNetworkGraph();
+        scl.getIED().forEach(tied -> ldeviceService.getLdevices(tied)
+                .flatMap(extRefService::getExtRefs)
+                .forEach(tExtRef -> graph.addExtRef(tied.getName(), tExtRef)));
+        if (scl.isSetCommunication()) {
+            scl.getCommunication().getSubNetwork().stream()
+                    .flatMap(tSubNetwork -> tSubNetwork.getConnectedAP().stream())
+                    .forEach(tConnectedAP -> Stream.concat(tConnectedAP.getGSE().stream(), tConnectedAP.getSMV().stream())
+                            .forEach(tControlBlock -> graph.addControlBlock(tConnectedAP.getIedName(), tControlBlock)));
+        }
+        return graph;
+    }
+
+    /**
+     * Register a GSE or SMV element in the graph. Already registered elements are ignored.
+     *
+     * @param iedName       name of the IED of the ConnectedAP containing the element
+     * @param tControlBlock GSE or SMV element
+     */
+    void addControlBlock(String iedName, TControlBlock tControlBlock) {
+        if (!registeredControlBlocks.add(tControlBlock)) {
+            return;
+        }
+        controlBlocksByCbKey.computeIfAbsent(new CbKey(iedName, tControlBlock.getLdInst(), tControlBlock.getCbName()), k -> new ArrayList<>())
+                .add(tControlBlock);
+        switch (tControlBlock) {
+            case TGSE tgse -> gsesByIedName.computeIfAbsent(iedName, k -> new ArrayList<>()).add(tgse);
+            case TSMV tsmv -> smvsByIedName.computeIfAbsent(iedName, k -> new ArrayList<>()).add(tsmv);
+            default -> throw new IllegalArgumentException("Unsupported communication element " + tControlBlock.getClass().getName());
+        }
+    }
+
+    /**
+     * Names of the IEDs having an ExtRef pointing to the given ControlBlock
+     *
+     * @param cbKey key of the ControlBlock
+     * @return subscriber IED names
+     */
+    Set<String> getSubscriberIedNames(CbKey cbKey) {
+        return subscriberIedNamesByCbKey.getOrDefault(cbKey, Set.of());
+    }
+
+    /**
+     * Names of the other IEDs having an ExtRef pointing to the given IED
+     *
+     * @param iedName name of the publisher IED
+     * @return subscriber IED names, without the given IED itself
+     */
+    Set<String> getSubscriberIedNames(String iedName) {
+        return subscriberIedNamesByIedName.getOrDefault(iedName, Set.of());
+    }
+
+    /**
+     * MAC-Addresses that an IED cannot use for its ControlBlocks :
+     * <ul>
+     *     <li>addresses of the ControlBlocks the IED subscribes to</li>
+     *     <li>addresses of the ControlBlocks of type tcbType of the IEDs subscribing to this IED</li>
+     *     <li>addresses of the ControlBlocks the IEDs subscribing to this IED subscribe to</li>
+     * </ul>
+     * Addresses may be returned several times.
+     *
+     * @param iedName name of the IED
+     * @param tcbType type of the ControlBlocks to configure (GOOSE or SV)
+     * @return excluded MAC-Addresses
+     */
+    LongStream findExcludedMacAddresses(String iedName, TCBType tcbType) {
+        Set<String> subscriberIedNames = getSubscriberIedNames(iedName);
+        LongStream directLinkMacAddresses = getSubscribedAddresses(iedName);
+        LongStream addressesFromCBIed = subscriberIedNames.stream()
+                .flatMap(subscriberIedName -> getControlBlocks(subscriberIedName, tcbType))
+                .flatMapToLong(ControlBlockNetworkGraph::macAddress);
+        LongStream addressesFromExtRefIed = subscriberIedNames.stream()
+                .flatMapToLong(this::getSubscribedAddresses);
+        return LongStream.concat(directLinkMacAddresses, LongStream.concat(addressesFromCBIed, addressesFromExtRefIed));
+    }
+
+    private void addExtRef(String subscriberIedName, TExtRef tExtRef) {
+        if (tExtRef.getIedName() != null && !tExtRef.getIedName().equals(subscriberIedName)) {
+            subscriberIedNamesByIedName.computeIfAbsent(tExtRef.getIedName(), k -> new HashSet<>()).add(subscriberIedName);
+        }
+        if (tExtRef.isSetSrcCBName()) {
+            CbKey cbKey = new CbKey(tExtRef.getIedName(), tExtRef.getLdInst(), tExtRef.getSrcCBName());
+            subscriberIedNamesByCbKey.computeIfAbsent(cbKey, k -> new HashSet<>()).add(subscriberIedName);
+            subscribedCbKeysByIedName.computeIfAbsent(subscriberIedName, k -> new HashSet<>()).add(cbKey);
+        }
+    }
+
+    private LongStream getSubscribedAddresses(String iedName) {
+        return subscribedCbKeysByIedName.getOrDefault(iedName, Set.of()).stream()
+                .flatMap(cbKey -> controlBlocksByCbKey.getOrDefault(cbKey, List.of()).stream())
+                .flatMapToLong(ControlBlockNetworkGraph::macAddress);
+    }
+
+    private Stream<? extends TControlBlock> getControlBlocks(String iedName, TCBType tcbType) {
+        return switch (tcbType) {
+            case GOOSE -> gsesByIedName.getOrDefault(iedName, List.of()).stream();
+            case SV -> smvsByIedName.getOrDefault(iedName, List.of()).stream();
+            default -> throw new IllegalArgumentException("Unsupported ControlBlock type " + tcbType);
+        };
+    }
+
+    private static LongStream macAddress(TControlBlock tControlBlock) {
+        return Mac.from(tControlBlock.getAddress()).stream().mapToLong(Mac::mac);
+    }
+}
@@ -6,14 +6,14 @@ package org.lfenergy.compas.sct.commons;
 
 import org.lfenergy.compas.scl2007b4.model.TDAType;
 import org.lfenergy.compas.scl2007b4.model.TDataTypeTemplates;
+import org.lfenergy.compas.sct.commons.scl.SclIndex;
 
 import java.util.Optional;
 
 public class DaTypeService {
 
     public Optional<TDAType> findDaType(TDataTypeTemplates tDataTypeTemplates, String daTypeId) {
-        return tDataTypeTemplates.getDAType().stream()
-                .filter(tdaType -> tdaType.isSetId()  && tdaType.getId().equals(daTypeId)).findFirst();
+        return SclIndex.findDAType(tDataTypeTemplates, daTypeId);
     }
 
 }
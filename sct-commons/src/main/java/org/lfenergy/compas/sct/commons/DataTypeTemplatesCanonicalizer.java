@@ -0,0 +1,280 @@
+// SPDX-FileCopyrightText: 2025 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons;
+
+import org.lfenergy.compas.scl2007b4.model.*;
+import org.lfenergy.compas.sct.commons.dto.DttCanonicalizationReport;
+import org.lfenergy.compas.sct.commons.scl.SclIndex;
+import org.lfenergy.compas.sct.commons.scl.dtt.DataAttributeCatalogue;
+import org.lfenergy.compas.sct.commons.scl.dtt.DataTypeTemplateFingerprints;
+
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import static org.lfenergy.compas.scl2007b4.model.TPredefinedBasicTypeEnum.ENUM;
+import static org.lfenergy.compas.scl2007b4.model.TPredefinedBasicTypeEnum.STRUCT;
+
+/**
+ * Merges the structurally equal types of the DataTypeTemplates of a SCD.
+ * <p>
+ * Two types are structurally equal when all their attributes and children are equal, except their id, and when the
+ * types they reference are themselves structurally equal. Canonical ids are computed bottom-up : EnumTypes, then
+ * DATypes, DOTypes and LNodeTypes, each type being compared with the canonical ids of the types it references.
+ * The first type in document order is kept for each group of equal types. References to the removed types are rewritten
+ * in the DataTypeTemplates, in the LN0 and LNs of the IEDs, and in the LNodes of the Substation.
+ * Types with Private elements, on themselves or on their DO, SDO, DA or BDA children, are never merged, as Private
+ * content cannot be compared.
+ * </p>
+ * One instance canonicalizes a single SCD.
+ */
+final class DataTypeTemplatesCanonicalizer {
+
+    private final SCL scd;
+    private final TDataTypeTemplates dtt;
+    private final Map<String, String> canonicalEnumTypeIds = new HashMap<>();
+    private final Map<String, String> canonicalDATypeIds = new HashMap<>();
+    private final Map<String, String> canonicalDOTypeIds = new HashMap<>();
+    private final Map<String, String> canonicalLNodeTypeIds = new HashMap<>();
+    private final Map<Object, String> idByKey = new HashMap<>();
+    private final Set<String> daTypeIdsInProgress = new HashSet<>();
+    private final Set<String> doTypeIdsInProgress = new HashSet<>();
+
+    DataTypeTemplatesCanonicalizer(SCL scd) {
+        this.scd = scd;
+        this.dtt = scd.getDataTypeTemplates();
+    }
+
+    /**
+     * Merges structurally equal types, rewrites the references to the removed types and removes them
+     *
+     * @return report of the removed types
+     */
+    DttCanonicalizationReport canonicalize() {
+        if (dtt == null) {
+            return DttCanonicalizationReport.empty();
+        }
+        dtt.getEnumType().forEach(tEnumType -> canonicalEnumTypeIds.put(tEnumType.getId(), register(tEnumType, List.of(), enumTypeKey(tEnumType))));
+        dtt.getDAType().forEach(tdaType -> canonicalDATypeId(tdaType.getId()));
+        dtt.getDOType().forEach(tdoType -> canonicalDOTypeId(tdoType.getId()));
+        dtt.getLNodeType().forEach(tlNodeType -> canonicalLNodeTypeIds.put(tlNodeType.getId(), register(tlNodeType, tlNodeType.getDO(), lNodeTypeKey(tlNodeType))));
+        keepFirstInDocumentOrder(dtt.getEnumType(), TEnumType::getId, canonicalEnumTypeIds);
+        keepFirstInDocumentOrder(dtt.getDAType(), TDAType::getId, canonicalDATypeIds);
+        keepFirstInDocumentOrder(dtt.getDOType(), TDOType::getId, canonicalDOTypeIds);
+        keepFirstInDocumentOrder(dtt.getLNodeType(), TLNodeType::getId, canonicalLNodeTypeIds);
+
+        rewriteReferences();
+
+        removeMerged(dtt.getLNodeType(), TLNodeType::getId, canonicalLNodeTypeIds);
+        removeMerged(dtt.getDOType(), TDOType::getId, canonicalDOTypeIds);
+        removeMerged(dtt.getDAType(), TDAType::getId, canonicalDATypeIds);
+        removeMerged(dtt.getEnumType(), TEnumType::getId, canonicalEnumTypeIds);
+        SclIndex.invalidate(dtt);
+        DataTypeTemplateFingerprints.invalidate(dtt);
+        DataAttributeCatalogue.invalidate(dtt);
+
+        return new DttCanonicalizationReport(replacedIds(canonicalLNodeTypeIds), replacedIds(canonicalDOTypeIds),
+                replacedIds(canonicalDATypeIds), replacedIds(canonicalEnumTypeIds));
+    }
+
+    private static Map<String, String> replacedIds(Map<String, String> canonicalIds) {
+        Map<String, String> replacedIds = new HashMap<>();
+        canonicalIds.forEach((id, canonicalId) -> {
+            if (!id.equals(canonicalId)) {
+                replacedIds.put(id, canonicalId);
+            }
+        });
+        return replacedIds;
+    }
+
+    private String canonicalDATypeId(String id) {
+        String canonicalId = canonicalDATypeIds.get(id);
+        if (canonicalId != null) {
+            return canonicalId;
+        }
+        Optional<TDAType> tdaType = SclIndex.findDAType(dtt, id);
+        if (tdaType.isEmpty() || !daTypeIdsInProgress.add(id)) {
+            // unknown type or cyclic reference : keep it as it is
+            return id;
+        }
+        canonicalId = register(tdaType.get(), tdaType.get().getBDA(), daTypeKey(tdaType.get()));
+        daTypeIdsInProgress.remove(id);
+        canonicalDATypeIds.put(id, canonicalId);
+        return canonicalId;
+    }
+
+    private String canonicalDOTypeId(String id) {
+        String canonicalId = canonicalDOTypeIds.get(id);
+        if (canonicalId != null) {
+            return canonicalId;
+        }
+        Optional<TDOType> tdoType = SclIndex.findDOType(dtt, id);
+        if (tdoType.isEmpty() || !doTypeIdsInProgress.add(id)) {
+            // unknown type or cyclic reference : keep it as it is
+            return id;
+        }
+        canonicalId = register(tdoType.get(), tdoType.get().getSDOOrDA(), doTypeKey(tdoType.get()));
+        doTypeIdsInProgress.remove(id);
+        canonicalDOTypeIds.put(id, canonicalId);
+        return canonicalId;
+    }
+
+    /**
+     * Referenced types are registered before the types referencing them, so the first type registered for a key is not
+     * always the first one in document order : it only identifies the group of equal types until
+     * {@link #keepFirstInDocumentOrder} replaces it.
+     *
+     * @return id of the first type registered with the same key, or the id of the type itself when the type or one of
+     * its children has Private elements
+     */
+    private String register(TIDNaming type, List<? extends TBaseElement> children, Object key) {
+        boolean hasPrivates = type.isSetPrivate() || children.stream().anyMatch(TBaseElement::isSetPrivate);
+        return idByKey.computeIfAbsent(hasPrivates ? type : key, k -> type.getId());
+    }
+
+    private Object enumTypeKey(TEnumType tEnumType) {
+        List<List<Object>> enumVals = tEnumType.getEnumVal().stream()
+                .map(tEnumVal -> Arrays.<Object>asList(tEnumVal.getOrd(), tEnumVal.getValue()))
+                .toList();
+        return List.of(TEnumType.class, Objects.toString(tEnumType.getDesc()), enumVals);
+    }
+
+    private Object daTypeKey(TDAType tdaType) {
+        return Arrays.<Object>asList(TDAType.class, tdaType.getDesc(), tdaType.getIedType(),
+                tdaType.getBDA().stream().map(this::attributeKey).toList(),
+                tdaType.getProtNs().stream().map(tProtNs -> Arrays.asList(tProtNs.getType(), tProtNs.getValue())).toList());
+    }
+
+    private Object doTypeKey(TDOType tdoType) {
+        List<Object> sdoOrDas = tdoType.getSDOOrDA().stream()
+                .<Object>map(sdoOrDa -> switch (sdoOrDa) {
+                    case TSDO tsdo -> Arrays.<Object>asList(TSDO.class, tsdo.getName(), tsdo.getDesc(), canonicalDOTypeId(tsdo.getType()), tsdo.getCount());
+                    case TDA tda -> attributeKey(tda);
+                    default -> sdoOrDa;
+                })
+                .toList();
+        return Arrays.<Object>asList(TDOType.class, tdoType.getDesc(), tdoType.getCdc(), tdoType.getIedType(), sdoOrDas);
+    }
+
+    private Object lNodeTypeKey(TLNodeType tlNodeType) {
+        List<List<Object>> dos = tlNodeType.getDO().stream()
+                .map(tdo -> Arrays.<Object>asList(tdo.getName(), tdo.getDesc(), canonicalDOTypeId(tdo.getType()), tdo.isTransient(), tdo.getAccessControl()))
+                .toList();
+        return Arrays.<Object>asList(TLNodeType.class, tlNodeType.getDesc(), List.copyOf(tlNodeType.getLnClass()), tlNodeType.getIedType(), dos);
+    }
+
+    private List<Object> attributeKey(TAbstractDataAttribute attribute) {
+        List<Object> key = new ArrayList<>(Arrays.<Object>asList(attribute.getClass(), attribute.getName(), attribute.getDesc(),
+                attribute.getBType(), canonicalAttributeType(attribute), attribute.getSAddr(), attribute.getValKind(),
+                attribute.isValImport(), attribute.isSetCount() ? attribute.getCount() : null,
+                attribute.getVal().stream().map(tVal -> Arrays.asList(tVal.isSetSGroup() ? tVal.getSGroup() : null, tVal.getValue())).toList()));
+        if (attribute instanceof TDA tda) {
+            key.addAll(Arrays.<Object>asList(tda.getFc(), tda.isDchg(), tda.isQchg(), tda.isDupd(),
+                    tda.getProtNs().stream().map(tProtNs -> Arrays.asList(tProtNs.getType(), tProtNs.getValue())).toList()));
+        }
+        return key;
+    }
+
+    private String canonicalAttributeType(TAbstractDataAttribute attribute) {
+        if (attribute.getBType() == ENUM) {
+            return canonicalEnumTypeIds.getOrDefault(attribute.getType(), attribute.getType());
+        }
+        if (attribute.getBType() == STRUCT) {
+            return canonicalDATypeId(attribute.getType());
+        }
+        return attribute.getType();
+    }
+
+    private void rewriteReferences() {
+        dtt.getDAType().stream()
+                .flatMap(tdaType -> tdaType.getBDA().stream())
+                .forEach(this::rewriteAttributeType);
+        dtt.getDOType().stream()
+                .flatMap(tdoType -> tdoType.getSDOOrDA().stream())
+                .forEach(sdoOrDa -> {
+                    switch (sdoOrDa) {
+                        case TSDO tsdo -> rewrite(tsdo.getType(), canonicalDOTypeIds, tsdo::setType);
+                        case TDA tda -> rewriteAttributeType(tda);
+                        default -> {
+                            // no reference to rewrite
+                        }
+                    }
+                });
+        dtt.getLNodeType().stream()
+                .flatMap(tlNodeType -> tlNodeType.getDO().stream())
+                .forEach(tdo -> rewrite(tdo.getType(), canonicalDOTypeIds, tdo::setType));
+        scd.getIED().stream()
+                .flatMap(tied -> tied.getAccessPoint().stream())
+                .flatMap(tAccessPoint -> Stream.concat(
+                        tAccessPoint.getLN().stream(),
+                        Optional.ofNullable(tAccessPoint.getServer()).stream()
+                                .flatMap(tServer -> tServer.getLDevice().stream())
+                                .flatMap(tlDevice -> Stream.concat(Stream.ofNullable(tlDevice.getLN0()), tlDevice.getLN().stream()))))
+                .forEach(tAnyLN -> rewrite(tAnyLN.getLnType(), canonicalLNodeTypeIds, tAnyLN::setLnType));
+        streamSubstationLNodes().forEach(tlNode -> rewrite(tlNode.getLnType(), canonicalLNodeTypeIds, tlNode::setLnType));
+    }
+
+    /**
+     * LNodes of the Substations, VoltageLevels, Bays, Functions and SubFunctions : their lnType references a LNodeType
+     * copied from the STD files
+     */
+    private Stream<TLNode> streamSubstationLNodes() {
+        return scd.getSubstation().stream()
+                .flatMap(tSubstation -> Stream.of(
+                                tSubstation.getLNode().stream(),
+                                streamFunctionLNodes(tSubstation.getFunction()),
+                                tSubstation.getVoltageLevel().stream().flatMap(tVoltageLevel -> Stream.of(
+                                                tVoltageLevel.getLNode().stream(),
+                                                streamFunctionLNodes(tVoltageLevel.getFunction()),
+                                                tVoltageLevel.getBay().stream().flatMap(tBay -> Stream.concat(
+                                                        tBay.getLNode().stream(),
+                                                        streamFunctionLNodes(tBay.getFunction()))))
+                                        .flatMap(Function.identity())))
+                        .flatMap(Function.identity()));
+    }
+
+    private static Stream<TLNode> streamFunctionLNodes(List<TFunction> tFunctions) {
+        return tFunctions.stream()
+                .flatMap(tFunction -> Stream.concat(
+                        tFunction.getLNode().stream(),
+                        tFunction.getSubFunction().stream().flatMap(tSubFunction -> tSubFunction.getLNode().stream())));
+    }
+
+    private void rewriteAttributeType(TAbstractDataAttribute attribute) {
+        if (attribute.getBType() == ENUM) {
+            rewrite(attribute.getType(), canonicalEnumTypeIds, attribute::setType);
+        } else if (attribute.getBType() == STRUCT) {
+            rewrite(attribute.getType(), canonicalDATypeIds, attribute::setType);
+        }
+    }
+
+    private static void rewrite(String typeId, Map<String, String> canonicalIds, Consumer<String> setter) {
+        String canonicalId = canonicalIds.get(typeId);
+        if (canonicalId != null && !canonicalId.equals(typeId)) {
+            setter.accept(canonicalId);
+        }
+    }
+
+    /**
+     * Replaces the id identifying each group of equal types by the id of the first type of the group in document order
+     */
+    private static <T> void keepFirstInDocumentOrder(List<T> types, Function<T, String> getId, Map<String, String> canonicalIds) {
+        Map<String, String> firstIdByGroupId = new HashMap<>();
+        for (T type : types) {
+            String groupId = canonicalIds.get(getId.apply(type));
+            if (groupId != null) {
+                firstIdByGroupId.putIfAbsent(groupId, getId.apply(type));
+            }
+        }
+        canonicalIds.replaceAll((id, groupId) -> firstIdByGroupId.getOrDefault(groupId, groupId));
+    }
+
+    private static <T> void removeMerged(List<T> types, Function<T, String> getId, Map<String, String> canonicalIds) {
+        Predicate<T> isMerged = type -> !getId.apply(type).equals(canonicalIds.getOrDefault(getId.apply(type), getId.apply(type)));
+        types.removeIf(isMerged);
+    }
+}
@@ -11,6 +11,10 @@ import org.lfenergy.compas.sct.commons.domain.DataAttribute;
 import org.lfenergy.compas.sct.commons.domain.DataObject;
 import org.lfenergy.compas.sct.commons.domain.DataRef;
 import org.lfenergy.compas.sct.commons.domain.DoLinkedToDa;
+import org.lfenergy.compas.sct.commons.dto.DttCanonicalizationReport;
+import org.lfenergy.compas.sct.commons.scl.dtt.DataAttributeCatalogue;
+import org.lfenergy.compas.sct.commons.scl.dtt.DataAttributeCatalogue.DoAttributes;
+import org.lfenergy.compas.sct.commons.scl.dtt.DataAttributeCatalogue.Kind;
 
 import java.util.List;
 import java.util.Optional;
@@ -21,6 +25,8 @@ import static org.lfenergy.compas.scl2007b4.model.TPredefinedBasicTypeEnum.STRUC
 @RequiredArgsConstructor
 public class DataTypeTemplatesService implements DataTypeTemplateReader {
 
+    private static final Kind<DoLinkedToDa> DO_LINKED_TO_DA = new Kind<>("DoLinkedToDa");
+
     /**
      * Create a new instance without passing dependency.
      * This will create a new instance of each dependency
@@ -40,9 +46,8 @@ public class DataTypeTemplatesService implements DataTypeTemplateReader {
     @Override
     public Stream<DoLinkedToDa> getAllDoLinkedToDa(TDataTypeTemplates dtt) {
         return lnodeTypeService.getLnodeTypes(dtt)
-                .flatMap(tlNodeType -> tlNodeType.getDO()
-                        .stream()
-                        .flatMap(tdo -> getAllDoLinkedToDa(dtt, tdo)));
+                .flatMap(tlNodeType -> getDoAttributes(dtt, tlNodeType).stream())
+                .flatMap(DataTypeTemplatesService::copyAttributes);
     }
 
     @Override
@@ -50,8 +55,8 @@ public class DataTypeTemplatesService implements DataTypeTemplateReader {
         // Filter on LNodeType.Id
         return lnodeTypeService.findLnodeType(dtt, lNodeTypeId)
                 .stream()
-                .flatMap(tlNodeType -> doService.getDos(tlNodeType)
-                        .flatMap(tdo -> getAllDoLinkedToDa(dtt, tdo)));
+                .flatMap(tlNodeType -> getDoAttributes(dtt, tlNodeType).stream())
+                .flatMap(DataTypeTemplatesService::copyAttributes);
     }
 
     @Override
@@ -59,9 +64,26 @@ public class DataTypeTemplatesService implements DataTypeTemplateReader {
         // Filter on LNodeType.Id
         return lnodeTypeService.findLnodeType(dtt, lNodeTypeId)
                 .stream()
+                .flatMap(tlNodeType -> getDoAttributes(dtt, tlNodeType).stream())
                 // Filter on DO.name
-                .flatMap(tlNodeType -> doService.getFilteredDos(tlNodeType, tdo -> tdo.getName().equals(doName)))
-                .flatMap(tdo -> getAllDoLinkedToDa(dtt, tdo));
+                .filter(doAttributes -> doAttributes.doName().equals(doName))
+                .flatMap(DataTypeTemplatesService::copyAttributes);
+    }
+
+    /**
+     * Flattened DoLinkedToDa of each DO of a LNodeType, computed once per LNodeType of the DataTypeTemplates
+     */
+    private List<DoAttributes<DoLinkedToDa>> getDoAttributes(TDataTypeTemplates dtt, TLNodeType tlNodeType) {
+        return DataAttributeCatalogue.of(dtt).get(DO_LINKED_TO_DA, tlNodeType, lNodeType -> doService.getDos(lNodeType)
+                .map(tdo -> new DoAttributes<>(tdo.getName(), doTypeService.findDoType(dtt, tdo.getType()).isEmpty(), getAllDoLinkedToDa(dtt, tdo).toList()))
+                .toList());
+    }
+
+    /**
+     * Cached DoLinkedToDa are shared : callers receive copies they can modify
+     */
+    private static Stream<DoLinkedToDa> copyAttributes(DoAttributes<DoLinkedToDa> doAttributes) {
+        return doAttributes.attributes().stream().map(DoLinkedToDa::deepCopy);
     }
 
     private Stream<DoLinkedToDa> getAllDoLinkedToDa(TDataTypeTemplates dtt, TDO tdo) {
@@ -155,6 +177,11 @@ public class DataTypeTemplatesService implements DataTypeTemplateReader {
                 .toList();
     }
 
+    @Override
+    public DttCanonicalizationReport canonicalizeDataTypeTemplates(SCL scd) {
+        return new DataTypeTemplatesCanonicalizer(scd).canonicalize();
+    }
+
     private Optional<TDAType> getDATypeByDaName(TDataTypeTemplates dtt, TDOType tdoType, String daName) {
         return daService.findDA(tdoType, daName)
                 .flatMap(tda -> daTypeService.findDaType(dtt, tda.getType()));
@@ -0,0 +1,169 @@
+// SPDX-FileCopyrightText: 2025 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons;
+
+import org.lfenergy.compas.scl2007b4.model.*;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.lfenergy.compas.scl2007b4.model.TPredefinedBasicTypeEnum.ENUM;
+import static org.lfenergy.compas.scl2007b4.model.TPredefinedBasicTypeEnum.STRUCT;
+
+/**
+ * Ids of LNodeTypes, DOTypes, DATypes and EnumTypes of a DataTypeTemplates, kept separately for each kind of type.
+ * <p>
+ * Used to find the types only referenced by some IEDs : types referenced by LN@lnType of the IEDs, then by DO@type,
+ * SDO@type, DA@type and BDA@type of these types.
+ * </p>
+ */
+final class DataTypeTemplatesUsage {
+
+    private final Set<String> lNodeTypeIds;
+    private final Set<String> doTypeIds;
+    private final Set<String> daTypeIds;
+    private final Set<String> enumTypeIds;
+
+    private DataTypeTemplatesUsage(Set<String> lNodeTypeIds, Set<String> doTypeIds, Set<String> daTypeIds, Set<String> enumTypeIds) {
+        this.lNodeTypeIds = lNodeTypeIds;
+        this.doTypeIds = doTypeIds;
+        this.daTypeIds = daTypeIds;
+        this.enumTypeIds = enumTypeIds;
+    }
+
+    /**
+     * @param dtt DataTypeTemplates, can be null
+     * @return ids of all types of the DataTypeTemplates
+     */
+    static DataTypeTemplatesUsage allTypes(TDataTypeTemplates dtt) {
+        if (dtt == null) {
+            return new DataTypeTemplatesUsage(Set.of(), Set.of(), Set.of(), Set.of());
+        }
+        return new DataTypeTemplatesUsage(ids(dtt.getLNodeType(), TLNodeType::getId), ids(dtt.getDOType(), TDOType::getId),
+                ids(dtt.getDAType(), TDAType::getId), ids(dtt.getEnumType(), TEnumType::getId));
+    }
+
+    /**
+     * Each type is visited once, whatever the number of LNs and types referencing it
+     *
+     * @param dtt  DataTypeTemplates, can be null
+     * @param ieds IEDs whose LNs reference the types
+     * @return ids of the types of the DataTypeTemplates referenced, directly or not, by the LNs of the IEDs
+     */
+    static DataTypeTemplatesUsage referencedBy(TDataTypeTemplates dtt, Collection<TIED> ieds) {
+        DataTypeTemplatesUsage usage = new DataTypeTemplatesUsage(new HashSet<>(), new HashSet<>(), new HashSet<>(), new HashSet<>());
+        if (dtt == null) {
+            return usage;
+        }
+        Map<String, TLNodeType> lNodeTypeById = byId(dtt.getLNodeType(), TLNodeType::getId);
+        Map<String, TDOType> doTypeById = byId(dtt.getDOType(), TDOType::getId);
+        Map<String, TDAType> daTypeById = byId(dtt.getDAType(), TDAType::getId);
+        Deque<String> doTypeIdsToVisit = new ArrayDeque<>();
+        Deque<String> daTypeIdsToVisit = new ArrayDeque<>();
+        ieds.stream()
+                .flatMap(DataTypeTemplatesUsage::streamAnyLNs)
+                .map(TAnyLN::getLnType)
+                .filter(lnType -> lnType != null && lNodeTypeById.containsKey(lnType) && usage.lNodeTypeIds.add(lnType))
+                .flatMap(lnType -> lNodeTypeById.get(lnType).getDO().stream())
+                .map(TDO::getType)
+                .filter(Objects::nonNull)
+                .forEach(doTypeIdsToVisit::add);
+        while (!doTypeIdsToVisit.isEmpty()) {
+            String doTypeId = doTypeIdsToVisit.pop();
+            if (doTypeById.containsKey(doTypeId) && usage.doTypeIds.add(doTypeId)) {
+                doTypeById.get(doTypeId).getSDOOrDA().forEach(sdoOrDa -> {
+                    switch (sdoOrDa) {
+                        case TSDO tsdo -> Optional.ofNullable(tsdo.getType()).ifPresent(doTypeIdsToVisit::add);
+                        case TDA tda -> usage.visitAttribute(tda, daTypeIdsToVisit);
+                        default -> {
+                            // no referenced type
+                        }
+                    }
+                });
+            }
+        }
+        while (!daTypeIdsToVisit.isEmpty()) {
+            String daTypeId = daTypeIdsToVisit.pop();
+            if (daTypeById.containsKey(daTypeId) && usage.daTypeIds.add(daTypeId)) {
+                daTypeById.get(daTypeId).getBDA().forEach(tbda -> usage.visitAttribute(tbda, daTypeIdsToVisit));
+            }
+        }
+        usage.enumTypeIds.retainAll(ids(dtt.getEnumType(), TEnumType::getId));
+        return usage;
+    }
+
+    /**
+     * @param other ids to remove
+     * @return ids of this usage which are not in the other usage, kind by kind
+     */
+    DataTypeTemplatesUsage minus(DataTypeTemplatesUsage other) {
+        return new DataTypeTemplatesUsage(minus(lNodeTypeIds, other.lNodeTypeIds), minus(doTypeIds, other.doTypeIds),
+                minus(daTypeIds, other.daTypeIds), minus(enumTypeIds, other.enumTypeIds));
+    }
+
+    /**
+     * Removes the types of this usage from the DataTypeTemplates. Indexes and caches of the DataTypeTemplates are
+     * not invalidated.
+     *
+     * @param dtt DataTypeTemplates, can be null
+     */
+    void removeFrom(TDataTypeTemplates dtt) {
+        if (dtt != null) {
+            dtt.getLNodeType().removeIf(tlNodeType -> lNodeTypeIds.contains(tlNodeType.getId()));
+            dtt.getDOType().removeIf(tdoType -> doTypeIds.contains(tdoType.getId()));
+            dtt.getDAType().removeIf(tdaType -> daTypeIds.contains(tdaType.getId()));
+            dtt.getEnumType().removeIf(tEnumType -> enumTypeIds.contains(tEnumType.getId()));
+        }
+    }
+
+    /**
+     * @return ids of all the types of this usage, sorted
+     */
+    List<String> ids() {
+        return Stream.of(lNodeTypeIds, doTypeIds, daTypeIds, enumTypeIds)
+                .flatMap(Set::stream)
+                .sorted()
+                .distinct()
+                .toList();
+    }
+
+    private void visitAttribute(TAbstractDataAttribute attribute, Deque<String> daTypeIdsToVisit) {
+        if (attribute.getType() == null) {
+            return;
+        }
+        if (attribute.getBType() == ENUM) {
+            enumTypeIds.add(attribute.getType());
+        } else if (attribute.getBType() == STRUCT) {
+            daTypeIdsToVisit.add(attribute.getType());
+        }
+    }
+
+    private static Stream<TAnyLN> streamAnyLNs(TIED tied) {
+        return tied.getAccessPoint().stream()
+                .flatMap(tAccessPoint -> Stream.concat(
+                        tAccessPoint.getLN().stream(),
+                        Optional.ofNullable(tAccessPoint.getServer()).stream()
+                                .flatMap(tServer -> tServer.getLDevice().stream())
+                                .flatMap(tlDevice -> Stream.concat(Stream.ofNullable(tlDevice.getLN0()), tlDevice.getLN().stream()))));
+    }
+
+    private static <T> Set<String> ids(List<T> types, Function<T, String> getId) {
+        return types.stream().map(getId).filter(Objects::nonNull).collect(Collectors.toSet());
+    }
+
+    private static <T> Map<String, T> byId(List<T> types, Function<T, String> getId) {
+        Map<String, T> typeById = HashMap.newHashMap(types.size());
+        types.forEach(type -> Optional.ofNullable(getId.apply(type)).ifPresent(id -> typeById.putIfAbsent(id, type)));
+        return typeById;
+    }
+
+    private static Set<String> minus(Set<String> ids, Set<String> otherIds) {
+        Set<String> result = new HashSet<>(ids);
+        result.removeAll(otherIds);
+        return result;
+    }
+}
@@ -7,7 +7,10 @@ package org.lfenergy.compas.sct.commons;
 import lombok.RequiredArgsConstructor;
 import org.lfenergy.compas.scl2007b4.model.*;
 import org.lfenergy.compas.sct.commons.domain.DataAttribute;
+import org.lfenergy.compas.sct.commons.domain.DataObject;
+import org.lfenergy.compas.sct.commons.domain.DataPath;
 import org.lfenergy.compas.sct.commons.domain.DoLinkedToDa;
+import org.lfenergy.compas.sct.commons.scl.SclIndex;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -44,26 +47,29 @@ public class DoTypeService {
     }
 
     public Optional<TDOType> findDoType(TDataTypeTemplates tDataTypeTemplates, String doTypeId) {
-        return getFilteredDoTypes(tDataTypeTemplates, tdoType -> tdoType.getId().equals(doTypeId)).findFirst();
+        return SclIndex.findDOType(tDataTypeTemplates, doTypeId);
     }
 
     public List<DoLinkedToDa> getAllSDOLinkedToDa(TDataTypeTemplates dtt, TDOType tdoType, DoLinkedToDa doLinkedToDaTemplate) {
         List<DoLinkedToDa> result = new ArrayList<>();
+        DataObject dataObjectTemplate = doLinkedToDaTemplate.dataObject();
+        addAllSDOLinkedToDa(dtt, tdoType, dataObjectTemplate.getCdc(), DataPath.of(dataObjectTemplate.getSdoNames()), doLinkedToDaTemplate, result);
+        return result;
+    }
+
+    /**
+     * Walks the SDO, DA and BDA of a DOType with shared paths : DataObject and DataAttribute are only created for the leaves
+     */
+    private void addAllSDOLinkedToDa(TDataTypeTemplates dtt, TDOType tdoType, TPredefinedCDCEnum cdc, DataPath sdoPath, DoLinkedToDa doLinkedToDaTemplate, List<DoLinkedToDa> result) {
         // DA -> BDA -> BDA..
         daService.getDAs(tdoType).forEach(tda -> {
-            DoLinkedToDa doLinkedToDa = doLinkedToDaTemplate.deepCopy();
-            doLinkedToDa.dataAttribute().setDaName(tda.getName());
-            if (tda.isSetFc()) {
-                doLinkedToDa.dataAttribute().setFc(tda.getFc());
-            }
-
+            TFCEnum fc = tda.isSetFc() ? tda.getFc() : doLinkedToDaTemplate.dataAttribute().getFc();
             // STRUCT type (BType=STRUCT) refer to BDA, otherwise it is DA
             if (TPredefinedBasicTypeEnum.STRUCT.equals(tda.getBType())) {
                 daTypeService.findDaType(dtt, tda.getType())
-                        .ifPresent(nextDaType -> result.addAll(getDaLinkedToBDA(dtt, nextDaType, doLinkedToDa).toList()));
+                        .ifPresent(nextDaType -> addDaLinkedToBDA(dtt, nextDaType, new LeafTemplate(cdc, sdoPath, tda.getName(), fc), DataPath.of(doLinkedToDaTemplate.dataAttribute().getBdaNames()), doLinkedToDaTemplate, result));
             } else {
-                DataAttribute dataAttribute = updateDataAttributeFromDaOrBda(tda, doLinkedToDa.dataAttribute());
-                result.add(new DoLinkedToDa(doLinkedToDa.dataObject(), dataAttribute));
+                result.add(newLeaf(new LeafTemplate(cdc, sdoPath, tda.getName(), fc), DataPath.of(doLinkedToDaTemplate.dataAttribute().getBdaNames()), tda, doLinkedToDaTemplate));
             }
         });
         // SDO -> SDO -> SDO..
@@ -71,37 +77,42 @@ public class DoTypeService {
                 .forEach(tsdo -> {
                     if (tsdo.isSetType()) {
                         findDoType(dtt, tsdo.getType())
-                                .ifPresent(nextDoType -> {
-                                    DoLinkedToDa newDoLinkedToDa = doLinkedToDaTemplate.deepCopy();
-                                    newDoLinkedToDa.dataObject().getSdoNames().add(tsdo.getName());
-                                    if (nextDoType.isSetCdc()) {
-                                        newDoLinkedToDa.dataObject().setCdc(nextDoType.getCdc());
-                                    }
-                                    result.addAll(getAllSDOLinkedToDa(dtt, nextDoType, newDoLinkedToDa));
-                                });
+                                .ifPresent(nextDoType -> addAllSDOLinkedToDa(dtt, nextDoType, nextDoType.isSetCdc() ? nextDoType.getCdc() : cdc,
+                                        sdoPath.append(tsdo.getName()), doLinkedToDaTemplate, result));
                     }
                 });
-        return result;
     }
 
-    private Stream<DoLinkedToDa> getDaLinkedToBDA(TDataTypeTemplates dtt, TDAType tdaType1, DoLinkedToDa doLinkedToDaTemplate) {
+    private void addDaLinkedToBDA(TDataTypeTemplates dtt, TDAType tdaType, LeafTemplate leafTemplate, DataPath bdaPath, DoLinkedToDa doLinkedToDaTemplate, List<DoLinkedToDa> result) {
         // BDA -> BDA -> BDA..
-        return bdaService.getBDAs(tdaType1)
-                .flatMap(tbda -> {
-                    DoLinkedToDa newDoLinkedToDa = doLinkedToDaTemplate.deepCopy();
-                    newDoLinkedToDa.dataAttribute().getBdaNames().add(tbda.getName());
-
+        bdaService.getBDAs(tdaType)
+                .forEach(tbda -> {
+                    DataPath newBdaPath = bdaPath.append(tbda.getName());
                     // STRUCT type (BType=STRUCT) refer to complex BDA object, otherwise it is kind of DA object
                     if (TPredefinedBasicTypeEnum.STRUCT.equals(tbda.getBType())) {
-                        return daTypeService.findDaType(dtt, tbda.getType())
-                                .stream().flatMap(nextDaType -> getDaLinkedToBDA(dtt, nextDaType, newDoLinkedToDa));
+                        daTypeService.findDaType(dtt, tbda.getType())
+                                .ifPresent(nextDaType -> addDaLinkedToBDA(dtt, nextDaType, leafTemplate, newBdaPath, doLinkedToDaTemplate, result));
                     } else {
-                        DataAttribute dataAttribute = updateDataAttributeFromDaOrBda(tbda, newDoLinkedToDa.dataAttribute());
-                        return Stream.of(new DoLinkedToDa(newDoLinkedToDa.dataObject(), dataAttribute));
+                        result.add(newLeaf(leafTemplate, newBdaPath, tbda, doLinkedToDaTemplate));
                     }
                 });
     }
 
+    private DoLinkedToDa newLeaf(LeafTemplate leafTemplate, DataPath bdaPath, TAbstractDataAttribute daOrBda, DoLinkedToDa doLinkedToDaTemplate) {
+        DataObject dataObject = new DataObject(doLinkedToDaTemplate.dataObject().getDoName(), leafTemplate.cdc(), leafTemplate.sdoPath());
+        DataAttribute dataAttribute = doLinkedToDaTemplate.dataAttribute().deepCopy();
+        dataAttribute.setDaName(leafTemplate.daName());
+        dataAttribute.setFc(leafTemplate.fc());
+        dataAttribute.setBdaNames(bdaPath.toList());
+        return new DoLinkedToDa(dataObject, updateDataAttributeFromDaOrBda(daOrBda, dataAttribute));
+    }
+
+    /**
+     * DO and DA part shared by all the leaves of a DA
+     */
+    private record LeafTemplate(TPredefinedCDCEnum cdc, DataPath sdoPath, String daName, TFCEnum fc) {
+    }
+
     private DataAttribute updateDataAttributeFromDaOrBda(TAbstractDataAttribute daOrBda, DataAttribute dataAttribute) {
         if (daOrBda.isSetType()) dataAttribute.setType(daOrBda.getType());
         if (daOrBda.isSetBType()) dataAttribute.setBType(daOrBda.getBType());
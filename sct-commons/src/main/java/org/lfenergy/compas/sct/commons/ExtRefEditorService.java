@@ -6,29 +6,35 @@ package org.lfenergy.compas.sct.commons;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.lfenergy.compas.scl2007b4.model.SCL;
-import org.lfenergy.compas.scl2007b4.model.TExtRef;
-import org.lfenergy.compas.scl2007b4.model.TServiceType;
+import org.apache.commons.lang3.StringUtils;
+import org.lfenergy.compas.scl2007b4.model.*;
 import org.lfenergy.compas.sct.commons.api.ExtRefEditor;
 import org.lfenergy.compas.sct.commons.dto.ExtRefBindingInfo;
 import org.lfenergy.compas.sct.commons.dto.ExtRefInfo;
 import org.lfenergy.compas.sct.commons.dto.ExtRefSignalInfo;
 import org.lfenergy.compas.sct.commons.dto.ExtRefSourceInfo;
+import org.lfenergy.compas.sct.commons.dto.ReportLocation;
+import org.lfenergy.compas.sct.commons.dto.SclReportItem;
 import org.lfenergy.compas.sct.commons.exception.ScdException;
 import org.lfenergy.compas.sct.commons.scl.SclRootAdapter;
 import org.lfenergy.compas.sct.commons.scl.ied.IEDAdapter;
 import org.lfenergy.compas.sct.commons.scl.ldevice.LDeviceAdapter;
 import org.lfenergy.compas.sct.commons.scl.ln.AbstractLNAdapter;
+import org.lfenergy.compas.sct.commons.util.Utils;
+
+import java.util.*;
+import java.util.function.Function;
 
 @Slf4j
 @RequiredArgsConstructor
 public class ExtRefEditorService implements ExtRefEditor {
     private static final String INVALID_OR_MISSING_ATTRIBUTES_IN_EXT_REF_BINDING_INFO = "Invalid or missing attributes in ExtRef binding info";
+    private static final String MISSING_EXT_REF_SIGNAL_OR_BINDING_INFO = "ExtRef Signal and/or Binding information are missing";
 
     @Override
     public void updateExtRefBinders(SCL scd, ExtRefInfo extRefInfo) throws ScdException {
         if (extRefInfo.getBindingInfo() == null || extRefInfo.getSignalInfo() == null) {
-            throw new ScdException("ExtRef Signal and/or Binding information are missing");
+            throw new ScdException(MISSING_EXT_REF_SIGNAL_OR_BINDING_INFO);
         }
         String iedName = extRefInfo.getHolderIEDName();
         String ldInst = extRefInfo.getHolderLDInst();
@@ -55,21 +61,9 @@ public class ExtRefEditorService implements ExtRefEditor {
         String lnInst = extRefInfo.getHolderLnInst();
         String prefix = extRefInfo.getHolderLnPrefix();
 
-        ExtRefSignalInfo signalInfo = extRefInfo.getSignalInfo();
-        if (signalInfo == null || !signalInfo.isValid()) {
-            throw new ScdException("Invalid or missing attributes in ExtRef signal info");
-        }
-        ExtRefBindingInfo bindingInfo = extRefInfo.getBindingInfo();
-        if (bindingInfo == null || !bindingInfo.isValid()) {
-            throw new ScdException(INVALID_OR_MISSING_ATTRIBUTES_IN_EXT_REF_BINDING_INFO);
-        }
-        if (bindingInfo.getIedName().equals(iedName) || TServiceType.POLL.equals(bindingInfo.getServiceType())) {
-            throw new ScdException("Internal binding can't have control block");
-        }
-        ExtRefSourceInfo sourceInfo = extRefInfo.getSourceInfo();
-        if (sourceInfo == null || !sourceInfo.isValid()) {
-            throw new ScdException(INVALID_OR_MISSING_ATTRIBUTES_IN_EXT_REF_BINDING_INFO);
-        }
+        checkSourceInfo(extRefInfo).ifPresent(message -> {
+            throw new ScdException(message);
+        });
 
         SclRootAdapter sclRootAdapter = new SclRootAdapter(scd);
         IEDAdapter iedAdapter = sclRootAdapter.getIEDAdapterByName(iedName);
@@ -83,4 +77,244 @@ public class ExtRefEditorService implements ExtRefEditor {
         return anLNAdapter.updateExtRefSource(extRefInfo);
     }
 
+    @Override
+    public List<SclReportItem> updateExtRefBinders(SCL scd, List<ExtRefInfo> extRefInfos) {
+        long startTime = System.nanoTime();
+        log.info(Utils.entering());
+        SclRootAdapter sclRootAdapter = new SclRootAdapter(scd);
+        SclReportItem[] errors = new SclReportItem[extRefInfos.size()];
+        groupByHolderLn(extRefInfos, errors, ExtRefEditorService::checkBindingInfo).forEach((holderLn, indexes) ->
+                findHolderExtRefs(sclRootAdapter, holderLn, indexes, errors).ifPresent(holderExtRefs -> {
+                    for (int i : indexes) {
+                        try {
+                            holderExtRefs.updateBinders(extRefInfos.get(i));
+                        } catch (ScdException e) {
+                            errors[i] = holderExtRefs.lnAdapter().buildFatalReportItem(e.getMessage());
+                        }
+                    }
+                }));
+        log.info(Utils.leaving(startTime));
+        return Arrays.stream(errors).filter(Objects::nonNull).toList();
+    }
+
+    @Override
+    public List<SclReportItem> updateExtRefSources(SCL scd, List<ExtRefInfo> extRefInfos) {
+        long startTime = System.nanoTime();
+        log.info(Utils.entering());
+        SclRootAdapter sclRootAdapter = new SclRootAdapter(scd);
+        SclReportItem[] errors = new SclReportItem[extRefInfos.size()];
+        Map<SourceLn, ControlBlockNames> controlBlockNamesBySourceLn = new HashMap<>();
+        groupByHolderLn(extRefInfos, errors, ExtRefEditorService::checkSourceInfo).forEach((holderLn, indexes) ->
+                findHolderExtRefs(sclRootAdapter, holderLn, indexes, errors).ifPresent(holderExtRefs -> {
+                    for (int i : indexes) {
+                        ExtRefInfo extRefInfo = extRefInfos.get(i);
+                        try {
+                            controlBlockNamesBySourceLn.computeIfAbsent(SourceLn.from(extRefInfo), sourceLn -> sourceLn.findControlBlockNames(sclRootAdapter))
+                                    .checkControlBlockKnown(extRefInfo);
+                            holderExtRefs.updateSource(extRefInfo);
+                        } catch (ScdException e) {
+                            errors[i] = holderExtRefs.lnAdapter().buildFatalReportItem(e.getMessage());
+                        }
+                    }
+                }));
+        log.info(Utils.leaving(startTime));
+        return Arrays.stream(errors).filter(Objects::nonNull).toList();
+    }
+
+    private static Optional<String> checkBindingInfo(ExtRefInfo extRefInfo) {
+        if (extRefInfo.getBindingInfo() == null || extRefInfo.getSignalInfo() == null) {
+            return Optional.of(MISSING_EXT_REF_SIGNAL_OR_BINDING_INFO);
+        }
+        if (!extRefInfo.getBindingInfo().isValid()) {
+            return Optional.of("ExtRef mandatory binding data are missing");
+        }
+        return Optional.empty();
+    }
+
+    private static Optional<String> checkSourceInfo(ExtRefInfo extRefInfo) {
+        ExtRefSignalInfo signalInfo = extRefInfo.getSignalInfo();
+        if (signalInfo == null || !signalInfo.isValid()) {
+            return Optional.of("Invalid or missing attributes in ExtRef signal info");
+        }
+        ExtRefBindingInfo bindingInfo = extRefInfo.getBindingInfo();
+        if (bindingInfo == null || !bindingInfo.isValid()) {
+            return Optional.of(INVALID_OR_MISSING_ATTRIBUTES_IN_EXT_REF_BINDING_INFO);
+        }
+        if (bindingInfo.getIedName().equals(extRefInfo.getHolderIEDName()) || TServiceType.POLL.equals(bindingInfo.getServiceType())) {
+            return Optional.of("Internal binding can't have control block");
+        }
+        ExtRefSourceInfo sourceInfo = extRefInfo.getSourceInfo();
+        if (sourceInfo == null || !sourceInfo.isValid()) {
+            return Optional.of(INVALID_OR_MISSING_ATTRIBUTES_IN_EXT_REF_BINDING_INFO);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Groups indexes of valid ExtRefInfo by holder LN, in order of first appearance. Errors of invalid ExtRefInfo are
+     * stored in errors at their index.
+     */
+    private static Map<HolderLn, List<Integer>> groupByHolderLn(List<ExtRefInfo> extRefInfos, SclReportItem[] errors,
+                                                                Function<ExtRefInfo, Optional<String>> checkExtRefInfo) {
+        Map<HolderLn, List<Integer>> indexesByHolderLn = new LinkedHashMap<>();
+        for (int i = 0; i < extRefInfos.size(); i++) {
+            ExtRefInfo extRefInfo = extRefInfos.get(i);
+            HolderLn holderLn = HolderLn.from(extRefInfo);
+            Optional<String> error = checkExtRefInfo.apply(extRefInfo);
+            if (error.isPresent()) {
+                errors[i] = SclReportItem.error(holderLn.location(), error.get());
+            } else {
+                indexesByHolderLn.computeIfAbsent(holderLn, k -> new ArrayList<>()).add(i);
+            }
+        }
+        return indexesByHolderLn;
+    }
+
+    private static Optional<HolderExtRefs> findHolderExtRefs(SclRootAdapter sclRootAdapter, HolderLn holderLn,
+                                                             List<Integer> indexes, SclReportItem[] errors) {
+        try {
+            IEDAdapter iedAdapter = sclRootAdapter.getIEDAdapterByName(holderLn.iedName());
+            LDeviceAdapter lDeviceAdapter = iedAdapter.findLDeviceAdapterByLdInst(holderLn.ldInst())
+                    .orElseThrow(() -> new ScdException(String.format("Unknown LDevice (%s) in IED (%s)", holderLn.ldInst(), holderLn.iedName())));
+            AbstractLNAdapter<?> lnAdapter = AbstractLNAdapter.builder()
+                    .withLDeviceAdapter(lDeviceAdapter)
+                    .withLnClass(holderLn.lnClass())
+                    .withLnInst(holderLn.lnInst())
+                    .withLnPrefix(holderLn.prefix())
+                    .build();
+            return Optional.of(HolderExtRefs.from(lnAdapter));
+        } catch (ScdException | IllegalArgumentException e) {
+            indexes.forEach(i -> errors[i] = SclReportItem.error(holderLn.location(), e.getMessage()));
+            return Optional.empty();
+        }
+    }
+
+    private record HolderLn(String iedName, String ldInst, String lnClass, String lnInst, String prefix) {
+        static HolderLn from(ExtRefInfo extRefInfo) {
+            return new HolderLn(extRefInfo.getHolderIEDName(), extRefInfo.getHolderLDInst(), extRefInfo.getHolderLnClass(),
+                    extRefInfo.getHolderLnInst(), extRefInfo.getHolderLnPrefix());
+        }
+
+        ReportLocation location() {
+            return LDeviceAdapter.reportLocation(iedName, ldInst);
+        }
+    }
+
+    /**
+     * ExtRef signal, as matched by AbstractLNAdapter#getExtRefs(ExtRefSignalInfo)
+     */
+    private record SignalKey(String desc, String pDO, String pDA, String intAddr, TServiceType pServT) {
+        static SignalKey from(ExtRefSignalInfo signalInfo) {
+            return new SignalKey(Objects.toString(signalInfo.getDesc(), ""), signalInfo.getPDO(), signalInfo.getPDA(),
+                    signalInfo.getIntAddr(), signalInfo.getPServT());
+        }
+
+        static SignalKey from(TExtRef tExtRef) {
+            return new SignalKey(tExtRef.getDesc(), tExtRef.getPDO(), tExtRef.getPDA(), tExtRef.getIntAddr(), tExtRef.getPServT());
+        }
+    }
+
+    /**
+     * ExtRefs of a holder LN, indexed by signal. Updating binding or source data of an ExtRef does not change its signal.
+     */
+    private record HolderExtRefs(AbstractLNAdapter<?> lnAdapter, Map<SignalKey, List<TExtRef>> extRefsBySignal) {
+        static HolderExtRefs from(AbstractLNAdapter<?> lnAdapter) {
+            Map<SignalKey, List<TExtRef>> extRefsBySignal = new HashMap<>();
+            lnAdapter.getExtRefs().forEach(tExtRef -> extRefsBySignal.computeIfAbsent(SignalKey.from(tExtRef), k -> new ArrayList<>()).add(tExtRef));
+            return new HolderExtRefs(lnAdapter, extRefsBySignal);
+        }
+
+        /**
+         * Same as AbstractLNAdapter#updateExtRefBinders(ExtRefInfo)
+         */
+        void updateBinders(ExtRefInfo extRefInfo) {
+            ExtRefSignalInfo signalInfo = extRefInfo.getSignalInfo();
+            List<TExtRef> tExtRefs = extRefsBySignal.getOrDefault(SignalKey.from(signalInfo), List.of());
+            if (tExtRefs.isEmpty()) {
+                throw new ScdException(String.format("Unknown ExtRef [pDO(%s),intAddr(%s)] in %s/%s.%s",
+                        signalInfo.getPDO(), signalInfo.getIntAddr(), extRefInfo.getHolderIEDName(), extRefInfo.getHolderLDInst(), lnAdapter.getLNClass()));
+            }
+            if (tExtRefs.size() != 1) {
+                log.warn("More the one desc for ExtRef [pDO({}),intAddr({})] in {}{}/{}",
+                        signalInfo.getPDO(), signalInfo.getIntAddr(), extRefInfo.getHolderIEDName(), extRefInfo.getHolderLDInst(), lnAdapter.getLNClass());
+            }
+            lnAdapter.updateExtRefBindingInfo(tExtRefs.getFirst(), extRefInfo);
+        }
+
+        /**
+         * Same as AbstractLNAdapter#updateExtRefSource(ExtRefInfo), once control block has been checked
+         */
+        void updateSource(ExtRefInfo extRefInfo) {
+            ExtRefSignalInfo signalInfo = extRefInfo.getSignalInfo();
+            List<TExtRef> tExtRefs = extRefsBySignal.getOrDefault(SignalKey.from(signalInfo), List.of());
+            if (tExtRefs.isEmpty()) {
+                throw new ScdException(String.format("Unknown TExtRef with signal info [pDO(%s),intAddr(%s)] in %s%s/%s%s%s",
+                        signalInfo.getPDO(), signalInfo.getIntAddr(), extRefInfo.getHolderIEDName(), extRefInfo.getHolderLDInst(),
+                        lnAdapter.getPrefix(), lnAdapter.getLNClass(), lnAdapter.getLNInst()));
+            }
+            TExtRef extRef = tExtRefs.getFirst();
+            if (!extRefInfo.getBindingInfo().isWrappedIn(extRef)) {
+                throw new ScdException("No relation between binding info and the matched TExtRef");
+            }
+            lnAdapter.updateExtRefBindingInfo(extRef, extRefInfo);
+        }
+    }
+
+    /**
+     * LNs of the binder LDevice in which the source control block of an ExtRef is searched
+     */
+    private record SourceLn(String iedName, String ldInst, String lnClass, String lnInst, String prefix) {
+        static SourceLn from(ExtRefInfo extRefInfo) {
+            ExtRefSourceInfo sourceInfo = extRefInfo.getSourceInfo();
+            return new SourceLn(extRefInfo.getBindingInfo().getIedName(), extRefInfo.getBindingInfo().getLdInst(),
+                    sourceInfo.getSrcLNClass(), sourceInfo.getSrcLNInst(), sourceInfo.getSrcPrefix());
+        }
+
+        ControlBlockNames findControlBlockNames(SclRootAdapter sclRootAdapter) {
+            try {
+                LDeviceAdapter lDeviceAdapter = sclRootAdapter.getIEDAdapterByName(iedName).findLDeviceAdapterByLdInst(ldInst)
+                        .orElseThrow(() -> new ScdException(String.format("Unknown LDevice (%s) in IED (%s)", ldInst, iedName)));
+                List<AbstractLNAdapter<?>> lnAdapters;
+                if (StringUtils.isBlank(lnClass)) {
+                    lnAdapters = lDeviceAdapter.getLNAdaptersIncludingLN0();
+                } else if (TLLN0Enum.LLN_0.value().equals(lnClass)) {
+                    lnAdapters = List.of(lDeviceAdapter.getLN0Adapter());
+                } else {
+                    lnAdapters = List.of(lDeviceAdapter.getLNAdapter(lnClass, lnInst, prefix));
+                }
+                Set<String> names = new HashSet<>();
+                for (AbstractLNAdapter<?> lnAdapter : lnAdapters) {
+                    if (lnAdapter.getCurrentElem() instanceof LN0 ln0) {
+                        ln0.getGSEControl().forEach(tgse -> names.add(tgse.getName()));
+                        ln0.getSampledValueControl().forEach(tsmv -> names.add(tsmv.getName()));
+                    }
+                    lnAdapter.getCurrentElem().getReportControl().forEach(trpt -> names.add(trpt.getName()));
+                }
+                return new ControlBlockNames(names, null);
+            } catch (ScdException e) {
+                return new ControlBlockNames(Set.of(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Names of the control blocks of a SourceLn, or the error raised when searching them
+     */
+    private record ControlBlockNames(Set<String> names, String error) {
+        /**
+         * Same check as AbstractLNAdapter#checkExtRefInfoCoherence(ExtRefInfo)
+         */
+        void checkControlBlockKnown(ExtRefInfo extRefInfo) {
+            if (error != null) {
+                throw new ScdException(error);
+            }
+            String cbName = extRefInfo.getSourceInfo().getSrcCBName();
+            if (!names.contains(cbName)) {
+                ExtRefBindingInfo bindingInfo = extRefInfo.getBindingInfo();
+                throw new ScdException(String.format("Unknown control block %s in Ied: %s / LdInst: %s / LnPrefix: %s LnClass: %s LnInst: %s",
+                        cbName, bindingInfo.getIedName(), bindingInfo.getLdInst(), bindingInfo.getPrefix(), bindingInfo.getLnClass(), bindingInfo.getLnInst()));
+            }
+        }
+    }
+
 }
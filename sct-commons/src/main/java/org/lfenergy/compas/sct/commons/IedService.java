@@ -7,6 +7,7 @@ package org.lfenergy.compas.sct.commons;
 import org.lfenergy.compas.scl2007b4.model.SCL;
 import org.lfenergy.compas.scl2007b4.model.TIED;
 import org.lfenergy.compas.sct.commons.exception.ScdException;
+import org.lfenergy.compas.sct.commons.scl.SclIndex;
 
 import java.util.Optional;
 import java.util.function.Predicate;
@@ -25,6 +26,6 @@ public class IedService {
     public Optional<TIED> findIed(SCL scd, String iedName) {
         if (null == iedName)
             throw new ScdException("The given iedName is null");
-        return findIed(scd, tied -> iedName.equals(tied.getName()));
+        return SclIndex.of(scd).findIed(iedName);
     }
 }
@@ -9,6 +9,7 @@ import org.lfenergy.compas.scl2007b4.model.TAccessPoint;
 import org.lfenergy.compas.scl2007b4.model.TIED;
 import org.lfenergy.compas.scl2007b4.model.TLDevice;
 import org.lfenergy.compas.scl2007b4.model.TServer;
+import org.lfenergy.compas.sct.commons.scl.SclIndex;
 import org.lfenergy.compas.sct.commons.util.ActiveStatus;
 
 import java.util.Objects;
@@ -50,7 +51,7 @@ public class LdeviceService {
     }
 
     public Optional<TLDevice> findLdevice(TIED tied, String ldInst) {
-        return findLdevice(tied, tlDevice -> tlDevice.getInst().equals(ldInst));
+        return SclIndex.findLDevice(tied, ldInst);
     }
 
     public Optional<ActiveStatus> getLdeviceStatus(TLDevice tlDevice) {
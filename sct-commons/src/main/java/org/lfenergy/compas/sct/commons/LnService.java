@@ -9,6 +9,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.lfenergy.compas.scl2007b4.model.*;
 import org.lfenergy.compas.sct.commons.api.LnEditor;
 import org.lfenergy.compas.sct.commons.domain.*;
+import org.lfenergy.compas.sct.commons.scl.DataInstanceIndex;
 import org.lfenergy.compas.sct.commons.util.ActiveStatus;
 
 import java.util.ArrayList;
@@ -104,36 +105,8 @@ public class LnService implements LnEditor {
         List<String> structNamesList = new ArrayList<>(dataRef.sdoNames());
         structNamesList.add(dataRef.daName());
         structNamesList.addAll(dataRef.bdaNames());
-
-        return tAnyLN.getDOI().stream().filter(doi -> doi.getName().equals(dataRef.doName()))
-                .findFirst()
-                .flatMap(doi -> {
-                    if (structNamesList.size() > 1) {
-                        String firstSDIName = structNamesList.removeFirst();
-                        return this.getSdiByName(doi, firstSDIName)
-                                .map(intermediateSdi -> findSDIByStructName(intermediateSdi, structNamesList))
-                                .stream()
-                                .findFirst()
-                                .flatMap(lastDsi -> {
-                                    if (structNamesList.size() == 1) {
-                                        return lastDsi.getSDIOrDAI().stream()
-                                                .filter(dai -> dai.getClass().equals(TDAI.class))
-                                                .map(TDAI.class::cast)
-                                                .filter(dai -> dai.getName().equals(structNamesList.getFirst()))
-                                                .findFirst();
-                                    }
-                                    return Optional.empty();
-                                })
-                                .stream().findFirst();
-                    } else if (structNamesList.size() == 1) {
-                        return doi.getSDIOrDAI().stream()
-                                .filter(unNaming -> unNaming.getClass().equals(TDAI.class))
-                                .map(TDAI.class::cast)
-                                .filter(dai -> dai.getName().equals(structNamesList.getFirst()))
-                                .findFirst();
-                    }
-                    return Optional.empty();
-                });
+        String daiName = structNamesList.removeLast();
+        return DataInstanceIndex.findDai(tAnyLN, dataRef.doName(), structNamesList, daiName);
     }
 
     @Override
@@ -205,99 +178,19 @@ public class LnService implements LnEditor {
         List<String> sdiNames = new ArrayList<>(dataObject.getSdoNames());
         sdiNames.add(dataAttribute.getDaName());
         sdiNames.addAll(dataAttribute.getBdaNames());
-        String doiName = dataObject.getDoName();
         String daiName = sdiNames.removeLast();
 
-        TDOI doi = tAnyLN.getDOI().stream().filter(doi1 -> doi1.getName().equals(doiName))
-                .findFirst()
-                .orElseGet(() -> {
-                    TDOI newDOI = new TDOI();
-                    newDOI.setName(doiName);
-                    tAnyLN.getDOI().add(newDOI);
-                    return newDOI;
-                });
-
-        // case 1: No SDI
-        if (sdiNames.isEmpty()) {
-            List<TUnNaming> sdiOrDAI = doi.getSDIOrDAI();
-            return findOrCreateDai(dataAttribute, sdiOrDAI, daiName);
+        TUnNaming doiOrSdi = DataInstanceIndex.findOrCreateDoi(tAnyLN, dataObject.getDoName());
+        for (String sdiName : sdiNames) {
+            doiOrSdi = DataInstanceIndex.findOrCreateSdi(doiOrSdi, sdiName);
         }
-        // case 2: with SDI
-        String firstSdiName = sdiNames.removeFirst();
-        TSDI firstSdi = this.getSdiByName(doi, firstSdiName)
-                .orElseGet(() -> {
-                    TSDI tsdi = new TSDI();
-                    tsdi.setName(firstSdiName);
-                    doi.getSDIOrDAI().add(tsdi);
-                    return tsdi;
-                });
-        TSDI lastSDI = sdiNames.isEmpty() ? firstSdi : findOrCreateSdiChain(firstSdi, sdiNames);
-        List<TUnNaming> sdiOrDAI = lastSDI.getSDIOrDAI();
-        return findOrCreateDai(dataAttribute, sdiOrDAI, daiName);
-    }
-
-    private TDAI findOrCreateDai(DataAttribute dataAttribute, List<TUnNaming> sdiOrDAI, String daiName) {
-        return sdiOrDAI.stream()
-                .filter(tUnNaming -> tUnNaming.getClass().equals(TDAI.class))
-                .map(TDAI.class::cast)
-                .filter(tdai -> tdai.getName().equals(daiName))
-                .findFirst()
+        TUnNaming parent = doiOrSdi;
+        return DataInstanceIndex.findDai(parent, daiName)
                 .map(tdai -> {
                     if (tdai.isSetValImport()) tdai.setValImport(dataAttribute.isValImport());
                     return tdai;
                 })
-                .orElseGet(() -> {
-                    TDAI newDAI = new TDAI();
-                    newDAI.setName(daiName);
-                    sdiOrDAI.add(newDAI);
-                    return newDAI;
-                });
-    }
-
-    private TSDI findSDIByStructName(TSDI tsdi, List<String> sdiNames) {
-        if (sdiNames.isEmpty()) return tsdi;
-        return this.getSdiByName(tsdi, sdiNames.getFirst())
-                .map(sdi1 -> {
-                    sdiNames.removeFirst();
-                    return findSDIByStructName(sdi1, sdiNames);
-                })
-                .orElse(tsdi);
-    }
-
-    private Optional<TSDI> getSdiByName(TDOI doi, String sdiName) {
-        return doi.getSDIOrDAI().stream()
-                .filter(unNaming -> unNaming.getClass().equals(TSDI.class))
-                .map(TSDI.class::cast)
-                .filter(tsdi -> tsdi.getName().equals(sdiName))
-                .findFirst();
-    }
-
-    private Optional<TSDI> getSdiByName(TSDI sdi, String sdiName) {
-        return sdi.getSDIOrDAI().stream()
-                .filter(unNaming -> unNaming.getClass().equals(TSDI.class))
-                .map(TSDI.class::cast)
-                .filter(tsdi -> tsdi.getName().equals(sdiName))
-                .findFirst();
-    }
-
-    /**
-     * @param sdi        TSDI
-     * @param sdiNames list start with sdi name
-     * @return already existing TSDI or newly created TSDI from given TSDI
-     */
-    private TSDI findOrCreateSdiChain(TSDI sdi, List<String> sdiNames) {
-        TSDI sdiToGet = getSdiByName(sdi, sdiNames.getFirst())
-                .orElseGet(() -> {
-                    TSDI tsdi = new TSDI();
-                    tsdi.setName(sdiNames.getFirst());
-                    sdi.getSDIOrDAI().add(tsdi);
-                    return tsdi;
-                });
-        List<String> remainingSdiNames = sdiNames.subList(1, sdiNames.size());
-        if (remainingSdiNames.isEmpty()) {
-            return sdiToGet;
-        }
-        return findOrCreateSdiChain(sdiToGet, remainingSdiNames);
+                .orElseGet(() -> DataInstanceIndex.findOrCreateDai(parent, daiName));
     }
 
 }
@@ -6,6 +6,7 @@ package org.lfenergy.compas.sct.commons;
 
 import org.lfenergy.compas.scl2007b4.model.TDataTypeTemplates;
 import org.lfenergy.compas.scl2007b4.model.TLNodeType;
+import org.lfenergy.compas.sct.commons.scl.SclIndex;
 
 import java.util.Optional;
 import java.util.function.Predicate;
@@ -26,7 +27,7 @@ public class LnodeTypeService {
     }
 
     public Optional<TLNodeType> findLnodeType(TDataTypeTemplates tDataTypeTemplates, String lNodeTypeId) {
-        return getFilteredLnodeTypes(tDataTypeTemplates, tlNodeType -> tlNodeType.getId().equals(lNodeTypeId)).findFirst();
+        return SclIndex.findLNodeType(tDataTypeTemplates, lNodeTypeId);
     }
 
 }
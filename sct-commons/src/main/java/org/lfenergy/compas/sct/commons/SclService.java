@@ -4,7 +4,6 @@
 
 package org.lfenergy.compas.sct.commons;
 
-import lombok.Getter;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -17,11 +16,15 @@ import org.lfenergy.compas.sct.commons.domain.DoLinkedToDa;
 import org.lfenergy.compas.sct.commons.dto.*;
 import org.lfenergy.compas.sct.commons.exception.ScdException;
 import org.lfenergy.compas.sct.commons.scl.ExtRefService;
+import org.lfenergy.compas.sct.commons.scl.SclIndex;
 import org.lfenergy.compas.sct.commons.scl.SclRootAdapter;
 import org.lfenergy.compas.sct.commons.scl.com.CommunicationAdapter;
 import org.lfenergy.compas.sct.commons.scl.com.ConnectedAPAdapter;
 import org.lfenergy.compas.sct.commons.scl.com.SubNetworkAdapter;
+import org.lfenergy.compas.sct.commons.scl.dtt.AbstractDataAttributeAdapter;
+import org.lfenergy.compas.sct.commons.scl.dtt.DataAttributeCatalogue;
 import org.lfenergy.compas.sct.commons.scl.dtt.DataTypeTemplateAdapter;
+import org.lfenergy.compas.sct.commons.scl.dtt.DataTypeTemplateFingerprints;
 import org.lfenergy.compas.sct.commons.scl.dtt.LNodeTypeAdapter;
 import org.lfenergy.compas.sct.commons.scl.header.HeaderAdapter;
 import org.lfenergy.compas.sct.commons.scl.icd.IcdHeader;
@@ -31,10 +34,15 @@ import org.lfenergy.compas.sct.commons.scl.ldevice.LDeviceAdapter;
 import org.lfenergy.compas.sct.commons.scl.ln.AbstractLNAdapter;
 import org.lfenergy.compas.sct.commons.util.MonitoringLnClassEnum;
 import org.lfenergy.compas.sct.commons.util.PrivateUtils;
+import org.lfenergy.compas.sct.commons.util.SclElementCopier;
 import org.lfenergy.compas.sct.commons.util.Utils;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.lfenergy.compas.sct.commons.util.CommonConstants.IED_TEST_NAME;
 import static org.lfenergy.compas.sct.commons.util.CommonConstants.LDEVICE_LDSUIED;
@@ -56,9 +64,6 @@ public class SclService implements SclEditor {
     private final ExtRefService extRefService;
     private final DataTypeTemplateReader dataTypeTemplateService;
 
-    @Getter
-    private final ThreadLocal<List<SclReportItem>> errorHandler = ThreadLocal.withInitial(ArrayList::new);
-
     @Override
     public SCL initScl(final UUID hId, final String hVersion, final String hRevision) throws ScdException {
         SclRootAdapter scdAdapter = new SclRootAdapter(hId.toString(), hVersion, hRevision);
@@ -176,66 +181,313 @@ public class SclService implements SclEditor {
         log.info(Utils.leaving(startTime));
     }
 
+    @Override
+    public List<SclReportItem> updateDAIs(SCL scd, Collection<DaiUpdate> daiUpdates) {
+        long startTime = System.nanoTime();
+        log.info(Utils.entering());
+        SclRootAdapter sclRootAdapter = new SclRootAdapter(scd);
+        DataTypeTemplateAdapter dttAdapter = sclRootAdapter.getDataTypeTemplateAdapter();
+        List<DaiUpdate> updates = new ArrayList<>(daiUpdates);
+        SclReportItem[] errors = new SclReportItem[updates.size()];
+        Map<DaiLn, List<Integer>> updateIndexesByLn = new LinkedHashMap<>();
+        for (int i = 0; i < updates.size(); i++) {
+            updateIndexesByLn.computeIfAbsent(DaiLn.from(updates.get(i)), k -> new ArrayList<>()).add(i);
+        }
+        Map<DaiTypePath, DaiTypePathCheck> typePathChecks = new HashMap<>();
+        Map<String, Optional<String>> objRefErrors = new HashMap<>();
+        updateIndexesByLn.forEach((daiLn, updateIndexes) -> {
+            AbstractLNAdapter<?> lnAdapter;
+            try {
+                lnAdapter = findLnAdapter(sclRootAdapter, daiLn);
+            } catch (ScdException | IllegalArgumentException e) {
+                updateIndexes.forEach(i -> errors[i] = SclReportItem.error(daiLn.location(), e.getMessage()));
+                return;
+            }
+            for (int i : updateIndexes) {
+                DataAttributeRef dataAttributeRef = updates.get(i).dataAttributeRef();
+                try {
+                    DaiTypePathCheck typePathCheck = typePathChecks.computeIfAbsent(DaiTypePath.from(dataAttributeRef),
+                            k -> checkDaiTypePath(dttAdapter, dataAttributeRef));
+                    completeFromTypePath(dataAttributeRef, typePathCheck);
+                    if (TPredefinedBasicTypeEnum.OBJ_REF == dataAttributeRef.getBType()) {
+                        Long sGroup = dataAttributeRef.getDaName().getDaiValues().keySet().stream().findFirst().orElse(-1L);
+                        String val = sGroup < 0 ? null : dataAttributeRef.getDaName().getDaiValues().get(sGroup);
+                        objRefErrors.computeIfAbsent(val, k -> checkObjRef(sclRootAdapter, val))
+                                .ifPresent(message -> {
+                                    throw new ScdException(message);
+                                });
+                    }
+                    if (TPredefinedCDCEnum.ING == dataAttributeRef.getCdc() || TPredefinedCDCEnum.ASG == dataAttributeRef.getCdc()) {
+                        new DAITracker(lnAdapter, dataAttributeRef.getDoName(), dataAttributeRef.getDaName()).validateBoundedDAI();
+                    }
+                    lnAdapter.updateDAI(dataAttributeRef);
+                } catch (ScdException e) {
+                    errors[i] = lnAdapter.buildFatalReportItem(e.getMessage());
+                }
+            }
+        });
+        log.info(Utils.leaving(startTime));
+        return Arrays.stream(errors).filter(Objects::nonNull).toList();
+    }
+
+    private static AbstractLNAdapter<?> findLnAdapter(SclRootAdapter sclRootAdapter, DaiLn daiLn) {
+        IEDAdapter iedAdapter = sclRootAdapter.getIEDAdapterByName(daiLn.iedName());
+        LDeviceAdapter lDeviceAdapter = iedAdapter.findLDeviceAdapterByLdInst(daiLn.ldInst())
+                .orElseThrow(() -> new ScdException(String.format("Unknown LDevice (%s) in IED (%s)", daiLn.ldInst(), daiLn.iedName())));
+        return AbstractLNAdapter.builder()
+                .withLDeviceAdapter(lDeviceAdapter)
+                .withLnClass(daiLn.lnClass())
+                .withLnInst(daiLn.lnInst())
+                .withLnPrefix(daiLn.prefix())
+                .build();
+    }
+
+    /**
+     * Finds the DA or BDA of a DataAttributeRef in its LNodeType, checking its DO and DA names without its values
+     */
+    private static DaiTypePathCheck checkDaiTypePath(DataTypeTemplateAdapter dttAdapter, DataAttributeRef dataAttributeRef) {
+        try {
+            LNodeTypeAdapter lNodeTypeAdapter = dttAdapter.getLNodeTypeAdapterById(dataAttributeRef.getLnType())
+                    .orElseThrow(() -> new ScdException("Unknown LNodeType : " + dataAttributeRef.getLnType()));
+            DoTypeName doName = DoTypeName.from(dataAttributeRef.getDoName());
+            DaTypeName daName = DaTypeName.from(dataAttributeRef.getDaName());
+            AbstractDataAttributeAdapter<?, ?> dataAttributeAdapter = lNodeTypeAdapter.getDataAttributeAdapter(doName, daName);
+            return new DaiTypePathCheck(doName.getCdc(), daName.getFc(), dataAttributeAdapter, null);
+        } catch (ScdException e) {
+            return new DaiTypePathCheck(null, null, null, e.getMessage());
+        }
+    }
+
+    /**
+     * Completes a DataAttributeRef like LNodeTypeAdapter#checkDoAndDaTypeName does, from the DA or BDA found for its DO and DA
+     */
+    private static void completeFromTypePath(DataAttributeRef dataAttributeRef, DaiTypePathCheck typePathCheck) {
+        if (typePathCheck.error() != null) {
+            throw new ScdException(typePathCheck.error());
+        }
+        if (!dataAttributeRef.getSdoNames().isEmpty()) {
+            dataAttributeRef.setCdc(typePathCheck.cdc());
+        }
+        if (!dataAttributeRef.getBdaNames().isEmpty()) {
+            dataAttributeRef.getDaName().setFc(typePathCheck.fc());
+        }
+        typePathCheck.dataAttributeAdapter().check(dataAttributeRef.getDaName());
+    }
+
+    private static Optional<String> checkObjRef(SclRootAdapter sclRootAdapter, String val) {
+        try {
+            sclRootAdapter.checkObjRef(val);
+            return Optional.empty();
+        } catch (ScdException e) {
+            return Optional.of(e.getMessage());
+        }
+    }
+
     @Override
     public void importSTDElementsInSCD(SCL scd, List<SCL> stds) throws ScdException {
+        importSTDElementsInSCD(scd, PrivateUtils.createMapICDSystemVersionUuidAndSTDFile(stds));
+    }
 
+    @Override
+    public void importSTDElementsInSCD(SCL scd, Map<String, PrivateLinkedToStds> mapICDSystemVersionUuidAndSTDFile) throws ScdException {
         //Check SCD and STD compatibilities
-        Map<String, PrivateLinkedToStds> mapICDSystemVersionUuidAndSTDFile = PrivateUtils.createMapICDSystemVersionUuidAndSTDFile(stds);
         PrivateUtils.checkSTDCorrespondanceWithLNodeCompasICDHeader(mapICDSystemVersionUuidAndSTDFile);
         // List all Private and remove duplicated one with same iedName
         // For each Private.ICDSystemVersionUUID and Private.iedName find STD File
-        List<String> iedNamesUsed = new ArrayList<>();
+        List<IcdHeader> icdHeaders = firstIcdHeaderOfEachIed(scd);
+        Set<String> sharedUuids = findSharedIcdSystemVersionUuids(icdHeaders);
         SclRootAdapter scdRootAdapter = new SclRootAdapter(scd);
-        PrivateUtils.streamIcdHeaders(scd)
-                .forEach(icdHeader -> {
-                    if (!iedNamesUsed.contains(icdHeader.getIedName())) {
-                        String iedName = icdHeader.getIedName();
-                        iedNamesUsed.add(iedName);
-                        String icdSysVerUuid = icdHeader.getIcdSystemVersionUUID();
-                        if (!mapICDSystemVersionUuidAndSTDFile.containsKey(icdSysVerUuid))
-                            throw new ScdException("There is no STD file found corresponding to " + icdHeader);
-                        // import /ied /dtt in Scd
-                        SCL std = mapICDSystemVersionUuidAndSTDFile.get(icdSysVerUuid).stdList().getFirst();
-                        SclRootAdapter stdRootAdapter = new SclRootAdapter(std);
-                        IEDAdapter stdIedAdapter = new IEDAdapter(stdRootAdapter, std.getIED().getFirst());
-                        Optional<TPrivate> optionalTPrivate = stdIedAdapter.getPrivateHeader(COMPAS_ICDHEADER.getPrivateType());
-                        if (optionalTPrivate.isPresent() && optionalTPrivate.flatMap(PrivateUtils::extractCompasICDHeader).map(IcdHeader::new).get().equals(icdHeader)) {
-                            PrivateUtils.copyCompasICDHeaderFromLNodePrivateIntoSTDPrivate(optionalTPrivate.get(), icdHeader.toTCompasICDHeader());
-                        } else throw new ScdException("COMPAS-ICDHeader is not the same in Substation and in IED");
-                        scdRootAdapter.addIED(std, iedName);
-
-                        //import connectedAP and rename ConnectedAP/@iedName
-                        addSubnetworks(scdRootAdapter.getCurrentElem(), std, iedName);
-                    }
+        icdHeaders.forEach(icdHeader -> importSTDElementsInSCD(scdRootAdapter, icdHeader, mapICDSystemVersionUuidAndSTDFile, sharedUuids));
+    }
+
+    @Override
+    public StdUpdateReport updateSTDElementsInSCD(SCL scd, List<SCL> changedStds) throws ScdException {
+        Map<String, PrivateLinkedToStds> mapICDSystemVersionUuidAndSTDFile = PrivateUtils.createMapICDSystemVersionUuidAndSTDFile(changedStds);
+        PrivateUtils.checkSTDCorrespondanceWithLNodeCompasICDHeader(mapICDSystemVersionUuidAndSTDFile);
+        List<IcdHeader> updatedIcdHeaders = firstIcdHeaderOfEachIed(scd).stream()
+                .filter(icdHeader -> mapICDSystemVersionUuidAndSTDFile.containsKey(icdHeader.getIcdSystemVersionUUID()))
+                .toList();
+        Set<String> updatedUuids = updatedIcdHeaders.stream().map(IcdHeader::getIcdSystemVersionUUID).collect(Collectors.toSet());
+        mapICDSystemVersionUuidAndSTDFile.entrySet().stream()
+                .filter(entry -> !updatedUuids.contains(entry.getKey()))
+                .findFirst()
+                .ifPresent(entry -> {
+                    throw new ScdException("There is no COMPAS-ICDHeader in Substation corresponding to STD file with "
+                            + PrivateUtils.stdCheckFormatExceptionMessage(entry.getValue().tPrivate()));
+                });
+        Set<String> updatedIedNames = updatedIcdHeaders.stream().map(IcdHeader::getIedName).collect(Collectors.toCollection(LinkedHashSet::new));
+        SclRootAdapter scdRootAdapter = new SclRootAdapter(scd);
+
+        // remove updated IEDs, remembering their position, and the types used by them only
+        Map<String, Integer> positionByIedName = new HashMap<>();
+        for (int i = 0; i < scd.getIED().size(); i++) {
+            String iedName = scd.getIED().get(i).getName();
+            if (updatedIedNames.contains(iedName)) {
+                positionByIedName.putIfAbsent(iedName, i);
+            }
+        }
+        List<TIED> removedIeds = scd.getIED().stream().filter(tied -> updatedIedNames.contains(tied.getName())).toList();
+        scd.getIED().removeIf(tied -> updatedIedNames.contains(tied.getName()));
+        scdRootAdapter.getSclIndex().invalidateIeds();
+        TDataTypeTemplates dtt = scd.getDataTypeTemplates();
+        DataTypeTemplatesUsage removedTypes = DataTypeTemplatesUsage.referencedBy(dtt, removedIeds)
+                .minus(DataTypeTemplatesUsage.referencedBy(dtt, scd.getIED()));
+        removedTypes.removeFrom(dtt);
+        invalidateDataTypeTemplates(dtt);
+        List<TSubNetwork> subNetworksOfUpdatedIeds = Optional.ofNullable(scd.getCommunication()).stream()
+                .flatMap(tCommunication -> tCommunication.getSubNetwork().stream())
+                .filter(tSubNetwork -> tSubNetwork.getConnectedAP().stream().anyMatch(tConnectedAP -> updatedIedNames.contains(tConnectedAP.getIedName())))
+                .toList();
+        List<ConnectedApDTO> removedConnectedAPs = removeConnectedAPs(scd, updatedIedNames);
+        DataTypeTemplatesUsage remainingTypes = DataTypeTemplatesUsage.allTypes(dtt);
+
+        // import updated STD files, and put back IEDs at their position
+        Set<String> sharedUuids = findSharedIcdSystemVersionUuids(updatedIcdHeaders);
+        updatedIcdHeaders.forEach(icdHeader -> importSTDElementsInSCD(scdRootAdapter, icdHeader, mapICDSystemVersionUuidAndSTDFile, sharedUuids));
+        positionByIedName.entrySet().stream()
+                .sorted(Map.Entry.comparingByValue())
+                .forEach(entry -> {
+                    TIED tied = scdRootAdapter.getIEDAdapterByName(entry.getKey()).getCurrentElem();
+                    scd.getIED().remove(tied);
+                    scd.getIED().add(Math.min(entry.getValue(), scd.getIED().size()), tied);
                 });
+        scdRootAdapter.getSclIndex().invalidateIeds();
+        List<ConnectedApDTO> connectedAPs = streamConnectedAPs(scd)
+                .filter(tConnectedAP -> updatedIedNames.contains(tConnectedAP.getIedName()))
+                .map(tConnectedAP -> new ConnectedApDTO(tConnectedAP.getIedName(), tConnectedAP.getApName()))
+                .toList();
+        Optional.ofNullable(scd.getCommunication())
+                .ifPresent(tCommunication -> tCommunication.getSubNetwork().removeIf(tSubNetwork -> tSubNetwork.getConnectedAP().isEmpty()
+                        && subNetworksOfUpdatedIeds.stream().anyMatch(subNetworkOfUpdatedIeds -> subNetworkOfUpdatedIeds == tSubNetwork)));
+
+        DataTypeTemplatesUsage addedTypes = DataTypeTemplatesUsage.allTypes(scd.getDataTypeTemplates()).minus(remainingTypes);
+        return new StdUpdateReport(List.copyOf(updatedIedNames), connectedAPs,
+                removedConnectedAPs.stream().filter(connectedApDTO -> !connectedAPs.contains(connectedApDTO)).toList(),
+                addedTypes.minus(removedTypes).ids(),
+                removedTypes.minus(addedTypes).ids());
+    }
+
+    /**
+     * Lists COMPAS-ICDHeaders of the Substation, keeping the first one of each IED
+     */
+    private static List<IcdHeader> firstIcdHeaderOfEachIed(SCL scd) {
+        Map<String, IcdHeader> icdHeaderByIedName = new LinkedHashMap<>();
+        PrivateUtils.streamIcdHeaders(scd)
+                .forEach(icdHeader -> icdHeaderByIedName.putIfAbsent(icdHeader.getIedName(), icdHeader));
+        return List.copyOf(icdHeaderByIedName.values());
+    }
+
+    /**
+     * Finds ICDSystemVersionUUIDs used by several IEDs : their STD file is imported once per IED
+     */
+    private static Set<String> findSharedIcdSystemVersionUuids(List<IcdHeader> icdHeaders) {
+        Set<String> uuids = new HashSet<>();
+        return icdHeaders.stream()
+                .map(IcdHeader::getIcdSystemVersionUUID)
+                .filter(uuid -> !uuids.add(uuid))
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Imports IED, DataTypeTemplates and ConnectedAPs of the STD file corresponding to a COMPAS-ICDHeader of the Substation.
+     * As the import moves the IED of the STD file into the SCD and renames it, a copy of the STD file is imported when
+     * its ICDSystemVersionUUID is shared by several IEDs.
+     */
+    private void importSTDElementsInSCD(SclRootAdapter scdRootAdapter, IcdHeader icdHeader, Map<String, PrivateLinkedToStds> mapICDSystemVersionUuidAndSTDFile,
+                                        Set<String> sharedUuids) {
+        String iedName = icdHeader.getIedName();
+        String icdSysVerUuid = icdHeader.getIcdSystemVersionUUID();
+        if (!mapICDSystemVersionUuidAndSTDFile.containsKey(icdSysVerUuid))
+            throw new ScdException("There is no STD file found corresponding to " + icdHeader);
+        // import /ied /dtt in Scd
+        SCL std = mapICDSystemVersionUuidAndSTDFile.get(icdSysVerUuid).stdList().getFirst();
+        if (sharedUuids.contains(icdSysVerUuid)) {
+            std = SclElementCopier.DEEP.copy(std, SCL.class);
+        }
+        SclRootAdapter stdRootAdapter = new SclRootAdapter(std);
+        IEDAdapter stdIedAdapter = new IEDAdapter(stdRootAdapter, std.getIED().getFirst());
+        Optional<TPrivate> optionalTPrivate = stdIedAdapter.getPrivateHeader(COMPAS_ICDHEADER.getPrivateType());
+        if (optionalTPrivate.isPresent() && optionalTPrivate.flatMap(PrivateUtils::extractCompasICDHeader).map(IcdHeader::new).get().equals(icdHeader)) {
+            PrivateUtils.copyCompasICDHeaderFromLNodePrivateIntoSTDPrivate(optionalTPrivate.get(), icdHeader.toTCompasICDHeader());
+        } else throw new ScdException("COMPAS-ICDHeader is not the same in Substation and in IED");
+        scdRootAdapter.addIED(std, iedName);
+
+        //import connectedAP and rename ConnectedAP/@iedName
+        addSubnetworks(scdRootAdapter.getCurrentElem(), std, iedName);
+    }
+
+    private static List<ConnectedApDTO> removeConnectedAPs(SCL scd, Set<String> iedNames) {
+        List<ConnectedApDTO> removedConnectedAPs = streamConnectedAPs(scd)
+                .filter(tConnectedAP -> iedNames.contains(tConnectedAP.getIedName()))
+                .map(tConnectedAP -> new ConnectedApDTO(tConnectedAP.getIedName(), tConnectedAP.getApName()))
+                .toList();
+        Optional.ofNullable(scd.getCommunication())
+                .ifPresent(tCommunication -> tCommunication.getSubNetwork()
+                        .forEach(tSubNetwork -> tSubNetwork.getConnectedAP().removeIf(tConnectedAP -> iedNames.contains(tConnectedAP.getIedName()))));
+        return removedConnectedAPs;
+    }
+
+    private static Stream<TConnectedAP> streamConnectedAPs(SCL scd) {
+        return Optional.ofNullable(scd.getCommunication()).stream()
+                .flatMap(tCommunication -> tCommunication.getSubNetwork().stream())
+                .flatMap(tSubNetwork -> tSubNetwork.getConnectedAP().stream());
+    }
+
+    private static void invalidateDataTypeTemplates(TDataTypeTemplates dtt) {
+        if (dtt != null) {
+            SclIndex.invalidate(dtt);
+            DataTypeTemplateFingerprints.invalidate(dtt);
+            DataAttributeCatalogue.invalidate(dtt);
+        }
     }
 
     @Override
     public List<SclReportItem> manageMonitoringLns(SCL scd) {
-        errorHandler.get().clear();
-        try {
-            //Preprocessing : clean LSVS/LGOS if inst!=1 and monitor them if needed
-            removeLsvsLgos(scd);
-            iedService.getFilteredIeds(scd, ied -> !ied.getName().contains(IED_TEST_NAME))
-                    .forEach(tied -> {
-                        Map<TServiceType, List<IedSource>> serviceTypeToIedSource = ldeviceService.getLdevices(tied)
-                                .flatMap(extRefService::getExtRefs)
-                                .filter(tExtRef -> tExtRef.isSetServiceType() && tExtRef.isSetSrcCBName() && (tExtRef.getServiceType().equals(TServiceType.GOOSE) || tExtRef.getServiceType().equals(TServiceType.SMV)))
-                                .collect(Collectors.groupingBy(tExtRef -> new IedSource(tExtRef.getIedName(), tExtRef.getSrcCBName(), tExtRef.getSrcLDInst(), tExtRef.getServiceType())))
-                                .keySet()
-                                .stream()
-                                .collect(Collectors.groupingBy(IedSource::serviceType));
-                        ldeviceService.findLdevice(tied, LDEVICE_LDSUIED).ifPresent(ldSUIEDLDevice -> {
-                            Optional.ofNullable(serviceTypeToIedSource.get(TServiceType.GOOSE))
-                                    .ifPresent(iedSourceKeys -> manageMonitoringLns(iedSourceKeys, scd, tied, ldSUIEDLDevice, DO_GOCBREF, MonitoringLnClassEnum.LGOS));
-                            Optional.ofNullable(serviceTypeToIedSource.get(TServiceType.SMV))
-                                    .ifPresent(iedSourceKeys -> manageMonitoringLns(iedSourceKeys, scd, tied, ldSUIEDLDevice, DO_SVCBREF, MonitoringLnClassEnum.LSVS));
-                        });
-                    });
-            return errorHandler.get();
-        } finally {
-            errorHandler.remove();
+        return manageMonitoringLns(scd, Runnable::run);
+    }
+
+    @Override
+    public List<SclReportItem> manageMonitoringLns(SCL scd, Executor executor) {
+        //Preprocessing : clean LSVS/LGOS if inst!=1 and monitor them if needed
+        removeLsvsLgos(scd);
+        SourceLdNames sourceLdNames = SourceLdNames.of(scd, ldeviceService);
+        List<CompletableFuture<List<SclReportItem>>> iedTasks = iedService.getFilteredIeds(scd, ied -> !ied.getName().contains(IED_TEST_NAME))
+                .map(tied -> CompletableFuture.supplyAsync(() -> manageMonitoringLns(scd, tied, sourceLdNames), executor))
+                .toList();
+        // Wait for all IEDs before reporting the first error, so that no task is still updating the SCD
+        CompletableFuture.allOf(iedTasks.toArray(CompletableFuture[]::new)).exceptionally(throwable -> null).join();
+        List<SclReportItem> sclReportItems = new ArrayList<>();
+        for (CompletableFuture<List<SclReportItem>> iedTask : iedTasks) {
+            try {
+                sclReportItems.addAll(iedTask.join());
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                throw e;
+            }
         }
+        return sclReportItems;
+    }
+
+    /**
+     * Update and/or create Monitoring LNs of one IED. Only the LDevice LDSUIED of this IED is modified.
+     */
+    private List<SclReportItem> manageMonitoringLns(SCL scd, TIED tied, SourceLdNames sourceLdNames) {
+        List<SclReportItem> sclReportItems = new ArrayList<>();
+        Map<TServiceType, List<IedSource>> serviceTypeToIedSource = ldeviceService.getLdevices(tied)
+                .flatMap(extRefService::getExtRefs)
+                .filter(tExtRef -> tExtRef.isSetServiceType() && tExtRef.isSetSrcCBName() && (tExtRef.getServiceType().equals(TServiceType.GOOSE) || tExtRef.getServiceType().equals(TServiceType.SMV)))
+                .map(tExtRef -> new IedSource(tExtRef.getIedName(), tExtRef.getSrcCBName(), tExtRef.getSrcLDInst(), tExtRef.getServiceType()))
+                .distinct()
+                .collect(Collectors.groupingBy(IedSource::serviceType, LinkedHashMap::new, Collectors.toList()));
+        ldeviceService.findLdevice(tied, LDEVICE_LDSUIED).ifPresent(ldSUIEDLDevice -> {
+            Optional.ofNullable(serviceTypeToIedSource.get(TServiceType.GOOSE))
+                    .ifPresent(iedSourceKeys -> manageMonitoringLns(iedSourceKeys, scd, tied, ldSUIEDLDevice, DO_GOCBREF, MonitoringLnClassEnum.LGOS, sourceLdNames, sclReportItems));
+            Optional.ofNullable(serviceTypeToIedSource.get(TServiceType.SMV))
+                    .ifPresent(iedSourceKeys -> manageMonitoringLns(iedSourceKeys, scd, tied, ldSUIEDLDevice, DO_SVCBREF, MonitoringLnClassEnum.LSVS, sourceLdNames, sclReportItems));
+        });
+        return sclReportItems;
     }
 
     private void removeLsvsLgos(SCL scd) {
@@ -243,24 +495,27 @@ public class SclService implements SclEditor {
                 .forEach(tlDevice -> {
                     List<TLN> tlnList = tlDevice.getLN();
                     tlnList.removeIf(tln -> (tln.getLnClass().contains("LGOS") || tln.getLnClass().contains("LSVS")) && !tln.getInst().equals("1"));
+                    SclIndex.invalidate(tlDevice);
                 });
     }
 
-    private void manageMonitoringLns(List<IedSource> iedSources, SCL scd, TIED tied, TLDevice ldsuiedLdevice, String doName, MonitoringLnClassEnum monitoringLnClassEnum) {
+    private void manageMonitoringLns(List<IedSource> iedSources, SCL scd, TIED tied, TLDevice ldsuiedLdevice, String doName, MonitoringLnClassEnum monitoringLnClassEnum,
+                                     SourceLdNames sourceLdNames, List<SclReportItem> sclReportItems) {
         List<TLN> lgosOrLsvsLns = lnService.getFilteredLns(ldsuiedLdevice, tln -> monitoringLnClassEnum.value().equals(tln.getLnClass().getFirst())).toList();
         if (lgosOrLsvsLns.isEmpty())
-            errorHandler.get().add(SclReportItem.warning(tied.getName() + "/" + LDEVICE_LDSUIED + "/" + monitoringLnClassEnum.value(), "There is no LN %s present in LDevice".formatted(monitoringLnClassEnum.value())));
+            sclReportItems.add(SclReportItem.warning(tied.getName() + "/" + LDEVICE_LDSUIED + "/" + monitoringLnClassEnum.value(), "There is no LN %s present in LDevice".formatted(monitoringLnClassEnum.value())));
         DataRef dataRefDaRef = new DataRef(doName, List.of(), DA_SETSRCREF, List.of());
         DataRef dataRefDaCb = new DataRef(doName, List.of(), DA_SETSRCCB, List.of());
-        dataRefSetDaVal(iedSources, scd, tied, ldsuiedLdevice, doName, monitoringLnClassEnum, lgosOrLsvsLns, dataRefDaRef, dataRefDaCb);
+        dataRefSetDaVal(iedSources, scd, tied, ldsuiedLdevice, doName, monitoringLnClassEnum, lgosOrLsvsLns, dataRefDaRef, dataRefDaCb, sourceLdNames, sclReportItems);
     }
 
-    private void dataRefSetDaVal(List<IedSource> iedSources, SCL scd, TIED tied, TLDevice ldsuiedLdevice, String doName, MonitoringLnClassEnum monitoringLnClassEnum, List<TLN> lgosOrLsvsLns, DataRef dataRefDaRef, DataRef dataRefDaCB) {
+    private void dataRefSetDaVal(List<IedSource> iedSources, SCL scd, TIED tied, TLDevice ldsuiedLdevice, String doName, MonitoringLnClassEnum monitoringLnClassEnum, List<TLN> lgosOrLsvsLns, DataRef dataRefDaRef, DataRef dataRefDaCB,
+                                 SourceLdNames sourceLdNames, List<SclReportItem> sclReportItems) {
         lgosOrLsvsLns.forEach(lgosOrLsvs -> dataTypeTemplateService.findDoLinkedToDa(scd.getDataTypeTemplates(), lgosOrLsvs.getLnType(), dataRefDaRef)
                 .map(doLinkedToDa -> lnService.getDoLinkedToDaCompletedFromDAI(tied, LDEVICE_LDSUIED, lgosOrLsvs, doLinkedToDa))
                 .filter(doLinkedToDa -> {
                     if (!doLinkedToDa.isUpdatable())
-                        errorHandler.get().add(SclReportItem.warning(tied.getName() + "/" + LDEVICE_LDSUIED + "/" + monitoringLnClassEnum.value() + "/DOI@name=\"" + doName + "\"/DAI@name=\"" + dataRefDaRef.daName() + "\"/Val", "The DAI cannot be updated"));
+                        sclReportItems.add(SclReportItem.warning(tied.getName() + "/" + LDEVICE_LDSUIED + "/" + monitoringLnClassEnum.value() + "/DOI@name=\"" + doName + "\"/DAI@name=\"" + dataRefDaRef.daName() + "\"/Val", "The DAI cannot be updated"));
                     return doLinkedToDa.isUpdatable();
                 })
                 .ifPresent(doLinkedToDa -> {
@@ -268,22 +523,23 @@ public class SclService implements SclEditor {
                     for (int i = 0; i < iedSources.size(); i++) {
                         TLN lnToAdd = copyLn(lgosOrLsvs); //duplicate actual LGOS or LSVS in order to add LDSUIED with extRefs properties
                         IedSource iedSource = iedSources.get(i);
-                        TIED sourceIed = iedService.findIed(scd, iedSource.iedName()).orElseThrow(() -> new ScdException("IED.name '" + iedSource.iedName() + "' not found in SCD"));
-                        String sourceLdName = ldeviceService.findLdevice(sourceIed, iedSource.srcLdInst()).orElseThrow(() -> new ScdException(String.format("LDevice.inst '%s' not found in IED '%s'", iedSource.srcLdInst(), iedSource.iedName()))).getLdName();
+                        String sourceLdName = sourceLdNames.getLdName(iedSource);
                         lnToAdd.setInst(String.valueOf(i + 1));
                         DaVal newVal = new DaVal(null, sourceLdName + "/" + TLLN0Enum.LLN_0.value() + "." + iedSource.srcCBName());
                         doLinkedToDa.dataAttribute().getDaiValues().clear();
                         doLinkedToDa.dataAttribute().getDaiValues().add(newVal);
                         lnService.updateOrCreateDOAndDAInstances(lnToAdd, doLinkedToDa);
-                        addValDaCB(scd, tied, doName, monitoringLnClassEnum, dataRefDaCB, lgosOrLsvs, newVal, lnToAdd);
+                        addValDaCB(scd, tied, doName, monitoringLnClassEnum, dataRefDaCB, lgosOrLsvs, newVal, lnToAdd, sclReportItems);
                         log.info("Processing %d IED Source in LDName=%s  - added LN (lnClass=%s, inst=%s, prefix=%s) - update DOI(name=%s)/DAI(name=%s) with value=%s".formatted(iedSources.size(), ldsuiedLdevice.getLdName(), lgosOrLsvs.getLnClass().getFirst(), String.valueOf(i + 1), lgosOrLsvs.getPrefix(), doName, dataRefDaCB.daName(), newVal.val()));
                         ldsuiedLdevice.getLN().add(lnToAdd);
                     }
                     ldsuiedLdevice.getLN().remove(lgosOrLsvs); //We can remove this LGOS or LSVS as we already added new ones
+                    SclIndex.invalidate(ldsuiedLdevice);
                 }));
     }
 
-    private void addValDaCB(SCL scd, TIED tied, String doName, MonitoringLnClassEnum monitoringLnClassEnum, DataRef dataRefDaCB, TLN lgosOrLsvs, DaVal newVal, TLN lnToAdd) {
+    private void addValDaCB(SCL scd, TIED tied, String doName, MonitoringLnClassEnum monitoringLnClassEnum, DataRef dataRefDaCB, TLN lgosOrLsvs, DaVal newVal, TLN lnToAdd,
+                            List<SclReportItem> sclReportItems) {
         Optional<DoLinkedToDa> daCB =  dataTypeTemplateService.findDoLinkedToDa(scd.getDataTypeTemplates(), lgosOrLsvs.getLnType(), dataRefDaCB);
         daCB.ifPresent(doLinkedToDaCB -> {
             DoLinkedToDa doLinkedToDaCBCopy = lnService.getDoLinkedToDaCompletedFromDAI(tied, LDEVICE_LDSUIED, lgosOrLsvs, doLinkedToDaCB);
@@ -293,7 +549,7 @@ public class SclService implements SclEditor {
                 lnService.updateOrCreateDOAndDAInstances(lnToAdd, doLinkedToDaCBCopy);
             }
             else{
-                errorHandler.get().add(SclReportItem.warning(
+                sclReportItems.add(SclReportItem.warning(
                         tied.getName() + "/" + LDEVICE_LDSUIED + "/" + monitoringLnClassEnum.value() + "/DOI@name=\"" + doName + "\"/DAI@name=\"" + dataRefDaCB.daName() + "\"/Val", "The DAI cannot be updated"));
             }
         });
@@ -301,4 +557,70 @@ public class SclService implements SclEditor {
 
     record IedSource(String iedName, String srcCBName, String srcLdInst, TServiceType serviceType){}
 
+    /**
+     * ldName of the LDevices of all IEDs, by IED name and LDevice inst, built before IEDs are processed concurrently.
+     * Like {@link IedService#findIed(SCL, String)} and {@link LdeviceService#findLdevice(TIED, String)}, first IED and
+     * first LDevice win.
+     */
+    private record SourceLdNames(Map<String, Map<String, String>> ldNameByLdInstByIedName) {
+
+        static SourceLdNames of(SCL scd, LdeviceService ldeviceService) {
+            Map<String, Map<String, String>> ldNameByLdInstByIedName = new HashMap<>();
+            for (TIED tied : scd.getIED()) {
+                if (tied.getName() != null && !ldNameByLdInstByIedName.containsKey(tied.getName())) {
+                    Map<String, String> ldNameByLdInst = new HashMap<>();
+                    ldeviceService.getLdevices(tied)
+                            .filter(tlDevice -> tlDevice.getInst() != null && !ldNameByLdInst.containsKey(tlDevice.getInst()))
+                            .forEach(tlDevice -> ldNameByLdInst.put(tlDevice.getInst(), tlDevice.getLdName()));
+                    ldNameByLdInstByIedName.put(tied.getName(), ldNameByLdInst);
+                }
+            }
+            return new SourceLdNames(ldNameByLdInstByIedName);
+        }
+
+        String getLdName(IedSource iedSource) {
+            if (iedSource.iedName() == null) {
+                throw new ScdException("The given iedName is null");
+            }
+            Map<String, String> ldNameByLdInst = ldNameByLdInstByIedName.get(iedSource.iedName());
+            if (ldNameByLdInst == null) {
+                throw new ScdException("IED.name '" + iedSource.iedName() + "' not found in SCD");
+            }
+            if (!ldNameByLdInst.containsKey(iedSource.srcLdInst())) {
+                throw new ScdException(String.format("LDevice.inst '%s' not found in IED '%s'", iedSource.srcLdInst(), iedSource.iedName()));
+            }
+            return ldNameByLdInst.get(iedSource.srcLdInst());
+        }
+    }
+
+    /**
+     * LN targeted by a DAI update
+     */
+    private record DaiLn(String iedName, String ldInst, String lnClass, String lnInst, String prefix, String lnType) {
+        static DaiLn from(DaiUpdate daiUpdate) {
+            DataAttributeRef dataAttributeRef = daiUpdate.dataAttributeRef();
+            return new DaiLn(daiUpdate.iedName(), daiUpdate.ldInst(), dataAttributeRef.getLnClass(), dataAttributeRef.getLnInst(),
+                    dataAttributeRef.getPrefix(), dataAttributeRef.getLnType());
+        }
+
+        ReportLocation location() {
+            return LDeviceAdapter.reportLocation(iedName, ldInst);
+        }
+    }
+
+    /**
+     * DO and DA path of a LNodeType
+     */
+    private record DaiTypePath(String lnType, String doName, String daName) {
+        static DaiTypePath from(DataAttributeRef dataAttributeRef) {
+            return new DaiTypePath(dataAttributeRef.getLnType(), dataAttributeRef.getDoName().toString(), dataAttributeRef.getDaName().toString());
+        }
+    }
+
+    /**
+     * Result of the check of a DaiTypePath : the cdc of the last SDO, the fc of the DA, and the last DA or BDA, or the error message
+     */
+    private record DaiTypePathCheck(TPredefinedCDCEnum cdc, TFCEnum fc, AbstractDataAttributeAdapter<?, ?> dataAttributeAdapter, String error) {
+    }
+
 }
@@ -7,11 +7,14 @@ package org.lfenergy.compas.sct.commons.api;
 import org.lfenergy.compas.scl2007b4.model.SCL;
 import org.lfenergy.compas.scl2007b4.model.TExtRef;
 import org.lfenergy.compas.scl2007b4.model.TSubNetwork;
+import org.lfenergy.compas.sct.commons.dto.ControlBlockCleanupReport;
 import org.lfenergy.compas.sct.commons.dto.SclReportItem;
+import org.lfenergy.compas.sct.commons.dto.SclReportSink;
 import org.lfenergy.compas.sct.commons.model.cbcom.CBCom;
 import org.lfenergy.compas.sct.commons.model.da_comm.DACOMM;
 import org.lfenergy.compas.sct.commons.util.Utils;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -22,6 +25,7 @@ import java.util.List;
  *   <ol>
  *      <li>{@link ControlBlockEditor#configureNetworkForAllControlBlocks <em>Configure the network for the <b>ControlBlocks</b></em>}</li>
  *      <li>{@link ControlBlockEditor#removeAllControlBlocksAndDatasetsAndExtRefSrcBindings <em>Removes all ControlBlocks and DataSets for all LNs in <b>SCL</b></em>}</li>
+ *      <li>{@link ControlBlockEditor#removeControlBlocksAndDatasetsAndExtRefSrcBindings <em>Removes ControlBlocks and DataSets of given <b>IEDs</b>, and the ones bound to them</em>}</li>
  *      <li>{@link ControlBlockEditor#analyzeDataGroups(SCL)} <em>Checks Control Blocks, DataSets and FCDA number limitation into Access Points </em>}</li>
  *   </ol>
  * </ul>
@@ -36,14 +40,44 @@ public interface ControlBlockEditor {
      */
     void removeAllControlBlocksAndDatasetsAndExtRefSrcBindings(final SCL scl);
 
+    /**
+     * Removes ControlBlocks, DataSets and ExtRef source bindings like
+     * {@link #removeAllControlBlocksAndDatasetsAndExtRefSrcBindings(SCL)} does, for the given IEDs and what is bound to
+     * them only :
+     * <ul>
+     *     <li>all ControlBlocks and DataSets of the given IEDs, and the source binding of the ExtRefs of their LN0</li>
+     *     <li>ControlBlocks of other IEDs with a target (IEDName or ClientLN) in one of the given IEDs, with their
+     *     DataSet when no other ControlBlock of the LN uses it</li>
+     *     <li>source binding of the ExtRefs of the LN0 of other IEDs fed by a ControlBlock of the given IEDs, or by a
+     *     removed ControlBlock</li>
+     * </ul>
+     * Other ControlBlocks, DataSets and ExtRefs are left untouched.
+     *
+     * @param scl      SCL file for which ControlBlocks and DataSets should be deleted
+     * @param iedNames names of the IEDs whose ControlBlocks and DataSets should be deleted
+     * @return ControlBlocks and ExtRef source bindings removed from the other IEDs
+     */
+    ControlBlockCleanupReport removeControlBlocksAndDatasetsAndExtRefSrcBindings(SCL scl, Collection<String> iedNames);
+
     /**
      * Checks Control Blocks, DataSets and FCDA number limitation into Access Points
+     * IEDs are analyzed in parallel, and errors are returned in IED order.
      *
      * @param scd SCL file for which LDevice should be activated or deactivated
      * @return list of encountered errors
      */
     List<SclReportItem> analyzeDataGroups(SCL scd);
 
+    /**
+     * Checks Control Blocks, DataSets and FCDA number limitation into Access Points, like {@link ControlBlockEditor#analyzeDataGroups(SCL)},
+     * sending errors to the given sink. IEDs are analyzed one after another, in document order : analysis stops as soon
+     * as the sink is aborted, so asking for the first errors only, or for their count, is cheaper than a full analysis.
+     *
+     * @param scd           SCL file to analyze
+     * @param sclReportSink sink receiving encountered errors
+     */
+    void analyzeDataGroups(SCL scd, SclReportSink sclReportSink);
+
     /**
      * Create All DataSet and ControlBlock in the SCL based on the ExtRef
      *
@@ -53,6 +87,18 @@ public interface ControlBlockEditor {
      */
     List<SclReportItem> createDataSetAndControlBlocks(SCL scd, DACOMM dacomm);
 
+    /**
+     * Create All DataSet and ControlBlock in the SCL based on the ExtRef, like {@link ControlBlockEditor#createDataSetAndControlBlocks(SCL, DACOMM)}.
+     * Creations are first computed in parallel for each IED, without modifying the SCL, then applied one IED after
+     * another in document order, so the resulting SCL and report are the same as with the sequential method.
+     * Missing lists of the SCL elements are created beforehand, sequentially, so that the parallel phase only reads.
+     *
+     * @param scd          input SCD object. It could be modified by adding new DataSet and ControlBlocks
+     * @param dacomm       object containing a list of allowed FCDA for DataSets and Control Blocks creation
+     * @return             list of encountered errors
+     */
+    List<SclReportItem> createDataSetAndControlBlocksInParallel(SCL scd, DACOMM dacomm);
+
     /**
      * Configure the network for all the ControlBlocks.
      * Create (or update if already existing) these elements
@@ -4,9 +4,11 @@
 
 package org.lfenergy.compas.sct.commons.api;
 
+import org.lfenergy.compas.scl2007b4.model.SCL;
 import org.lfenergy.compas.scl2007b4.model.TDataTypeTemplates;
 import org.lfenergy.compas.sct.commons.domain.DataRef;
 import org.lfenergy.compas.sct.commons.domain.DoLinkedToDa;
+import org.lfenergy.compas.sct.commons.dto.DttCanonicalizationReport;
 
 import java.util.List;
 import java.util.Optional;
@@ -23,4 +25,15 @@ public interface DataTypeTemplateReader {
     Optional<DoLinkedToDa> findDoLinkedToDa(TDataTypeTemplates dtt, String lNodeTypeId, DataRef dataRef);
 
     List<String> getEnumValues(TDataTypeTemplates dataTypeTemplates, String enumId);
+
+    /**
+     * Merges the structurally equal LNodeTypes, DOTypes, DATypes and EnumTypes of the SCD DataTypeTemplates, like the
+     * copies prefixed by an IED name created by STD import.
+     * References to merged types (LN@lnType, DO@type, SDO@type, DA@type and BDA@type) are rewritten to the kept type,
+     * and merged types are removed.
+     *
+     * @param scd SCD to update
+     * @return report of the removed types
+     */
+    DttCanonicalizationReport canonicalizeDataTypeTemplates(SCL scd);
 }
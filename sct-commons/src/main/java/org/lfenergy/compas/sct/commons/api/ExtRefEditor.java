@@ -7,16 +7,21 @@ package org.lfenergy.compas.sct.commons.api;
 import org.lfenergy.compas.scl2007b4.model.SCL;
 import org.lfenergy.compas.scl2007b4.model.TExtRef;
 import org.lfenergy.compas.sct.commons.dto.ExtRefInfo;
+import org.lfenergy.compas.sct.commons.dto.SclReportItem;
 import org.lfenergy.compas.sct.commons.exception.ScdException;
 
+import java.util.List;
+
 /**
  * Service class that will be used to create, update or delete elements related to the {@link TExtRef <em>TExtRef</em>} object.
  * <p> The following features are supported: </p>
  * <ul>
  *   <li>ExtRef features</li>
  *   <ol>
- *      <li>{@link ExtRefEditor#updateExtRefBinders <em>Update the <b>TExtRef </b> reference object for given <b>ExtRefBindingInfo </b> model</em>}</li>
+ *      <li>{@link ExtRefEditor#updateExtRefBinders(SCL, ExtRefInfo) <em>Update the <b>TExtRef </b> reference object for given <b>ExtRefBindingInfo </b> model</em>}</li>
+ *      <li>{@link ExtRefEditor#updateExtRefBinders(SCL, List) <em>Update many <b>TExtRef </b> reference objects for given <b>ExtRefBindingInfo </b> models, reporting errors instead of throwing them</em>}</li>
  *      <li>{@link ExtRefEditor#updateExtRefSource <em>Update the <b>TExtRef </b> reference object for given <b>ExtRefSourceInfo </b> model</em>}</li>
+ *      <li>{@link ExtRefEditor#updateExtRefSources(SCL, List) <em>Update many <b>TExtRef </b> reference objects for given <b>ExtRefSourceInfo </b> models, reporting errors instead of throwing them</em>}</li>
  *   </ol>
  * </ul>
  */
@@ -41,4 +46,27 @@ public interface ExtRefEditor {
      */
     TExtRef updateExtRefSource(SCL scd, ExtRefInfo extRefInfo) throws ScdException;
 
+    /**
+     * Updates ExtRef binding data of many ExtRefs, like {@link #updateExtRefBinders(SCL, ExtRefInfo)} would do for each
+     * of them, without stopping on the first error.
+     * Each holder LN is searched once, and its ExtRefs are indexed by signal once.
+     *
+     * @param scd         SCL file in which ExtRefs to update should be found
+     * @param extRefInfos ExtRefs signal and new binding data
+     * @return one error for each ExtRef which could not be updated, in the order of <em>extRefInfos</em>
+     */
+    List<SclReportItem> updateExtRefBinders(SCL scd, List<ExtRefInfo> extRefInfos);
+
+    /**
+     * Updates ExtRef source binding data of many ExtRefs, like {@link #updateExtRefSource(SCL, ExtRefInfo)} would do for
+     * each of them, without stopping on the first error.
+     * Each holder LN is searched once, its ExtRefs are indexed by signal once, and control block names of each source
+     * LDevice and LN are collected once.
+     *
+     * @param scd         SCL file in which ExtRefs to update should be found
+     * @param extRefInfos ExtRefs signal, binding data and new source binding data
+     * @return one error for each ExtRef which could not be updated, in the order of <em>extRefInfos</em>
+     */
+    List<SclReportItem> updateExtRefSources(SCL scd, List<ExtRefInfo> extRefInfos);
+
 }
@@ -6,14 +6,20 @@ package org.lfenergy.compas.sct.commons.api;
 
 import lombok.NonNull;
 import org.lfenergy.compas.scl2007b4.model.SCL;
+import org.lfenergy.compas.sct.commons.dto.DaiUpdate;
 import org.lfenergy.compas.sct.commons.dto.DataAttributeRef;
 import org.lfenergy.compas.sct.commons.dto.HeaderDTO;
+import org.lfenergy.compas.sct.commons.dto.PrivateLinkedToStds;
 import org.lfenergy.compas.sct.commons.dto.SclReportItem;
+import org.lfenergy.compas.sct.commons.dto.StdUpdateReport;
 import org.lfenergy.compas.sct.commons.dto.SubNetworkDTO;
 import org.lfenergy.compas.sct.commons.exception.ScdException;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.Executor;
 
 /**
  * Service class that will be used to create, update or delete elements in {@link SCL <em>SCL</em>} XML Files.
@@ -28,6 +34,7 @@ import java.util.UUID;
  *   <li>IED features</li>
  *   <ol>
  *       <li>{@link SclEditor#addIED <em>Adds the <b>IED </b> object</em>}</li>
+ *       <li>{@link SclEditor#updateSTDElementsInSCD <em>Replaces the <b>IED </b> objects of changed STD files</em>}</li>
  *   </ol>
  *   <li>Communication features</li>
  *   <ol>
@@ -36,6 +43,7 @@ import java.util.UUID;
  *   <li>DAI features</li>
  *   <ol>
  *      <li>{@link SclEditor#updateDAI <em>Update the <b>TDAI </b> reference object for given <b>iedName</b>, <b>ldInst </b> and <b>DataAttributeRef </b> model</em>}</li>
+ *      <li>{@link SclEditor#updateDAIs <em>Update many <b>TDAI </b> reference objects, reporting errors instead of throwing them</em>}</li>
  *   </ol>
  * </ul>
  * @see ExtRefEditor
@@ -111,6 +119,17 @@ public interface SclEditor {
      */
     void updateDAI(SCL scd, String iedName, String ldInst, DataAttributeRef dataAttributeRef) throws ScdException;
 
+    /**
+     * Updates many DAIs, like {@link #updateDAI} would do for each of them, without stopping on the first error.
+     * Updates are grouped by LN : IED, LDevice and LN are searched once per LN, and each distinct DO/DA path of a
+     * LNodeType is checked once against the DataTypeTemplate.
+     *
+     * @param scd        SCL file in which DataTypeTemplate of DAIs should be found
+     * @param daiUpdates DAIs to update, with their IED name and LDevice inst
+     * @return one error for each update which could not be applied, in the order of the updates
+     */
+    List<SclReportItem> updateDAIs(SCL scd, Collection<DaiUpdate> daiUpdates);
+
     /**
      * Imports IEDs, DataTypeTemplates and Communication nodes of STD files into SCL (SCD) file
      * <em><b>STD</b></em> : System Template Definition
@@ -139,11 +158,68 @@ public interface SclEditor {
     void importSTDElementsInSCD(SCL scd, List<SCL> stds) throws ScdException;
 
     /**
-     * Update and/or create Monitoring LNs (LSVS and LGOS) for bound GOOSE and SMV Control Blocks
+     * Imports STD files already sorted by ICD_SYSTEM_VERSION_UUID, like {@link #importSTDElementsInSCD(SCL, List)} does
+     * once it has sorted them : the COMPAS-ICDHeaders of the STD files are not extracted again.
+     *
+     * @param scd                        SCL object in which content of STD files are imported
+     * @param stdsByIcdSystemVersionUuid map of ICD_SYSTEM_VERSION_UUID attribute in IED/Private:COMPAS-ICDHeader of STD
+     *                                   files to this Private and its STD files, as given by
+     *                                   {@link org.lfenergy.compas.sct.commons.io.StdLoader#loadReferencedStds}
+     * @throws ScdException throws when inconsistency between Substation of SCL content and given STD files, like
+     *                      {@link #importSTDElementsInSCD(SCL, List)}
+     */
+    void importSTDElementsInSCD(SCL scd, Map<String, PrivateLinkedToStds> stdsByIcdSystemVersionUuid) throws ScdException;
+
+    /**
+     * Updates a SCD already containing the content of STD files with new versions of some of these STD files, without
+     * importing again the unchanged ones. For each COMPAS-ICDHeader of SCL/Substation/.. whose ICD_SYSTEM_VERSION_UUID
+     * is the one of a changed STD file :
+     * <ul>
+     *     <li>the IED is removed from the SCD, with its ConnectedAPs, and the DataTypeTemplates types only used by
+     *     this IED</li>
+     *     <li>the IED, DataTypeTemplates and ConnectedAPs of the STD file are imported like
+     *     {@link #importSTDElementsInSCD} does, the IED keeping its position among the IEDs of the SCD</li>
+     * </ul>
+     * Other IEDs, types and ConnectedAPs are left untouched, and SubNetworks left without ConnectedAP are removed.
+     *
+     * @param scd          SCL object in which content of STD files has been imported
+     * @param changedStds  list of changed STD files
+     * @return updated IEDs, their ConnectedAPs and the DataTypeTemplates types added and removed
+     * @throws ScdException throws when inconsistency between Substation of SCL content and given STD files, like
+     *                      {@link #importSTDElementsInSCD}, or when a STD file corresponds to no
+     *                      COMPAS-ICDHeader in Substation/../LNode of SCL
+     */
+    StdUpdateReport updateSTDElementsInSCD(SCL scd, List<SCL> changedStds) throws ScdException;
+
+    /**
+     * Update and/or create Monitoring LNs (LSVS and LGOS) for bound GOOSE and SMV Control Blocks.
+     * IEDs are processed one after the other, in the calling thread : use {@link #manageMonitoringLns(SCL, Executor)} to
+     * process them in parallel.
+     * <p>
+     * Created LNs are numbered (inst 1, 2, ...) in the order of the first ExtRef bound to each source Control Block, in
+     * document order. They were numbered in the iteration order of a HashMap of the sources before, which could change
+     * from one run to another.
+     * </p>
+     * <p>
+     * Errors are only given by the returned list : the ThreadLocal error handler of SclService, and its getter
+     * getErrorHandler(), have been removed.
+     * </p>
      *
      * @param scd SCL file for which  LNs (LSVS and LGOS) should be updated and/or created in each LDevice LDSUIED with matching ExtRef information
      * @return list of encountered errors
      */
     List<SclReportItem> manageMonitoringLns(SCL scd);
 
+    /**
+     * Update and/or create Monitoring LNs (LSVS and LGOS) for bound GOOSE and SMV Control Blocks, processing each IED as
+     * an independent task on the given executor, for instance {@link java.util.concurrent.ForkJoinPool#commonPool()}.
+     * Created LNs are numbered like {@link #manageMonitoringLns(SCL)} does, and errors are returned in IED order,
+     * whatever the executor.
+     *
+     * @param scd      SCL file for which  LNs (LSVS and LGOS) should be updated and/or created in each LDevice LDSUIED with matching ExtRef information
+     * @param executor executor running the task of each IED
+     * @return list of encountered errors
+     */
+    List<SclReportItem> manageMonitoringLns(SCL scd, Executor executor);
+
 }
@@ -28,6 +28,12 @@ public class DataObject {
         this.sdoNames.addAll(sdoNames);
     }
 
+    public DataObject(String doName, TPredefinedCDCEnum cdc, DataPath sdoPath) {
+        this.doName = doName;
+        this.cdc = cdc;
+        this.sdoNames = sdoPath.toList();
+    }
+
     public DataObject deepCopy() {
         return new DataObject(getDoName(), getCdc(), getSdoNames());
     }
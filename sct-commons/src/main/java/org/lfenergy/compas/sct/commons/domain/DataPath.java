@@ -0,0 +1,154 @@
+// SPDX-FileCopyrightText: 2025 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.domain;
+
+import java.util.*;
+
+/**
+ * Immutable path of names, such as the SDO names of a DO or the BDA names of a DA.
+ * <p>
+ * A path is a linked list from its last name to its first name : appending a name creates a single node which shares
+ * the existing path as prefix, so all the paths built while walking a DataTypeTemplates tree share their common
+ * prefixes instead of copying them. Names are interned, so the same SDO or BDA name found in many types is kept once.
+ * </p>
+ * Use {@link #toList()} and {@link #of(List)} to convert from and to the list of names used by DataObject and DataAttribute.
+ */
+public final class DataPath {
+
+    private static final String DELIMITER = ".";
+    private static final DataPath EMPTY = new DataPath(null, null);
+
+    private final DataPath parent;
+    private final String name;
+    private final int size;
+    private final int hash;
+
+    private DataPath(DataPath parent, String name) {
+        this.parent = parent;
+        this.name = name;
+        this.size = parent == null ? 0 : parent.size + 1;
+        this.hash = parent == null ? 1 : 31 * parent.hash + name.hashCode();
+    }
+
+    /**
+     * @return path without any name
+     */
+    public static DataPath empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Creates a path from a list of names
+     *
+     * @param names names, from first to last
+     * @return path of the names
+     */
+    public static DataPath of(List<String> names) {
+        DataPath dataPath = EMPTY;
+        for (String name : names) {
+            dataPath = dataPath.append(name);
+        }
+        return dataPath;
+    }
+
+    /**
+     * Creates a new path ending with a name, sharing this path as prefix. This path is not modified.
+     *
+     * @param name name to append
+     * @return new path
+     */
+    public DataPath append(String name) {
+        return new DataPath(this, intern(Objects.requireNonNull(name, "name cannot be null")));
+    }
+
+    /**
+     * @return number of names of the path
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return true when the path has no name
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return last name of the path
+     * @throws NoSuchElementException when the path is empty
+     */
+    public String last() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("Path is empty");
+        }
+        return name;
+    }
+
+    /**
+     * @return path without its last name, empty path when the path is empty
+     */
+    public DataPath parent() {
+        return isEmpty() ? EMPTY : parent;
+    }
+
+    /**
+     * Copies the names of the path in a new mutable list
+     *
+     * @return names, from first to last
+     */
+    public List<String> toList() {
+        String[] names = new String[size];
+        DataPath dataPath = this;
+        for (int i = size - 1; i >= 0; i--) {
+            names[i] = dataPath.name;
+            dataPath = dataPath.parent;
+        }
+        return new ArrayList<>(Arrays.asList(names));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof DataPath other) || size != other.size || hash != other.hash) {
+            return false;
+        }
+        DataPath left = this;
+        DataPath right = other;
+        // compares from the last name, and stops at the first shared prefix
+        while (left != right) {
+            if (!left.name.equals(right.name)) {
+                return false;
+            }
+            left = left.parent;
+            right = right.parent;
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    /**
+     * @return names separated by dots, as in DO and DA references
+     */
+    @Override
+    public String toString() {
+        return String.join(DELIMITER, toList());
+    }
+
+    /**
+     * Interns with the JVM string pool, whose unused entries are garbage collected : a map of names would keep every
+     * name ever read, for the lifetime of the application.
+     */
+    private static String intern(String name) {
+        return name.intern();
+    }
+}
@@ -0,0 +1,31 @@
+// SPDX-FileCopyrightText: 2025 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.dto;
+
+import java.util.List;
+
+/**
+ * Result of the removal of the ControlBlocks, DataSets and ExtRef source bindings related to some IEDs, see
+ * {@link org.lfenergy.compas.sct.commons.api.ControlBlockEditor#removeControlBlocksAndDatasetsAndExtRefSrcBindings(org.lfenergy.compas.scl2007b4.model.SCL, java.util.Collection)}.
+ * ControlBlocks, DataSets and ExtRef source bindings of the given IEDs themselves are all removed, and are not listed.
+ *
+ * @param removedControlBlocks XPaths of the ControlBlocks of other IEDs removed because one of the given IEDs subscribed to them
+ * @param unboundExtRefs       XPaths of the ExtRefs of other IEDs whose source binding was removed, because their source
+ *                             ControlBlock was in one of the given IEDs or was removed
+ */
+public record ControlBlockCleanupReport(List<String> removedControlBlocks, List<String> unboundExtRefs) {
+
+    public ControlBlockCleanupReport {
+        removedControlBlocks = List.copyOf(removedControlBlocks);
+        unboundExtRefs = List.copyOf(unboundExtRefs);
+    }
+
+    /**
+     * @return report of a cleanup which removed nothing outside of the given IEDs
+     */
+    public static ControlBlockCleanupReport empty() {
+        return new ControlBlockCleanupReport(List.of(), List.of());
+    }
+}
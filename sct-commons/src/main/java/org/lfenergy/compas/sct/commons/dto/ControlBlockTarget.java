@@ -103,6 +103,29 @@ public record ControlBlockTarget(String apRef, String iedName, String ldInst, St
             iedName.getPrefix());
     }
 
+    /**
+     * Gives a copy of this instance where blank lnInst, lnClass, prefix and desc are null.
+     * Two normalized instances are equal when {@link #equalsIedName} (for instances {@link #withoutDesc() without desc})
+     * or {@link #equalsTClientLn} would match their TControlWithIEDName.IEDName or TClientLN, so normalized instances can be used as keys.
+     * @return normalized instance
+     */
+    public ControlBlockTarget normalized() {
+        return new ControlBlockTarget(apRef, iedName, ldInst, blankToNull(lnInst), blankToNull(lnClass),
+            blankToNull(prefix), blankToNull(desc));
+    }
+
+    /**
+     * Gives a copy of this instance without desc, as TControlWithIEDName.IEDName does not have a desc attribute.
+     * @return this instance when desc is already null, otherwise a copy with a null desc
+     */
+    public ControlBlockTarget withoutDesc() {
+        return desc == null ? this : new ControlBlockTarget(apRef, iedName, ldInst, lnInst, lnClass, prefix);
+    }
+
+    private static String blankToNull(String value) {
+        return StringUtils.isBlank(value) ? null : value;
+    }
+
     /**
      * Compare instance to a TControlWithIEDName.IEDName.
      * desc value is ignored since TControlWithIEDName.IEDName does not have a desc attribute.
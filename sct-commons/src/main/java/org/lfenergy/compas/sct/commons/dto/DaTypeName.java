@@ -71,7 +71,8 @@ public class DaTypeName extends DataTypeName{
      * @return DaTypeName object
      */
     public static DaTypeName from(DaTypeName dataName){
-        DaTypeName daTypeName = new DaTypeName(dataName.toString());
+        DaTypeName daTypeName = new DaTypeName();
+        daTypeName.copyNames(dataName);
         if(dataName.isDefined()) {
             daTypeName.setFc(dataName.getFc());
             daTypeName.setType(dataName.getType());
@@ -0,0 +1,15 @@
+// SPDX-FileCopyrightText: 2025 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.dto;
+
+/**
+ * Update of a DAI, see {@link org.lfenergy.compas.sct.commons.api.SclEditor#updateDAIs}
+ *
+ * @param iedName          name of IED in which DAI is localized
+ * @param ldInst           ldInst of LDevice in which DAI is localized
+ * @param dataAttributeRef LN, DO, DA and values of the DAI to update
+ */
+public record DaiUpdate(String iedName, String ldInst, DataAttributeRef dataAttributeRef) {
+}
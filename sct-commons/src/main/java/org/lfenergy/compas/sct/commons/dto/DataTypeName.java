@@ -83,7 +83,18 @@ public class DataTypeName {
      * @return DataTypeName object
      */
     public static DataTypeName from(DataTypeName dataName){
-        return new DataTypeName(dataName.toString());
+        DataTypeName dataTypeName = new DataTypeName();
+        dataTypeName.copyNames(dataName);
+        return dataTypeName;
+    }
+
+    /**
+     * Copy name and struct names of another DataTypeName, without parsing its String representation
+     * @param dataName DataTypeName to copy
+     */
+    protected void copyNames(DataTypeName dataName){
+        this.name = dataName.name;
+        this.structNames = new ArrayList<>(dataName.structNames);
     }
 
     /**
@@ -60,7 +60,8 @@ public class DoTypeName extends DataTypeName {
      * @return DoTypeName object
      */
     public static DoTypeName from(DoTypeName dataName) {
-        DoTypeName doTypeName = new DoTypeName(dataName.toString());
+        DoTypeName doTypeName = new DoTypeName();
+        doTypeName.copyNames(dataName);
         if (doTypeName.isDefined()) {
             doTypeName.setCdc(dataName.getCdc());
         }
@@ -0,0 +1,75 @@
+// SPDX-FileCopyrightText: 2025 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.dto;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Result of the canonicalization of the DataTypeTemplates of a SCD.
+ * Ids are only unique within a kind of type, so removed types are reported by kind, each map being sorted by id.
+ *
+ * @param replacedLNodeTypeIds ids of the removed LNodeTypes, with the id of the LNodeType replacing them
+ * @param replacedDOTypeIds    ids of the removed DOTypes, with the id of the DOType replacing them
+ * @param replacedDATypeIds    ids of the removed DATypes, with the id of the DAType replacing them
+ * @param replacedEnumTypeIds  ids of the removed EnumTypes, with the id of the EnumType replacing them
+ */
+public record DttCanonicalizationReport(Map<String, String> replacedLNodeTypeIds, Map<String, String> replacedDOTypeIds,
+                                        Map<String, String> replacedDATypeIds, Map<String, String> replacedEnumTypeIds) {
+
+    public DttCanonicalizationReport {
+        replacedLNodeTypeIds = sortedCopy(replacedLNodeTypeIds);
+        replacedDOTypeIds = sortedCopy(replacedDOTypeIds);
+        replacedDATypeIds = sortedCopy(replacedDATypeIds);
+        replacedEnumTypeIds = sortedCopy(replacedEnumTypeIds);
+    }
+
+    /**
+     * @return report of a canonicalization which removed nothing
+     */
+    public static DttCanonicalizationReport empty() {
+        return new DttCanonicalizationReport(Map.of(), Map.of(), Map.of(), Map.of());
+    }
+
+    /**
+     * @return number of LNodeTypes removed
+     */
+    public int removedLNodeTypeCount() {
+        return replacedLNodeTypeIds.size();
+    }
+
+    /**
+     * @return number of DOTypes removed
+     */
+    public int removedDOTypeCount() {
+        return replacedDOTypeIds.size();
+    }
+
+    /**
+     * @return number of DATypes removed
+     */
+    public int removedDATypeCount() {
+        return replacedDATypeIds.size();
+    }
+
+    /**
+     * @return number of EnumTypes removed
+     */
+    public int removedEnumTypeCount() {
+        return replacedEnumTypeIds.size();
+    }
+
+    /**
+     * @return total number of types removed
+     */
+    public int removedTypeCount() {
+        return removedLNodeTypeCount() + removedDOTypeCount() + removedDATypeCount() + removedEnumTypeCount();
+    }
+
+    private static Map<String, String> sortedCopy(Map<String, String> replacedIds) {
+        return Collections.unmodifiableMap(new TreeMap<>(replacedIds));
+    }
+}
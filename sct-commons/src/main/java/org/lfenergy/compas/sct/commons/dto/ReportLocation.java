@@ -0,0 +1,167 @@
+// SPDX-FileCopyrightText: 2025 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.dto;
+
+import lombok.Getter;
+import org.lfenergy.compas.sct.commons.util.Utils;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+
+/**
+ * Location of an SCL element in a {@link SclReportItem}, given as the chain of its ancestors : each link is the name of
+ * an element with the values of its key attributes.
+ * <p>
+ * Building a location only captures the attribute values : the XPath string is rendered by {@link #toXPath()} the first
+ * time it is asked for, and then kept. A {@link SclReportItem} holds the rendered XPath : items given to a
+ * {@link SclReportSink} as a location are only built, and their XPath rendered, when the sink keeps them.
+ * Locations are immutable, a location can be shared by all the children built from it.
+ * </p>
+ * Two locations are equal when they render the same XPath.
+ */
+public final class ReportLocation {
+
+    private static final Object[] NO_ATTRIBUTES = new Object[0];
+
+    /**
+     * Empty location, parent of the SCL element : it renders an empty XPath
+     */
+    public static final ReportLocation ROOT = new ReportLocation(null, null, NO_ATTRIBUTES);
+
+    /**
+     * Parent location, null for {@link #ROOT} and for locations built with {@link #of(String)}
+     */
+    @Getter
+    private final ReportLocation parent;
+    /**
+     * Element name, or XPath step rendered by the caller
+     */
+    @Getter
+    private final String element;
+    private final Object[] attributeNamesAndValues;
+    private String xpath;
+
+    private ReportLocation(ReportLocation parent, String element, Object[] attributeNamesAndValues) {
+        this.parent = parent;
+        this.element = element;
+        this.attributeNamesAndValues = attributeNamesAndValues;
+    }
+
+    /**
+     * Location given as an already rendered XPath, or as a free description of the location
+     *
+     * @param xpath XPath, rendered as is
+     * @return location
+     */
+    public static ReportLocation of(String xpath) {
+        return new ReportLocation(null, xpath, NO_ATTRIBUTES);
+    }
+
+    /**
+     * Location of a child element, identified by some of its attributes.
+     * Each attribute is given by its name followed by its value : a String, or a Collection of String for list
+     * attributes like lnClass. Attributes without value are rendered <em>not(@name)</em>,
+     * like {@link Utils#xpathAttributeFilter(String, String)} does.
+     * As the XPath is rendered later, values must not change afterwards : pass a copy of live lists of the SCL.
+     *
+     * @param element                 child element name
+     * @param attributeNamesAndValues attribute names and values, alternately
+     * @return location of the child element
+     * @throws IllegalArgumentException when a name is not followed by a value
+     */
+    public ReportLocation child(String element, Object... attributeNamesAndValues) {
+        if (attributeNamesAndValues.length % 2 != 0) {
+            throw new IllegalArgumentException("Each attribute name must be followed by its value");
+        }
+        return new ReportLocation(this, element, attributeNamesAndValues.length == 0 ? NO_ATTRIBUTES : attributeNamesAndValues);
+    }
+
+    /**
+     * Gets the value of a key attribute of this element
+     *
+     * @param attributeName name of the attribute
+     * @return value of the attribute, or null when this element is not identified by this attribute
+     */
+    public Object getAttribute(String attributeName) {
+        for (int i = 0; i < attributeNamesAndValues.length; i += 2) {
+            if (attributeName.equals(attributeNamesAndValues[i])) {
+                return attributeNamesAndValues[i + 1];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Renders the XPath of this location, like {@link org.lfenergy.compas.sct.commons.scl.SclElementAdapter#getXPath()}
+     *
+     * @return XPath of the location
+     */
+    public String toXPath() {
+        String result = xpath;
+        if (result == null) {
+            result = render();
+            xpath = result;
+        }
+        return result;
+    }
+
+    private String render() {
+        Deque<ReportLocation> chain = new ArrayDeque<>();
+        ReportLocation current = this;
+        while (current != null && current.xpath == null) {
+            chain.push(current);
+            current = current.parent;
+        }
+        StringBuilder stringBuilder = new StringBuilder(current == null ? "" : current.xpath);
+        for (ReportLocation location : chain) {
+            location.appendStep(stringBuilder);
+        }
+        return stringBuilder.toString();
+    }
+
+    private void appendStep(StringBuilder stringBuilder) {
+        if (element == null) {
+            return;
+        }
+        if (parent != null) {
+            stringBuilder.append('/');
+        }
+        stringBuilder.append(element);
+        if (attributeNamesAndValues.length > 0) {
+            stringBuilder.append('[');
+            for (int i = 0; i < attributeNamesAndValues.length; i += 2) {
+                if (i > 0) {
+                    stringBuilder.append(" and ");
+                }
+                stringBuilder.append(attributeFilter((String) attributeNamesAndValues[i], attributeNamesAndValues[i + 1]));
+            }
+            stringBuilder.append(']');
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static String attributeFilter(String name, Object value) {
+        return value instanceof Collection<?> values ?
+                Utils.xpathAttributeFilter(name, (Collection<String>) values)
+                : Utils.xpathAttributeFilter(name, value == null ? null : value.toString());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        return o instanceof ReportLocation other && toXPath().equals(other.toXPath());
+    }
+
+    @Override
+    public int hashCode() {
+        return toXPath().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return toXPath();
+    }
+}
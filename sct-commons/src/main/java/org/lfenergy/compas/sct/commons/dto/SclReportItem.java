@@ -10,8 +10,30 @@ public record SclReportItem(String xpath, String message, boolean isError) {
         return new SclReportItem(xpath, message, true);
     }
 
+    /**
+     * Builds an error, rendering the XPath of the given location
+     *
+     * @param location location of the element
+     * @param message  message
+     * @return new error
+     */
+    public static SclReportItem error(ReportLocation location, String message) {
+        return error(location.toXPath(), message);
+    }
+
     public static SclReportItem warning(String xpath, String message) {
         return new SclReportItem(xpath, message, false);
     }
 
+    /**
+     * Builds a warning, rendering the XPath of the given location
+     *
+     * @param location location of the element
+     * @param message  message
+     * @return new warning
+     */
+    public static SclReportItem warning(ReportLocation location, String message) {
+        return warning(location.toXPath(), message);
+    }
+
 }
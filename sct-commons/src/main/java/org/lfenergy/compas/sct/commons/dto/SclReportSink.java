@@ -0,0 +1,211 @@
+// SPDX-FileCopyrightText: 2025 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.dto;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Receives the {@link SclReportItem} of a SCL processing, as an alternative to collecting all of them in a list.
+ * <p>
+ * All received items are counted. Only items of the kept severities are stored : {@link #countingOnly()} stores none.
+ * Items received as a {@link ReportLocation} with {@link #error(ReportLocation, String)} or
+ * {@link #warning(ReportLocation, String)} are only built when they are stored, so that callers which only need
+ * counts never render their XPath.
+ * When a maximum number of errors is given, the sink is {@link #isAborted() aborted} as soon as this number of errors
+ * is reached, and it ignores all the items received afterwards : {@link #addAll(Stream)} stops pulling items from
+ * the stream, so that lazy streams of checks stop running.
+ * </p>
+ * A sink is not thread safe.
+ */
+public final class SclReportSink implements Consumer<SclReportItem> {
+
+    private static final int NO_ERROR_LIMIT = Integer.MAX_VALUE;
+
+    private final boolean keepErrors;
+    private final boolean keepWarnings;
+    private final int maxErrors;
+    private final List<SclReportItem> items = new ArrayList<>();
+    /**
+     * Number of errors received, until the sink is aborted
+     */
+    @Getter
+    private int errorCount;
+    /**
+     * Number of warnings received, until the sink is aborted
+     */
+    @Getter
+    private int warningCount;
+
+    private SclReportSink(boolean keepErrors, boolean keepWarnings, int maxErrors) {
+        if (maxErrors <= 0) {
+            throw new IllegalArgumentException("Maximum number of errors must be positive: " + maxErrors);
+        }
+        this.keepErrors = keepErrors;
+        this.keepWarnings = keepWarnings;
+        this.maxErrors = maxErrors;
+    }
+
+    /**
+     * Sink keeping all items, never aborted
+     *
+     * @return new sink
+     */
+    public static SclReportSink collectingAll() {
+        return new SclReportSink(true, true, NO_ERROR_LIMIT);
+    }
+
+    /**
+     * Sink keeping errors only, never aborted
+     *
+     * @return new sink
+     */
+    public static SclReportSink collectingErrors() {
+        return new SclReportSink(true, false, NO_ERROR_LIMIT);
+    }
+
+    /**
+     * Sink keeping no item, never aborted
+     *
+     * @return new sink
+     */
+    public static SclReportSink countingOnly() {
+        return new SclReportSink(false, false, NO_ERROR_LIMIT);
+    }
+
+    /**
+     * Sink keeping errors only, aborted after the given number of errors
+     *
+     * @param maxErrors number of errors after which the sink is aborted
+     * @return new sink
+     */
+    public static SclReportSink firstErrors(int maxErrors) {
+        return new SclReportSink(true, false, maxErrors);
+    }
+
+    /**
+     * Gives a sink with the same kept severities, aborted after the given number of errors
+     *
+     * @param maxErrors number of errors after which the sink is aborted
+     * @return new sink
+     */
+    public SclReportSink abortingAfter(int maxErrors) {
+        return new SclReportSink(keepErrors, keepWarnings, maxErrors);
+    }
+
+    /**
+     * Receives an item. Items received once the sink is aborted are ignored.
+     *
+     * @param sclReportItem item to receive
+     */
+    @Override
+    public void accept(SclReportItem sclReportItem) {
+        if (isAborted()) {
+            return;
+        }
+        if (sclReportItem.isError()) {
+            errorCount++;
+            if (keepErrors) {
+                items.add(sclReportItem);
+            }
+        } else {
+            warningCount++;
+            if (keepWarnings) {
+                items.add(sclReportItem);
+            }
+        }
+    }
+
+    /**
+     * Receives an error. The item, and its XPath, are only built when errors are kept and the sink is not aborted.
+     *
+     * @param location location of the element
+     * @param message  message
+     */
+    public void error(ReportLocation location, String message) {
+        if (isAborted()) {
+            return;
+        }
+        errorCount++;
+        if (keepErrors) {
+            items.add(SclReportItem.error(location, message));
+        }
+    }
+
+    /**
+     * Receives a warning. The item, and its XPath, are only built when warnings are kept and the sink is not aborted.
+     *
+     * @param location location of the element
+     * @param message  message
+     */
+    public void warning(ReportLocation location, String message) {
+        if (isAborted()) {
+            return;
+        }
+        warningCount++;
+        if (keepWarnings) {
+            items.add(SclReportItem.warning(location, message));
+        }
+    }
+
+    /**
+     * Receives items, until the sink is aborted
+     *
+     * @param sclReportItems items to receive
+     * @return this sink
+     */
+    public SclReportSink addAll(Collection<SclReportItem> sclReportItems) {
+        for (SclReportItem sclReportItem : sclReportItems) {
+            if (isAborted()) {
+                break;
+            }
+            accept(sclReportItem);
+        }
+        return this;
+    }
+
+    /**
+     * Receives items, until the sink is aborted : the remaining items of the stream are not computed
+     *
+     * @param sclReportItems items to receive
+     * @return this sink
+     */
+    public SclReportSink addAll(Stream<SclReportItem> sclReportItems) {
+        sclReportItems.takeWhile(sclReportItem -> !isAborted()).forEachOrdered(this);
+        return this;
+    }
+
+    /**
+     * Checks if the maximum number of errors is reached
+     *
+     * @return true when next items are ignored
+     */
+    public boolean isAborted() {
+        return errorCount >= maxErrors;
+    }
+
+    /**
+     * Checks if an error was received
+     *
+     * @return true when at least one error was received
+     */
+    public boolean hasError() {
+        return errorCount > 0;
+    }
+
+    /**
+     * Gets the kept items, in reception order
+     *
+     * @return unmodifiable list of kept items
+     */
+    public List<SclReportItem> getItems() {
+        return List.copyOf(items);
+    }
+}
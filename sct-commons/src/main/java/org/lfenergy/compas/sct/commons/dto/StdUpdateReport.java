@@ -0,0 +1,52 @@
+// SPDX-FileCopyrightText: 2025 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.dto;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Result of the update of a SCD with changed STD files, see
+ * {@link org.lfenergy.compas.sct.commons.api.SclEditor#updateSTDElementsInSCD}
+ *
+ * @param updatedIedNames     names of the IEDs replaced, or added, from the STD files
+ * @param connectedAPs        ConnectedAPs of the updated IEDs after the update
+ * @param removedConnectedAPs ConnectedAPs of the updated IEDs which do not exist anymore
+ * @param addedTypeIds        ids of the DataTypeTemplates types added, sorted
+ * @param removedTypeIds      ids of the DataTypeTemplates types removed because no IED uses them anymore, sorted
+ * @param controlBlockCleanup ControlBlocks and ExtRef source bindings of the other IEDs removed because they were bound
+ *                            to the updated IEDs, empty until the cleanup is done, see
+ *                            {@link #withControlBlockCleanup(ControlBlockCleanupReport)}
+ */
+public record StdUpdateReport(List<String> updatedIedNames, List<ConnectedApDTO> connectedAPs,
+                              List<ConnectedApDTO> removedConnectedAPs, List<String> addedTypeIds,
+                              List<String> removedTypeIds, ControlBlockCleanupReport controlBlockCleanup) {
+
+    public StdUpdateReport {
+        updatedIedNames = List.copyOf(updatedIedNames);
+        connectedAPs = List.copyOf(connectedAPs);
+        removedConnectedAPs = List.copyOf(removedConnectedAPs);
+        addedTypeIds = List.copyOf(addedTypeIds);
+        removedTypeIds = List.copyOf(removedTypeIds);
+        Objects.requireNonNull(controlBlockCleanup);
+    }
+
+    /**
+     * Report of an update whose ControlBlocks have not been cleaned up yet
+     */
+    public StdUpdateReport(List<String> updatedIedNames, List<ConnectedApDTO> connectedAPs,
+                           List<ConnectedApDTO> removedConnectedAPs, List<String> addedTypeIds,
+                           List<String> removedTypeIds) {
+        this(updatedIedNames, connectedAPs, removedConnectedAPs, addedTypeIds, removedTypeIds, ControlBlockCleanupReport.empty());
+    }
+
+    /**
+     * @param controlBlockCleanup cleanup of the ControlBlocks bound to the updated IEDs
+     * @return copy of this report with the given cleanup
+     */
+    public StdUpdateReport withControlBlockCleanup(ControlBlockCleanupReport controlBlockCleanup) {
+        return new StdUpdateReport(updatedIedNames, connectedAPs, removedConnectedAPs, addedTypeIds, removedTypeIds, controlBlockCleanup);
+    }
+}
@@ -0,0 +1,295 @@
+// SPDX-FileCopyrightText: 2025 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.io;
+
+import jakarta.xml.bind.*;
+import jakarta.xml.bind.util.JAXBSource;
+import org.apache.commons.lang3.StringUtils;
+import org.lfenergy.compas.scl2007b4.model.SCL;
+import org.lfenergy.compas.sct.commons.exception.ScdException;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+import javax.xml.XMLConstants;
+import javax.xml.namespace.QName;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.parsers.SAXParserFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.transform.Source;
+import javax.xml.transform.sax.SAXSource;
+import javax.xml.validation.Schema;
+import javax.xml.validation.SchemaFactory;
+import java.io.*;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Marshals and unmarshals {@link SCL} files.
+ * <p>
+ * All instances share a single {@link JAXBContext}, created once when this class is loaded. Creating a Marshaller or an
+ * Unmarshaller is cheap compared to a JAXBContext, but not free : each instance keeps a pool of them. A Marshaller or
+ * an Unmarshaller is used by one thread at a time, then given back to the pool, so this class is thread safe and can
+ * be shared by all the SCDs processed concurrently in the JVM.
+ * </p>
+ * When schema validation is enabled, unmarshalled and marshalled SCL are validated against the SCL 2007B4 and CoMPAS
+ * XSDs, and the first validation error is thrown as a {@link ScdException}.
+ */
+public class SclMarshaller {
+
+    private static final String CONTEXT_PATH = "org.lfenergy.compas.scl2007b4.model";
+    private static final JAXBContext JAXB_CONTEXT = newJaxbContext();
+    private static final int MAX_POOL_SIZE = Math.max(2, Runtime.getRuntime().availableProcessors() * 2);
+
+    /**
+     * Loaded only when a validating SclMarshaller is created
+     */
+    private static final class SchemaHolder {
+        private static final Schema SCHEMA = newSchema();
+    }
+
+    private final Schema schema;
+    private final Pool<Marshaller> marshallers = new Pool<>(this::newMarshaller);
+    private final Pool<Unmarshaller> unmarshallers = new Pool<>(this::newUnmarshaller);
+
+    /**
+     * Constructor of a SclMarshaller without schema validation
+     */
+    public SclMarshaller() {
+        this(false);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param validateSchema true to validate SCL against the XSDs when marshalling and unmarshalling
+     */
+    public SclMarshaller(boolean validateSchema) {
+        this.schema = validateSchema ? SchemaHolder.SCHEMA : null;
+    }
+
+    /**
+     * @return JAXBContext of the SCL model, shared by the whole JVM
+     */
+    public static JAXBContext jaxbContext() {
+        return JAXB_CONTEXT;
+    }
+
+    /**
+     * Unmarshals a SCL file
+     *
+     * @param content content of the SCL file
+     * @return SCL
+     * @throws ScdException when the content is not a valid SCL file
+     */
+    public SCL unmarshal(byte[] content) {
+        return unmarshal(new ByteArrayInputStream(content));
+    }
+
+    /**
+     * Unmarshals a SCL file
+     *
+     * @param path path of the SCL file
+     * @return SCL
+     * @throws ScdException when the file cannot be read or is not a valid SCL file
+     */
+    public SCL unmarshal(Path path) {
+        try (InputStream inputStream = new BufferedInputStream(Files.newInputStream(path))) {
+            return unmarshal(inputStream);
+        } catch (IOException e) {
+            throw new ScdException("Unable to read SCL file %s : %s".formatted(path, e.getMessage()), e);
+        }
+    }
+
+    /**
+     * Unmarshals a SCL file
+     *
+     * @param inputStream content of the SCL file, not closed by this method
+     * @return SCL
+     * @throws ScdException when the content is not a valid SCL file
+     */
+    public SCL unmarshal(InputStream inputStream) {
+        Unmarshaller unmarshaller = unmarshallers.borrow();
+        try {
+            Object result = unmarshaller.unmarshal(SclStreamSupport.newStreamReader(inputStream));
+            unmarshallers.giveBack(unmarshaller);
+            if (JAXBIntrospector.getValue(result) instanceof SCL scl) {
+                return scl;
+            }
+            throw new ScdException("Root element is not a SCL element");
+        } catch (JAXBException | XMLStreamException e) {
+            // an Unmarshaller which failed is not given back to the pool : its state is unknown
+            throw new ScdException("Unable to unmarshal SCL : " + getCauseMessage(e), e);
+        }
+    }
+
+    /**
+     * Marshals a SCL
+     *
+     * @param scl SCL to marshal
+     * @return content of the SCL file, encoded in UTF-8
+     * @throws ScdException when the SCL cannot be marshalled or is not valid
+     */
+    public byte[] marshal(SCL scl) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        marshal(scl, outputStream);
+        return outputStream.toByteArray();
+    }
+
+    /**
+     * Marshals a SCL into a file. The file is created or replaced.
+     *
+     * @param scl  SCL to marshal
+     * @param path path of the SCL file
+     * @throws ScdException when the file cannot be written or when the SCL cannot be marshalled or is not valid
+     */
+    public void marshal(SCL scl, Path path) {
+        try (OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(path))) {
+            marshal(scl, outputStream);
+        } catch (IOException e) {
+            throw new ScdException("Unable to write SCL file %s : %s".formatted(path, e.getMessage()), e);
+        }
+    }
+
+    /**
+     * Marshals a SCL
+     *
+     * @param scl          SCL to marshal
+     * @param outputStream receives the content of the SCL file encoded in UTF-8, not closed by this method
+     * @throws ScdException when the SCL cannot be marshalled or is not valid
+     */
+    public void marshal(SCL scl, OutputStream outputStream) {
+        Marshaller marshaller = marshallers.borrow();
+        try {
+            marshaller.marshal(scl, outputStream);
+            marshallers.giveBack(marshaller);
+        } catch (JAXBException e) {
+            throw new ScdException("Unable to marshal SCL : " + getCauseMessage(e), e);
+        }
+    }
+
+    /**
+     * Creates a deep copy of an element of the SCL model. The copy is never validated against the XSDs.
+     *
+     * @param object element to copy
+     * @param clazz  class of the element
+     * @param <T>    type of the element
+     * @return copy of the element
+     * @throws ScdException when the element cannot be copied
+     */
+    public <T> T copy(T object, Class<T> clazz) {
+        Unmarshaller unmarshaller = unmarshallers.borrow();
+        try {
+            JAXBElement<T> contentObject = new JAXBElement<>(new QName(clazz.getSimpleName()), clazz, object);
+            unmarshaller.setSchema(null);
+            T copy = unmarshaller.unmarshal(new JAXBSource(JAXB_CONTEXT, contentObject), clazz).getValue();
+            unmarshaller.setSchema(schema);
+            unmarshallers.giveBack(unmarshaller);
+            return copy;
+        } catch (JAXBException e) {
+            throw new ScdException(e.getMessage(), e);
+        }
+    }
+
+    private Marshaller newMarshaller() {
+        try {
+            Marshaller marshaller = JAXB_CONTEXT.createMarshaller();
+            marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+            marshaller.setSchema(schema);
+            return marshaller;
+        } catch (JAXBException e) {
+            throw new ScdException(e.getMessage(), e);
+        }
+    }
+
+    private Unmarshaller newUnmarshaller() {
+        try {
+            Unmarshaller unmarshaller = JAXB_CONTEXT.createUnmarshaller();
+            unmarshaller.setSchema(schema);
+            return unmarshaller;
+        } catch (JAXBException e) {
+            throw new ScdException(e.getMessage(), e);
+        }
+    }
+
+    private static JAXBContext newJaxbContext() {
+        try {
+            return JAXBContext.newInstance(CONTEXT_PATH);
+        } catch (JAXBException e) {
+            throw new ScdException(e.getMessage(), e);
+        }
+    }
+
+    private static Schema newSchema() {
+        try {
+            // SAXParser resolves the "<include>" of the SCL XSD
+            XMLReader xmlReader = SAXParserFactory.newDefaultNSInstance().newSAXParser().getXMLReader();
+            Source[] schemaSources = Stream.of("xsd/SCL2007B4/SCL.xsd", "xsd/SCL_CoMPAS.xsd")
+                    .map(xsdPath -> toSchemaSource(xsdPath, xmlReader))
+                    .toArray(Source[]::new);
+            SchemaFactory schemaFactory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
+            schemaFactory.setProperty(XMLConstants.ACCESS_EXTERNAL_DTD, "");
+            schemaFactory.setProperty(XMLConstants.ACCESS_EXTERNAL_SCHEMA, "jar,file,nested");
+            return schemaFactory.newSchema(schemaSources);
+        } catch (SAXException | ParserConfigurationException e) {
+            throw new ScdException("Unable to load SCL schema : " + e.getMessage(), e);
+        }
+    }
+
+    private static Source toSchemaSource(String name, XMLReader xmlReader) {
+        URL url = SclMarshaller.class.getClassLoader().getResource(name);
+        if (url == null) {
+            throw new ScdException("SCL schema not found : " + name);
+        }
+        return new SAXSource(xmlReader, new InputSource(url.toString()));
+    }
+
+    /**
+     * JAXBException messages are often null : the relevant message is the one of the cause
+     */
+    private static String getCauseMessage(Throwable throwable) {
+        if (StringUtils.isNotBlank(throwable.getMessage()) || throwable.getCause() == null) {
+            return throwable.getMessage();
+        }
+        return throwable.getCause().getMessage();
+    }
+
+    /**
+     * Bounded pool of non thread safe objects. Objects are created on demand when the pool is empty,
+     * and dropped when they are given back to a full pool.
+     */
+    private static final class Pool<T> {
+        private final Queue<T> idle = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger idleCount = new AtomicInteger();
+        private final Supplier<T> factory;
+
+        private Pool(Supplier<T> factory) {
+            this.factory = factory;
+        }
+
+        private T borrow() {
+            T object = idle.poll();
+            if (object == null) {
+                return factory.get();
+            }
+            idleCount.decrementAndGet();
+            return object;
+        }
+
+        private void giveBack(T object) {
+            if (idleCount.incrementAndGet() <= MAX_POOL_SIZE) {
+                idle.offer(object);
+            } else {
+                idleCount.decrementAndGet();
+            }
+        }
+    }
+}
@@ -0,0 +1,55 @@
+// SPDX-FileCopyrightText: 2025 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.io;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.lfenergy.compas.scl2007b4.model.*;
+
+import javax.xml.namespace.QName;
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Direct children of the SCL element which are unmarshalled one by one by {@link SclStreamReader} and {@link SclStreamWriter}.
+ * Other children (Text, Private, Line, Process) are always skipped by the reader and copied verbatim by the writer.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum SclSection {
+
+    HEADER("Header", THeader.class),
+    SUBSTATION("Substation", TSubstation.class),
+    COMMUNICATION("Communication", TCommunication.class),
+    IED("IED", TIED.class),
+    DATA_TYPE_TEMPLATES("DataTypeTemplates", TDataTypeTemplates.class);
+
+    public static final String SCL_NAMESPACE = "http://www.iec.ch/61850/2003/SCL";
+
+    private final String localName;
+    private final Class<?> type;
+
+    /**
+     * @return qualified name of the section element
+     */
+    public QName getQName() {
+        return new QName(SCL_NAMESPACE, localName);
+    }
+
+    /**
+     * Finds the section of an element
+     *
+     * @param name qualified name of a direct child of the SCL element
+     * @return section of the element, empty when the element is not a section
+     */
+    public static Optional<SclSection> from(QName name) {
+        if (!SCL_NAMESPACE.equals(name.getNamespaceURI())) {
+            return Optional.empty();
+        }
+        return Arrays.stream(values())
+                .filter(sclSection -> sclSection.localName.equals(name.getLocalPart()))
+                .findFirst();
+    }
+}
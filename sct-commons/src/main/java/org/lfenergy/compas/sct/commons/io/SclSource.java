@@ -0,0 +1,75 @@
+// SPDX-FileCopyrightText: 2025 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.io;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Content of a SCL file which is not parsed yet, read by {@link StdLoader}.
+ * A source may be opened by any thread, but only once per loading.
+ */
+public interface SclSource {
+
+    /**
+     * Name of the source, used in error messages
+     *
+     * @return name of the source
+     */
+    String name();
+
+    /**
+     * Opens the content of the SCL file. The stream is closed by the caller.
+     *
+     * @return content of the SCL file
+     * @throws IOException when the content cannot be read
+     */
+    InputStream open() throws IOException;
+
+    /**
+     * Source reading a SCL file
+     *
+     * @param path path of the SCL file
+     * @return source named after the path
+     */
+    static SclSource of(Path path) {
+        return new SclSource() {
+            @Override
+            public String name() {
+                return path.toString();
+            }
+
+            @Override
+            public InputStream open() throws IOException {
+                return new BufferedInputStream(Files.newInputStream(path));
+            }
+        };
+    }
+
+    /**
+     * Source reading a SCL file already in memory
+     *
+     * @param name    name of the source
+     * @param content content of the SCL file
+     * @return source
+     */
+    static SclSource of(String name, byte[] content) {
+        return new SclSource() {
+            @Override
+            public String name() {
+                return name;
+            }
+
+            @Override
+            public InputStream open() {
+                return new ByteArrayInputStream(content);
+            }
+        };
+    }
+}
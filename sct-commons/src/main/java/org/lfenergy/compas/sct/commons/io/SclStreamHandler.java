@@ -0,0 +1,41 @@
+// SPDX-FileCopyrightText: 2025 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.io;
+
+import org.lfenergy.compas.scl2007b4.model.*;
+
+/**
+ * Receives the sections of a SCL file read by {@link SclStreamReader}, in document order.
+ * Each section is unmarshalled only when {@link #accepts(SclSection, String)} returns true, and is not referenced
+ * anymore by the reader once the handler returns.
+ */
+public interface SclStreamHandler {
+
+    /**
+     * Tells if a section must be unmarshalled and given to the handler. By default, all sections are accepted.
+     *
+     * @param section section of the element
+     * @param name    name attribute of the element (IED@name, Substation@name), null when the element has no name
+     * @return true to unmarshal the element, false to skip it without unmarshalling it
+     */
+    default boolean accepts(SclSection section, String name) {
+        return true;
+    }
+
+    default void header(THeader tHeader) {
+    }
+
+    default void substation(TSubstation tSubstation) {
+    }
+
+    default void communication(TCommunication tCommunication) {
+    }
+
+    default void ied(TIED tied) {
+    }
+
+    default void dataTypeTemplates(TDataTypeTemplates tDataTypeTemplates) {
+    }
+}
@@ -0,0 +1,74 @@
+// SPDX-FileCopyrightText: 2025 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.io;
+
+import jakarta.xml.bind.JAXBException;
+import jakarta.xml.bind.Unmarshaller;
+import org.lfenergy.compas.scl2007b4.model.*;
+import org.lfenergy.compas.sct.commons.exception.ScdException;
+
+import javax.xml.stream.XMLEventReader;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.events.StartElement;
+import javax.xml.stream.events.XMLEvent;
+import java.io.InputStream;
+import java.util.Optional;
+
+/**
+ * Reads a SCL file section by section with StAX, without loading the whole {@link SCL} in memory.
+ * <p>
+ * Each accepted section (Header, Substation, Communication, IED, DataTypeTemplates) is unmarshalled alone and given
+ * to a {@link SclStreamHandler}; other sections are skipped without being unmarshalled. The memory used is bounded by
+ * the largest accepted section, usually the largest IED, instead of the size of the file.
+ * </p>
+ * This class is thread safe.
+ */
+public class SclStreamReader {
+
+    /**
+     * Reads the sections of a SCL file
+     *
+     * @param inputStream SCL file content, not closed by this method
+     * @param handler     receives the accepted sections in document order
+     * @throws ScdException when the file is not a valid SCL file
+     */
+    public void read(InputStream inputStream, SclStreamHandler handler) {
+        try {
+            XMLEventReader reader = SclStreamSupport.newEventReader(inputStream);
+            Unmarshaller unmarshaller = SclStreamSupport.jaxbContext().createUnmarshaller();
+            SclStreamSupport.readUntilSclElement(reader, event -> {});
+            while (reader.hasNext()) {
+                XMLEvent event = reader.peek();
+                if (event.isStartElement()) {
+                    readChild(reader, unmarshaller, event.asStartElement(), handler);
+                } else if (event.isEndElement()) {
+                    // end of SCL element : the rest of the document is not read
+                    break;
+                } else {
+                    reader.nextEvent();
+                }
+            }
+            reader.close();
+        } catch (XMLStreamException | JAXBException e) {
+            throw new ScdException("Unable to read SCL file : " + e.getMessage(), e);
+        }
+    }
+
+    private static void readChild(XMLEventReader reader, Unmarshaller unmarshaller, StartElement startElement, SclStreamHandler handler) throws XMLStreamException, JAXBException {
+        Optional<SclSection> sclSection = SclSection.from(startElement.getName());
+        if (sclSection.isEmpty() || !handler.accepts(sclSection.get(), SclStreamSupport.nameAttribute(startElement))) {
+            SclStreamSupport.readElement(reader, event -> {});
+            return;
+        }
+        Object element = unmarshaller.unmarshal(reader, sclSection.get().getType()).getValue();
+        switch (sclSection.get()) {
+            case HEADER -> handler.header((THeader) element);
+            case SUBSTATION -> handler.substation((TSubstation) element);
+            case COMMUNICATION -> handler.communication((TCommunication) element);
+            case IED -> handler.ied((TIED) element);
+            case DATA_TYPE_TEMPLATES -> handler.dataTypeTemplates((TDataTypeTemplates) element);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+// SPDX-FileCopyrightText: 2025 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.io;
+
+import jakarta.xml.bind.JAXBContext;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.lfenergy.compas.sct.commons.exception.ScdException;
+
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLEventReader;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.events.Attribute;
+import javax.xml.stream.events.StartElement;
+import javax.xml.stream.events.XMLEvent;
+import java.io.InputStream;
+
+/**
+ * Shared StAX and JAXB objects of {@link SclStreamReader} and {@link SclStreamWriter}
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class SclStreamSupport {
+
+    private static final String SCL_ELEMENT = "SCL";
+    private static final QName NAME_ATTRIBUTE = new QName("name");
+
+    private static final XMLInputFactory XML_INPUT_FACTORY = newXmlInputFactory();
+
+    private static XMLInputFactory newXmlInputFactory() {
+        XMLInputFactory xmlInputFactory = XMLInputFactory.newFactory();
+        // SCL files do not use DTD : disabling them prevents XXE attacks
+        xmlInputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        xmlInputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return xmlInputFactory;
+    }
+
+    /**
+     * Receives the events consumed from a reader, usually to write them
+     */
+    @FunctionalInterface
+    interface EventConsumer {
+        void accept(XMLEvent event) throws XMLStreamException;
+    }
+
+    static JAXBContext jaxbContext() {
+        return SclMarshaller.jaxbContext();
+    }
+
+    static XMLEventReader newEventReader(InputStream inputStream) throws XMLStreamException {
+        // XMLInputFactory is thread safe once configured
+        return XML_INPUT_FACTORY.createXMLEventReader(inputStream);
+    }
+
+    static XMLStreamReader newStreamReader(InputStream inputStream) throws XMLStreamException {
+        return XML_INPUT_FACTORY.createXMLStreamReader(inputStream);
+    }
+
+    /**
+     * Consumes the events until the SCL start element (included)
+     *
+     * @param reader   reader positioned before the SCL start element
+     * @param consumer receives every consumed event
+     * @throws ScdException when the document is not a SCL document
+     */
+    static void readUntilSclElement(XMLEventReader reader, EventConsumer consumer) throws XMLStreamException {
+        while (reader.hasNext()) {
+            XMLEvent event = reader.nextEvent();
+            consumer.accept(event);
+            if (event.isStartElement()) {
+                QName name = event.asStartElement().getName();
+                if (!SCL_ELEMENT.equals(name.getLocalPart()) || !SclSection.SCL_NAMESPACE.equals(name.getNamespaceURI())) {
+                    throw new ScdException("Root element %s is not a SCL element".formatted(name));
+                }
+                return;
+            }
+        }
+        throw new ScdException("No SCL element found");
+    }
+
+    /**
+     * Consumes the events of the element which starts at the next event, until its end element (included)
+     *
+     * @param reader   reader positioned before the start element
+     * @param consumer receives every consumed event
+     */
+    static void readElement(XMLEventReader reader, EventConsumer consumer) throws XMLStreamException {
+        int depth = 0;
+        do {
+            XMLEvent event = reader.nextEvent();
+            consumer.accept(event);
+            if (event.isStartElement()) {
+                depth++;
+            } else if (event.isEndElement()) {
+                depth--;
+            }
+        } while (depth > 0);
+    }
+
+    /**
+     * @return name attribute of the element, null when the element has no name attribute
+     */
+    static String nameAttribute(StartElement startElement) {
+        Attribute attribute = startElement.getAttributeByName(NAME_ATTRIBUTE);
+        return attribute == null ? null : attribute.getValue();
+    }
+}
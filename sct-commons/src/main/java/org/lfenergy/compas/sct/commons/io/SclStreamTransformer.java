@@ -0,0 +1,58 @@
+// SPDX-FileCopyrightText: 2025 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.io;
+
+import org.lfenergy.compas.scl2007b4.model.*;
+
+import java.util.List;
+
+/**
+ * Modifies the sections of a SCL file rewritten by {@link SclStreamWriter}.
+ * Only the sections accepted by {@link #accepts(SclSection, String)} are unmarshalled, given to the matching method
+ * and marshalled again: other elements are copied verbatim. Each method returns the element to write in place of the
+ * given one, or null to remove it.
+ */
+public interface SclStreamTransformer {
+
+    /**
+     * Tells if a section must be unmarshalled and transformed. By default, no section is accepted.
+     *
+     * @param section section of the element
+     * @param name    name attribute of the element (IED@name, Substation@name), null when the element has no name
+     * @return true to transform the element, false to copy it verbatim
+     */
+    default boolean accepts(SclSection section, String name) {
+        return false;
+    }
+
+    default THeader header(THeader tHeader) {
+        return tHeader;
+    }
+
+    default TSubstation substation(TSubstation tSubstation) {
+        return tSubstation;
+    }
+
+    default TCommunication communication(TCommunication tCommunication) {
+        return tCommunication;
+    }
+
+    default TIED ied(TIED tied) {
+        return tied;
+    }
+
+    default TDataTypeTemplates dataTypeTemplates(TDataTypeTemplates tDataTypeTemplates) {
+        return tDataTypeTemplates;
+    }
+
+    /**
+     * IEDs written after the existing IEDs of the file
+     *
+     * @return IEDs to add, empty by default
+     */
+    default List<TIED> additionalIeds() {
+        return List.of();
+    }
+}
@@ -0,0 +1,130 @@
+// SPDX-FileCopyrightText: 2025 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.io;
+
+import jakarta.xml.bind.JAXBElement;
+import jakarta.xml.bind.JAXBException;
+import jakarta.xml.bind.Marshaller;
+import jakarta.xml.bind.Unmarshaller;
+import org.lfenergy.compas.scl2007b4.model.*;
+import org.lfenergy.compas.sct.commons.exception.ScdException;
+
+import javax.xml.stream.XMLEventReader;
+import javax.xml.stream.XMLEventWriter;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.events.StartDocument;
+import javax.xml.stream.events.StartElement;
+import javax.xml.stream.events.XMLEvent;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Rewrites a SCL file section by section with StAX, without loading the whole {@link SCL} in memory.
+ * <p>
+ * Sections accepted by the {@link SclStreamTransformer} are unmarshalled alone, transformed and marshalled again in
+ * place. All other elements, comments and whitespaces are copied verbatim from the input to the output. The memory used
+ * is bounded by the largest transformed section, usually the largest IED, instead of the size of the file.
+ * </p>
+ * This class is thread safe.
+ */
+public class SclStreamWriter {
+
+    /**
+     * Local names of the SCL children which follow the IEDs : additional IEDs are written before the first of them
+     */
+    private static final Set<String> ELEMENTS_AFTER_IEDS = Set.of("DataTypeTemplates", "Line", "Process");
+
+    private static final XMLOutputFactory XML_OUTPUT_FACTORY = XMLOutputFactory.newFactory();
+
+    /**
+     * Copies a SCL file, transforming the accepted sections
+     *
+     * @param inputStream  SCL file content, not closed by this method
+     * @param outputStream receives the transformed SCL file, not closed by this method
+     * @param transformer  selects and transforms the sections
+     * @throws ScdException when the file is not a valid SCL file or when a transformed section cannot be written
+     */
+    public void transform(InputStream inputStream, OutputStream outputStream, SclStreamTransformer transformer) {
+        try {
+            XMLEventReader reader = SclStreamSupport.newEventReader(inputStream);
+            XMLEventWriter writer = XML_OUTPUT_FACTORY.createXMLEventWriter(outputStream, encoding(reader.peek()));
+            Unmarshaller unmarshaller = SclStreamSupport.jaxbContext().createUnmarshaller();
+            Marshaller marshaller = SclStreamSupport.jaxbContext().createMarshaller();
+            marshaller.setProperty(Marshaller.JAXB_FRAGMENT, true);
+
+            SclStreamSupport.readUntilSclElement(reader, writer::add);
+            boolean additionalIedsWritten = false;
+            while (reader.hasNext()) {
+                XMLEvent event = reader.peek();
+                if (event.isStartElement()) {
+                    StartElement startElement = event.asStartElement();
+                    if (!additionalIedsWritten && ELEMENTS_AFTER_IEDS.contains(startElement.getName().getLocalPart())) {
+                        writeAdditionalIeds(writer, marshaller, transformer);
+                        additionalIedsWritten = true;
+                    }
+                    transformChild(reader, writer, unmarshaller, marshaller, startElement, transformer);
+                } else if (event.isEndElement()) {
+                    // end of SCL element : the rest of the document is copied as it is
+                    if (!additionalIedsWritten) {
+                        writeAdditionalIeds(writer, marshaller, transformer);
+                    }
+                    break;
+                } else {
+                    writer.add(reader.nextEvent());
+                }
+            }
+            while (reader.hasNext()) {
+                writer.add(reader.nextEvent());
+            }
+            writer.flush();
+            writer.close();
+            reader.close();
+        } catch (XMLStreamException | JAXBException e) {
+            throw new ScdException("Unable to transform SCL file : " + e.getMessage(), e);
+        }
+    }
+
+    private static String encoding(XMLEvent firstEvent) {
+        if (firstEvent instanceof StartDocument startDocument && startDocument.encodingSet()) {
+            return startDocument.getCharacterEncodingScheme();
+        }
+        return StandardCharsets.UTF_8.name();
+    }
+
+    private static void transformChild(XMLEventReader reader, XMLEventWriter writer, Unmarshaller unmarshaller, Marshaller marshaller,
+                                       StartElement startElement, SclStreamTransformer transformer) throws XMLStreamException, JAXBException {
+        Optional<SclSection> sclSection = SclSection.from(startElement.getName());
+        if (sclSection.isEmpty() || !transformer.accepts(sclSection.get(), SclStreamSupport.nameAttribute(startElement))) {
+            SclStreamSupport.readElement(reader, writer::add);
+            return;
+        }
+        Object element = unmarshaller.unmarshal(reader, sclSection.get().getType()).getValue();
+        Object result = switch (sclSection.get()) {
+            case HEADER -> transformer.header((THeader) element);
+            case SUBSTATION -> transformer.substation((TSubstation) element);
+            case COMMUNICATION -> transformer.communication((TCommunication) element);
+            case IED -> transformer.ied((TIED) element);
+            case DATA_TYPE_TEMPLATES -> transformer.dataTypeTemplates((TDataTypeTemplates) element);
+        };
+        if (result != null) {
+            marshal(writer, marshaller, sclSection.get(), result);
+        }
+    }
+
+    private static void writeAdditionalIeds(XMLEventWriter writer, Marshaller marshaller, SclStreamTransformer transformer) throws JAXBException {
+        for (TIED tied : transformer.additionalIeds()) {
+            marshal(writer, marshaller, SclSection.IED, tied);
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static void marshal(XMLEventWriter writer, Marshaller marshaller, SclSection sclSection, Object element) throws JAXBException {
+        marshaller.marshal(new JAXBElement(sclSection.getQName(), sclSection.getType(), element), writer);
+    }
+}
@@ -0,0 +1,177 @@
+// SPDX-FileCopyrightText: 2025 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.io;
+
+import org.lfenergy.compas.scl2007b4.model.SCL;
+import org.lfenergy.compas.scl2007b4.model.TCompasICDHeader;
+import org.lfenergy.compas.scl2007b4.model.TPrivate;
+import org.lfenergy.compas.sct.commons.dto.PrivateLinkedToStds;
+import org.lfenergy.compas.sct.commons.exception.ScdException;
+import org.lfenergy.compas.sct.commons.scl.icd.IcdHeader;
+import org.lfenergy.compas.sct.commons.util.PrivateUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.Collectors;
+
+/**
+ * Loads the STD files to import in a SCD with {@link org.lfenergy.compas.sct.commons.api.SclEditor#importSTDElementsInSCD}.
+ * <p>
+ * STD files are parsed concurrently, each one on its own virtual thread, but no more than <em>maxParallelism</em>
+ * files are parsed at the same time : this bounds both the CPU and the memory used by the files being parsed.
+ * The ICD_SYSTEM_VERSION_UUID of the IED/Private COMPAS-ICDHeader of each STD is extracted by the thread which parsed it.
+ * Only the STD files referenced by a Substation/../LNode/Private COMPAS-ICDHeader of the SCD are kept, the other ones
+ * are dropped as soon as they are parsed. The kept STD files are returned by ICD_SYSTEM_VERSION_UUID, ready for
+ * {@link org.lfenergy.compas.sct.commons.api.SclEditor#importSTDElementsInSCD(SCL, Map)} : the import does not need to
+ * extract the COMPAS-ICDHeaders of the STD files again.
+ * </p>
+ * This class is thread safe.
+ */
+public class StdLoader {
+
+    private final SclMarshaller sclMarshaller;
+    private final int maxParallelism;
+
+    /**
+     * Constructor parsing as many STD files at the same time as there are available processors
+     *
+     * @param sclMarshaller parses the STD files
+     */
+    public StdLoader(SclMarshaller sclMarshaller) {
+        this(sclMarshaller, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructor
+     *
+     * @param sclMarshaller  parses the STD files
+     * @param maxParallelism maximum number of STD files parsed at the same time
+     * @throws IllegalArgumentException when maxParallelism is not positive
+     */
+    public StdLoader(SclMarshaller sclMarshaller, int maxParallelism) {
+        if (maxParallelism <= 0) {
+            throw new IllegalArgumentException("Maximum parallelism must be positive: " + maxParallelism);
+        }
+        this.sclMarshaller = sclMarshaller;
+        this.maxParallelism = maxParallelism;
+    }
+
+    /**
+     * Parses the STD files and keeps the ones referenced by the SCD
+     *
+     * @param scd        SCD in which the STD files will be imported, with its Substation
+     * @param stdSources STD files
+     * @return unmodifiable map of the ICD_SYSTEM_VERSION_UUID of each IED/Private COMPAS-ICDHeader of the referenced STD
+     * files to this Private and its STD file, in the order of the sources, like
+     * {@link PrivateUtils#createMapICDSystemVersionUuidAndSTDFile}
+     * @throws ScdException when a STD file cannot be read or parsed, or when there are several STD files corresponding
+     *                      to the same ICD_SYSTEM_VERSION_UUID, like
+     *                      {@link PrivateUtils#checkSTDCorrespondanceWithLNodeCompasICDHeader}
+     */
+    public Map<String, PrivateLinkedToStds> loadReferencedStds(SCL scd, List<SclSource> stdSources) throws ScdException {
+        Set<String> referencedUuids = scd.isSetSubstation() ?
+                PrivateUtils.streamIcdHeaders(scd).map(IcdHeader::getIcdSystemVersionUUID).collect(Collectors.toSet())
+                : Set.of();
+        List<LoadedStd> loadedStds = loadAll(stdSources, referencedUuids);
+        checkOneStdPerIcdSystemVersionUuid(loadedStds);
+        Map<String, PrivateLinkedToStds> stdsByIcdSystemVersionUuid = new LinkedHashMap<>();
+        for (LoadedStd loadedStd : loadedStds) {
+            if (loadedStd.std() != null) {
+                for (StdIcdHeader icdHeader : loadedStd.icdHeaders()) {
+                    stdsByIcdSystemVersionUuid.put(icdHeader.icdSystemVersionUUID(), new PrivateLinkedToStds(icdHeader.tPrivate(), List.of(loadedStd.std())));
+                }
+            }
+        }
+        return Collections.unmodifiableMap(stdsByIcdSystemVersionUuid);
+    }
+
+    private List<LoadedStd> loadAll(List<SclSource> stdSources, Set<String> referencedUuids) {
+        Semaphore permits = new Semaphore(maxParallelism);
+        try (ExecutorService executorService = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<LoadedStd>> futures = stdSources.stream()
+                    .map(stdSource -> executorService.submit(() -> load(stdSource, referencedUuids, permits)))
+                    .toList();
+            List<LoadedStd> loadedStds = new ArrayList<>(futures.size());
+            try {
+                for (Future<LoadedStd> future : futures) {
+                    loadedStds.add(join(future));
+                }
+            } catch (ScdException e) {
+                // remaining STD files are useless : stop parsing them instead of waiting for them
+                futures.forEach(future -> future.cancel(true));
+                throw e;
+            }
+            return loadedStds;
+        }
+    }
+
+    private LoadedStd load(SclSource stdSource, Set<String> referencedUuids, Semaphore permits) throws InterruptedException {
+        SCL std;
+        permits.acquire();
+        try (InputStream inputStream = stdSource.open()) {
+            std = sclMarshaller.unmarshal(inputStream);
+        } catch (IOException e) {
+            throw new ScdException("Unable to read STD file %s : %s".formatted(stdSource.name(), e.getMessage()), e);
+        } catch (ScdException e) {
+            throw new ScdException("Unable to parse STD file %s : %s".formatted(stdSource.name(), e.getMessage()), e);
+        } finally {
+            permits.release();
+        }
+        List<StdIcdHeader> icdHeaders = std.getIED().stream()
+                .flatMap(tied -> tied.getPrivate().stream())
+                .flatMap(tPrivate -> PrivateUtils.extractCompasICDHeader(tPrivate).stream()
+                        .map(compasICDHeader -> new StdIcdHeader(compasICDHeader, tPrivate)))
+                .toList();
+        boolean referenced = icdHeaders.stream().anyMatch(icdHeader -> referencedUuids.contains(icdHeader.icdSystemVersionUUID()));
+        return new LoadedStd(referenced ? std : null, icdHeaders);
+    }
+
+    private static LoadedStd join(Future<LoadedStd> future) {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException instanceof ScdException ? runtimeException : new ScdException(runtimeException.getMessage(), runtimeException);
+            }
+            throw new ScdException(e.getCause().getMessage(), e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ScdException("Interrupted while loading STD files", e);
+        }
+    }
+
+    /**
+     * Checks all the STD files, including the ones which are not referenced, so that the result does not depend on
+     * the content of the SCD
+     */
+    private static void checkOneStdPerIcdSystemVersionUuid(List<LoadedStd> loadedStds) {
+        Map<String, TPrivate> privateByUuid = new HashMap<>();
+        for (LoadedStd loadedStd : loadedStds) {
+            for (StdIcdHeader icdHeader : loadedStd.icdHeaders()) {
+                TPrivate firstPrivate = privateByUuid.putIfAbsent(icdHeader.icdSystemVersionUUID(), icdHeader.tPrivate());
+                if (firstPrivate != null) {
+                    throw new ScdException("There are several STD files corresponding to " + PrivateUtils.stdCheckFormatExceptionMessage(firstPrivate));
+                }
+            }
+        }
+    }
+
+    /**
+     * Parsed STD file
+     *
+     * @param std        STD, null when it is not referenced by the SCD
+     * @param icdHeaders IED/Private COMPAS-ICDHeader of the STD
+     */
+    private record LoadedStd(SCL std, List<StdIcdHeader> icdHeaders) {
+    }
+
+    private record StdIcdHeader(String icdSystemVersionUUID, TPrivate tPrivate) {
+        private StdIcdHeader(TCompasICDHeader compasICDHeader, TPrivate tPrivate) {
+            this(compasICDHeader.getICDSystemVersionUUID(), tPrivate);
+        }
+    }
+}
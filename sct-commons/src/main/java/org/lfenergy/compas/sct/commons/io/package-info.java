@@ -0,0 +1,10 @@
+// SPDX-FileCopyrightText: 2025 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+/**
+ *  <h2>sct.commons.io is a group of streaming readers and writers of
+ *      {@link org.lfenergy.compas.scl2007b4.model.SCL SCL} files
+ *  </h2>
+ */
+package org.lfenergy.compas.sct.commons.io;
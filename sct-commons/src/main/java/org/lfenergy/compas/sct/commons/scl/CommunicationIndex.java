@@ -0,0 +1,167 @@
+// SPDX-FileCopyrightText: 2025 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.scl;
+
+import org.lfenergy.compas.scl2007b4.model.*;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+
+/**
+ * Key based index of the {@link TCommunication Communication} section of a SCL.
+ * <p>
+ * Gives constant time access to the following elements :
+ * </p>
+ * <ul>
+ *   <li>{@link CommunicationIndex#findConnectedAP(TSubNetwork, String, String) <em>ConnectedAP by <b>iedName</b> and <b>apName</b></em>}</li>
+ *   <li>{@link CommunicationIndex#findGse(TConnectedAP, String, String) <em>GSE</em>} and
+ *   {@link CommunicationIndex#findSmv(TConnectedAP, String, String) <em>SMV</em>} by <b>ldInst</b> and <b>cbName</b></li>
+ * </ul>
+ * <p>
+ * Like {@link SclIndex}, indexes are built lazily, once per indexed element (SubNetwork, ConnectedAP), and are held
+ * weakly. They rebuild themselves when an element is added to or removed from the indexed list by other code, and
+ * when the element found for a key does not have this key anymore. Hits and misses both cost a map lookup, they never
+ * scan the list. GSE and SMV created by {@link #findOrCreateGse(TConnectedAP, String, String)} and
+ * {@link #findOrCreateSmv(TConnectedAP, String, String)} are indexed as they are created : configuring the network of
+ * all the ControlBlocks of a SCD costs O(1) per GSE or SMV, and never rebuilds these indexes.
+ * </p>
+ * <p>
+ * Renamed elements are not found under their new key until the index is rebuilt : code renaming a ConnectedAP, a GSE or
+ * a SMV must call {@link #invalidate(TSubNetwork)} or {@link #invalidate(TConnectedAP)}.
+ * </p>
+ * <p>
+ * When several elements share the same key, the first one in document order is returned.
+ * </p>
+ */
+public final class CommunicationIndex {
+
+    private static final Map<TSubNetwork, ElementIndex<ConnectedApKey, TConnectedAP>> CONNECTED_AP_INDEXES = Collections.synchronizedMap(new WeakHashMap<>());
+    private static final Map<TConnectedAP, ElementIndex<CbKey, TGSE>> GSE_INDEXES = Collections.synchronizedMap(new WeakHashMap<>());
+    private static final Map<TConnectedAP, ElementIndex<CbKey, TSMV>> SMV_INDEXES = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private CommunicationIndex() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Find a ConnectedAP of a SubNetwork
+     *
+     * @param tSubNetwork SubNetwork containing the ConnectedAP
+     * @param iedName     iedName of the ConnectedAP
+     * @param apName      apName of the ConnectedAP
+     * @return first ConnectedAP with given iedName and apName, or empty Optional when there is none
+     */
+    public static Optional<TConnectedAP> findConnectedAP(TSubNetwork tSubNetwork, String iedName, String apName) {
+        if (!tSubNetwork.isSetConnectedAP()) {
+            return Optional.empty();
+        }
+        return CONNECTED_AP_INDEXES.computeIfAbsent(tSubNetwork, k -> new ElementIndex<>(ConnectedApKey::from))
+                .find(tSubNetwork.getConnectedAP(), new ConnectedApKey(iedName, apName));
+    }
+
+    /**
+     * Find a GSE of a ConnectedAP
+     *
+     * @param tConnectedAP ConnectedAP containing the GSE
+     * @param ldInst       ldInst of the GSE
+     * @param cbName       cbName of the GSE
+     * @return first GSE with given ldInst and cbName, or empty Optional when there is none
+     */
+    public static Optional<TGSE> findGse(TConnectedAP tConnectedAP, String ldInst, String cbName) {
+        if (!tConnectedAP.isSetGSE()) {
+            return Optional.empty();
+        }
+        return gseIndex(tConnectedAP).find(tConnectedAP.getGSE(), new CbKey(ldInst, cbName));
+    }
+
+    /**
+     * Find a GSE of a ConnectedAP, or create it at the end of the GSE list
+     *
+     * @param tConnectedAP ConnectedAP containing the GSE
+     * @param ldInst       ldInst of the GSE
+     * @param cbName       cbName of the GSE
+     * @return first GSE with given ldInst and cbName, or the created GSE when there is none
+     */
+    public static TGSE findOrCreateGse(TConnectedAP tConnectedAP, String ldInst, String cbName) {
+        return findGse(tConnectedAP, ldInst, cbName).orElseGet(() -> {
+            TGSE newGse = new TGSE();
+            newGse.setLdInst(ldInst);
+            newGse.setCbName(cbName);
+            gseIndex(tConnectedAP).add(tConnectedAP.getGSE(), newGse);
+            return newGse;
+        });
+    }
+
+    /**
+     * Find a SMV of a ConnectedAP
+     *
+     * @param tConnectedAP ConnectedAP containing the SMV
+     * @param ldInst       ldInst of the SMV
+     * @param cbName       cbName of the SMV
+     * @return first SMV with given ldInst and cbName, or empty Optional when there is none
+     */
+    public static Optional<TSMV> findSmv(TConnectedAP tConnectedAP, String ldInst, String cbName) {
+        if (!tConnectedAP.isSetSMV()) {
+            return Optional.empty();
+        }
+        return smvIndex(tConnectedAP).find(tConnectedAP.getSMV(), new CbKey(ldInst, cbName));
+    }
+
+    /**
+     * Find a SMV of a ConnectedAP, or create it at the end of the SMV list
+     *
+     * @param tConnectedAP ConnectedAP containing the SMV
+     * @param ldInst       ldInst of the SMV
+     * @param cbName       cbName of the SMV
+     * @return first SMV with given ldInst and cbName, or the created SMV when there is none
+     */
+    public static TSMV findOrCreateSmv(TConnectedAP tConnectedAP, String ldInst, String cbName) {
+        return findSmv(tConnectedAP, ldInst, cbName).orElseGet(() -> {
+            TSMV newSmv = new TSMV();
+            newSmv.setLdInst(ldInst);
+            newSmv.setCbName(cbName);
+            smvIndex(tConnectedAP).add(tConnectedAP.getSMV(), newSmv);
+            return newSmv;
+        });
+    }
+
+    /**
+     * Forces the rebuild of the ConnectedAP index of a SubNetwork
+     *
+     * @param tSubNetwork SubNetwork whose ConnectedAPs have changed
+     */
+    public static void invalidate(TSubNetwork tSubNetwork) {
+        Optional.ofNullable(CONNECTED_AP_INDEXES.get(tSubNetwork)).ifPresent(ElementIndex::invalidate);
+    }
+
+    /**
+     * Forces the rebuild of the GSE and SMV indexes of a ConnectedAP
+     *
+     * @param tConnectedAP ConnectedAP whose GSEs or SMVs have changed
+     */
+    public static void invalidate(TConnectedAP tConnectedAP) {
+        Optional.ofNullable(GSE_INDEXES.get(tConnectedAP)).ifPresent(ElementIndex::invalidate);
+        Optional.ofNullable(SMV_INDEXES.get(tConnectedAP)).ifPresent(ElementIndex::invalidate);
+    }
+
+    private static ElementIndex<CbKey, TGSE> gseIndex(TConnectedAP tConnectedAP) {
+        return GSE_INDEXES.computeIfAbsent(tConnectedAP, k -> new ElementIndex<>(tgse -> new CbKey(tgse.getLdInst(), tgse.getCbName())));
+    }
+
+    private static ElementIndex<CbKey, TSMV> smvIndex(TConnectedAP tConnectedAP) {
+        return SMV_INDEXES.computeIfAbsent(tConnectedAP, k -> new ElementIndex<>(tsmv -> new CbKey(tsmv.getLdInst(), tsmv.getCbName())));
+    }
+
+    private record ConnectedApKey(String iedName, String apName) {
+        static ConnectedApKey from(TConnectedAP tConnectedAP) {
+            return new ConnectedApKey(tConnectedAP.getIedName(), tConnectedAP.getApName());
+        }
+    }
+
+    private record CbKey(String ldInst, String cbName) {
+    }
+}
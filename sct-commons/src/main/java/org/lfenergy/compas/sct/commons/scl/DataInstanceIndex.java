@@ -0,0 +1,232 @@
+// SPDX-FileCopyrightText: 2025 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.scl;
+
+import org.lfenergy.compas.scl2007b4.model.*;
+
+import java.util.*;
+
+/**
+ * Name index of the data instances of a LN : DOI, SDI and DAI.
+ * <p>
+ * Each level of the DOI &rarr; SDI&hellip; &rarr; DAI tree has its own index : DOIs are indexed by name per LN, SDIs and
+ * DAIs are indexed by name per DOI and per SDI. Finding or creating a DAI from its name path is O(depth of the path),
+ * whatever the number of DOIs, SDIs and DAIs in the LN.
+ * </p>
+ * <p>
+ * Like {@link SclIndex}, indexes are built lazily, held weakly and rebuild themselves when an element is added to or
+ * removed from the indexed list. Code renaming an element must call one of the invalidate methods. Elements created
+ * through the findOrCreate methods are indexed as they are added, without rebuilding the index nor scanning the list.
+ * Short lists are not indexed : they are scanned.
+ * </p>
+ * <p>
+ * When several elements share the same name, the first one in document order is returned. An SDI and a DAI with the
+ * same name do not collide.
+ * </p>
+ */
+public final class DataInstanceIndex {
+
+    private static final int MIN_INDEXED_SIZE = 8;
+    private static final Map<TAnyLN, ElementIndex<String, TDOI>> DOI_INDEXES = Collections.synchronizedMap(new WeakHashMap<>());
+    private static final Map<TUnNaming, ElementIndex<InstanceKey, TUnNaming>> SDI_OR_DAI_INDEXES = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private DataInstanceIndex() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Find a DOI of a LN by name
+     *
+     * @param tAnyLN LN containing the DOI
+     * @param doName name of the DOI
+     * @return first DOI with given name, or empty Optional when there is none
+     */
+    public static Optional<TDOI> findDoi(TAnyLN tAnyLN, String doName) {
+        if (doName == null || !tAnyLN.isSetDOI()) {
+            return Optional.empty();
+        }
+        List<TDOI> dois = tAnyLN.getDOI();
+        if (dois.size() < MIN_INDEXED_SIZE) {
+            return dois.stream().filter(tdoi -> doName.equals(tdoi.getName())).findFirst();
+        }
+        return doiIndex(tAnyLN).find(dois, doName);
+    }
+
+    /**
+     * Find a DOI of a LN by name, or create it at the end of the LN DOIs
+     *
+     * @param tAnyLN LN containing the DOI
+     * @param doName name of the DOI
+     * @return first DOI with given name, or the new DOI
+     */
+    public static TDOI findOrCreateDoi(TAnyLN tAnyLN, String doName) {
+        return findDoi(tAnyLN, doName).orElseGet(() -> {
+            TDOI tdoi = new TDOI();
+            tdoi.setName(doName);
+            if (tAnyLN.getDOI().size() < MIN_INDEXED_SIZE) {
+                tAnyLN.getDOI().add(tdoi);
+            } else {
+                doiIndex(tAnyLN).add(tAnyLN.getDOI(), tdoi);
+            }
+            return tdoi;
+        });
+    }
+
+    /**
+     * Find a SDI of a DOI or of a SDI by name
+     *
+     * @param doiOrSdi DOI or SDI containing the SDI
+     * @param sdiName  name of the SDI
+     * @return first SDI with given name, or empty Optional when there is none
+     */
+    public static Optional<TSDI> findSdi(TUnNaming doiOrSdi, String sdiName) {
+        return find(doiOrSdi, new InstanceKey(TSDI.class, sdiName)).map(TSDI.class::cast);
+    }
+
+    /**
+     * Find a SDI of a DOI or of a SDI by name, or create it at the end of the DOI or SDI children
+     *
+     * @param doiOrSdi DOI or SDI containing the SDI
+     * @param sdiName  name of the SDI
+     * @return first SDI with given name, or the new SDI
+     */
+    public static TSDI findOrCreateSdi(TUnNaming doiOrSdi, String sdiName) {
+        return findSdi(doiOrSdi, sdiName).orElseGet(() -> {
+            TSDI tsdi = new TSDI();
+            tsdi.setName(sdiName);
+            add(doiOrSdi, tsdi);
+            return tsdi;
+        });
+    }
+
+    /**
+     * Find a DAI of a DOI or of a SDI by name
+     *
+     * @param doiOrSdi DOI or SDI containing the DAI
+     * @param daiName  name of the DAI
+     * @return first DAI with given name, or empty Optional when there is none
+     */
+    public static Optional<TDAI> findDai(TUnNaming doiOrSdi, String daiName) {
+        return find(doiOrSdi, new InstanceKey(TDAI.class, daiName)).map(TDAI.class::cast);
+    }
+
+    /**
+     * Find a DAI of a DOI or of a SDI by name, or create it at the end of the DOI or SDI children
+     *
+     * @param doiOrSdi DOI or SDI containing the DAI
+     * @param daiName  name of the DAI
+     * @return first DAI with given name, or the new DAI
+     */
+    public static TDAI findOrCreateDai(TUnNaming doiOrSdi, String daiName) {
+        return findDai(doiOrSdi, daiName).orElseGet(() -> {
+            TDAI tdai = new TDAI();
+            tdai.setName(daiName);
+            add(doiOrSdi, tdai);
+            return tdai;
+        });
+    }
+
+    /**
+     * Find a DAI of a LN by its name path
+     *
+     * @param tAnyLN   LN containing the DAI
+     * @param doName   name of the DOI
+     * @param sdiNames names of the SDIs between the DOI and the DAI, can be empty
+     * @param daiName  name of the DAI
+     * @return DAI, or empty Optional when the DOI, one of the SDIs or the DAI does not exist
+     */
+    public static Optional<TDAI> findDai(TAnyLN tAnyLN, String doName, List<String> sdiNames, String daiName) {
+        Optional<? extends TUnNaming> parent = findDoi(tAnyLN, doName);
+        for (String sdiName : sdiNames) {
+            parent = parent.flatMap(doiOrSdi -> findSdi(doiOrSdi, sdiName));
+        }
+        return parent.flatMap(doiOrSdi -> findDai(doiOrSdi, daiName));
+    }
+
+    /**
+     * Find a DAI of a LN by its name path, creating the missing DOI, SDIs and DAI
+     *
+     * @param tAnyLN   LN containing the DAI
+     * @param doName   name of the DOI
+     * @param sdiNames names of the SDIs between the DOI and the DAI, can be empty
+     * @param daiName  name of the DAI
+     * @return existing or new DAI
+     */
+    public static TDAI findOrCreateDai(TAnyLN tAnyLN, String doName, List<String> sdiNames, String daiName) {
+        TUnNaming parent = findOrCreateDoi(tAnyLN, doName);
+        for (String sdiName : sdiNames) {
+            parent = findOrCreateSdi(parent, sdiName);
+        }
+        return findOrCreateDai(parent, daiName);
+    }
+
+    /**
+     * Forces the rebuild of the DOI index of a LN
+     *
+     * @param tAnyLN LN whose DOIs have changed
+     */
+    public static void invalidate(TAnyLN tAnyLN) {
+        Optional.ofNullable(DOI_INDEXES.get(tAnyLN)).ifPresent(ElementIndex::invalidate);
+    }
+
+    /**
+     * Forces the rebuild of the SDI and DAI index of a DOI or of a SDI
+     *
+     * @param doiOrSdi DOI or SDI whose children have changed
+     */
+    public static void invalidate(TUnNaming doiOrSdi) {
+        Optional.ofNullable(SDI_OR_DAI_INDEXES.get(doiOrSdi)).ifPresent(ElementIndex::invalidate);
+    }
+
+    private static Optional<TUnNaming> find(TUnNaming doiOrSdi, InstanceKey key) {
+        if (key.name() == null) {
+            return Optional.empty();
+        }
+        List<TUnNaming> sdiOrDai = sdiOrDai(doiOrSdi);
+        if (sdiOrDai.size() < MIN_INDEXED_SIZE) {
+            return sdiOrDai.stream().filter(tUnNaming -> key.equals(InstanceKey.from(tUnNaming))).findFirst();
+        }
+        return sdiOrDaiIndex(doiOrSdi).find(sdiOrDai, key);
+    }
+
+    private static void add(TUnNaming doiOrSdi, TUnNaming newSdiOrDai) {
+        List<TUnNaming> sdiOrDai = sdiOrDai(doiOrSdi);
+        if (sdiOrDai.size() < MIN_INDEXED_SIZE) {
+            sdiOrDai.add(newSdiOrDai);
+        } else {
+            sdiOrDaiIndex(doiOrSdi).add(sdiOrDai, newSdiOrDai);
+        }
+    }
+
+    private static ElementIndex<String, TDOI> doiIndex(TAnyLN tAnyLN) {
+        return DOI_INDEXES.computeIfAbsent(tAnyLN, k -> new ElementIndex<>(TDOI::getName));
+    }
+
+    private static ElementIndex<InstanceKey, TUnNaming> sdiOrDaiIndex(TUnNaming doiOrSdi) {
+        return SDI_OR_DAI_INDEXES.computeIfAbsent(doiOrSdi, k -> new ElementIndex<>(InstanceKey::from));
+    }
+
+    private static List<TUnNaming> sdiOrDai(TUnNaming doiOrSdi) {
+        return switch (doiOrSdi) {
+            case TDOI tdoi -> tdoi.getSDIOrDAI();
+            case TSDI tsdi -> tsdi.getSDIOrDAI();
+            default -> throw new IllegalArgumentException("Expecting a DOI or a SDI but got " + doiOrSdi.getClass().getSimpleName());
+        };
+    }
+
+    /**
+     * Name of a SDI or of a DAI : a SDI never matches a DAI with the same name
+     */
+    private record InstanceKey(Class<? extends TUnNaming> type, String name) {
+
+        static InstanceKey from(TUnNaming tUnNaming) {
+            return switch (tUnNaming) {
+                case TSDI tsdi -> new InstanceKey(TSDI.class, tsdi.getName());
+                case TDAI tdai -> new InstanceKey(TDAI.class, tdai.getName());
+                default -> null;
+            };
+        }
+    }
+}
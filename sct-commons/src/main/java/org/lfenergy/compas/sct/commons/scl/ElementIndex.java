@@ -0,0 +1,141 @@
+// SPDX-FileCopyrightText: 2025 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.scl;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Lazily built key index over a live JAXB list.
+ * <p>
+ * The index is rebuilt when the indexed list instance, its size, its first element or its last element changes, so
+ * elements added or removed by other code are seen. The index is also rebuilt when the element found for a key does
+ * not have this key anymore : an element renamed is not found under its old key. Hits and misses both cost a map
+ * lookup, they never scan the list. Elements added through {@link #add(List, Object)} and
+ * {@link #insert(List, int, Object)} are indexed without rebuilding the index, so building a list element by element
+ * with find-or-create lookups costs O(1) per element.
+ * </p>
+ * <p>
+ * Code renaming an element to a key which is not indexed yet, or replacing or moving elements without changing the
+ * size, the first and the last element of the list, must call {@link #invalidate()} (through the invalidate methods of
+ * the classes holding the index).
+ * </p>
+ * When several elements share the same key, the first one in list order is returned.
+ * This class is shared by the key indexes of the SCL, such as {@link SclIndex} and {@link CommunicationIndex} : it does
+ * not hold the index instances, which are kept by these classes, one per indexed element.
+ *
+ * @param <K> type of the key
+ * @param <V> type of the indexed elements
+ */
+public final class ElementIndex<K, V> {
+
+    private final Function<V, K> keyExtractor;
+    private List<V> indexedList;
+    private int indexedSize = -1;
+    private V indexedFirst;
+    private V indexedLast;
+    private Map<K, V> elementByKey = Map.of();
+
+    /**
+     * Constructor
+     *
+     * @param keyExtractor gives the key of an element, null when the element cannot be found by key
+     */
+    public ElementIndex(Function<V, K> keyExtractor) {
+        this.keyExtractor = keyExtractor;
+    }
+
+    /**
+     * Find first element of the list with the given key
+     *
+     * @param elements live list to search in
+     * @param key      key of the element
+     * @return first element of the list with the given key, or empty Optional when there is none
+     */
+    public synchronized Optional<V> find(List<V> elements, K key) {
+        if (key == null) {
+            return Optional.empty();
+        }
+        if (!isUpToDate(elements)) {
+            rebuild(elements);
+        }
+        V found = elementByKey.get(key);
+        if (found != null && !key.equals(keyExtractor.apply(found))) {
+            // element renamed since the index was built
+            rebuild(elements);
+            found = elementByKey.get(key);
+        }
+        return Optional.ofNullable(found);
+    }
+
+    /**
+     * Appends an element to the list, and indexes it without rebuilding the index when the index is up to date
+     *
+     * @param elements live list to append to
+     * @param element  element to append
+     */
+    public synchronized void add(List<V> elements, V element) {
+        insert(elements, elements.size(), element);
+    }
+
+    /**
+     * Inserts an element in the list, and indexes it without rebuilding the index when the index is up to date.
+     * Indexing the element is O(1) : the index does not hold positions, so the next elements are not renumbered.
+     *
+     * @param elements live list to insert in
+     * @param position position of the element in the list
+     * @param element  element to insert
+     */
+    public synchronized void insert(List<V> elements, int position, V element) {
+        boolean upToDate = isUpToDate(elements);
+        elements.add(position, element);
+        if (!upToDate) {
+            return;
+        }
+        K key = keyExtractor.apply(element);
+        if (key != null && elementByKey.putIfAbsent(key, element) != null && position < indexedSize) {
+            // key already indexed, maybe after the inserted element : let the next lookup find the first one
+            invalidate();
+            return;
+        }
+        indexedSize++;
+        indexedFirst = elements.getFirst();
+        indexedLast = elements.getLast();
+    }
+
+    /**
+     * Forces the index to be rebuilt on next lookup
+     */
+    public synchronized void invalidate() {
+        indexedList = null;
+        indexedSize = -1;
+        indexedFirst = null;
+        indexedLast = null;
+        elementByKey = Map.of();
+    }
+
+    private boolean isUpToDate(List<V> elements) {
+        return elements == indexedList && elements.size() == indexedSize
+                && (indexedSize == 0 || (elements.getFirst() == indexedFirst && elements.getLast() == indexedLast));
+    }
+
+    private void rebuild(List<V> elements) {
+        Map<K, V> newElementByKey = HashMap.newHashMap(elements.size());
+        for (V element : elements) {
+            K key = keyExtractor.apply(element);
+            if (key != null) {
+                newElementByKey.putIfAbsent(key, element);
+            }
+        }
+        elementByKey = newElementByKey;
+        indexedList = elements;
+        indexedSize = elements.size();
+        indexedFirst = elements.isEmpty() ? null : elements.getFirst();
+        indexedLast = elements.isEmpty() ? null : elements.getLast();
+    }
+}
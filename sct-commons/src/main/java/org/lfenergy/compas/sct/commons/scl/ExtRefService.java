@@ -6,12 +6,12 @@
 
 package org.lfenergy.compas.sct.commons.scl;
 
+import org.apache.commons.lang3.StringUtils;
 import org.lfenergy.compas.scl2007b4.model.*;
-import org.lfenergy.compas.sct.commons.util.Utils;
 
-import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Objects;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
@@ -69,15 +69,7 @@ public class ExtRefService {
      * @return true if the two ExtRef are fed by same Control Block, otherwise false
      */
     public boolean isExtRefFeedBySameControlBlock(TExtRef t1, TExtRef t2) {
-        String srcLNClass1 = (t1.isSetSrcLNClass()) ? t1.getSrcLNClass().getFirst() : TLLN0Enum.LLN_0.value();
-        String srcLNClass2 = (t2.isSetSrcLNClass()) ? t2.getSrcLNClass().getFirst() : TLLN0Enum.LLN_0.value();
-        return Utils.equalsOrBothBlank(t1.getIedName(), t2.getIedName())
-               && Utils.equalsOrBothBlank(t1.getSrcLDInst(), t2.getSrcLDInst())
-               && srcLNClass1.equals(srcLNClass2)
-               && Utils.equalsOrBothBlank(t1.getSrcLNInst(), t2.getSrcLNInst())
-               && Utils.equalsOrBothBlank(t1.getSrcPrefix(), t2.getSrcPrefix())
-               && Utils.equalsOrBothBlank(t1.getSrcCBName(), t2.getSrcCBName())
-               && Objects.equals(t1.getServiceType(), t2.getServiceType());
+        return SourceControlBlockKey.from(t1).equals(SourceControlBlockKey.from(t2));
     }
 
     /**
@@ -86,12 +78,64 @@ public class ExtRefService {
      * @return list ExtRefs without duplication
      */
     public List<TExtRef> filterDuplicatedExtRefs(List<TExtRef> tExtRefs) {
-        List<TExtRef> filteredList = new ArrayList<>();
-        tExtRefs.forEach(tExtRef -> {
-            if (filteredList.stream().noneMatch(t -> isExtRefFeedBySameControlBlock(tExtRef, t)))
-                filteredList.add(tExtRef);
-        });
-        return filteredList;
+        Set<SourceControlBlockKey> sourceControlBlockKeys = HashSet.newHashSet(tExtRefs.size());
+        return tExtRefs.stream()
+                .filter(tExtRef -> sourceControlBlockKeys.add(SourceControlBlockKey.from(tExtRef)))
+                .toList();
+    }
+
+    /**
+     * Control Block feeding an ExtRef, as compared by {@link #isExtRefFeedBySameControlBlock(TExtRef, TExtRef)} :
+     * blank values are all equal, a missing srcLDInst is the ldInst of the ExtRef, as defined by the SCL schema, and a
+     * missing srcLNClass is LLN0.
+     * This is the key of source Control Blocks wherever they are grouped or counted, such as the FCDA count of
+     * {@link org.lfenergy.compas.sct.commons.scl.ied.AccessPointAdapter#checkLimitationForBoundIedFcdas(List, java.util.Map)}.
+     *
+     * @param iedName     source IED name
+     * @param srcLDInst   source LDevice inst : srcLDInst, or ldInst when srcLDInst is missing
+     * @param srcLNClass  source LN class
+     * @param srcLNInst   source LN inst
+     * @param srcPrefix   source LN prefix
+     * @param srcCBName   source Control Block name
+     * @param serviceType service type of the Control Block
+     */
+    public record SourceControlBlockKey(String iedName, String srcLDInst, String srcLNClass, String srcLNInst,
+                                        String srcPrefix, String srcCBName, TServiceType serviceType) {
+
+        /**
+         * Builds key of the Control Block feeding an ExtRef
+         *
+         * @param tExtRef ExtRef fed by the Control Block
+         * @return normalized key of the Control Block
+         */
+        public static SourceControlBlockKey from(TExtRef tExtRef) {
+            String srcLDInst = StringUtils.isBlank(tExtRef.getSrcLDInst()) ? tExtRef.getLdInst() : tExtRef.getSrcLDInst();
+            return of(tExtRef.getIedName(), srcLDInst, tExtRef.isSetSrcLNClass() ? tExtRef.getSrcLNClass().getFirst() : null,
+                    tExtRef.getSrcLNInst(), tExtRef.getSrcPrefix(), tExtRef.getSrcCBName(), tExtRef.getServiceType());
+        }
+
+        /**
+         * Builds key of a Control Block, normalized like {@link #from(TExtRef)} does
+         *
+         * @param iedName     IED name of the Control Block
+         * @param ldInst      LDevice inst of the Control Block
+         * @param lnClass     class of the LN holding the Control Block, LLN0 when blank
+         * @param lnInst      inst of the LN holding the Control Block
+         * @param prefix      prefix of the LN holding the Control Block
+         * @param cbName      name of the Control Block
+         * @param serviceType service type of the Control Block
+         * @return normalized key of the Control Block
+         */
+        public static SourceControlBlockKey of(String iedName, String ldInst, String lnClass, String lnInst, String prefix,
+                                               String cbName, TServiceType serviceType) {
+            return new SourceControlBlockKey(blankToNull(iedName), blankToNull(ldInst),
+                    StringUtils.isBlank(lnClass) ? TLLN0Enum.LLN_0.value() : lnClass,
+                    blankToNull(lnInst), blankToNull(prefix), blankToNull(cbName), serviceType);
+        }
+
+        private static String blankToNull(String value) {
+            return StringUtils.isBlank(value) ? null : value;
+        }
     }
 
 }
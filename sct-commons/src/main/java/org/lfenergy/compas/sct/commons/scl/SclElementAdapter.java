@@ -7,6 +7,7 @@ package org.lfenergy.compas.sct.commons.scl;
 import lombok.Getter;
 import org.lfenergy.compas.scl2007b4.model.TBaseElement;
 import org.lfenergy.compas.scl2007b4.model.TPrivate;
+import org.lfenergy.compas.sct.commons.dto.ReportLocation;
 import org.lfenergy.compas.sct.commons.dto.SclReportItem;
 
 /**
@@ -25,6 +26,7 @@ import org.lfenergy.compas.sct.commons.dto.SclReportItem;
  *    <ul>
  *      <li>{@link SclElementAdapter#addPrivate <em>Add <b>TPrivate </b>under object</em>}</li>
  *      <li>{@link SclElementAdapter#getXPath() <em>Returns <b>XPath </b></em>}</li>
+ *      <li>{@link SclElementAdapter#getReportLocation() <em>Returns <b>ReportLocation </b></em>}</li>
  *    </ul>
  *   <li>Checklist functions</li>
  *    <ul>
@@ -117,12 +119,32 @@ public abstract class SclElementAdapter<P extends SclElementAdapter, T> {
         return parentXpath + "/" + elementXPath();
     }
 
+    /**
+     * Gets location of current element, for reports : XPath is only rendered when asked for
+     * @return location of current element
+     */
+    public ReportLocation getReportLocation(){
+        ReportLocation parentLocation = (parentAdapter != null) ? parentAdapter.getReportLocation() : ReportLocation.ROOT;
+        return reportLocation(parentLocation);
+    }
+
+    /**
+     * Gets location of current element from location of parent element.
+     * By default, the step is the one given by {@link SclElementAdapter#elementXPath()} : adapters of elements
+     * identified by attributes override it to capture attribute values without formatting them.
+     * @param parentLocation location of parent element
+     * @return location of current element
+     */
+    protected ReportLocation reportLocation(ReportLocation parentLocation){
+        return parentLocation.child(elementXPath());
+    }
+
     /**
      * builds message with message content and currentElement xpath
       * @param message message
      * @return error description with message and current element xpath
      */
     public SclReportItem buildFatalReportItem(String message){
-        return SclReportItem.error(getXPath(), message);
+        return SclReportItem.error(getReportLocation(), message);
     }
 }
@@ -0,0 +1,298 @@
+// SPDX-FileCopyrightText: 2025 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.scl;
+
+import org.apache.commons.lang3.StringUtils;
+import org.lfenergy.compas.scl2007b4.model.*;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.WeakHashMap;
+
+/**
+ * Key based index of an {@link SCL SCL} content.
+ * <p>
+ * Gives constant time access to the following elements :
+ * </p>
+ * <ul>
+ *   <li>{@link SclIndex#findIed(String) <em>IED by <b>name</b></em>}</li>
+ *   <li>{@link SclIndex#findLDevice(TIED, String) <em>LDevice by <b>inst</b></em>}</li>
+ *   <li>{@link SclIndex#findLn(TLDevice, String, String, String) <em>LN by <b>lnClass</b>, <b>inst</b> and <b>prefix</b></em>}</li>
+ *   <li>{@link SclIndex#findLNodeType(String) <em>LNodeType</em>}, {@link SclIndex#findDOType(String) <em>DOType</em>},
+ *   {@link SclIndex#findDAType(String) <em>DAType</em>} and {@link SclIndex#findEnumType(String) <em>EnumType</em>} by <b>id</b></li>
+ * </ul>
+ * <p>
+ * Indexes are built lazily, once per indexed element (SCL, Server, LDevice, DataTypeTemplates), and are shared by every
+ * {@link SclIndex} and {@link SclRootAdapter} created on the same SCL. They are held weakly, so they do not outlive the
+ * indexed elements.
+ * Indexes rebuild themselves when an element is added to or removed from the indexed list, and renamed elements are
+ * not found under their old key anymore. Looking up a key which is not in the SCL costs a map lookup, like finding an
+ * element. Code renaming an element to a new key, or replacing an element by another one, must call one of the
+ * invalidate methods (see {@link ElementIndex}).
+ * </p>
+ * <p>
+ * When several elements share the same key, the first one in document order is returned.
+ * </p>
+ */
+public final class SclIndex {
+
+    private static final Map<SCL, ElementIndex<String, TIED>> IED_INDEXES = Collections.synchronizedMap(new WeakHashMap<>());
+    private static final Map<TServer, ElementIndex<String, TLDevice>> LDEVICE_INDEXES = Collections.synchronizedMap(new WeakHashMap<>());
+    private static final Map<TLDevice, ElementIndex<LnKey, TLN>> LN_INDEXES = Collections.synchronizedMap(new WeakHashMap<>());
+    private static final Map<TDataTypeTemplates, DataTypeTemplatesIndex> DTT_INDEXES = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final SCL scl;
+
+    private SclIndex(SCL scl) {
+        this.scl = scl;
+    }
+
+    /**
+     * Gets index of given SCL
+     *
+     * @param scl SCL to index
+     * @return index of the SCL
+     */
+    public static SclIndex of(SCL scl) {
+        if (scl == null) {
+            throw new IllegalArgumentException("SCL to index must be defined");
+        }
+        return new SclIndex(scl);
+    }
+
+    /**
+     * Find an IED by name
+     *
+     * @param iedName name of the IED
+     * @return first IED with given name, or empty Optional when there is none
+     */
+    public Optional<TIED> findIed(String iedName) {
+        if (!scl.isSetIED()) {
+            return Optional.empty();
+        }
+        return IED_INDEXES.computeIfAbsent(scl, k -> new ElementIndex<>(TIED::getName))
+                .find(scl.getIED(), iedName);
+    }
+
+    /**
+     * Find a LDevice by IED name and LDevice inst
+     *
+     * @param iedName name of the IED
+     * @param ldInst  inst of the LDevice
+     * @return first LDevice with given inst in first IED with given name, or empty Optional when there is none
+     */
+    public Optional<TLDevice> findLDevice(String iedName, String ldInst) {
+        return findIed(iedName).flatMap(tied -> findLDevice(tied, ldInst));
+    }
+
+    /**
+     * Find a LNodeType of the SCL DataTypeTemplates by id
+     *
+     * @param id id of the LNodeType
+     * @return first LNodeType with given id, or empty Optional when there is none
+     */
+    public Optional<TLNodeType> findLNodeType(String id) {
+        return Optional.ofNullable(scl.getDataTypeTemplates()).flatMap(dtt -> findLNodeType(dtt, id));
+    }
+
+    /**
+     * Find a DOType of the SCL DataTypeTemplates by id
+     *
+     * @param id id of the DOType
+     * @return first DOType with given id, or empty Optional when there is none
+     */
+    public Optional<TDOType> findDOType(String id) {
+        return Optional.ofNullable(scl.getDataTypeTemplates()).flatMap(dtt -> findDOType(dtt, id));
+    }
+
+    /**
+     * Find a DAType of the SCL DataTypeTemplates by id
+     *
+     * @param id id of the DAType
+     * @return first DAType with given id, or empty Optional when there is none
+     */
+    public Optional<TDAType> findDAType(String id) {
+        return Optional.ofNullable(scl.getDataTypeTemplates()).flatMap(dtt -> findDAType(dtt, id));
+    }
+
+    /**
+     * Find an EnumType of the SCL DataTypeTemplates by id
+     *
+     * @param id id of the EnumType
+     * @return first EnumType with given id, or empty Optional when there is none
+     */
+    public Optional<TEnumType> findEnumType(String id) {
+        return Optional.ofNullable(scl.getDataTypeTemplates()).flatMap(dtt -> findEnumType(dtt, id));
+    }
+
+    /**
+     * Forces the rebuild of the IED index of the SCL
+     */
+    public void invalidateIeds() {
+        Optional.ofNullable(IED_INDEXES.get(scl)).ifPresent(ElementIndex::invalidate);
+    }
+
+    /**
+     * Forces the rebuild of the DataTypeTemplates indexes of the SCL
+     */
+    public void invalidateDataTypeTemplates() {
+        Optional.ofNullable(scl.getDataTypeTemplates()).ifPresent(SclIndex::invalidate);
+    }
+
+    /**
+     * Find a LDevice of an IED by inst
+     *
+     * @param tied   IED containing the LDevice
+     * @param ldInst inst of the LDevice
+     * @return first LDevice with given inst, or empty Optional when there is none
+     */
+    public static Optional<TLDevice> findLDevice(TIED tied, String ldInst) {
+        if (ldInst == null || !tied.isSetAccessPoint()) {
+            return Optional.empty();
+        }
+        for (TAccessPoint tAccessPoint : tied.getAccessPoint()) {
+            TServer tServer = tAccessPoint.getServer();
+            if (tServer != null && tServer.isSetLDevice()) {
+                Optional<TLDevice> tlDevice = LDEVICE_INDEXES.computeIfAbsent(tServer, k -> new ElementIndex<>(TLDevice::getInst))
+                        .find(tServer.getLDevice(), ldInst);
+                if (tlDevice.isPresent()) {
+                    return tlDevice;
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Find a LN (not LN0) of a LDevice.
+     * lnClass and prefix are compared like {@link org.lfenergy.compas.sct.commons.util.Utils#lnClassEquals(List, String)}
+     * and {@link org.lfenergy.compas.sct.commons.util.Utils#equalsOrBothBlank(String, String)} do : blank values are equals.
+     *
+     * @param tlDevice LDevice containing the LN
+     * @param lnClass  lnClass of the LN
+     * @param lnInst   inst of the LN
+     * @param prefix   prefix of the LN
+     * @return first LN matching, or empty Optional when there is none
+     */
+    public static Optional<TLN> findLn(TLDevice tlDevice, String lnClass, String lnInst, String prefix) {
+        if (!tlDevice.isSetLN()) {
+            return Optional.empty();
+        }
+        return LN_INDEXES.computeIfAbsent(tlDevice, k -> new ElementIndex<>(LnKey::from))
+                .find(tlDevice.getLN(), LnKey.of(lnClass, lnInst, prefix));
+    }
+
+    /**
+     * Find a LNodeType by id
+     *
+     * @param dtt DataTypeTemplates containing the LNodeType
+     * @param id  id of the LNodeType
+     * @return first LNodeType with given id, or empty Optional when there is none
+     */
+    public static Optional<TLNodeType> findLNodeType(TDataTypeTemplates dtt, String id) {
+        return dttIndex(dtt).lNodeTypes().find(dtt.getLNodeType(), id);
+    }
+
+    /**
+     * Find a DOType by id
+     *
+     * @param dtt DataTypeTemplates containing the DOType
+     * @param id  id of the DOType
+     * @return first DOType with given id, or empty Optional when there is none
+     */
+    public static Optional<TDOType> findDOType(TDataTypeTemplates dtt, String id) {
+        return dttIndex(dtt).doTypes().find(dtt.getDOType(), id);
+    }
+
+    /**
+     * Find a DAType by id
+     *
+     * @param dtt DataTypeTemplates containing the DAType
+     * @param id  id of the DAType
+     * @return first DAType with given id, or empty Optional when there is none
+     */
+    public static Optional<TDAType> findDAType(TDataTypeTemplates dtt, String id) {
+        return dttIndex(dtt).daTypes().find(dtt.getDAType(), id);
+    }
+
+    /**
+     * Find an EnumType by id
+     *
+     * @param dtt DataTypeTemplates containing the EnumType
+     * @param id  id of the EnumType
+     * @return first EnumType with given id, or empty Optional when there is none
+     */
+    public static Optional<TEnumType> findEnumType(TDataTypeTemplates dtt, String id) {
+        return dttIndex(dtt).enumTypes().find(dtt.getEnumType(), id);
+    }
+
+    /**
+     * Forces the rebuild of the LDevice index of an IED
+     *
+     * @param tied IED whose LDevices have changed
+     */
+    public static void invalidate(TIED tied) {
+        tied.getAccessPoint().stream()
+                .map(TAccessPoint::getServer)
+                .filter(Objects::nonNull)
+                .map(LDEVICE_INDEXES::get)
+                .filter(Objects::nonNull)
+                .forEach(ElementIndex::invalidate);
+    }
+
+    /**
+     * Forces the rebuild of the LN index of a LDevice
+     *
+     * @param tlDevice LDevice whose LNs have changed
+     */
+    public static void invalidate(TLDevice tlDevice) {
+        Optional.ofNullable(LN_INDEXES.get(tlDevice)).ifPresent(ElementIndex::invalidate);
+    }
+
+    /**
+     * Forces the rebuild of the indexes of a DataTypeTemplates
+     *
+     * @param dtt DataTypeTemplates whose types have changed
+     */
+    public static void invalidate(TDataTypeTemplates dtt) {
+        Optional.ofNullable(DTT_INDEXES.get(dtt)).ifPresent(DataTypeTemplatesIndex::invalidate);
+    }
+
+    private static DataTypeTemplatesIndex dttIndex(TDataTypeTemplates dtt) {
+        return DTT_INDEXES.computeIfAbsent(dtt, k -> new DataTypeTemplatesIndex(
+                new ElementIndex<>(TLNodeType::getId),
+                new ElementIndex<>(TDOType::getId),
+                new ElementIndex<>(TDAType::getId),
+                new ElementIndex<>(TEnumType::getId)));
+    }
+
+    private record DataTypeTemplatesIndex(ElementIndex<String, TLNodeType> lNodeTypes, ElementIndex<String, TDOType> doTypes,
+                                          ElementIndex<String, TDAType> daTypes, ElementIndex<String, TEnumType> enumTypes) {
+        void invalidate() {
+            lNodeTypes.invalidate();
+            doTypes.invalidate();
+            daTypes.invalidate();
+            enumTypes.invalidate();
+        }
+    }
+
+    /**
+     * Normalized LN key : blank lnClass and blank prefix are considered equals
+     */
+    private record LnKey(String lnClass, String lnInst, String prefix) {
+
+        static LnKey of(String lnClass, String lnInst, String prefix) {
+            return new LnKey(StringUtils.isBlank(lnClass) ? "" : lnClass, lnInst, StringUtils.isBlank(prefix) ? "" : prefix);
+        }
+
+        static LnKey from(TLN tln) {
+            String lnClass = tln.isSetLnClass() ? tln.getLnClass().getFirst() : null;
+            return of(lnClass, tln.getInst(), tln.getPrefix());
+        }
+    }
+}
@@ -18,7 +18,6 @@ import org.lfenergy.compas.sct.commons.scl.header.HeaderAdapter;
 import org.lfenergy.compas.sct.commons.scl.ied.IEDAdapter;
 import org.lfenergy.compas.sct.commons.scl.sstation.SubstationAdapter;
 
-import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Stream;
 
@@ -37,6 +36,7 @@ import java.util.stream.Stream;
  *      <li>{@link SclRootAdapter#streamIEDAdapters() <em>Returns the value of the <b>IEDAdapter </b> containment reference list</em>}</li>
  *      <li>{@link SclRootAdapter#getIEDAdapterByName(String) <em>Returns the value of the <b>IEDAdapter </b> reference object By name</em>}</li>
  *      <li>{@link SclRootAdapter#getDataTypeTemplateAdapter() <em>Returns the value of the <b>DataTypeTemplateAdapter </b> containment reference list</em>}</li>
+ *      <li>{@link SclRootAdapter#getSclIndex() <em>Returns the <b>SclIndex </b> of this object</em>}</li>
  *    </ul>
  *   <li>Principal functions</li>
  *    <ul>
@@ -245,12 +245,18 @@ public class SclRootAdapter extends SclElementAdapter<SclRootAdapter, SCL> {
      * @return <em>Optional<IEDAdapter></em> of the first IED with a matching name
      */
     public Optional<IEDAdapter> findIedAdapterByName(String iedName) throws ScdException {
-        return currentElem.getIED().stream()
-            .filter(ied -> Objects.equals(ied.getName(), iedName))
-            .findFirst()
+        return getSclIndex().findIed(iedName)
             .map(ied -> new IEDAdapter(this, ied));
     }
 
+    /**
+     * Gets index of current SCL, giving constant time access to its IEDs, LDevices, LNs and DataTypeTemplates by key
+     * @return <em>SclIndex</em> of current SCL
+     */
+    public SclIndex getSclIndex() {
+        return SclIndex.of(currentElem);
+    }
+
     /**
      * Gets Communication from SCL
      * @param createIfNotExists true create Communication node if not exist, false do not create communication
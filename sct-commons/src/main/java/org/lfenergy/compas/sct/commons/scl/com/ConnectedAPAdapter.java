@@ -5,11 +5,11 @@
 package org.lfenergy.compas.sct.commons.scl.com;
 
 import org.lfenergy.compas.scl2007b4.model.*;
+import org.lfenergy.compas.sct.commons.scl.CommunicationIndex;
 import org.lfenergy.compas.sct.commons.scl.SclElementAdapter;
 import org.lfenergy.compas.sct.commons.util.Utils;
 
 import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
 
 import static org.lfenergy.compas.sct.commons.util.SclConstructorHelper.newAddress;
@@ -90,22 +90,6 @@ public class ConnectedAPAdapter extends SclElementAdapter<SubNetworkAdapter, TCo
         }
     }
 
-    private Optional<TGSE> findGse(String ldInst, String cbName){
-        if (!currentElem.isSetGSE()){
-            return Optional.empty();
-        }
-        return currentElem.getGSE().stream().filter(gse -> Objects.equals(ldInst, gse.getLdInst()) && Objects.equals(cbName, gse.getCbName()))
-            .findFirst();
-    }
-
-    private Optional<TSMV> findSmv(String ldInst, String cbName){
-        if (!currentElem.isSetSMV()){
-            return Optional.empty();
-        }
-        return currentElem.getSMV().stream().filter(smv -> Objects.equals(ldInst, smv.getLdInst()) && Objects.equals(cbName, smv.getCbName()))
-            .findFirst();
-    }
-
     /**
      * Create A GSE Section or update an existing GSE Section (the network configuration of a GSEControl block).
      *
@@ -116,15 +100,7 @@ public class ConnectedAPAdapter extends SclElementAdapter<SubNetworkAdapter, TCo
      * @param maxTime maxTime
      */
     public void updateGseOrCreateIfNotExists(String ldInst, String cbName, List<TP> listOfP, TDurationInMilliSec minTime, TDurationInMilliSec maxTime) {
-        TGSE gse = findGse(ldInst, cbName)
-            .orElseGet(() -> {
-                TGSE newGse = new TGSE();
-                newGse.setLdInst(ldInst);
-                newGse.setCbName(cbName);
-                currentElem.getGSE().add(newGse);
-                return newGse;
-            }
-        );
+        TGSE gse = CommunicationIndex.findOrCreateGse(currentElem, ldInst, cbName);
         gse.setAddress(newAddress(listOfP));
         gse.setMinTime(minTime);
         gse.setMaxTime(maxTime);
@@ -137,15 +113,7 @@ public class ConnectedAPAdapter extends SclElementAdapter<SubNetworkAdapter, TCo
      * @param listOfP list of P elements
      */
     public void updateSmvOrCreateIfNotExists(String ldInst, String cbName, List<TP> listOfP) {
-        TSMV smv = findSmv(ldInst, cbName)
-            .orElseGet(() -> {
-                TSMV newSmv = new TSMV();
-                newSmv.setLdInst(ldInst);
-                newSmv.setCbName(cbName);
-                currentElem.getSMV().add(newSmv);
-                return newSmv;
-            }
-        );
+        TSMV smv = CommunicationIndex.findOrCreateSmv(currentElem, ldInst, cbName);
         smv.setAddress(newAddress(listOfP));
     }
 
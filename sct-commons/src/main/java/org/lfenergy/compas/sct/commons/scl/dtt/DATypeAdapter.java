@@ -253,9 +253,19 @@ public class DATypeAdapter extends AbstractDataTypeAdapter<TDAType>{
      * @throws ScdException throws when DaTypeName structured names is not well-ordered
      */
     public void check(DaTypeName daTypeName) throws ScdException {
+        if(daTypeName.getStructNames().isEmpty())  return;
+        getTailBdaAdapter(daTypeName).check(daTypeName);
+    }
+
+    /**
+     * Gets the last BDA of DaTypeName, checking that BDA names are well-ordered in this DATypeAdapter
+     * @param daTypeName string containing all BDA/DA names to check, with at least one BDA name
+     * @return BDAAdapter of the last BDA, which is not a STRUCT
+     * @throws ScdException throws when DaTypeName structured names is not well-ordered
+     */
+    public BDAAdapter getTailBdaAdapter(DaTypeName daTypeName) throws ScdException {
         int sz= daTypeName.getStructNames().size();
         String strBDAs = StringUtils.join(daTypeName.getStructNames());
-        if(sz == 0)  return;
         DATypeAdapter daTypeAdapter = this;
         for (int i = 0; i < sz - 1; ++i) {
             String bdaName = daTypeName.getStructNames().get(i);
@@ -272,7 +282,7 @@ public class DATypeAdapter extends AbstractDataTypeAdapter<TDAType>{
                     String.format("Last BDA(%s) in '%s' cannot be of type STRUCT", lastBda, strBDAs)
             );
         }
-        bdaAdapter.check(daTypeName);
+        return bdaAdapter;
     }
 
     /**
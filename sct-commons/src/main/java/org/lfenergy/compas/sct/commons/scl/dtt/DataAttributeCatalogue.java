@@ -0,0 +1,132 @@
+// SPDX-FileCopyrightText: 2025 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.scl.dtt;
+
+import org.lfenergy.compas.scl2007b4.model.TDataTypeTemplates;
+import org.lfenergy.compas.scl2007b4.model.TLNodeType;
+
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Catalogue of the data attributes of the LNodeTypes of a DataTypeTemplates.
+ * <p>
+ * Flattening the DO, SDO, DA and BDA tree of a LNodeType is expensive, and the same LNodeType is shared by many LN.
+ * The catalogue keeps, for each LNodeType, the flattened data attributes of each of its DO, computed once on first
+ * use. The same LNodeType can be flattened in several representations (for example DoLinkedToDa and DataAttributeRef),
+ * each one identified by a {@link Kind}.
+ * </p>
+ * <p>
+ * Cached lists are immutable, but their elements are not : they must be copied before being given to callers which
+ * could modify them. The catalogue of a DataTypeTemplates is kept as long as the DataTypeTemplates. Code modifying the
+ * content of a type already in a DataTypeTemplates must call {@link #invalidate(TDataTypeTemplates)}.
+ * </p>
+ * Hits and misses of all catalogues are counted, see {@link #statistics()}.
+ */
+public final class DataAttributeCatalogue {
+
+    private static final Map<TDataTypeTemplates, DataAttributeCatalogue> CATALOGUES = Collections.synchronizedMap(new WeakHashMap<>());
+    private static final LongAdder HIT_COUNT = new LongAdder();
+    private static final LongAdder MISS_COUNT = new LongAdder();
+
+    private final Map<Kind<?>, Map<TLNodeType, List<?>>> entriesByKind = new HashMap<>();
+
+    private DataAttributeCatalogue() {
+    }
+
+    /**
+     * Representation of the flattened data attributes
+     *
+     * @param name name of the representation, for debugging purpose
+     * @param <T>  type of a flattened data attribute
+     */
+    public record Kind<T>(String name) {
+    }
+
+    /**
+     * Flattened data attributes of a DO of a LNodeType
+     *
+     * @param doName        name of the DO
+     * @param doTypeMissing true when the DOType of the DO is not in the DataTypeTemplates
+     * @param attributes    data attributes of the DO, its SDOs, DAs and BDAs, in document order
+     * @param <T>           type of a flattened data attribute
+     */
+    public record DoAttributes<T>(String doName, boolean doTypeMissing, List<T> attributes) {
+        public DoAttributes {
+            attributes = List.copyOf(attributes);
+        }
+    }
+
+    /**
+     * Hits and misses of all catalogues since the start of the JVM or the last {@link #resetStatistics()}
+     *
+     * @param hitCount  number of lookups which found flattened data attributes
+     * @param missCount number of lookups which flattened a LNodeType
+     */
+    public record Statistics(long hitCount, long missCount) {
+    }
+
+    /**
+     * Gets the catalogue of a DataTypeTemplates
+     *
+     * @param dtt DataTypeTemplates
+     * @return catalogue shared by all users of the DataTypeTemplates
+     */
+    public static DataAttributeCatalogue of(TDataTypeTemplates dtt) {
+        return CATALOGUES.computeIfAbsent(dtt, k -> new DataAttributeCatalogue());
+    }
+
+    /**
+     * Forgets the flattened data attributes of all LNodeTypes of a DataTypeTemplates
+     *
+     * @param dtt DataTypeTemplates whose types have changed
+     */
+    public static void invalidate(TDataTypeTemplates dtt) {
+        CATALOGUES.remove(dtt);
+    }
+
+    /**
+     * @return hits and misses of all catalogues
+     */
+    public static Statistics statistics() {
+        return new Statistics(HIT_COUNT.sum(), MISS_COUNT.sum());
+    }
+
+    /**
+     * Sets hits and misses counts to zero
+     */
+    public static void resetStatistics() {
+        HIT_COUNT.reset();
+        MISS_COUNT.reset();
+    }
+
+    /**
+     * Gets the flattened data attributes of a LNodeType, flattening it on first call only
+     *
+     * @param kind       representation of the data attributes
+     * @param tlNodeType LNodeType of the DataTypeTemplates
+     * @param flattener  flattens the LNodeType, called on first call only
+     * @param <T>        type of a flattened data attribute
+     * @return flattened data attributes of each DO of the LNodeType, in document order
+     */
+    @SuppressWarnings("unchecked")
+    public <T> List<DoAttributes<T>> get(Kind<T> kind, TLNodeType tlNodeType, Function<TLNodeType, List<DoAttributes<T>>> flattener) {
+        List<DoAttributes<T>> entries;
+        synchronized (this) {
+            entries = (List<DoAttributes<T>>) entriesByKind.computeIfAbsent(kind, k -> new IdentityHashMap<>()).get(tlNodeType);
+        }
+        if (entries != null) {
+            HIT_COUNT.increment();
+            return entries;
+        }
+        MISS_COUNT.increment();
+        // flattened outside the lock : concurrent misses on the same LNodeType flatten it twice with the same result
+        List<DoAttributes<T>> flattenedEntries = List.copyOf(flattener.apply(tlNodeType));
+        synchronized (this) {
+            return (List<DoAttributes<T>>) entriesByKind.get(kind).computeIfAbsent(tlNodeType, k -> flattenedEntries);
+        }
+    }
+}
@@ -13,10 +13,13 @@ import org.lfenergy.compas.sct.commons.dto.ExtRefBindingInfo;
 import org.lfenergy.compas.sct.commons.dto.ExtRefSignalInfo;
 import org.lfenergy.compas.sct.commons.exception.ScdException;
 import org.lfenergy.compas.sct.commons.scl.SclElementAdapter;
+import org.lfenergy.compas.sct.commons.scl.SclIndex;
 import org.lfenergy.compas.sct.commons.scl.SclRootAdapter;
 
 import java.util.*;
+import java.util.function.BooleanSupplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 
 /**
@@ -102,13 +105,8 @@ public class DataTypeTemplateAdapter extends SclElementAdapter<SclRootAdapter, T
      * @return Optional LNodeTypeAdapter object
      */
     public Optional<LNodeTypeAdapter> getLNodeTypeAdapterById(String id) {
-        for(TLNodeType tlNodeType : currentElem.getLNodeType()){
-            if(tlNodeType.getId().equals(id)) {
-                return Optional.of(new LNodeTypeAdapter(this, tlNodeType));
-            }
-        }
-       return Optional.empty();
-
+        return SclIndex.findLNodeType(currentElem, id)
+                .map(tlNodeType -> new LNodeTypeAdapter(this, tlNodeType));
     }
 
     /**
@@ -129,12 +127,8 @@ public class DataTypeTemplateAdapter extends SclElementAdapter<SclRootAdapter, T
      * @return Optional DOTypeAdapter object
      */
     public Optional<DOTypeAdapter> getDOTypeAdapterById(String id)  {
-        for(TDOType tdoType : currentElem.getDOType()){
-            if(tdoType.getId().equals(id)) {
-                return Optional.of(new DOTypeAdapter(this, tdoType));
-            }
-        }
-        return Optional.empty();
+        return SclIndex.findDOType(currentElem, id)
+                .map(tdoType -> new DOTypeAdapter(this, tdoType));
     }
 
     /**
@@ -154,12 +148,8 @@ public class DataTypeTemplateAdapter extends SclElementAdapter<SclRootAdapter, T
      * @return Optional DATypeAdapter object
      */
     public Optional<DATypeAdapter> getDATypeAdapterById(String id) {
-        for(TDAType tdaType : currentElem.getDAType()){
-            if(tdaType.getId().equals(id)) {
-                return Optional.of(new DATypeAdapter(this,tdaType));
-            }
-        }
-        return Optional.empty();
+        return SclIndex.findDAType(currentElem, id)
+                .map(tdaType -> new DATypeAdapter(this, tdaType));
     }
 
     /**
@@ -179,12 +169,8 @@ public class DataTypeTemplateAdapter extends SclElementAdapter<SclRootAdapter, T
      * @return Optional EnumTypeAdapter object
      */
     public Optional<EnumTypeAdapter> getEnumTypeAdapterById(String id)  {
-        for(TEnumType tEnumType : currentElem.getEnumType()){
-            if(tEnumType.getId().equals(id)) {
-                return Optional.of(new EnumTypeAdapter(this, tEnumType));
-            }
-        }
-        return Optional.empty();
+        return SclIndex.findEnumType(currentElem, id)
+                .map(tEnumType -> new EnumTypeAdapter(this, tEnumType));
     }
 
     /**
@@ -215,7 +201,8 @@ public class DataTypeTemplateAdapter extends SclElementAdapter<SclRootAdapter, T
             String newEnumId = prvEnumType.getId();
             Optional<EnumTypeAdapter> opRcvEnumTypeAdapter = this.getEnumTypeAdapterById(oldEnumId);
 
-            boolean isImportable = opRcvEnumTypeAdapter.isEmpty() || !opRcvEnumTypeAdapter.get().hasSameContentAs(prvEnumType);
+            boolean isImportable = opRcvEnumTypeAdapter.isEmpty()
+                    || !hasSameContent(opRcvEnumTypeAdapter.get().getCurrentElem(), prvEnumType, () -> opRcvEnumTypeAdapter.get().hasSameContentAs(prvEnumType));
 
             if(isImportable && opRcvEnumTypeAdapter.isPresent()){
                 // same ID, different content
@@ -233,26 +220,8 @@ public class DataTypeTemplateAdapter extends SclElementAdapter<SclRootAdapter, T
             }
         }
 
-        // escalate on this DTT and update all element linked to added EnumType
-        pairOldAndNewEnumId.forEach((oldId, newId) -> {
-            List<DATypeAdapter> daTypeAdapters = prvDttAdapter.findDATypesWhichBdaContainsEnumTypeId(oldId);
-            List<TBDA> bdas = daTypeAdapters.stream()
-                    .map(DATypeAdapter::getBdaAdapters)
-                    .flatMap(Collection::stream)
-                    .map(DATypeAdapter.BDAAdapter::getCurrentElem)
-                    .filter(bda -> TPredefinedBasicTypeEnum.ENUM == bda.getBType()
-                            && Objects.equals(bda.getType(),oldId))
-                    .collect(Collectors.toList());
-            bdas.forEach(tbda -> tbda.setType(newId));
-            List<DOTypeAdapter> doTypeAdapters = prvDttAdapter.findDOTypesWhichDAContainsEnumTypeId(oldId);
-            List<TDA> tdas = doTypeAdapters.stream()
-                    .map(doTypeAdapter -> retrieveSdoOrDA(doTypeAdapter.getCurrentElem().getSDOOrDA(), TDA.class))
-                    .flatMap(Collection::stream)
-                    .filter(tda -> TPredefinedBasicTypeEnum.ENUM == tda.getBType()
-                            && Objects.equals(tda.getType(),oldId))
-                    .collect(Collectors.toList());
-            tdas.forEach(tda -> tda.setType(newId));
-        });
+        // escalate on provider DTT and update all element linked to added EnumType, in a single pass
+        renameAttributeTypes(prvDttAdapter.getCurrentElem(), TPredefinedBasicTypeEnum.ENUM, pairOldAndNewEnumId);
     }
 
     /**
@@ -269,7 +238,11 @@ public class DataTypeTemplateAdapter extends SclElementAdapter<SclRootAdapter, T
 
         this.importDOType(thisIEDName,rcvDttAdapter);
 
-        return importLNodeType(thisIEDName,rcvDttAdapter);
+        Map<String, String> pairOldNewId = importLNodeType(thisIEDName,rcvDttAdapter);
+        // provider types have been renamed in place
+        SclIndex.invalidate(rcvDttAdapter.getCurrentElem());
+        DataAttributeCatalogue.invalidate(rcvDttAdapter.getCurrentElem());
+        return pairOldNewId;
     }
 
     /**
@@ -288,10 +261,8 @@ public class DataTypeTemplateAdapter extends SclElementAdapter<SclRootAdapter, T
             String newId = prvLNodeType.getId();
             Optional<LNodeTypeAdapter> opRcvLNodeTypeAdapter = this.getLNodeTypeAdapterById(oldId);
 
-            boolean isImportable = false;
-            if(!opRcvLNodeTypeAdapter.isPresent() || !opRcvLNodeTypeAdapter.get().hasSameContentAs(prvLNodeType)) {
-                isImportable = true;
-            }
+            boolean isImportable = opRcvLNodeTypeAdapter.isEmpty()
+                    || !hasSameContent(opRcvLNodeTypeAdapter.get().getCurrentElem(), prvLNodeType, () -> opRcvLNodeTypeAdapter.get().hasSameContentAs(prvLNodeType));
 
             if(isImportable && opRcvLNodeTypeAdapter.isPresent()){
                 // same ID, different content
@@ -327,10 +298,8 @@ public class DataTypeTemplateAdapter extends SclElementAdapter<SclRootAdapter, T
             String newId = prvDOType.getId();
             Optional<DOTypeAdapter> opRcvDOTypeAdapter = this.getDOTypeAdapterById(oldId);
 
-            boolean isImportable = false;
-            if(!opRcvDOTypeAdapter.isPresent() || !opRcvDOTypeAdapter.get().hasSameContentAs(prvDOType)) {
-                isImportable = true;
-            }
+            boolean isImportable = opRcvDOTypeAdapter.isEmpty()
+                    || !hasSameContent(opRcvDOTypeAdapter.get().getCurrentElem(), prvDOType, () -> opRcvDOTypeAdapter.get().hasSameContentAs(prvDOType));
 
             if(isImportable && opRcvDOTypeAdapter.isPresent()){
                 // same ID, different content
@@ -348,23 +317,17 @@ public class DataTypeTemplateAdapter extends SclElementAdapter<SclRootAdapter, T
             }
         }
 
-        // escalate on provider DTT
-        pairOldAndNewDOTyYpeId.forEach((oldId, newId) -> {
-            List<DOTypeAdapter> doTypeAdapters = prvDttAdapter.findDOTypesFromSDOWithDOTypeId(oldId);
-            var tsdos = doTypeAdapters.stream()
-                    .map(doTypeAdapter -> retrieveSdoOrDA(doTypeAdapter.getCurrentElem().getSDOOrDA(),TSDO.class) )
-                    .flatMap(Collection::stream)
-                    .filter(bda ->  Objects.equals(bda.getType(),oldId))
-                    .collect(Collectors.toList());
-            tsdos.forEach(tbda -> tbda.setType(newId));
-            List<LNodeTypeAdapter> lNodeTypeAdapters = prvDttAdapter.findLNodeTypesFromDoWithDoTypeId(oldId);
-            var tdos = lNodeTypeAdapters.stream()
-                    .map(lNodeTypeAdapter ->  lNodeTypeAdapter.getCurrentElem().getDO())
-                    .flatMap(Collection::stream)
-                    .filter(tda -> Objects.equals(tda.getType(),oldId))
-                    .collect(Collectors.toList());
-            tdos.forEach(tda -> tda.setType(newId));
-        });
+        // escalate on provider DTT, in a single pass
+        if (pairOldAndNewDOTyYpeId.isEmpty()) {
+            return;
+        }
+        TDataTypeTemplates prvDtt = prvDttAdapter.getCurrentElem();
+        prvDtt.getDOType().stream()
+                .flatMap(tdoType -> retrieveSdoOrDA(tdoType.getSDOOrDA(), TSDO.class).stream())
+                .forEach(tsdo -> Optional.ofNullable(pairOldAndNewDOTyYpeId.get(tsdo.getType())).ifPresent(tsdo::setType));
+        prvDtt.getLNodeType().stream()
+                .flatMap(tlNodeType -> tlNodeType.getDO().stream())
+                .forEach(tdo -> Optional.ofNullable(pairOldAndNewDOTyYpeId.get(tdo.getType())).ifPresent(tdo::setType));
     }
 
     /**
@@ -384,10 +347,8 @@ public class DataTypeTemplateAdapter extends SclElementAdapter<SclRootAdapter, T
             String newId = prvDAType.getId();
             Optional<DATypeAdapter> opRcvDATypeAdapter = this.getDATypeAdapterById(oldId);
 
-            boolean isImportable = false;
-            if(!opRcvDATypeAdapter.isPresent() || !opRcvDATypeAdapter.get().hasSameContentAs(prvDAType)) {
-                isImportable = true;
-            }
+            boolean isImportable = opRcvDATypeAdapter.isEmpty()
+                    || !hasSameContent(opRcvDATypeAdapter.get().getCurrentElem(), prvDAType, () -> opRcvDATypeAdapter.get().hasSameContentAs(prvDAType));
 
             if(isImportable && opRcvDATypeAdapter.isPresent()){
                 // same ID, different content
@@ -405,27 +366,38 @@ public class DataTypeTemplateAdapter extends SclElementAdapter<SclRootAdapter, T
             }
         }
 
-        // escalate on this DTT
-        pairOldAndNewEnumId.forEach((oldId, newId) -> {
-            List<DATypeAdapter> daTypeAdapters = prvDttAdapter.findDATypesFromStructBdaWithDATypeId(oldId);
-            var tbdas = daTypeAdapters.stream()
-                    .map(DATypeAdapter::getBdaAdapters)
-                    .flatMap(Collection::stream)
-                    .map(DATypeAdapter.BDAAdapter::getCurrentElem)
-                    .filter(bda -> TPredefinedBasicTypeEnum.STRUCT == bda.getBType()
-                            && Objects.equals(bda.getType(),oldId))
-                    .collect(Collectors.toList());
-            tbdas.forEach(tbda -> tbda.setType(newId));
-            List<DOTypeAdapter> doTypeAdapters = prvDttAdapter.findDOTypesWhichDAContainsStructWithDATypeId(oldId);
-            var tdas = doTypeAdapters.stream()
-                    .map(doTypeAdapter -> retrieveSdoOrDA(doTypeAdapter.getCurrentElem().getSDOOrDA(), TDA.class))
-                    .flatMap(Collection::stream)
-                    .filter(tda -> TPredefinedBasicTypeEnum.STRUCT == tda.getBType()
-                            && Objects.equals(tda.getType(),oldId))
-                    .collect(Collectors.toList());
-            tdas.forEach(tda -> tda.setType(newId));
-        });
+        // escalate on provider DTT, in a single pass
+        renameAttributeTypes(prvDttAdapter.getCurrentElem(), TPredefinedBasicTypeEnum.STRUCT, pairOldAndNewEnumId);
+    }
+
+    /**
+     * Checks if a received type has the same content as a provided type. Content fingerprints are compared first, so
+     * the full comparison only runs when fingerprints are equal.
+     * @param rcvType type of this DataTypeTemplate, whose fingerprint is cached
+     * @param prvType provided type
+     * @param fullComparison full comparison of the types content
+     * @return true if both types have the same content
+     */
+    private boolean hasSameContent(TIDNaming rcvType, TIDNaming prvType, BooleanSupplier fullComparison) {
+        return DataTypeTemplateFingerprints.of(currentElem).get(rcvType) == DataTypeTemplateFingerprints.compute(prvType)
+                && fullComparison.getAsBoolean();
+    }
 
+    /**
+     * Renames the type of the BDAs and DAs of given basic type referencing a renamed type
+     * @param dtt DataTypeTemplate to update
+     * @param bType basic type of the renamed type (Enum or Struct)
+     * @param pairOldAndNewId map of (old id, new id) of the renamed types
+     */
+    private static void renameAttributeTypes(TDataTypeTemplates dtt, TPredefinedBasicTypeEnum bType, Map<String, String> pairOldAndNewId) {
+        if (pairOldAndNewId.isEmpty()) {
+            return;
+        }
+        Stream.concat(
+                        dtt.getDAType().stream().flatMap(tdaType -> tdaType.getBDA().stream()),
+                        dtt.getDOType().stream().flatMap(tdoType -> retrieveSdoOrDA(tdoType.getSDOOrDA(), TDA.class).stream()))
+                .filter(attribute -> bType == attribute.getBType())
+                .forEach(attribute -> Optional.ofNullable(pairOldAndNewId.get(attribute.getType())).ifPresent(attribute::setType));
     }
 
     /**
@@ -0,0 +1,139 @@
+// SPDX-FileCopyrightText: 2025 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.scl.dtt;
+
+import org.lfenergy.compas.scl2007b4.model.*;
+
+import java.util.*;
+
+/**
+ * Content fingerprints of the types (LNodeType, DOType, DAType, EnumType) of a DataTypeTemplates.
+ * <p>
+ * A fingerprint is a hash of the content compared by the <em>hasSameContentAs</em> methods of the type adapters, without
+ * the id of the type itself : two types with the same content always have the same fingerprint, so two types with
+ * different fingerprints never have the same content. Types are compared with <em>hasSameContentAs</em> only when
+ * their fingerprints are equal.
+ * </p>
+ * <p>
+ * References to other types (DO@type, SDO@type, DA@type, BDA@type) are hashed by id, like <em>hasSameContentAs</em>
+ * compares them : the fingerprints of the referenced types are not part of the fingerprint. This is enough for
+ * {@link DataTypeTemplateAdapter#importDTT}, which imports EnumTypes, then DATypes, then DOTypes, then LNodeTypes, and
+ * renames the references of the next level to the ids of the types already in the SCD before comparing it.
+ * </p>
+ * <p>
+ * Fingerprints of the types of a DataTypeTemplates are computed lazily and kept as long as the DataTypeTemplates, so
+ * they are reused by every import into the same SCD. Code modifying the content of a type already in a DataTypeTemplates
+ * must call {@link #invalidate(TDataTypeTemplates)}.
+ * </p>
+ */
+public final class DataTypeTemplateFingerprints {
+
+    private static final Map<TDataTypeTemplates, DataTypeTemplateFingerprints> FINGERPRINTS = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final Map<TIDNaming, Integer> fingerprintByType = new IdentityHashMap<>();
+
+    private DataTypeTemplateFingerprints() {
+    }
+
+    /**
+     * Gets the fingerprints of the types of a DataTypeTemplates
+     *
+     * @param dtt DataTypeTemplates
+     * @return fingerprints shared by all users of the DataTypeTemplates
+     */
+    static DataTypeTemplateFingerprints of(TDataTypeTemplates dtt) {
+        return FINGERPRINTS.computeIfAbsent(dtt, k -> new DataTypeTemplateFingerprints());
+    }
+
+    /**
+     * Forces the computation of the fingerprints of all types of a DataTypeTemplates
+     *
+     * @param dtt DataTypeTemplates whose types have changed
+     */
+    public static void invalidate(TDataTypeTemplates dtt) {
+        FINGERPRINTS.remove(dtt);
+    }
+
+    /**
+     * Gets the fingerprint of a type of the DataTypeTemplates, computed on first call only
+     *
+     * @param type LNodeType, DOType, DAType or EnumType of the DataTypeTemplates
+     * @return fingerprint of the type
+     */
+    synchronized int get(TIDNaming type) {
+        return fingerprintByType.computeIfAbsent(type, DataTypeTemplateFingerprints::compute);
+    }
+
+    /**
+     * Computes the fingerprint of a type, without caching it
+     *
+     * @param type LNodeType, DOType, DAType or EnumType
+     * @return fingerprint of the type
+     */
+    static int compute(TIDNaming type) {
+        return switch (type) {
+            case TEnumType tEnumType -> compute(tEnumType);
+            case TDAType tdaType -> compute(tdaType);
+            case TDOType tdoType -> compute(tdoType);
+            case TLNodeType tlNodeType -> compute(tlNodeType);
+            default -> throw new IllegalArgumentException("Unsupported DataTypeTemplates type " + type.getClass().getName());
+        };
+    }
+
+    private static int compute(TEnumType tEnumType) {
+        // EnumVal order is not compared, and ord is unique in an EnumType
+        int enumValsHash = 0;
+        for (TEnumVal tEnumVal : tEnumType.getEnumVal()) {
+            enumValsHash += Objects.hash(tEnumVal.getValue(), tEnumVal.getOrd());
+        }
+        return Objects.hash(tEnumType.getPrivate().size(), tEnumType.getEnumVal().size(), enumValsHash);
+    }
+
+    private static int compute(TDAType tdaType) {
+        int hash = Objects.hash(tdaType.getPrivate().size(), tdaType.getBDA().size(), tdaType.getProtNs().size());
+        for (TBDA tbda : tdaType.getBDA()) {
+            hash = 31 * hash + attributeHash(tbda);
+        }
+        for (TProtNs tProtNs : tdaType.getProtNs()) {
+            hash = 31 * hash + Objects.hash(tProtNs.getValue(), tProtNs.getType());
+        }
+        return hash;
+    }
+
+    private static int compute(TDOType tdoType) {
+        int hash = Objects.hash(tdoType.getPrivate().size(), tdoType.getCdc(), tdoType.getIedType(), tdoType.getSDOOrDA().size());
+        for (TUnNaming sdoOrDa : tdoType.getSDOOrDA()) {
+            int elementHash = switch (sdoOrDa) {
+                case TSDO tsdo -> Objects.hash(TSDO.class, tsdo.getName(), tsdo.getType(), tsdo.getCount());
+                case TDA tda -> Objects.hash(TDA.class, attributeHash(tda));
+                default -> sdoOrDa.getClass().hashCode();
+            };
+            hash = 31 * hash + elementHash;
+        }
+        return hash;
+    }
+
+    private static int compute(TLNodeType tlNodeType) {
+        // lnClass is not compared by LNodeTypeAdapter#hasSameContentAs
+        int hash = Objects.hash(tlNodeType.getPrivate().size(), tlNodeType.getIedType(), tlNodeType.getDO().size());
+        for (TDO tdo : tlNodeType.getDO()) {
+            hash = 31 * hash + Objects.hash(tdo.getName(), tdo.getType(), tdo.isTransient(), tdo.getAccessControl());
+        }
+        return hash;
+    }
+
+    /**
+     * Val and ProtNs are not hashed : they are not compared symmetrically by
+     * {@link AbstractDataAttributeAdapter#hasSameContentAs}
+     */
+    private static int attributeHash(TAbstractDataAttribute attribute) {
+        int hash = Objects.hash(attribute.getName(), attribute.getBType(), attribute.getType(), attribute.getSAddr(),
+                attribute.getValKind(), attribute.isValImport(), attribute.isSetCount() ? attribute.getCount() : null);
+        if (attribute instanceof TDA tda) {
+            hash = 31 * hash + Objects.hash(tda.getFc(), tda.isDchg(), tda.isDupd(), tda.isQchg());
+        }
+        return hash;
+    }
+}
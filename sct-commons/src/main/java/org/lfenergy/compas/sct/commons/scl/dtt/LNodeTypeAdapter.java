@@ -55,6 +55,8 @@ public class LNodeTypeAdapter
         extends SclElementAdapter<DataTypeTemplateAdapter, TLNodeType>
         implements IDataTemplate, IDTTComparable<TLNodeType> {
 
+    private static final DataAttributeCatalogue.Kind<DataAttributeRef> DATA_ATTRIBUTE_REF = new DataAttributeCatalogue.Kind<>("DataAttributeRef");
+
     /**
      * Constructor
      *
@@ -176,24 +178,59 @@ public class LNodeTypeAdapter
             }
         }
 
-        return currentElem.getDO()
+        return DataAttributeCatalogue.of(parentAdapter.getCurrentElem()).get(DATA_ATTRIBUTE_REF, currentElem, this::flattenDataAttributeRefs)
                 .stream()
-                .filter(tdo -> !filter.isDoNameDefined() || filter.getDoName().getName().equals(tdo.getName()))
-                .flatMap(tdo -> {
-                    TDOType tdoType = parentAdapter.getCurrentElem().getDOType().stream().filter(tdoTypeLambda -> tdoTypeLambda.getId().equals(tdo.getType())).findFirst().orElseThrow();
-                    DataAttributeRef dataAttributeRef = new DataAttributeRef();
-                    dataAttributeRef.setPrefix(filter.getPrefix());
-                    dataAttributeRef.setLnClass(filter.getLnClass());
-                    dataAttributeRef.setLnInst(filter.getLnInst());
-                    dataAttributeRef.setLnType(currentElem.getId());
-                    dataAttributeRef.getDoName().setName(tdo.getName());
-                    dataAttributeRef.getDoName().setCdc(tdoType.getCdc());
-
-                    return new DOTypeAdapter(parentAdapter, tdoType).getDataAttributeRefs(dataAttributeRef, filter).stream();
+                .filter(doAttributes -> !filter.isDoNameDefined() || filter.getDoName().getName().equals(doAttributes.doName()))
+                .flatMap(doAttributes -> {
+                    if (doAttributes.doTypeMissing()) {
+                        throw new NoSuchElementException("No DOType found for DO " + doAttributes.doName());
+                    }
+                    return doAttributes.attributes().stream();
                 })
+                .filter(dataAttributeRef -> isSelectedByFilter(dataAttributeRef, filter))
+                .map(dataAttributeRef -> {
+                    DataAttributeRef result = DataAttributeRef.copyFrom(dataAttributeRef);
+                    result.setPrefix(filter.getPrefix());
+                    result.setLnClass(filter.getLnClass());
+                    result.setLnInst(filter.getLnInst());
+                    return result;
+                })
+                .toList();
+    }
+
+    /**
+     * Flattens all Data Attribute References of this LNodeType, without LN prefix, class and instance
+     */
+    private List<DataAttributeCatalogue.DoAttributes<DataAttributeRef>> flattenDataAttributeRefs(TLNodeType tlNodeType) {
+        return tlNodeType.getDO().stream()
+                .map(tdo -> parentAdapter.getCurrentElem().getDOType().stream()
+                        .filter(tdoType -> tdoType.getId().equals(tdo.getType()))
+                        .findFirst()
+                        .map(tdoType -> {
+                            DataAttributeRef dataAttributeRef = new DataAttributeRef();
+                            dataAttributeRef.setLnType(tlNodeType.getId());
+                            dataAttributeRef.getDoName().setName(tdo.getName());
+                            dataAttributeRef.getDoName().setCdc(tdoType.getCdc());
+                            return new DataAttributeCatalogue.DoAttributes<>(tdo.getName(), false,
+                                    new DOTypeAdapter(parentAdapter, tdoType).getDataAttributeRefs(dataAttributeRef, null));
+                        })
+                        .orElseGet(() -> new DataAttributeCatalogue.DoAttributes<>(tdo.getName(), true, List.of())))
                 .toList();
     }
 
+    /**
+     * Applies the same SDO, DA and BDA filter as DOTypeAdapter#getDataAttributeRefs and DATypeAdapter#getDataAttributeRefs
+     */
+    private static boolean isSelectedByFilter(DataAttributeRef dataAttributeRef, DataAttributeRef filter) {
+        List<String> filterSdoNames = filter.getSdoNames();
+        if (!filterSdoNames.isEmpty() && !filterSdoNames.containsAll(dataAttributeRef.getSdoNames())) {
+            return false;
+        }
+        return !filter.isDaNameDefined()
+                || filter.getDaName().getName().equals(dataAttributeRef.getDaName().getName())
+                && filter.getBdaNames().containsAll(dataAttributeRef.getBdaNames());
+    }
+
     /**
      * Return a list of summarized Data Attribute References beginning from given this LNodeType.
      * The key point in the algorithm is to find where the DO/SDO part ends and the DA/BDA part begins.
@@ -317,6 +354,22 @@ public class LNodeTypeAdapter
      *                      DataTypeTemplate (unknown reference for example). Which should normally not happens.
      */
     public void checkDoAndDaTypeName(@NonNull DoTypeName doTypeName, @NonNull DaTypeName daTypeName) throws ScdException {
+        getDataAttributeAdapter(doTypeName, daTypeName).check(daTypeName);
+    }
+
+    /**
+     * Gets the DA or BDA designated by DoTypeName and DaTypeName, checking their names like
+     * {@link #checkDoAndDaTypeName(DoTypeName, DaTypeName)} does, without checking DAI values.
+     * Completes the cdc of DoTypeName, and the fc of DaTypeName when it has BDA names :
+     * {@link AbstractDataAttributeAdapter#check(DaTypeName)} completes the remaining attributes.
+     *
+     * @param doTypeName DO/SDO to check
+     * @param daTypeName DA/BDA to check
+     * @return adapter of the last DA or BDA
+     * @throws ScdException when inconsistency are found in th SCL's
+     *                      DataTypeTemplate (unknown reference for example). Which should normally not happens.
+     */
+    public AbstractDataAttributeAdapter<?, ?> getDataAttributeAdapter(@NonNull DoTypeName doTypeName, @NonNull DaTypeName daTypeName) throws ScdException {
         if (!doTypeName.isDefined() || !daTypeName.isDefined()) {
             throw new ScdException("Invalid Data: data attributes information are missing");
         }
@@ -348,14 +401,13 @@ public class LNodeTypeAdapter
         }
 
         if (daTypeName.getStructNames().isEmpty()) {
-            daAdapter.check(daTypeName);
-        } else {
-            daTypeName.setFc(daAdapter.getCurrentElem().getFc());
-            DATypeAdapter daTypeAdapter = parentAdapter.getDATypeAdapterById(daAdapter.getType())
-                    .orElseThrow(() -> new ScdException(String.format("Unknown DAType (%s) referenced by DA(%s)", daAdapter.getType(), daAdapter.getName()))
-            );
-            daTypeAdapter.check(daTypeName);
+            return daAdapter;
         }
+        daTypeName.setFc(daAdapter.getCurrentElem().getFc());
+        DATypeAdapter daTypeAdapter = parentAdapter.getDATypeAdapterById(daAdapter.getType())
+                .orElseThrow(() -> new ScdException(String.format("Unknown DAType (%s) referenced by DA(%s)", daAdapter.getType(), daAdapter.getName()))
+        );
+        return daTypeAdapter.getTailBdaAdapter(daTypeName);
     }
 
     /**
@@ -7,6 +7,7 @@
 package org.lfenergy.compas.sct.commons.scl.ied;
 
 import org.lfenergy.compas.scl2007b4.model.*;
+import org.lfenergy.compas.sct.commons.dto.ReportLocation;
 import org.lfenergy.compas.sct.commons.dto.SclReportItem;
 import org.lfenergy.compas.sct.commons.exception.ScdException;
 import org.lfenergy.compas.sct.commons.scl.ExtRefService;
@@ -41,8 +42,6 @@ public class AccessPointAdapter extends SclElementAdapter<IEDAdapter, TAccessPoi
 
     public static final long MAX_OCCURRENCE_NO_LIMIT_VALUE = -1L;
 
-    private final ExtRefService extRefService = new ExtRefService();
-
     /**
      * Constructor
      *
@@ -69,6 +68,11 @@ public class AccessPointAdapter extends SclElementAdapter<IEDAdapter, TAccessPoi
         return String.format("AccessPoint[%s]", Utils.xpathAttributeFilter("name", currentElem.isSetName() ? currentElem.getName() : null));
     }
 
+    @Override
+    protected ReportLocation reportLocation(ReportLocation parentLocation) {
+        return parentLocation.child("AccessPoint", "name", currentElem.isSetName() ? currentElem.getName() : null);
+    }
+
     /**
      * Gets all LDevice from AccessPoint
      *
@@ -95,7 +99,7 @@ public class AccessPointAdapter extends SclElementAdapter<IEDAdapter, TAccessPoi
                                 .map(abstractLNAdapter -> abstractLNAdapter.getCurrentElem().getDataSet())
                                 .flatMap(Collection::stream)
                                 .filter(tDataSet -> tDataSet.getFCDA().size() > max)
-                                .map(tDataSet -> SclReportItem.error(getXPath(), String.format("There are too much FCDA for the DataSet %s for the LDevice %s"
+                                .map(tDataSet -> SclReportItem.error(getReportLocation(), String.format("There are too much FCDA for the DataSet %s for the LDevice %s"
                                                                                                + " in IED %s: %d > %d max", tDataSet.getName(), lDeviceAdapter.getInst(), parentAdapter.getName(),
                                         tDataSet.getFCDA().size(), max))
                                 ).toList()
@@ -111,7 +115,7 @@ public class AccessPointAdapter extends SclElementAdapter<IEDAdapter, TAccessPoi
     public Optional<SclReportItem> checkControlsLimitation(ServicesConfigEnum servicesConfigEnum) {
         long max = getMaxInstanceAuthorized(servicesConfigEnum);
         long value = getNumberOfItems(servicesConfigEnum);
-        return max == MAX_OCCURRENCE_NO_LIMIT_VALUE || value <= max ? Optional.empty() : Optional.of(SclReportItem.error(getXPath(),
+        return max == MAX_OCCURRENCE_NO_LIMIT_VALUE || value <= max ? Optional.empty() : Optional.of(SclReportItem.error(getReportLocation(),
                 String.format("There are too much %ss for the IED %s: %d > %d max", servicesConfigEnum.getDisplayName(), parentAdapter.getName(), value, max)));
     }
 
@@ -180,36 +184,52 @@ public class AccessPointAdapter extends SclElementAdapter<IEDAdapter, TAccessPoi
      * @return Optional of encountered error or empty
      */
     public Optional<SclReportItem> checkLimitationForBoundIedFcdas(List<TExtRef> tExtRefs) {
+        return checkLimitationForBoundIedFcdas(tExtRefs, new HashMap<>());
+    }
+
+    /**
+     * Checks FCDA number limitation for bound IED, counting FCDAs of each source Control Block only once
+     *
+     * @param tExtRefs                ExtRefs of the AccessPoint, without duplicated source Control Block
+     * @param fcdaCountByControlBlock FCDA count of the source Control Blocks already resolved, completed by this method.
+     *                                Can be shared between AccessPoints, and must be thread-safe when they are checked concurrently
+     * @return Optional of encountered error or empty
+     */
+    public Optional<SclReportItem> checkLimitationForBoundIedFcdas(List<TExtRef> tExtRefs, Map<ExtRefService.SourceControlBlockKey, Integer> fcdaCountByControlBlock) {
         long max = getClientServiceVal(TClientServices::isSetMaxAttributes, TClientServices::getMaxAttributes);
         if (max == MAX_OCCURRENCE_NO_LIMIT_VALUE){
             return Optional.empty();
         }
         long value = tExtRefs.stream()
-                .map(tExtRef -> {
-                    IEDAdapter iedAdapter = getParentAdapter().getParentAdapter().getIEDAdapterByName(tExtRef.getIedName());
-                    LDeviceAdapter lDeviceAdapter;
-                    if (tExtRef.getSrcLDInst() != null) {
-                        lDeviceAdapter = iedAdapter.getLDeviceAdapterByLdInst(tExtRef.getSrcLDInst());
-                    } else {
-                        lDeviceAdapter = iedAdapter.getLDeviceAdapterByLdInst(tExtRef.getLdInst());
-                    }
-                    AbstractLNAdapter<?> abstractLNAdapter;
-                    if (!tExtRef.isSetSrcLNClass() || tExtRef.getSrcLNClass().contains(TLLN0Enum.LLN_0.value())) {
-                        abstractLNAdapter = lDeviceAdapter.getLN0Adapter();
-                    } else {
-                        abstractLNAdapter = lDeviceAdapter.getLNAdapter(tExtRef.getSrcLNClass().getFirst(), tExtRef.getSrcLNInst(), tExtRef.getSrcPrefix());
-                    }
-                    return abstractLNAdapter.getFCDAs(tExtRef);
-                })
-                .flatMap(Collection::stream)
-                .toList()
-                .size();
+                .mapToLong(tExtRef -> fcdaCountByControlBlock.computeIfAbsent(ExtRefService.SourceControlBlockKey.from(tExtRef), sourceControlBlockKey -> countFcdas(tExtRef)))
+                .sum();
 
         return value <= max ? Optional.empty() :
-                Optional.of(SclReportItem.error(getParentAdapter().getXPath(),
+                Optional.of(SclReportItem.error(getParentAdapter().getReportLocation(),
                         "The Client IED %s subscribes to too much FCDA: %d > %d max".formatted(getParentAdapter().getName(), value, max)));
     }
 
+    private int countFcdas(TExtRef tExtRef) {
+        IEDAdapter iedAdapter = getParentAdapter().getParentAdapter().getIEDAdapterByName(tExtRef.getIedName());
+        LDeviceAdapter lDeviceAdapter;
+        if (tExtRef.getSrcLDInst() != null) {
+            lDeviceAdapter = iedAdapter.getLDeviceAdapterByLdInst(tExtRef.getSrcLDInst());
+        } else {
+            lDeviceAdapter = iedAdapter.getLDeviceAdapterByLdInst(tExtRef.getLdInst());
+        }
+        AbstractLNAdapter<?> abstractLNAdapter;
+        if (isSourceLn0(tExtRef)) {
+            abstractLNAdapter = lDeviceAdapter.getLN0Adapter();
+        } else {
+            abstractLNAdapter = lDeviceAdapter.getLNAdapter(tExtRef.getSrcLNClass().getFirst(), tExtRef.getSrcLNInst(), tExtRef.getSrcPrefix());
+        }
+        return abstractLNAdapter.getFCDAs(tExtRef).size();
+    }
+
+    private static boolean isSourceLn0(TExtRef tExtRef) {
+        return !tExtRef.isSetSrcLNClass() || tExtRef.getSrcLNClass().contains(TLLN0Enum.LLN_0.value());
+    }
+
     private long getClientServiceVal(Predicate<TClientServices> isSet, ToLongFunction<TClientServices> get) {
         return getServicesVal(tServices -> tServices.isSetClientServices() && isSet.test(tServices.getClientServices()), tServices -> get.applyAsLong(tServices.getClientServices()));
     }
@@ -240,23 +260,29 @@ public class AccessPointAdapter extends SclElementAdapter<IEDAdapter, TAccessPoi
      */
     public ExtRefAnalyzeRecord getAllCoherentExtRefForAnalyze() {
         List<SclReportItem> sclReportItems = new ArrayList<>();
-        List<TExtRef> tExtRefList = streamLDeviceAdapters()
-                .flatMap(lDeviceAdapter -> {
-                    List<TExtRef> tExtRefs = lDeviceAdapter.streamInputsAdapters()
-                            .map(SclElementAdapter::getCurrentElem)
-                            .flatMap(tInputs -> tInputs.getExtRef().stream())
-                            .filter(TExtRef::isSetSrcCBName)
-                            .toList();
-                    if (tExtRefs.isEmpty()) {
-                        return Stream.empty();
-                    }
-                    List<TExtRef> filteredList = extRefService.filterDuplicatedExtRefs(tExtRefs);
-                    sclReportItems.addAll(checkExtRefWithoutServiceType(filteredList, getXPath()));
-                    return filteredList.stream()
-                            .filter(TExtRef::isSetServiceType);
-                })
-                .toList();
-        return new ExtRefAnalyzeRecord(sclReportItems, new ExtRefService().filterDuplicatedExtRefs(tExtRefList));
+        List<TExtRef> tExtRefList = new ArrayList<>();
+        Set<ExtRefService.SourceControlBlockKey> accessPointKeys = new HashSet<>();
+        streamLDeviceAdapters().forEach(lDeviceAdapter -> {
+            Set<ExtRefService.SourceControlBlockKey> lDeviceKeys = new HashSet<>();
+            List<TExtRef> withoutServiceType = new ArrayList<>();
+            lDeviceAdapter.streamInputsAdapters()
+                    .map(SclElementAdapter::getCurrentElem)
+                    .flatMap(tInputs -> tInputs.getExtRef().stream())
+                    .filter(TExtRef::isSetSrcCBName)
+                    .forEach(tExtRef -> {
+                        ExtRefService.SourceControlBlockKey key = ExtRefService.SourceControlBlockKey.from(tExtRef);
+                        if (!lDeviceKeys.add(key)) {
+                            return;
+                        }
+                        if (!tExtRef.isSetServiceType()) {
+                            withoutServiceType.add(tExtRef);
+                        } else if (accessPointKeys.add(key)) {
+                            tExtRefList.add(tExtRef);
+                        }
+                    });
+            sclReportItems.addAll(checkExtRefWithoutServiceType(withoutServiceType, getReportLocation()));
+        });
+        return new ExtRefAnalyzeRecord(sclReportItems, tExtRefList);
     }
 
     /**
@@ -265,12 +291,11 @@ public class AccessPointAdapter extends SclElementAdapter<IEDAdapter, TAccessPoi
      * @param tExtRefs Set of ExtRefs to check
      * @return errors list
      */
-    private List<SclReportItem> checkExtRefWithoutServiceType(List<TExtRef> tExtRefs, String xPath) {
+    private List<SclReportItem> checkExtRefWithoutServiceType(List<TExtRef> tExtRefs, ReportLocation location) {
         return tExtRefs.stream()
                 .filter(tExtRef -> !tExtRef.isSetServiceType())
                 .map(tExtRef ->
-                        SclReportItem.error("%s/Inputs/ExtRef[%s]".formatted(xPath,
-                                        Utils.xpathAttributeFilter("desc", tExtRef.getDesc())),
+                        SclReportItem.error(location.child("Inputs").child("ExtRef", "desc", tExtRef.getDesc()),
                                 "ExtRef is missing ServiceType attribute"))
                 .toList();
     }
@@ -301,7 +326,7 @@ public class AccessPointAdapter extends SclElementAdapter<IEDAdapter, TAccessPoi
         long max = getMaxInstanceAuthorizedForBoundIED(servicesConfigEnum);
         long value = tExtRefs.size();
         return max == AccessPointAdapter.MAX_OCCURRENCE_NO_LIMIT_VALUE || value <= max ? Optional.empty() :
-                Optional.of(SclReportItem.error(getParentAdapter().getXPath(),
+                Optional.of(SclReportItem.error(getParentAdapter().getReportLocation(),
                         "The Client IED %s subscribes to too much %ss: %d > %d max".formatted(getParentAdapter().getName(), servicesConfigEnum.getDisplayName(),
                                 value, max)));
     }
@@ -8,10 +8,18 @@ package org.lfenergy.compas.sct.commons.scl.ied;
 import org.lfenergy.compas.scl2007b4.model.*;
 import org.lfenergy.compas.sct.commons.dto.ControlBlockTarget;
 import org.lfenergy.compas.sct.commons.dto.ReportControlBlock;
+import org.lfenergy.compas.sct.commons.dto.ReportLocation;
+import org.lfenergy.compas.sct.commons.scl.ExtRefService;
 import org.lfenergy.compas.sct.commons.scl.SclElementAdapter;
+import org.lfenergy.compas.sct.commons.scl.ldevice.LDeviceAdapter;
 import org.lfenergy.compas.sct.commons.scl.ln.AbstractLNAdapter;
 import org.lfenergy.compas.sct.commons.util.ControlBlockEnum;
 
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
 import static org.lfenergy.compas.sct.commons.util.Utils.xpathAttributeFilter;
 
 /**
@@ -27,6 +35,9 @@ import static org.lfenergy.compas.sct.commons.util.Utils.xpathAttributeFilter;
  *      does not already exist.
  *      in this
  *      DataSet</em></li>
+ *      <li>{@link ControlBlockAdapter#hasTarget <em>Check if a ClientLN or IEDName exists</em>}</li>
+ *      <li>{@link ControlBlockAdapter#removeTarget <em>Remove a ClientLN or IEDName</em>}</li>
+ *      <li>{@link ControlBlockAdapter#getTargetCount <em>Count subscribers of this ControlBlock</em>}</li>
  *    </ul>
  * </ol>
  * <br/>
@@ -41,6 +52,9 @@ import static org.lfenergy.compas.sct.commons.util.Utils.xpathAttributeFilter;
  */
 public class ControlBlockAdapter extends SclElementAdapter<AbstractLNAdapter<? extends TAnyLN>, TControl> {
 
+    private static final Map<TControlWithIEDName, ControlBlockTargetIndex<TControlWithIEDName.IEDName>> IED_NAME_INDEXES = Collections.synchronizedMap(new WeakHashMap<>());
+    private static final Map<TRptEnabled, ControlBlockTargetIndex<TClientLN>> CLIENT_LN_INDEXES = Collections.synchronizedMap(new WeakHashMap<>());
+
     public ControlBlockAdapter(AbstractLNAdapter<? extends TAnyLN> parentAdapter, TControl tControl) {
         super(parentAdapter, tControl);
     }
@@ -66,13 +80,21 @@ public class ControlBlockAdapter extends SclElementAdapter<AbstractLNAdapter<? e
      */
     @Override
     protected String elementXPath() {
-        String tag = switch (getControlBlockEnum()) {
+        return String.format("%s[%s]", elementName(), xpathAttributeFilter("name", currentElem.getName()));
+    }
+
+    @Override
+    protected ReportLocation reportLocation(ReportLocation parentLocation) {
+        return parentLocation.child(elementName(), "name", currentElem.getName());
+    }
+
+    private String elementName() {
+        return switch (getControlBlockEnum()) {
             case GSE -> "GSEControl";
             case SAMPLED_VALUE -> "SampledValueControl";
             case REPORT -> "ReportControl";
             case LOG -> "LogControl";
         };
-        return String.format("%s[%s]", tag, xpathAttributeFilter("name", currentElem.getName()));
     }
 
     /**
@@ -88,26 +110,124 @@ public class ControlBlockAdapter extends SclElementAdapter<AbstractLNAdapter<? e
      * @param targetLn target LN (where the target ExtRef is)
      */
     public void addTargetIfNotExists(AbstractLNAdapter<?> targetLn) {
-        ControlBlockTarget controlBlockTarget = new ControlBlockTarget(
-            targetLn.getParentLDevice().getAccessPoint().getName(),
-            targetLn.getParentIed().getName(),
-            targetLn.getParentLDevice().getInst(),
-            targetLn.getLNInst(),
-            targetLn.getLNClass(),
-            targetLn.getPrefix());
+        addTargetIfNotExists(toControlBlockTarget(targetLn));
+    }
+
+    /**
+     * Add a ClientLN to ReportControl or IEDName to GSEControl/SampleValueControl, if it does not already exist.
+     * Existing targets are checked in constant time, see {@link ControlBlockTarget#normalized()}.
+     * The desc of the target is ignored for IEDName, which does not have a desc attribute.
+     * @param controlBlockTarget target to add
+     */
+    public void addTargetIfNotExists(ControlBlockTarget controlBlockTarget) {
+        ControlBlockTarget target = controlBlockTarget.normalized();
         if (currentElem instanceof TControlWithIEDName tControlWithIEDName) {
-            if (tControlWithIEDName.getIEDName().stream().noneMatch(controlBlockTarget::equalsIedName)) {
-                tControlWithIEDName.getIEDName().add(controlBlockTarget.toIedName());
-            }
+            iedNameIndex(tControlWithIEDName).addIfAbsent(tControlWithIEDName.getIEDName(), target.withoutDesc(), unused -> controlBlockTarget.toIedName());
         } else if (currentElem instanceof TReportControl tReportControl) {
             if (!tReportControl.isSetRptEnabled()) {
                 tReportControl.setRptEnabled(new TRptEnabled());
                 tReportControl.getRptEnabled().setMax(ReportControlBlock.RPT_ENABLED_MAX_DEFAULT);
             }
-            if (tReportControl.getRptEnabled().getClientLN().stream().noneMatch(controlBlockTarget::equalsTClientLn)) {
-                tReportControl.getRptEnabled().getClientLN().add(controlBlockTarget.toTClientLn());
-            }
+            clientLnIndex(tReportControl.getRptEnabled()).addIfAbsent(tReportControl.getRptEnabled().getClientLN(), target, unused -> controlBlockTarget.toTClientLn());
+        }
+    }
+
+    /**
+     * Checks if a target exists in this ControlBlock
+     * @param controlBlockTarget target to look for
+     * @return true when a ClientLN or IEDName matches the target
+     */
+    public boolean hasTarget(ControlBlockTarget controlBlockTarget) {
+        ControlBlockTarget target = controlBlockTarget.normalized();
+        if (currentElem instanceof TControlWithIEDName tControlWithIEDName) {
+            return tControlWithIEDName.isSetIEDName() && iedNameIndex(tControlWithIEDName).contains(tControlWithIEDName.getIEDName(), target.withoutDesc());
+        } else if (currentElem instanceof TReportControl tReportControl && tReportControl.isSetRptEnabled()) {
+            return clientLnIndex(tReportControl.getRptEnabled()).contains(tReportControl.getRptEnabled().getClientLN(), target);
+        }
+        return false;
+    }
+
+    /**
+     * Removes all ClientLN or IEDName matching the target from this ControlBlock
+     * @param controlBlockTarget target to remove
+     * @return true when a target was removed
+     */
+    public boolean removeTarget(ControlBlockTarget controlBlockTarget) {
+        ControlBlockTarget target = controlBlockTarget.normalized();
+        if (currentElem instanceof TControlWithIEDName tControlWithIEDName) {
+            return tControlWithIEDName.isSetIEDName() && iedNameIndex(tControlWithIEDName).remove(tControlWithIEDName.getIEDName(), target.withoutDesc());
+        } else if (currentElem instanceof TReportControl tReportControl && tReportControl.isSetRptEnabled()) {
+            return clientLnIndex(tReportControl.getRptEnabled()).remove(tReportControl.getRptEnabled().getClientLN(), target);
         }
+        return false;
+    }
+
+    /**
+     * Counts the distinct targets (ClientLN or IEDName) of this ControlBlock
+     * @return number of subscribers
+     */
+    public int getTargetCount() {
+        if (currentElem instanceof TControlWithIEDName tControlWithIEDName) {
+            return tControlWithIEDName.isSetIEDName() ? iedNameIndex(tControlWithIEDName).count(tControlWithIEDName.getIEDName()) : 0;
+        } else if (currentElem instanceof TReportControl tReportControl && tReportControl.isSetRptEnabled()) {
+            return clientLnIndex(tReportControl.getRptEnabled()).count(tReportControl.getRptEnabled().getClientLN());
+        }
+        return 0;
+    }
+
+    /**
+     * Checks if one of the targets (ClientLN or IEDName) of this ControlBlock is in one of the given IEDs
+     * @param iedNames IED names
+     * @return true when the ControlBlock has a target in one of the given IEDs
+     */
+    public boolean hasTargetInIeds(Set<String> iedNames) {
+        if (currentElem instanceof TControlWithIEDName tControlWithIEDName) {
+            return tControlWithIEDName.getIEDName().stream().anyMatch(iedName -> iedNames.contains(iedName.getValue()));
+        } else if (currentElem instanceof TReportControl tReportControl && tReportControl.isSetRptEnabled()) {
+            return tReportControl.getRptEnabled().getClientLN().stream().anyMatch(tClientLN -> iedNames.contains(tClientLN.getIedName()));
+        }
+        return false;
+    }
+
+    /**
+     * Builds the key of this ControlBlock, as found from the ExtRefs it feeds by
+     * {@link ExtRefService.SourceControlBlockKey#from(TExtRef)}
+     * @return key of this ControlBlock
+     */
+    public ExtRefService.SourceControlBlockKey toSourceControlBlockKey() {
+        LDeviceAdapter lDeviceAdapter = parentAdapter.getParentLDevice();
+        TServiceType serviceType = switch (getControlBlockEnum()) {
+            case GSE -> TServiceType.GOOSE;
+            case SAMPLED_VALUE -> TServiceType.SMV;
+            case REPORT -> TServiceType.REPORT;
+            case LOG -> null;
+        };
+        return ExtRefService.SourceControlBlockKey.of(lDeviceAdapter.getParentAdapter().getName(), lDeviceAdapter.getInst(),
+                parentAdapter.getLNClass(), parentAdapter.getLNInst(), parentAdapter.getPrefix(), getName(), serviceType);
+    }
+
+    /**
+     * Builds the ControlBlock target matching a LN
+     * @param targetLn target LN (where the target ExtRef is)
+     * @return target of the LN, without desc
+     */
+    public static ControlBlockTarget toControlBlockTarget(AbstractLNAdapter<?> targetLn) {
+        LDeviceAdapter lDeviceAdapter = targetLn.getParentLDevice();
+        return new ControlBlockTarget(
+            lDeviceAdapter.getAccessPoint().getName(),
+            lDeviceAdapter.getParentAdapter().getName(),
+            lDeviceAdapter.getInst(),
+            targetLn.getLNInst(),
+            targetLn.getLNClass(),
+            targetLn.getPrefix());
+    }
+
+    private static ControlBlockTargetIndex<TControlWithIEDName.IEDName> iedNameIndex(TControlWithIEDName tControlWithIEDName) {
+        return IED_NAME_INDEXES.computeIfAbsent(tControlWithIEDName, k -> new ControlBlockTargetIndex<>(ControlBlockTarget::from));
+    }
+
+    private static ControlBlockTargetIndex<TClientLN> clientLnIndex(TRptEnabled tRptEnabled) {
+        return CLIENT_LN_INDEXES.computeIfAbsent(tRptEnabled, k -> new ControlBlockTargetIndex<>(ControlBlockTarget::from));
     }
 
 }
@@ -0,0 +1,115 @@
+// SPDX-FileCopyrightText: 2025 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.scl.ied;
+
+import org.lfenergy.compas.sct.commons.dto.ControlBlockTarget;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Set of the {@link ControlBlockTarget#normalized() normalized} targets of a ControlBlock : IEDName elements of a
+ * GSEControl or SampledValueControl, or ClientLN elements of a ReportControl.
+ * <p>
+ * The set is built lazily from the existing elements, and rebuilt when the indexed list instance or its size changes.
+ * Checking if a target exists and adding a target are done in constant time instead of scanning all targets.
+ * Code modifying the attributes of an existing target must call {@link #invalidate()}.
+ * </p>
+ *
+ * @param <E> type of the target elements (IEDName or TClientLN)
+ */
+final class ControlBlockTargetIndex<E> {
+
+    private final Function<E, ControlBlockTarget> toTarget;
+    private List<E> indexedList;
+    private int indexedSize = -1;
+    private Set<ControlBlockTarget> targets = Set.of();
+
+    ControlBlockTargetIndex(Function<E, ControlBlockTarget> toTarget) {
+        this.toTarget = toTarget;
+    }
+
+    /**
+     * Checks if the target exists in the list
+     *
+     * @param elements live list of targets
+     * @param target   normalized target
+     * @return true when an element of the list matches the target
+     */
+    synchronized boolean contains(List<E> elements, ControlBlockTarget target) {
+        refresh(elements);
+        return targets.contains(target);
+    }
+
+    /**
+     * Appends a new element to the list, unless an element already matches the target
+     *
+     * @param elements live list of targets
+     * @param target   normalized target
+     * @param factory  creates the element to append
+     * @return true when the element was appended
+     */
+    synchronized boolean addIfAbsent(List<E> elements, ControlBlockTarget target, Function<ControlBlockTarget, E> factory) {
+        refresh(elements);
+        if (!targets.add(target)) {
+            return false;
+        }
+        elements.add(factory.apply(target));
+        indexedSize++;
+        return true;
+    }
+
+    /**
+     * Removes all elements of the list matching the target
+     *
+     * @param elements live list of targets
+     * @param target   normalized target
+     * @return true when at least one element was removed
+     */
+    synchronized boolean remove(List<E> elements, ControlBlockTarget target) {
+        refresh(elements);
+        if (!targets.remove(target)) {
+            return false;
+        }
+        elements.removeIf(element -> target.equals(toTarget.apply(element).normalized()));
+        indexedSize = elements.size();
+        return true;
+    }
+
+    /**
+     * Counts distinct targets of the list
+     *
+     * @param elements live list of targets
+     * @return number of distinct targets
+     */
+    synchronized int count(List<E> elements) {
+        refresh(elements);
+        return targets.size();
+    }
+
+    /**
+     * Forces the set to be rebuilt on next call
+     */
+    synchronized void invalidate() {
+        indexedList = null;
+        indexedSize = -1;
+        targets = Set.of();
+    }
+
+    private void refresh(List<E> elements) {
+        if (elements == indexedList && elements.size() == indexedSize) {
+            return;
+        }
+        Set<ControlBlockTarget> newTargets = HashSet.newHashSet(elements.size());
+        for (E element : elements) {
+            newTargets.add(toTarget.apply(element).normalized());
+        }
+        targets = newTargets;
+        indexedList = elements;
+        indexedSize = elements.size();
+    }
+}
@@ -8,6 +8,7 @@ import org.lfenergy.compas.scl2007b4.model.*;
 import org.lfenergy.compas.sct.commons.dto.DaTypeName;
 import org.lfenergy.compas.sct.commons.dto.DataAttributeRef;
 import org.lfenergy.compas.sct.commons.dto.DoTypeName;
+import org.lfenergy.compas.sct.commons.dto.ReportLocation;
 import org.lfenergy.compas.sct.commons.dto.SclReportItem;
 import org.lfenergy.compas.sct.commons.scl.SclElementAdapter;
 import org.lfenergy.compas.sct.commons.scl.ln.AbstractLNAdapter;
@@ -71,6 +72,11 @@ public class DOIAdapter extends SclElementAdapter<AbstractLNAdapter<? extends TA
                 Utils.xpathAttributeFilter("name", currentElem.isSetName() ? currentElem.getName() : null));
     }
 
+    @Override
+    protected ReportLocation reportLocation(ReportLocation parentLocation) {
+        return parentLocation.child("DOI", "name", currentElem.isSetName() ? currentElem.getName() : null);
+    }
+
     @Override
     public String getName() {
         return currentElem.getName();
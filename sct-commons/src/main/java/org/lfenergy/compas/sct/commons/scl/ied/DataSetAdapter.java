@@ -10,7 +10,9 @@ import org.lfenergy.compas.scl2007b4.model.TAnyLN;
 import org.lfenergy.compas.scl2007b4.model.TDataSet;
 import org.lfenergy.compas.scl2007b4.model.TFCDA;
 import org.lfenergy.compas.scl2007b4.model.TFCEnum;
+import org.lfenergy.compas.sct.commons.dto.ReportLocation;
 import org.lfenergy.compas.sct.commons.scl.SclElementAdapter;
+import org.lfenergy.compas.sct.commons.scl.ied.FcdaIndex.FcdaKey;
 import org.lfenergy.compas.sct.commons.scl.ln.AbstractLNAdapter;
 import org.lfenergy.compas.sct.commons.util.Utils;
 
@@ -19,7 +21,6 @@ import java.util.Objects;
 import java.util.Optional;
 
 import static org.lfenergy.compas.sct.commons.util.SclConstructorHelper.newFcda;
-import static org.lfenergy.compas.sct.commons.util.Utils.equalsOrBothBlank;
 import static org.lfenergy.compas.sct.commons.util.Utils.xpathAttributeFilter;
 
 /**
@@ -83,6 +84,11 @@ public class DataSetAdapter extends SclElementAdapter<AbstractLNAdapter<? extend
         return String.format("DataSet[%s]", xpathAttributeFilter("name", currentElem.getName()));
     }
 
+    @Override
+    protected ReportLocation reportLocation(ReportLocation parentLocation) {
+        return parentLocation.child("DataSet", "name", currentElem.getName());
+    }
+
     /**
      * Find a FCDA matching all given criteria.
      *
@@ -99,16 +105,8 @@ public class DataSetAdapter extends SclElementAdapter<AbstractLNAdapter<? extend
         if (!currentElem.isSetFCDA()) {
             return Optional.empty();
         }
-        return currentElem.getFCDA().stream()
-                .filter(tfcda ->
-                        Objects.equals(ldInst, tfcda.getLdInst())
-                                && equalsOrBothBlank(prefix, tfcda.getPrefix())
-                                && Utils.lnClassEquals(tfcda.getLnClass(), lnClass)
-                                && equalsOrBothBlank(lnInst, tfcda.getLnInst())
-                                && Objects.equals(doName, tfcda.getDoName())
-                                && Objects.equals(fc, tfcda.getFc())
-                                && equalsOrBothBlank(daName, tfcda.getDaName()))
-                .findFirst();
+        return FcdaIndex.of(currentElem, FCDA_COMPARATOR)
+                .find(currentElem.getFCDA(), FcdaKey.of(ldInst, prefix, lnClass, lnInst, doName, daName, fc));
     }
 
     /**
@@ -126,21 +124,16 @@ public class DataSetAdapter extends SclElementAdapter<AbstractLNAdapter<? extend
      */
     public TFCDA createFCDAIfNotExists(String ldInst, String prefix, String lnClass, String lnInst, String doName, String daName, TFCEnum fc) {
         Objects.requireNonNull(fc); // fc is required by XSD
-        Optional<TFCDA> fcda = findFCDA(ldInst, prefix, lnClass, lnInst, doName, daName, fc);
-        return fcda
-                .orElseGet(() -> {
-                    TFCDA newFcda = newFcda(
-                            StringUtils.trimToNull(ldInst),
-                            lnClass,
-                            StringUtils.trimToNull(lnInst),
-                            StringUtils.trimToNull(prefix),
-                            StringUtils.trimToNull(doName),
-                            StringUtils.trimToNull(daName),
-                            fc);
-                    currentElem.getFCDA().add(newFcda);
-                    currentElem.getFCDA().sort(FCDA_COMPARATOR);
-                    return newFcda;
-                });
+        return FcdaIndex.of(currentElem, FCDA_COMPARATOR)
+                .findOrInsert(currentElem.getFCDA(), FcdaKey.of(ldInst, prefix, lnClass, lnInst, doName, daName, fc),
+                        () -> newFcda(
+                                StringUtils.trimToNull(ldInst),
+                                lnClass,
+                                StringUtils.trimToNull(lnInst),
+                                StringUtils.trimToNull(prefix),
+                                StringUtils.trimToNull(doName),
+                                StringUtils.trimToNull(daName),
+                                fc));
     }
 
 }
@@ -0,0 +1,157 @@
+// SPDX-FileCopyrightText: 2025 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.scl.ied;
+
+import org.apache.commons.lang3.StringUtils;
+import org.lfenergy.compas.scl2007b4.model.TDataSet;
+import org.lfenergy.compas.scl2007b4.model.TFCDA;
+import org.lfenergy.compas.scl2007b4.model.TFCEnum;
+import org.lfenergy.compas.sct.commons.scl.ElementIndex;
+
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * Key index of the FCDAs of a DataSet, kept sorted.
+ * <p>
+ * Keys are normalised like {@link DataSetAdapter#findFCDA} compares FCDAs : blank prefix, lnClass, lnInst and daName
+ * are all equal. Once the FCDA list is sorted, new FCDAs are inserted at their sorted position, found by binary search,
+ * instead of sorting the whole list again.
+ * </p>
+ * <p>
+ * Cost of {@link #findOrInsert(List, FcdaKey, Supplier)} for a DataSet of n FCDAs :
+ * </p>
+ * <ul>
+ *   <li>finding an existing FCDA, or finding that it is missing, is a map lookup ;</li>
+ *   <li>inserting a missing FCDA costs O(log n) comparisons, plus the shift of the FCDAs after its position done by
+ *   {@link List#add(int, Object)} on the JAXB ArrayList : one array copy of at most n references. Positions are not
+ *   indexed, so nothing is renumbered ;</li>
+ *   <li>the list is checked to be sorted, in O(n), only on the first insertion and after other code changed its size.</li>
+ * </ul>
+ * <p>
+ * Creating n FCDAs thus costs O(n log n) comparisons and, in the worst case where each FCDA goes first, O(n²) reference
+ * moves done by array copies, instead of O(n² log n) comparisons when sorting the whole list after each insertion.
+ * </p>
+ * <p>
+ * Indexes are held weakly, one per DataSet. Lookups are done by an {@link ElementIndex}, like the ones of
+ * {@link org.lfenergy.compas.sct.commons.scl.SclIndex} : FCDAs added or removed by other code are seen, but an FCDA
+ * changed in place is not found under its new key. When several FCDAs share the same key,
+ * the first one in list order is returned.
+ * </p>
+ */
+final class FcdaIndex {
+
+    private static final Map<TDataSet, FcdaIndex> FCDA_INDEXES = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final Comparator<TFCDA> comparator;
+    private final ElementIndex<FcdaKey, TFCDA> elementIndex = new ElementIndex<>(FcdaKey::from);
+    private List<TFCDA> checkedList;
+    private int checkedSize = -1;
+    private boolean sorted;
+
+    private FcdaIndex(Comparator<TFCDA> comparator) {
+        this.comparator = comparator;
+    }
+
+    /**
+     * Gets index of the FCDAs of given DataSet
+     *
+     * @param tDataSet   DataSet
+     * @param comparator order of the FCDAs in the DataSet
+     * @return index of the DataSet
+     */
+    static FcdaIndex of(TDataSet tDataSet, Comparator<TFCDA> comparator) {
+        return FCDA_INDEXES.computeIfAbsent(tDataSet, k -> new FcdaIndex(comparator));
+    }
+
+    /**
+     * Finds first FCDA of the list with the given key
+     *
+     * @param fcdas live FCDA list
+     * @param key   key of the FCDA
+     * @return first FCDA with the given key, or empty Optional when there is none
+     */
+    synchronized Optional<TFCDA> find(List<TFCDA> fcdas, FcdaKey key) {
+        return elementIndex.find(fcdas, key);
+    }
+
+    /**
+     * Finds first FCDA of the list with the given key, or creates it and inserts it at its sorted position
+     *
+     * @param fcdas   live FCDA list
+     * @param key     key of the FCDA
+     * @param factory creates the FCDA when there is none with the given key
+     * @return found or created FCDA
+     */
+    synchronized TFCDA findOrInsert(List<TFCDA> fcdas, FcdaKey key, Supplier<TFCDA> factory) {
+        Optional<TFCDA> found = find(fcdas, key);
+        if (found.isPresent()) {
+            return found.get();
+        }
+        TFCDA newFcda = factory.get();
+        // checked on insertion only, as comparing FCDAs fails on FCDAs with a non-numeric lnInst
+        if (fcdas != checkedList || fcdas.size() != checkedSize) {
+            sorted = isSorted(fcdas);
+        }
+        if (sorted) {
+            elementIndex.insert(fcdas, upperBound(fcdas, newFcda), newFcda);
+        } else {
+            // first insertion in a list which was not sorted yet : sort it once, as a stable sort
+            fcdas.add(newFcda);
+            fcdas.sort(comparator);
+            elementIndex.invalidate();
+            sorted = true;
+        }
+        checkedList = fcdas;
+        checkedSize = fcdas.size();
+        return newFcda;
+    }
+
+    private boolean isSorted(List<TFCDA> fcdas) {
+        for (int i = 1; i < fcdas.size(); i++) {
+            if (comparator.compare(fcdas.get(i - 1), fcdas.get(i)) > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Position after all FCDAs equal to, or lower than, the given FCDA : this is where a stable sort puts an FCDA
+     * appended to a sorted list
+     */
+    private int upperBound(List<TFCDA> fcdas, TFCDA tfcda) {
+        int low = 0;
+        int high = fcdas.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (comparator.compare(fcdas.get(middle), tfcda) <= 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Normalised FCDA key
+     */
+    record FcdaKey(String ldInst, String prefix, String lnClass, String lnInst, String doName, String daName, TFCEnum fc) {
+
+        static FcdaKey of(String ldInst, String prefix, String lnClass, String lnInst, String doName, String daName, TFCEnum fc) {
+            return new FcdaKey(ldInst, blankToNull(prefix), blankToNull(lnClass), blankToNull(lnInst), doName, blankToNull(daName), fc);
+        }
+
+        static FcdaKey from(TFCDA tfcda) {
+            return of(tfcda.getLdInst(), tfcda.getPrefix(), tfcda.isSetLnClass() ? tfcda.getLnClass().getFirst() : null,
+                    tfcda.getLnInst(), tfcda.getDoName(), tfcda.getDaName(), tfcda.getFc());
+        }
+
+        private static String blankToNull(String value) {
+            return StringUtils.isBlank(value) ? null : value;
+        }
+    }
+}
@@ -8,13 +8,16 @@ import lombok.NonNull;
 import org.lfenergy.compas.scl2007b4.model.*;
 import org.lfenergy.compas.sct.commons.dto.ExtRefBindingInfo;
 import org.lfenergy.compas.sct.commons.dto.ExtRefSignalInfo;
+import org.lfenergy.compas.sct.commons.dto.ReportLocation;
 import org.lfenergy.compas.sct.commons.dto.SclReportItem;
 import org.lfenergy.compas.sct.commons.exception.ScdException;
+import org.lfenergy.compas.sct.commons.scl.ExtRefService;
 import org.lfenergy.compas.sct.commons.scl.ObjectReference;
 import org.lfenergy.compas.sct.commons.scl.ldevice.LDeviceAdapter;
 import org.lfenergy.compas.sct.commons.scl.ln.AbstractLNAdapter;
 import org.lfenergy.compas.sct.commons.util.PrivateUtils;
 import org.lfenergy.compas.sct.commons.scl.SclElementAdapter;
+import org.lfenergy.compas.sct.commons.scl.SclIndex;
 import org.lfenergy.compas.sct.commons.scl.SclRootAdapter;
 import org.lfenergy.compas.sct.commons.util.ServicesConfigEnum;
 import org.lfenergy.compas.sct.commons.util.Utils;
@@ -90,10 +93,7 @@ public class IEDAdapter extends SclElementAdapter<SclRootAdapter, TIED> {
      */
     public IEDAdapter(SclRootAdapter parentAdapter, String iedName) throws ScdException {
         super(parentAdapter);
-        TIED ied = parentAdapter.getCurrentElem().getIED()
-                .stream()
-                .filter(tied -> tied.getName().equals(iedName))
-                .findFirst()
+        TIED ied = parentAdapter.getSclIndex().findIed(iedName)
                 .orElseThrow(() -> new ScdException("Unknown IED name :" + iedName));
         setCurrentElem(ied);
     }
@@ -113,6 +113,11 @@ public class IEDAdapter extends SclElementAdapter<SclRootAdapter, TIED> {
         return String.format("IED[%s]", Utils.xpathAttributeFilter("name", currentElem.isSetName() ? currentElem.getName() : null));
     }
 
+    @Override
+    protected ReportLocation reportLocation(ReportLocation parentLocation) {
+        return parentLocation.child("IED", "name", currentElem.isSetName() ? currentElem.getName() : null);
+    }
+
     /**
      * Sets IED name in current IED
      *
@@ -120,6 +125,9 @@ public class IEDAdapter extends SclElementAdapter<SclRootAdapter, TIED> {
      */
     public void setIEDName(String iedName) {
         currentElem.setName(iedName);
+        if (parentAdapter != null) {
+            parentAdapter.getSclIndex().invalidateIeds();
+        }
     }
 
     /**
@@ -171,9 +179,7 @@ public class IEDAdapter extends SclElementAdapter<SclRootAdapter, TIED> {
         if (isBlank(ldInst)) {
             return Optional.empty();
         }
-        return streamLDevices()
-                .filter(tlDevice -> ldInst.equals(tlDevice.getInst()))
-                .findFirst()
+        return SclIndex.findLDevice(currentElem, ldInst)
                 .map(tlDevice -> new LDeviceAdapter(this, tlDevice));
     }
 
@@ -356,12 +362,23 @@ public class IEDAdapter extends SclElementAdapter<SclRootAdapter, TIED> {
      * @return empty list if all IED respect limits, otherwise list of errors
      */
     public List<SclReportItem> checkBindingDataGroupCoherence() {
+        return checkBindingDataGroupCoherence(new HashMap<>());
+    }
+
+    /**
+     * Checks if Controls and FCDAs of source IEDs respect config limitation, counting FCDAs of each source Control Block only once
+     *
+     * @param fcdaCountByControlBlock FCDA count of the source Control Blocks already resolved, see
+     *                                {@link AccessPointAdapter#checkLimitationForBoundIedFcdas(List, Map)}
+     * @return empty list if all IED respect limits, otherwise list of errors
+     */
+    public List<SclReportItem> checkBindingDataGroupCoherence(Map<ExtRefService.SourceControlBlockKey, Integer> fcdaCountByControlBlock) {
         return streamAccessPointAdapters()
                 .flatMap(accessPointAdapter -> {
                     AccessPointAdapter.ExtRefAnalyzeRecord extRefAnalyzeRecord = accessPointAdapter.getAllCoherentExtRefForAnalyze();
                     return Stream.of(
                                     extRefAnalyzeRecord.sclReportItems().stream(),
-                                    accessPointAdapter.checkLimitationForBoundIedFcdas(extRefAnalyzeRecord.tExtRefs()).stream(),
+                                    accessPointAdapter.checkLimitationForBoundIedFcdas(extRefAnalyzeRecord.tExtRefs(), fcdaCountByControlBlock).stream(),
                                     accessPointAdapter.checkLimitationForBoundIEDControls(extRefAnalyzeRecord.tExtRefs()).stream())
                             .flatMap(Function.identity());
                 }).toList();
@@ -8,7 +8,9 @@ package org.lfenergy.compas.sct.commons.scl.ied;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.lfenergy.compas.scl2007b4.model.*;
+import org.lfenergy.compas.sct.commons.dto.ControlBlockTarget;
 import org.lfenergy.compas.sct.commons.dto.DataAttributeRef;
+import org.lfenergy.compas.sct.commons.dto.ReportLocation;
 import org.lfenergy.compas.sct.commons.dto.SclReportItem;
 import org.lfenergy.compas.sct.commons.exception.ScdException;
 import org.lfenergy.compas.sct.commons.model.da_comm.TFCDA;
@@ -20,6 +22,7 @@ import org.lfenergy.compas.sct.commons.scl.ln.LN0Adapter;
 import org.lfenergy.compas.sct.commons.util.ControlBlockEnum;
 import org.lfenergy.compas.sct.commons.util.Utils;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
@@ -55,6 +58,11 @@ public class InputsAdapter extends SclElementAdapter<AbstractLNAdapter<? extends
 
     private static final int EXTREF_DESC_DA_NAME_POSITION = -2;
 
+    /**
+     * Target of the ControlBlocks subscribed by the ExtRefs of this Inputs, built once
+     */
+    private ControlBlockTarget controlBlockTarget;
+
     /**
      * Constructor
      *
@@ -81,16 +89,15 @@ public class InputsAdapter extends SclElementAdapter<AbstractLNAdapter<? extends
     }
 
     private Optional<SclReportItem> warningReportItem(TExtRef extRef, String message) {
-        return Optional.of(SclReportItem.warning(extRefXPath(extRef.getDesc()), message));
+        return Optional.of(SclReportItem.warning(extRefLocation(extRef.getDesc()), message));
     }
 
     private Optional<SclReportItem> fatalReportItem(TExtRef extRef, String message) {
-        return Optional.of(SclReportItem.error(extRefXPath(extRef.getDesc()), message));
+        return Optional.of(SclReportItem.error(extRefLocation(extRef.getDesc()), message));
     }
 
-    private String extRefXPath(String extRefDesc) {
-        return getXPath() + String.format("/ExtRef[%s]",
-                Utils.xpathAttributeFilter("desc", extRefDesc));
+    private ReportLocation extRefLocation(String extRefDesc) {
+        return getReportLocation().child("ExtRef", "desc", extRefDesc);
     }
 
     private LDeviceAdapter getLDeviceAdapter() {
@@ -101,15 +108,44 @@ public class InputsAdapter extends SclElementAdapter<AbstractLNAdapter<? extends
         return parentAdapter;
     }
 
+    private ControlBlockTarget getControlBlockTarget() {
+        if (controlBlockTarget == null) {
+            controlBlockTarget = ControlBlockAdapter.toControlBlockTarget(getLNAdapter());
+        }
+        return controlBlockTarget;
+    }
+
     public List<SclReportItem> updateAllSourceDataSetsAndControlBlocks(List<TFCDA> allowedFcdas) {
+        return planAllSourceDataSetsAndControlBlocks(allowedFcdas).apply();
+    }
+
+    /**
+     * Computes the DataSets, FCDAs and ControlBlocks to create in source IEDs for the ExtRefs of this Inputs, and the
+     * ExtRef src attributes to set, without modifying the SCL.
+     * As it only reads the SCL, plans of several Inputs can be computed concurrently, as long as the SCL is not modified
+     * in the meantime, and as long as the lists of the SCL and of allowedFcdas have been created beforehand with
+     * {@link org.lfenergy.compas.sct.commons.util.SclListInitializer#initializeLists(Object)} : JAXB list getters
+     * create missing lists, which would be a concurrent modification. Plans do not depend on each other, so applying them in document order gives the same result as
+     * calling {@link InputsAdapter#updateAllSourceDataSetsAndControlBlocks(List)} on each Inputs.
+     *
+     * @param allowedFcdas list of allowed FCDA for DataSets and Control Blocks creation
+     * @return plan to apply with {@link DataSetAndControlBlockPlan#apply()}
+     */
+    public DataSetAndControlBlockPlan planAllSourceDataSetsAndControlBlocks(List<TFCDA> allowedFcdas) {
         String currentBayUuid = getIedAdapter().getPrivateCompasBay().map(TCompasBay::getUUID).orElse(null);
         if (StringUtils.isBlank(currentBayUuid)) {
-            return List.of(getIedAdapter().buildFatalReportItem(MESSAGE_IED_MISSING_COMPAS_BAY_UUID));
+            return new DataSetAndControlBlockPlan(this, List.of(ExtRefPlan.failed(null, getIedAdapter().buildFatalReportItem(MESSAGE_IED_MISSING_COMPAS_BAY_UUID))));
         }
-        return currentElem.getExtRef().stream()
+        return new DataSetAndControlBlockPlan(this, currentElem.getExtRef().stream()
                 .filter(this::areBindingAttributesPresent)
                 .filter(this::isExternalBound)
-                .map(extRef -> updateSourceDataSetsAndControlBlocks(extRef, currentBayUuid, allowedFcdas))
+                .map(extRef -> planSourceDataSetsAndControlBlocks(extRef, currentBayUuid, allowedFcdas))
+                .toList());
+    }
+
+    private List<SclReportItem> applyPlan(DataSetAndControlBlockPlan plan) {
+        return plan.extRefPlans().stream()
+                .map(this::applyExtRefPlan)
                 .flatMap(Optional::stream)
                 .toList();
     }
@@ -126,54 +162,67 @@ public class InputsAdapter extends SclElementAdapter<AbstractLNAdapter<? extends
                && StringUtils.isNotBlank(tExtRef.getDoName());
     }
 
-    private Optional<SclReportItem> updateSourceDataSetsAndControlBlocks(TExtRef extRef, String targetBayUuid, List<TFCDA> allowedFcdas) {
+    private ExtRefPlan planSourceDataSetsAndControlBlocks(TExtRef extRef, String targetBayUuid, List<TFCDA> allowedFcdas) {
         if (extRef.getServiceType() == null) {
-            return fatalReportItem(extRef, MESSAGE_SERVICE_TYPE_MISSING);
+            return ExtRefPlan.failed(extRef, fatalReportItem(extRef, MESSAGE_SERVICE_TYPE_MISSING));
         }
         Optional<IEDAdapter> optionalSrcIedAdapter = getSclRootAdapter().findIedAdapterByName(extRef.getIedName());
         if (optionalSrcIedAdapter.isEmpty()) {
-            return fatalReportItem(extRef, MESSAGE_SOURCE_IED_NOT_FOUND);
+            return ExtRefPlan.failed(extRef, fatalReportItem(extRef, MESSAGE_SOURCE_IED_NOT_FOUND));
         }
         IEDAdapter sourceIed = optionalSrcIedAdapter.get();
         Optional<String> sourceIedBayUuid = sourceIed.getPrivateCompasBay()
                 .map(TCompasBay::getUUID)
                 .filter(StringUtils::isNotBlank);
         if (sourceIedBayUuid.isEmpty()) {
-            return fatalReportItem(extRef, MESSAGE_SOURCE_IED_MISSING_COMPAS_BAY_UUID);
+            return ExtRefPlan.failed(extRef, fatalReportItem(extRef, MESSAGE_SOURCE_IED_MISSING_COMPAS_BAY_UUID));
         }
 
         boolean isBayInternal = targetBayUuid.equals(sourceIedBayUuid.get());
 
         Optional<LDeviceAdapter> optionalSourceLDevice = sourceIed.findLDeviceAdapterByLdInst(extRef.getLdInst());
         if (optionalSourceLDevice.isEmpty()) {
-            return warningReportItem(extRef, String.format(MESSAGE_SOURCE_LDEVICE_NOT_FOUND, sourceIed.getXPath()));
+            return ExtRefPlan.failed(extRef, warningReportItem(extRef, String.format(MESSAGE_SOURCE_LDEVICE_NOT_FOUND, sourceIed.getXPath())));
         }
         LDeviceAdapter sourceLDevice = optionalSourceLDevice.get();
         Set<DataAttributeRef> sourceDas = sourceLDevice.findSourceDA(extRef);
         if (sourceDas.isEmpty()) {
-            return warningReportItem(extRef, String.format(MESSAGE_SOURCE_LN_NOT_FOUND, optionalSourceLDevice.get().getXPath()));
+            return ExtRefPlan.failed(extRef, warningReportItem(extRef, String.format(MESSAGE_SOURCE_LN_NOT_FOUND, optionalSourceLDevice.get().getXPath())));
         }
 
         Optional<SclReportItem> sclReportItem = removeFilteredSourceDas(extRef, sourceDas, allowedFcdas);
         if (sclReportItem.isPresent()) {
-            return sclReportItem;
+            return ExtRefPlan.failed(extRef, sclReportItem);
         }
 
+        List<SourceDaCreation> creations = new ArrayList<>();
         try {
             sourceDas.forEach(sourceDa -> {
                 String datasetSuffix = generateDataSetSuffix(extRef, sourceDa, allowedFcdas, isBayInternal);
-                String dataSetName = DATASET_NAME_PREFIX + datasetSuffix;
-                String cbName = CONTROLBLOCK_NAME_PREFIX + datasetSuffix;
-                createDataSetWithFCDA(extRef, sourceLDevice, sourceDa, dataSetName);
-                createControlBlock(extRef, sourceLDevice, sourceDa, cbName, dataSetName);
-                setExtRefSrcAttributes(extRef, cbName);
+                creations.add(new SourceDaCreation(sourceDa, DATASET_NAME_PREFIX + datasetSuffix, CONTROLBLOCK_NAME_PREFIX + datasetSuffix));
+            });
+        } catch (ScdException e) {
+            // Creations planned before the error are still applied
+            log.error(e.getMessage(), e);
+            return new ExtRefPlan(extRef, sourceLDevice, List.copyOf(creations), fatalReportItem(extRef, MESSAGE_UNABLE_TO_CREATE_DATASET_OR_CONTROLBLOCK + e.getMessage()));
+        }
+        return new ExtRefPlan(extRef, sourceLDevice, List.copyOf(creations), Optional.empty());
+    }
+
+    private Optional<SclReportItem> applyExtRefPlan(ExtRefPlan extRefPlan) {
+        TExtRef extRef = extRefPlan.extRef();
+        try {
+            extRefPlan.creations().forEach(creation -> {
+                createDataSetWithFCDA(extRef, extRefPlan.sourceLDevice(), creation.sourceDa(), creation.dataSetName());
+                createControlBlock(extRef, extRefPlan.sourceLDevice(), creation.sourceDa(), creation.cbName(), creation.dataSetName());
+                setExtRefSrcAttributes(extRef, creation.cbName());
             });
         } catch (ScdException e) {
             // ScdException can be thrown if AccessPoint does not have DataSet/ControlBlock creation capability
             log.error(e.getMessage(), e);
             return fatalReportItem(extRef, MESSAGE_UNABLE_TO_CREATE_DATASET_OR_CONTROLBLOCK + e.getMessage());
         }
-        return Optional.empty();
+        return extRefPlan.reportItem();
     }
 
     private void createDataSetWithFCDA(TExtRef extRef, LDeviceAdapter sourceLDevice, DataAttributeRef sourceDa, String dataSetName) {
@@ -196,7 +245,7 @@ public class InputsAdapter extends SclElementAdapter<AbstractLNAdapter<? extends
             tReportControl.getTrgOps().setQchg(false);
         }
         if (!ControlBlockEnum.REPORT.equals(controlBlockEnum)) {
-            controlBlockAdapter.addTargetIfNotExists(getLNAdapter());
+            controlBlockAdapter.addTargetIfNotExists(getControlBlockTarget());
         }
     }
 
@@ -277,4 +326,51 @@ public class InputsAdapter extends SclElementAdapter<AbstractLNAdapter<? extends
         return getIedAdapter().getParentAdapter();
     }
 
+    /**
+     * DataSets, FCDAs and ControlBlocks to create for the ExtRefs of an Inputs
+     *
+     * @param inputsAdapter Inputs containing the ExtRefs
+     * @param extRefPlans   plan of each ExtRef, in document order
+     */
+    public record DataSetAndControlBlockPlan(InputsAdapter inputsAdapter, List<ExtRefPlan> extRefPlans) {
+
+        /**
+         * Creates planned DataSets, FCDAs and ControlBlocks, and sets the ExtRefs src attributes
+         *
+         * @return list of encountered errors
+         */
+        public List<SclReportItem> apply() {
+            return inputsAdapter.applyPlan(this);
+        }
+    }
+
+    /**
+     * Creations for one ExtRef
+     *
+     * @param extRef        ExtRef to bind
+     * @param sourceLDevice source LDevice in which DataSets and ControlBlocks are created
+     * @param creations     creations, in order
+     * @param reportItem    report item to return once creations are done
+     */
+    record ExtRefPlan(TExtRef extRef, LDeviceAdapter sourceLDevice, List<SourceDaCreation> creations, Optional<SclReportItem> reportItem) {
+
+        static ExtRefPlan failed(TExtRef extRef, Optional<SclReportItem> reportItem) {
+            return new ExtRefPlan(extRef, null, List.of(), reportItem);
+        }
+
+        static ExtRefPlan failed(TExtRef extRef, SclReportItem reportItem) {
+            return failed(extRef, Optional.of(reportItem));
+        }
+    }
+
+    /**
+     * DataSet and ControlBlock to create for a source DA
+     *
+     * @param sourceDa    source DA, added as FCDA in the DataSet
+     * @param dataSetName name of the DataSet
+     * @param cbName      name of the ControlBlock
+     */
+    record SourceDaCreation(DataAttributeRef sourceDa, String dataSetName, String cbName) {
+    }
+
 }
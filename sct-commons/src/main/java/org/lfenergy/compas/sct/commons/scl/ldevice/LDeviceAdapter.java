@@ -11,6 +11,7 @@ import org.lfenergy.compas.scl2007b4.model.*;
 import org.lfenergy.compas.sct.commons.dto.*;
 import org.lfenergy.compas.sct.commons.exception.ScdException;
 import org.lfenergy.compas.sct.commons.scl.SclElementAdapter;
+import org.lfenergy.compas.sct.commons.scl.SclIndex;
 import org.lfenergy.compas.sct.commons.scl.dtt.DataTypeTemplateAdapter;
 import org.lfenergy.compas.sct.commons.scl.ied.AccessPointAdapter;
 import org.lfenergy.compas.sct.commons.scl.ied.IEDAdapter;
@@ -117,6 +118,28 @@ public class LDeviceAdapter extends SclElementAdapter<IEDAdapter, TLDevice> {
         }
     }
 
+    @Override
+    protected ReportLocation reportLocation(ReportLocation parentLocation) {
+        String inst = currentElem.isSetInst() ? currentElem.getInst() : null;
+        return parentAdapter != null ? lDeviceLocation(parentLocation, inst) : parentLocation.child("LDevice", "inst", inst);
+    }
+
+    /**
+     * Location of a LDevice given by its IED name and inst, without building the adapters.
+     * It renders the same XPath as the report location of the LDeviceAdapter.
+     *
+     * @param iedName IED name
+     * @param ldInst  LDevice inst
+     * @return LDevice location : /SCL/IED[@name]/AccessPoint/Server/LDevice[@inst]
+     */
+    public static ReportLocation reportLocation(String iedName, String ldInst) {
+        return lDeviceLocation(ReportLocation.ROOT.child("SCL").child("IED", "name", iedName), ldInst);
+    }
+
+    private static ReportLocation lDeviceLocation(ReportLocation iedLocation, String ldInst) {
+        return iedLocation.child("AccessPoint").child("Server").child("LDevice", "inst", ldInst);
+    }
+
     /**
      * Updates LDevice name by combining IED name and LDevice ldInst value
      */
@@ -213,16 +236,8 @@ public class LDeviceAdapter extends SclElementAdapter<IEDAdapter, TLDevice> {
      * @throws ScdException thros when specified LNode not found in current IED
      */
     public Optional<LNAdapter> findLnAdapter(String lnClass, String lnInst, String prefix) {
-        if (!currentElem.isSetLN()) {
-            return Optional.empty();
-        }
-        return currentElem.getLN()
-                .stream()
-                .filter(tln -> Utils.lnClassEquals(tln.getLnClass(), lnClass)
-                        && tln.getInst().equals(lnInst)
-                        && Utils.equalsOrBothBlank(prefix, tln.getPrefix()))
-                .map(tln -> new LNAdapter(this, tln))
-                .findFirst();
+        return SclIndex.findLn(currentElem, lnClass, lnInst, prefix)
+                .map(tln -> new LNAdapter(this, tln));
     }
 
     /**
@@ -324,6 +339,19 @@ public class LDeviceAdapter extends SclElementAdapter<IEDAdapter, TLDevice> {
                 .toList();
     }
 
+    /**
+     * Computes the DataSets, FCDAs and ControlBlocks to create for the ExtRefs of this LDevice, without modifying the SCL
+     *
+     * @param allowedFcdas list of allowed FCDA for DataSets and Control Blocks creation
+     * @return plans of all Inputs of the LDevice, in document order
+     * @see InputsAdapter#planAllSourceDataSetsAndControlBlocks(List)
+     */
+    public List<InputsAdapter.DataSetAndControlBlockPlan> planDataSetAndControlBlocks(List<org.lfenergy.compas.sct.commons.model.da_comm.TFCDA> allowedFcdas) {
+        return streamInputsAdapters()
+                .map(inputsAdapter -> inputsAdapter.planAllSourceDataSetsAndControlBlocks(allowedFcdas))
+                .toList();
+    }
+
     public Stream<InputsAdapter> streamInputsAdapters() {
         return streamLNAdaptersIncludingLN0()
                 .filter(AbstractLNAdapter::hasInputs)
@@ -23,6 +23,7 @@ import org.lfenergy.compas.sct.commons.util.ControlBlockEnum;
 import org.lfenergy.compas.sct.commons.util.Utils;
 
 import java.util.*;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -268,7 +269,7 @@ public abstract class AbstractLNAdapter<T extends TAnyLN> extends SclElementAdap
      * @param extRef     ExtRef to update
      * @param extRefInfo contains new data for LNode ExtREf update
      */
-    protected void updateExtRefBindingInfo(TExtRef extRef, ExtRefInfo extRefInfo) {
+    public void updateExtRefBindingInfo(TExtRef extRef, ExtRefInfo extRefInfo) {
         //update binding info
         ExtRefBindingInfo bindingInfo = extRefInfo.getBindingInfo();
         boolean isSrcReset = false;
@@ -871,6 +872,53 @@ public abstract class AbstractLNAdapter<T extends TAnyLN> extends SclElementAdap
         getExtRefs().forEach(this::removeExtRefSourceBinding);
     }
 
+    /**
+     * Removes the ControlBlocks of this LN with a target (ClientLN or IEDName) in one of the given IEDs, with their
+     * DataSet when no other ControlBlock of this LN uses it
+     *
+     * @param iedNames names of the target IEDs
+     * @return removed ControlBlocks
+     */
+    public List<ControlBlockAdapter> removeControlBlocksTargeting(Set<String> iedNames) {
+        List<ControlBlockAdapter> removedControlBlocks = Stream.of(ControlBlockEnum.GSE, ControlBlockEnum.SAMPLED_VALUE, ControlBlockEnum.REPORT)
+                .filter(controlBlockEnum -> isLN0() || controlBlockEnum == ControlBlockEnum.REPORT)
+                .flatMap(this::streamControlBlocks)
+                .filter(controlBlockAdapter -> controlBlockAdapter.hasTargetInIeds(iedNames))
+                .toList();
+        if (removedControlBlocks.isEmpty()) {
+            return removedControlBlocks;
+        }
+        removedControlBlocks.forEach(controlBlockAdapter ->
+                getTControlsByType(controlBlockAdapter.getControlBlockEnum().getControlBlockClass()).remove(controlBlockAdapter.getCurrentElem()));
+        Set<String> usedDataSetNames = Stream.of(currentElem.getReportControl(), currentElem.getLogControl(),
+                        isLN0() ? ((LN0) currentElem).getGSEControl() : List.<TControl>of(),
+                        isLN0() ? ((LN0) currentElem).getSampledValueControl() : List.<TControl>of())
+                .flatMap(List::stream)
+                .map(TControl::getDatSet)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Set<String> removedDataSetNames = removedControlBlocks.stream()
+                .map(controlBlockAdapter -> controlBlockAdapter.getCurrentElem().getDatSet())
+                .filter(datSet -> datSet != null && !usedDataSetNames.contains(datSet))
+                .collect(Collectors.toSet());
+        if (!removedDataSetNames.isEmpty()) {
+            currentElem.getDataSet().removeIf(tDataSet -> removedDataSetNames.contains(tDataSet.getName()));
+        }
+        return removedControlBlocks;
+    }
+
+    /**
+     * Removes source binding data's of the ExtRefs matching the given filter
+     *
+     * @param filter ExtRefs whose source binding data's should be removed
+     * @return ExtRefs whose source binding data's were removed
+     */
+    public List<TExtRef> removeExtRefSourceBindings(Predicate<TExtRef> filter) {
+        List<TExtRef> unboundExtRefs = getExtRefs().stream().filter(filter).toList();
+        unboundExtRefs.forEach(this::removeExtRefSourceBinding);
+        return unboundExtRefs;
+    }
+
     /**
      * Removes specified ExtRef Source binding data's
      *
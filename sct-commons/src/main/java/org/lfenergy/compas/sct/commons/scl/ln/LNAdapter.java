@@ -8,6 +8,7 @@ import org.lfenergy.compas.scl2007b4.model.TLN;
 import org.lfenergy.compas.scl2007b4.model.TServiceType;
 import org.lfenergy.compas.sct.commons.dto.ExtRefSignalInfo;
 import org.lfenergy.compas.sct.commons.dto.DataAttributeRef;
+import org.lfenergy.compas.sct.commons.dto.ReportLocation;
 import org.lfenergy.compas.sct.commons.scl.ObjectReference;
 import org.lfenergy.compas.sct.commons.scl.ldevice.LDeviceAdapter;
 import org.lfenergy.compas.sct.commons.util.Utils;
@@ -130,4 +131,12 @@ public class LNAdapter extends AbstractLNAdapter<TLN> {
                 Utils.xpathAttributeFilter("inst", currentElem.isSetInst() ? currentElem.getInst() : null),
                 Utils.xpathAttributeFilter("lnType", currentElem.isSetLnType() ? currentElem.getLnType() : null));
     }
+
+    @Override
+    protected ReportLocation reportLocation(ReportLocation parentLocation) {
+        return parentLocation.child("LN",
+                "lnClass", currentElem.isSetLnClass() ? List.copyOf(currentElem.getLnClass()) : null,
+                "inst", currentElem.isSetInst() ? currentElem.getInst() : null,
+                "lnType", currentElem.isSetLnType() ? currentElem.getLnType() : null);
+    }
 }
@@ -0,0 +1,171 @@
+// SPDX-FileCopyrightText: 2025 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.util;
+
+import java.util.BitSet;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.stream.LongStream;
+
+/**
+ * Allocator of addresses (APPID, MAC-Address, ...) taken from a contiguous range [firstAddress, lastAddress].
+ * <p>
+ * Addresses are stored as bits relative to the start of the range, so reserving or testing an address is done in
+ * constant time, and the next free address is found with {@link BitSet#nextClearBit(int)}.
+ * Addresses are always given in ascending order, which keeps allocation deterministic.
+ * </p>
+ * <p>
+ * Reserved addresses are never given by a {@link #cursor(LongStream) cursor}. Each cursor can also skip its own set of
+ * excluded addresses, without affecting other cursors. The allocator keeps track of every address given by its cursors
+ * to report how full the range is.
+ * </p>
+ * This class is not thread safe.
+ */
+public final class AddressRangeAllocator {
+
+    private final long firstAddress;
+    private final int size;
+    private final BitSet reserved;
+    private final BitSet given;
+
+    /**
+     * Constructor
+     *
+     * @param firstAddress first address of the range (inclusive)
+     * @param lastAddress  last address of the range (inclusive). When lower than firstAddress, the range is empty
+     * @throws IllegalArgumentException when range contains more than {@link Integer#MAX_VALUE} addresses
+     */
+    public AddressRangeAllocator(long firstAddress, long lastAddress) {
+        long rangeSize = lastAddress < firstAddress ? 0 : lastAddress - firstAddress + 1;
+        if (rangeSize > Integer.MAX_VALUE || rangeSize < 0) {
+            throw new IllegalArgumentException("Address range [%d, %d] is too large".formatted(firstAddress, lastAddress));
+        }
+        this.firstAddress = firstAddress;
+        this.size = (int) rangeSize;
+        this.reserved = new BitSet(size);
+        this.given = new BitSet(size);
+    }
+
+    /**
+     * Reserve an address so that it is not given by cursors created afterward.
+     * Addresses outside the range are ignored.
+     *
+     * @param address address to reserve
+     * @return true if address is in range and was not reserved yet, false otherwise
+     */
+    public boolean reserve(long address) {
+        int index = indexOf(address);
+        if (index < 0 || reserved.get(index)) {
+            return false;
+        }
+        reserved.set(index);
+        return true;
+    }
+
+    /**
+     * Reserve addresses so that they are not given by cursors created afterward.
+     * Addresses outside the range are ignored.
+     *
+     * @param addresses addresses to reserve
+     */
+    public void reserveAll(LongStream addresses) {
+        addresses.forEach(this::reserve);
+    }
+
+    /**
+     * Check if an address is reserved
+     *
+     * @param address address to check
+     * @return true if address is in range and reserved, false otherwise
+     */
+    public boolean isReserved(long address) {
+        int index = indexOf(address);
+        return index >= 0 && reserved.get(index);
+    }
+
+    /**
+     * Create a cursor giving, in ascending order, all addresses of the range which are neither reserved nor excluded.
+     * Reservations done after the creation of the cursor are not seen by the cursor.
+     *
+     * @param excludedAddresses addresses to skip for this cursor only. Addresses outside the range are ignored.
+     * @return iterator over available addresses
+     */
+    public PrimitiveIterator.OfLong cursor(LongStream excludedAddresses) {
+        BitSet unavailable = (BitSet) reserved.clone();
+        excludedAddresses.map(this::indexOf)
+                .filter(index -> index >= 0)
+                .forEach(index -> unavailable.set((int) index));
+        return new Cursor(unavailable);
+    }
+
+    /**
+     * Create a cursor giving, in ascending order, all addresses of the range which are not reserved.
+     *
+     * @return iterator over available addresses
+     * @see #cursor(LongStream)
+     */
+    public PrimitiveIterator.OfLong cursor() {
+        return cursor(LongStream.empty());
+    }
+
+    /**
+     * @return number of addresses in the range
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return number of addresses of the range which are reserved or have been given by a cursor
+     */
+    public int usedCount() {
+        BitSet used = (BitSet) reserved.clone();
+        used.or(given);
+        return used.cardinality();
+    }
+
+    /**
+     * @return ratio of used addresses in the range, between 0 and 1. An empty range is considered full.
+     */
+    public double fillRate() {
+        return size == 0 ? 1 : (double) usedCount() / size;
+    }
+
+    @Override
+    public String toString() {
+        return "AddressRangeAllocator[%d..%d, used %d/%d]".formatted(firstAddress, firstAddress + size - 1, usedCount(), size);
+    }
+
+    private int indexOf(long address) {
+        long index = address - firstAddress;
+        return index < 0 || index >= size ? -1 : (int) index;
+    }
+
+    private final class Cursor implements PrimitiveIterator.OfLong {
+
+        private final BitSet unavailable;
+        private int nextIndex;
+
+        private Cursor(BitSet unavailable) {
+            this.unavailable = unavailable;
+        }
+
+        @Override
+        public boolean hasNext() {
+            nextIndex = unavailable.nextClearBit(nextIndex);
+            return nextIndex < size;
+        }
+
+        @Override
+        public long nextLong() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("Address range is exhausted");
+            }
+            int index = nextIndex++;
+            given.set(index);
+            return firstAddress + index;
+        }
+    }
+}
@@ -0,0 +1,160 @@
+// SPDX-FileCopyrightText: 2025 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.util;
+
+import jakarta.xml.bind.JAXBElement;
+import org.apache.commons.lang3.StringUtils;
+import org.lfenergy.compas.scl2007b4.model.TBaseElement;
+import org.lfenergy.compas.scl2007b4.model.TPrivate;
+import org.lfenergy.compas.sct.commons.exception.ScdException;
+
+import java.util.*;
+
+/**
+ * Typed content of the Privates of the elements of a SCL, for one processing of this SCL.
+ * <p>
+ * The compas objects of each {@link PrivateEnum}, and the string value of each string Private type, are extracted
+ * once per element and then kept : reading them again is a map lookup instead of filtering and unwrapping every
+ * JAXBElement of every Private, like {@link PrivateUtils} does on each call.
+ * </p>
+ * <p>
+ * A cache is created by the processing which reads the same Privates many times, and dropped at its end : it is never
+ * shared between SCL, nor between processings, so Privates changed outside of the processing are read again by the
+ * next one. Within the processing, the values of an element are cleared when its Private list instance or its size
+ * changes. The processing must call {@link #invalidate(TBaseElement)} when it replaces a Private, or the content of a
+ * Private, without changing the number of Privates.
+ * </p>
+ * A cache can be read from several threads.
+ */
+public final class PrivateCache {
+
+    private final Map<TBaseElement, ElementPrivates> privatesByElement = Collections.synchronizedMap(new IdentityHashMap<>());
+
+    /**
+     * Extracts the single compas object of class <em>compasClass</em> nested in the Privates of an element,
+     * like {@link PrivateUtils#extractCompasPrivate(TBaseElement, Class)}
+     *
+     * @param baseElement element where to look for Privates
+     * @param compasClass class of the Private to extract
+     * @param <T>         Inference parameter stands for class <em>compasClass</em>
+     * @return compas object nested in the Privates, or empty Optional when there is none
+     * @throws ScdException when more than 1 compas object is found
+     */
+    public <T> Optional<T> extractCompasPrivate(TBaseElement baseElement, Class<T> compasClass) throws ScdException {
+        List<T> compasPrivates = extractCompasPrivates(baseElement, compasClass);
+        if (compasPrivates.size() > 1) {
+            PrivateEnum privateEnum = PrivateEnum.fromClass(compasClass);
+            throw new ScdException("Expecting maximum 1 element of type " + privateEnum.getCompasClass() + " in private " + privateEnum.getPrivateType() + ", but got more");
+        }
+        return compasPrivates.stream().findFirst();
+    }
+
+    /**
+     * Extracts the compas objects of class <em>compasClass</em> nested in the Privates of an element,
+     * like {@link PrivateUtils#extractCompasPrivates(TBaseElement, Class)}
+     *
+     * @param baseElement element where to look for Privates
+     * @param compasClass class of the Privates to extract
+     * @param <T>         Inference parameter stands for class <em>compasClass</em>
+     * @return unmodifiable list of compas objects, in document order
+     */
+    public <T> List<T> extractCompasPrivates(TBaseElement baseElement, Class<T> compasClass) {
+        if (!baseElement.isSetPrivate()) {
+            return List.of();
+        }
+        PrivateEnum privateEnum = PrivateEnum.fromClass(compasClass);
+        ElementPrivates elementPrivates = elementPrivates(baseElement);
+        synchronized (elementPrivates) {
+            elementPrivates.refresh(baseElement.getPrivate());
+            @SuppressWarnings("unchecked")
+            List<T> result = (List<T>) elementPrivates.compasPrivates.computeIfAbsent(privateEnum,
+                    k -> extractCompasPrivates(baseElement.getPrivate(), privateEnum));
+            return result;
+        }
+    }
+
+    /**
+     * Gets the first non-blank string value of the Privates of an element,
+     * like {@link PrivateUtils#extractStringPrivate(TBaseElement, String)}
+     *
+     * @param baseElement element where to look for Privates
+     * @param privateType type of the Privates
+     * @return first non-blank value, or empty Optional when there is none
+     */
+    public Optional<String> extractStringPrivate(TBaseElement baseElement, String privateType) {
+        if (!baseElement.isSetPrivate()) {
+            return Optional.empty();
+        }
+        ElementPrivates elementPrivates = elementPrivates(baseElement);
+        synchronized (elementPrivates) {
+            elementPrivates.refresh(baseElement.getPrivate());
+            return elementPrivates.stringPrivates.computeIfAbsent(privateType,
+                    k -> extractStringPrivate(baseElement.getPrivate(), privateType));
+        }
+    }
+
+    /**
+     * Forces the values of an element to be extracted again on next call
+     *
+     * @param baseElement element with changed Privates
+     */
+    public void invalidate(TBaseElement baseElement) {
+        privatesByElement.remove(baseElement);
+    }
+
+    private ElementPrivates elementPrivates(TBaseElement baseElement) {
+        return privatesByElement.computeIfAbsent(baseElement, k -> new ElementPrivates());
+    }
+
+    private static List<Object> extractCompasPrivates(List<TPrivate> privates, PrivateEnum privateEnum) {
+        List<Object> result = new ArrayList<>(1);
+        for (TPrivate tPrivate : privates) {
+            if (!privateEnum.getPrivateType().equals(tPrivate.getType())) {
+                continue;
+            }
+            for (Object content : tPrivate.getContent()) {
+                if (content instanceof JAXBElement<?> jaxbElement && !jaxbElement.isNil()) {
+                    result.add(privateEnum.getCompasClass().cast(jaxbElement.getValue()));
+                }
+            }
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    private static Optional<String> extractStringPrivate(List<TPrivate> privates, String privateType) {
+        for (TPrivate tPrivate : privates) {
+            if (!privateType.equals(tPrivate.getType())) {
+                continue;
+            }
+            for (Object content : tPrivate.getContent()) {
+                if (content instanceof String value && StringUtils.isNotBlank(value)) {
+                    return Optional.of(value);
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Values extracted from the Privates of one element
+     */
+    private static final class ElementPrivates {
+
+        private List<TPrivate> cachedList;
+        private int cachedSize = -1;
+        private final Map<PrivateEnum, List<?>> compasPrivates = new EnumMap<>(PrivateEnum.class);
+        private final Map<String, Optional<String>> stringPrivates = new HashMap<>();
+
+        private void refresh(List<TPrivate> privates) {
+            if (privates == cachedList && privates.size() == cachedSize) {
+                return;
+            }
+            compasPrivates.clear();
+            stringPrivates.clear();
+            cachedList = privates;
+            cachedSize = privates.size();
+        }
+    }
+}
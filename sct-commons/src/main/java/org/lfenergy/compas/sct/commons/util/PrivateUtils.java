@@ -53,9 +53,10 @@ public final class PrivateUtils {
     }
 
     public static <T> Stream<T> getPrivateStream(List<TPrivate> privates, Class<T> compasClass) {
+        String privateType = PrivateEnum.fromClass(compasClass).getPrivateType();
         return privates
                 .stream()
-                .filter(tPrivate -> PrivateEnum.fromClass(compasClass).getPrivateType().equals(tPrivate.getType()))
+                .filter(tPrivate -> privateType.equals(tPrivate.getType()))
                 .map(TAnyContentFromOtherNamespace::getContent)
                 .flatMap(List::stream)
                 .filter(JAXBElement.class::isInstance)
@@ -0,0 +1,214 @@
+// SPDX-FileCopyrightText: 2025 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.util;
+
+import jakarta.xml.bind.JAXBElement;
+import jakarta.xml.bind.annotation.XmlRootElement;
+import jakarta.xml.bind.annotation.XmlType;
+import org.lfenergy.compas.sct.commons.exception.ScdException;
+import org.w3c.dom.Node;
+
+import javax.xml.datatype.Duration;
+import javax.xml.datatype.XMLGregorianCalendar;
+import javax.xml.namespace.QName;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.*;
+
+/**
+ * Deep copy of the elements of the SCL model, without marshalling them.
+ * <p>
+ * The copy plan of each class of the model (its constructor and its fields, including inherited ones) is generated
+ * by reflection on first use, and then reused by all copies. Copying an element only allocates the copied elements,
+ * their lists and their maps : Strings, enums, numbers and QNames are immutable and always shared, lists which were
+ * never initialized stay uninitialized, so that <em>isSetXxx</em> methods of the copy answer like the original ones.
+ * DOM elements (xs:any content) are cloned with their children.
+ * </p>
+ * <p>
+ * {@link #sharing} gives a copier which shares the instances of some classes instead of copying them, like
+ * Private or Text elements which are never modified : copies are cheaper, but the shared elements must then be
+ * treated as immutable by all holders of the original and of the copy.
+ * </p>
+ * The SCL model is a tree : an element referenced twice is copied twice.
+ */
+public final class SclElementCopier {
+
+    /**
+     * Copier which copies all elements, sharing no mutable object between original and copy
+     */
+    public static final SclElementCopier DEEP = new SclElementCopier(List.of());
+
+    private static final Set<Class<?>> IMMUTABLE_TYPES = Set.of(String.class, Boolean.class, Character.class, Byte.class,
+            Short.class, Integer.class, Long.class, Float.class, Double.class, BigInteger.class, BigDecimal.class,
+            QName.class, Duration.class, UUID.class);
+
+    private static final ClassValue<CopyPlan> COPY_PLANS = new ClassValue<>() {
+        @Override
+        protected CopyPlan computeValue(Class<?> type) {
+            return CopyPlan.of(type);
+        }
+    };
+
+    private final List<Class<?>> sharedTypes;
+
+    private SclElementCopier(List<Class<?>> sharedTypes) {
+        this.sharedTypes = sharedTypes;
+    }
+
+    /**
+     * Gives a copier sharing the instances of the given classes, and of their subclasses, instead of copying them
+     *
+     * @param sharedTypes classes of the elements to share, considered immutable
+     * @return new copier
+     */
+    public static SclElementCopier sharing(Class<?>... sharedTypes) {
+        return new SclElementCopier(List.of(sharedTypes));
+    }
+
+    /**
+     * Creates a copy of an element of the SCL model. The element itself is always copied, even when its class is shared.
+     *
+     * @param object element to copy
+     * @param clazz  class of the element
+     * @param <T>    type of the element
+     * @return copy of the element
+     * @throws ScdException when the class is not a class of the SCL model
+     */
+    public <T> T copy(T object, Class<T> clazz) {
+        if (!isModelType(clazz)) {
+            throw new ScdException(clazz.getName() + " is not known to this context");
+        }
+        return object == null ? null : clazz.cast(copyModelObject(object));
+    }
+
+    private Object copyValue(Object value) {
+        if (value == null || isImmutable(value)) {
+            return value;
+        }
+        for (Class<?> sharedType : sharedTypes) {
+            if (sharedType.isInstance(value)) {
+                return value;
+            }
+        }
+        return switch (value) {
+            case List<?> list -> copyList(list);
+            case Map<?, ?> map -> copyMap(map);
+            case JAXBElement<?> jaxbElement -> copyJaxbElement(jaxbElement);
+            case Node node -> node.cloneNode(true);
+            case XMLGregorianCalendar xmlGregorianCalendar -> xmlGregorianCalendar.clone();
+            case byte[] bytes -> bytes.clone();
+            default -> copyModelObject(value);
+        };
+    }
+
+    private List<Object> copyList(List<?> list) {
+        List<Object> copy = new ArrayList<>(list.size());
+        for (Object element : list) {
+            copy.add(copyValue(element));
+        }
+        return copy;
+    }
+
+    private Map<Object, Object> copyMap(Map<?, ?> map) {
+        Map<Object, Object> copy = HashMap.newHashMap(map.size());
+        map.forEach((key, value) -> copy.put(copyValue(key), copyValue(value)));
+        return copy;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <V> JAXBElement<V> copyJaxbElement(JAXBElement<V> jaxbElement) {
+        JAXBElement<V> copy = new JAXBElement<>(jaxbElement.getName(), jaxbElement.getDeclaredType(), jaxbElement.getScope(),
+                (V) copyValue(jaxbElement.getValue()));
+        copy.setNil(jaxbElement.isNil());
+        return copy;
+    }
+
+    private Object copyModelObject(Object value) {
+        if (!isModelType(value.getClass())) {
+            throw new ScdException(value.getClass().getName() + " is not known to this context");
+        }
+        CopyPlan copyPlan = COPY_PLANS.get(value.getClass());
+        Object copy = copyPlan.newInstance();
+        for (FieldCopy fieldCopy : copyPlan.fieldCopies()) {
+            Object fieldValue = fieldCopy.get(value);
+            fieldCopy.set(copy, fieldCopy.shared() ? fieldValue : copyValue(fieldValue));
+        }
+        return copy;
+    }
+
+    private static boolean isImmutable(Object value) {
+        return value instanceof Enum<?> || IMMUTABLE_TYPES.contains(value.getClass());
+    }
+
+    private static boolean isModelType(Class<?> type) {
+        return type.isAnnotationPresent(XmlType.class) || type.isAnnotationPresent(XmlRootElement.class);
+    }
+
+    /**
+     * Constructor and fields of a class of the SCL model
+     */
+    private record CopyPlan(Constructor<?> constructor, List<FieldCopy> fieldCopies) {
+
+        static CopyPlan of(Class<?> type) {
+            try {
+                Constructor<?> constructor = type.getDeclaredConstructor();
+                constructor.setAccessible(true);
+                List<FieldCopy> fieldCopies = new ArrayList<>();
+                for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+                    for (Field field : current.getDeclaredFields()) {
+                        if (!Modifier.isStatic(field.getModifiers()) && !field.isSynthetic()) {
+                            field.setAccessible(true);
+                            fieldCopies.add(new FieldCopy(field, isSharedFieldType(field.getType())));
+                        }
+                    }
+                }
+                return new CopyPlan(constructor, List.copyOf(fieldCopies));
+            } catch (NoSuchMethodException | RuntimeException e) {
+                throw new ScdException("Unable to copy elements of type " + type.getName() + " : " + e.getMessage(), e);
+            }
+        }
+
+        Object newInstance() {
+            try {
+                return constructor.newInstance();
+            } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+                throw new ScdException("Unable to copy elements of type " + constructor.getDeclaringClass().getName() + " : " + e.getMessage(), e);
+            }
+        }
+
+        private static boolean isSharedFieldType(Class<?> fieldType) {
+            return fieldType.isPrimitive() || fieldType.isEnum() || IMMUTABLE_TYPES.contains(fieldType);
+        }
+    }
+
+    /**
+     * Field of a class of the SCL model
+     *
+     * @param field  field, accessible
+     * @param shared true when the declared type of the field is immutable, so its value never needs to be copied
+     */
+    private record FieldCopy(Field field, boolean shared) {
+
+        Object get(Object object) {
+            try {
+                return field.get(object);
+            } catch (IllegalAccessException e) {
+                throw new ScdException("Unable to read field " + field.getName() + " : " + e.getMessage(), e);
+            }
+        }
+
+        void set(Object object, Object value) {
+            try {
+                field.set(object, value);
+            } catch (IllegalAccessException e) {
+                throw new ScdException("Unable to write field " + field.getName() + " : " + e.getMessage(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,99 @@
+// SPDX-FileCopyrightText: 2025 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.util;
+
+import jakarta.xml.bind.JAXBElement;
+import jakarta.xml.bind.annotation.XmlRootElement;
+import jakarta.xml.bind.annotation.XmlType;
+import org.lfenergy.compas.sct.commons.exception.ScdException;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Initializes the lists of the elements of the SCL model before they are read concurrently.
+ * <p>
+ * JAXB list getters are not read-only : they create the list on first call
+ * ({@code if (xxx == null) xxx = new ArrayList<>()}). Threads reading the same element concurrently would race on
+ * this write, and a thread could see a list which is not fully constructed. Once all lists of a tree have been
+ * created by {@link #initializeLists(Object)}, getters only read, so the tree can be read by several threads as long
+ * as nobody modifies it. Initializing lists does not change the marshalled XML, nor the <em>isSetXxx</em> methods,
+ * which answer false for empty lists.
+ * </p>
+ * Like {@link SclElementCopier}, the fields of each class of the model are found by reflection on first use.
+ */
+public final class SclListInitializer {
+
+    private static final ClassValue<List<Field>> FIELDS = new ClassValue<>() {
+        @Override
+        protected List<Field> computeValue(Class<?> type) {
+            return walkedFields(type);
+        }
+    };
+
+    private SclListInitializer() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Creates all the missing lists of an element of the SCL model and of all its descendants, in the calling thread
+     *
+     * @param element element of the SCL model, or null
+     * @throws ScdException when a field of the model cannot be read or written
+     */
+    public static void initializeLists(Object element) {
+        switch (element) {
+            case null -> {
+                // nothing to initialize
+            }
+            case List<?> list -> list.forEach(SclListInitializer::initializeLists);
+            case JAXBElement<?> jaxbElement -> initializeLists(jaxbElement.getValue());
+            default -> {
+                if (isModelType(element.getClass())) {
+                    initializeModelObject(element);
+                }
+            }
+        }
+    }
+
+    private static void initializeModelObject(Object element) {
+        for (Field field : FIELDS.get(element.getClass())) {
+            try {
+                Object value = field.get(element);
+                if (value == null && field.getType() == List.class) {
+                    field.set(element, new ArrayList<>());
+                } else {
+                    initializeLists(value);
+                }
+            } catch (IllegalAccessException e) {
+                throw new ScdException("Unable to initialize field " + field.getName() + " : " + e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * Fields which are lists, JAXB elements or elements of the model : the other ones hold no list
+     */
+    private static List<Field> walkedFields(Class<?> type) {
+        List<Field> fields = new ArrayList<>();
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                Class<?> fieldType = field.getType();
+                if (!Modifier.isStatic(field.getModifiers()) && !field.isSynthetic()
+                        && (fieldType == List.class || fieldType == JAXBElement.class || isModelType(fieldType) || fieldType == Object.class)) {
+                    field.setAccessible(true);
+                    fields.add(field);
+                }
+            }
+        }
+        return List.copyOf(fields);
+    }
+
+    private static boolean isModelType(Class<?> type) {
+        return type.isAnnotationPresent(XmlType.class) || type.isAnnotationPresent(XmlRootElement.class);
+    }
+}
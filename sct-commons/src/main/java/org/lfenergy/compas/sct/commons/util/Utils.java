@@ -4,16 +4,9 @@
 
 package org.lfenergy.compas.sct.commons.util;
 
-import jakarta.xml.bind.JAXBContext;
-import jakarta.xml.bind.JAXBElement;
-import jakarta.xml.bind.JAXBException;
-import jakarta.xml.bind.Unmarshaller;
-import jakarta.xml.bind.util.JAXBSource;
 import org.apache.commons.lang3.StringUtils;
 import org.lfenergy.compas.scl2007b4.model.*;
-import org.lfenergy.compas.sct.commons.exception.ScdException;
 
-import javax.xml.namespace.QName;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
@@ -34,8 +27,6 @@ public final class Utils {
     private static final Pattern MAC_ADDRESS_PATTERN = Pattern.compile("[0-9A-F]{2}([-:][0-9A-F]{2}){5}", Pattern.CASE_INSENSITIVE);
     private static final HexFormat HEX_FORMAT = HexFormat.of().withUpperCase();
 
-    private static JAXBContext jaxbContext = null;
-
     /**
      * Private Constructor, should not be instanced
      */
@@ -309,7 +300,7 @@ public final class Utils {
     }
 
     /**
-     * creates a copy of Scl element
+     * creates a copy of Scl element, see {@link SclElementCopier#DEEP}
      *
      * @param object object to copy
      * @param clazz  class type of the object
@@ -317,18 +308,7 @@ public final class Utils {
      * @return copy of the object
      */
     public static <T> T copySclElement(T object, Class<T> clazz) {
-        Unmarshaller unmarshaller;
-        try {
-            if (jaxbContext == null) {
-                jaxbContext = JAXBContext.newInstance("org.lfenergy.compas.scl2007b4.model");
-            }
-            unmarshaller = jaxbContext.createUnmarshaller();
-            JAXBElement<T> contentObject = new JAXBElement<>(new QName(clazz.getSimpleName()), clazz, object);
-            JAXBSource source = new JAXBSource(jaxbContext, contentObject);
-            return unmarshaller.unmarshal(source, clazz).getValue();
-        } catch (JAXBException e) {
-            throw new ScdException(e.getMessage(), e);
-        }
+        return SclElementCopier.DEEP.copy(object, clazz);
     }
 
     /**
@@ -342,119 +322,20 @@ public final class Utils {
         return listOfP.stream().filter(tp -> type.equals(tp.getType())).map(TP::getValue).findFirst();
     }
 
+    /**
+     * Creates a deep copy of a LN : DOIs, Inputs, DataSets, Privates and Control Blocks of the copy can be modified
+     * without modifying the original LN
+     *
+     * @param tln LN to copy
+     * @return copy of the LN, with blank prefix and desc set to null
+     */
     public static TLN copyLn(TLN tln) {
-        TLN newLn = new TLN();
-        newLn.getLnClass().addAll(tln.getLnClass());
-        newLn.setInst(tln.getInst());
-        newLn.setLnType(tln.getLnType());
+        TLN newLn = SclElementCopier.DEEP.copy(tln, TLN.class);
         newLn.setPrefix(StringUtils.trimToNull(tln.getPrefix())); // trimToNull is important because getPrefix returns "" if null
         newLn.setDesc(StringUtils.trimToNull(tln.getDesc())); // trimToNull is important because getDesc returns "" if null
-        newLn.setInputs(tln.getInputs());
-        newLn.setText(tln.getText());
-        newLn.getPrivate().addAll(tln.getPrivate());
-        newLn.getDataSet().addAll(tln.getDataSet());
-        newLn.getAny().addAll(tln.getAny());
-        newLn.getDOI().addAll(tln.getDOI().stream().map(Utils::createDOI).toList());
-        newLn.getLog().addAll(tln.getLog());
-        newLn.getLogControl().addAll(tln.getLogControl());
-        newLn.getOtherAttributes().putAll(tln.getOtherAttributes());
-        newLn.getReportControl().addAll(tln.getReportControl());
         return newLn;
     }
 
-    private static TDOI createDOI(TDOI tdoi){
-        TDOI newDOI = new TDOI();
-        newDOI.setName(tdoi.getName());
-        if(tdoi.isSetIx()){
-            newDOI.setIx(tdoi.getIx());
-        }
-        if(tdoi.isSetSDIOrDAI()){
-            newDOI.getSDIOrDAI().addAll((tdoi.getSDIOrDAI().stream().map(Utils::createSDIOrDAI).toList()));
-        }
-        if(tdoi.isSetPrivate()){
-            newDOI.getPrivate().addAll(tdoi.getPrivate());
-        }
-        if(tdoi.isSetAny()){
-            newDOI.getAny().addAll(tdoi.getAny());
-        }
-        updateUnNaming(newDOI, tdoi);
-        return newDOI;
-    }
-
-    private static TUnNaming createSDIOrDAI(TUnNaming tUnNaming){
-        return switch (tUnNaming) {
-            case TDAI tdai -> createDAI(tdai);
-            case TSDI tsdi -> createSDI(tsdi);
-            default -> throw new IllegalStateException("Unexpected value: " + tUnNaming);
-        };
-    }
-
-    private static TDAI createDAI(TDAI tdai){
-        TDAI newDAI = new TDAI();
-        newDAI.setName(tdai.getName());
-        if(tdai.isSetVal()){
-            newDAI.getVal().addAll((tdai.getVal().stream().map(tVal -> {
-                TVal newVal = new TVal();
-                newVal.setValue(tVal.getValue());
-                if(tVal.isSetSGroup()){
-                    newVal.setSGroup(tVal.getSGroup());
-                }
-                return newVal;
-            }).toList()));
-        }
-        if(tdai.isSetIx()){
-            newDAI.setIx(tdai.getIx());
-        }
-        if(tdai.isSetSAddr()){
-            newDAI.setSAddr(tdai.getSAddr());
-        }
-        if(tdai.isSetValImport()){
-            newDAI.setValImport(tdai.isValImport());
-        }
-        if(tdai.isSetValKind()){
-            newDAI.setValKind(tdai.getValKind());
-        }
-        if(tdai.isSetPrivate()){
-            newDAI.getPrivate().addAll(tdai.getPrivate());
-        }
-        if(tdai.isSetAny()){
-            newDAI.getAny().addAll(tdai.getAny());
-        }
-        updateUnNaming(newDAI, tdai);
-        return newDAI;
-    }
-
-    private static TSDI createSDI(TSDI tsdi){
-        TSDI newSDI = new TSDI();
-        newSDI.setName(tsdi.getName());
-        if(tsdi.isSetSDIOrDAI()){
-            newSDI.getSDIOrDAI().addAll((tsdi.getSDIOrDAI().stream().map(Utils::createSDIOrDAI).toList()));
-        }
-        if(tsdi.isSetIx()){
-            newSDI.setIx(tsdi.getIx());
-        }
-        if(tsdi.isSetSAddr()){
-            newSDI.setSAddr(tsdi.getSAddr());
-        }
-        if(tsdi.isSetPrivate()){
-            newSDI.getPrivate().addAll(tsdi.getPrivate());
-        }
-        if(tsdi.isSetAny()){
-            newSDI.getAny().addAll(tsdi.getAny());
-        }
-        updateUnNaming(newSDI, tsdi);
-        return newSDI;
-    }
-
-    private static void updateUnNaming(TUnNaming unNaming, TUnNaming unNamingSource){
-        if(unNamingSource.isSetText()){
-            unNaming.setText(unNamingSource.getText());
-        }
-        if(unNamingSource.isSetDesc()){
-            unNaming.setDesc(unNamingSource.getDesc());
-        }
-    }
-
     public static String sha256(String text) {
         MessageDigest messageDigest;
         try {
@@ -10,8 +10,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.lfenergy.compas.scl2007b4.model.*;
+import org.lfenergy.compas.sct.commons.dto.ControlBlockCleanupReport;
 import org.lfenergy.compas.sct.commons.dto.SclReportItem;
+import org.lfenergy.compas.sct.commons.dto.SclReportSink;
 import org.lfenergy.compas.sct.commons.model.cbcom.*;
 import org.lfenergy.compas.sct.commons.model.da_comm.DACOMM;
 import org.lfenergy.compas.sct.commons.scl.ControlService;
@@ -100,6 +103,27 @@ class ControlBlockEditorServiceTest {
                         "There are too much SMV Control Blocks for the IED IED_NAME2: 3 > 1 max");
     }
 
+    @Test
+    void analyzeDataGroups_with_sink_should_stop_after_max_errors() {
+        // Given
+        SCL scd = SclTestMarshaller.getSCLFromResource("limitation_cb_dataset_fcda/scd_check_limitation_bound_ied_controls_fcda.xml");
+        SclRootAdapter sclRootAdapter = new SclRootAdapter(scd);
+        IEDAdapter iedAdapter = sclRootAdapter.getIEDAdapterByName("IED_NAME2");
+        iedAdapter.getCurrentElem().getAccessPoint().getFirst().getServices().getConfDataSet().setMaxAttributes(1L);
+        iedAdapter.getCurrentElem().getAccessPoint().getFirst().getServices().getConfDataSet().setMax(3L);
+        iedAdapter.getCurrentElem().getAccessPoint().getFirst().getServices().getSMVsc().setMax(1L);
+        iedAdapter.getCurrentElem().getAccessPoint().getFirst().getServices().getGOOSE().setMax(2L);
+        iedAdapter.getCurrentElem().getAccessPoint().getFirst().getServices().getConfReportControl().setMax(0L);
+        List<SclReportItem> allErrors = controlBlockEditorService.analyzeDataGroups(scd);
+        SclReportSink sclReportSink = SclReportSink.firstErrors(2);
+        // When
+        controlBlockEditorService.analyzeDataGroups(scd, sclReportSink);
+        //Then
+        assertThat(sclReportSink.isAborted()).isTrue();
+        assertThat(sclReportSink.getItems()).hasSize(2)
+                .allSatisfy(sclReportItem -> assertThat(allErrors).contains(sclReportItem));
+    }
+
     @Test
     void removeControlBlocksAndDatasetAndExtRefSrc_should_remove_srcXXX_attributes_on_ExtRef() {
         // Given
@@ -124,6 +148,39 @@ class ControlBlockEditorServiceTest {
         assertSclValidateXsd(scl);
     }
 
+    @Test
+    void removeControlBlocksAndDatasetsAndExtRefSrcBindings_should_only_remove_ControlBlocks_and_bindings_related_to_given_ieds() {
+        // Given
+        SCL scl = SclTestMarshaller.getSCLFromResource("scl-remove-controlBlocks-dataSet-extRefSrc/scl-with-control-blocks-between-ieds.xml");
+        // When
+        ControlBlockCleanupReport controlBlockCleanupReport = controlBlockEditorService.removeControlBlocksAndDatasetsAndExtRefSrcBindings(scl, List.of("ied1"));
+        // Then
+        LN0 ied1Ln0 = findLn0(scl, "ied1", "lDeviceInst1").getCurrentElem();
+        assertThat(ied1Ln0.isSetGSEControl()).isFalse();
+        assertThat(ied1Ln0.isSetDataSet()).isFalse();
+        assertThat(ied1Ln0.getInputs().getExtRef()).noneMatch(TExtRef::isSetSrcCBName);
+        LN0 ied2Ln0 = findLn0(scl, "ied2", "lDeviceInst2").getCurrentElem();
+        assertThat(ied2Ln0.getGSEControl()).extracting(TControl::getName).containsExactly("gseToIed3");
+        assertThat(ied2Ln0.getDataSet()).extracting(TDataSet::getName).containsExactly("dataSetToIed3");
+        assertThat(ied2Ln0.getInputs().getExtRef())
+                .extracting(TExtRef::getDesc, TExtRef::getSrcCBName)
+                .containsExactly(
+                        Tuple.tuple("extRefFromIed1", null),
+                        Tuple.tuple("extRefFromGseToIed1", null),
+                        Tuple.tuple("extRefFromIed3", "gseToIed2"));
+        assertThat(findLn0(scl, "ied3", "lDeviceInst3").getCurrentElem().getGSEControl()).hasSize(1);
+        assertThat(controlBlockCleanupReport.removedControlBlocks())
+                .singleElement()
+                .asString()
+                .contains("IED[@name=\"ied2\"]", "GSEControl[@name=\"gseToIed1\"]");
+        assertThat(controlBlockCleanupReport.unboundExtRefs())
+                .hasSize(2)
+                .allMatch(xpath -> xpath.contains("IED[@name=\"ied2\"]"))
+                .anyMatch(xpath -> xpath.endsWith("ExtRef[@desc=\"extRefFromIed1\"]"))
+                .anyMatch(xpath -> xpath.endsWith("ExtRef[@desc=\"extRefFromGseToIed1\"]"));
+        assertSclValidateXsd(scl);
+    }
+
     @Test
     void createDataSetAndControlBlocks_should_create_DataSet() {
         // Given
@@ -238,6 +295,26 @@ class ControlBlockEditorServiceTest {
                 );
     }
 
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "scd-extref-create-dataset-and-controlblocks/scd_create_dataset_and_controlblocks_success.xml",
+            "scd-extref-create-dataset-and-controlblocks/scd_create_dataset_and_controlblocks_success_test_fcda_sort.xml",
+            "scd-extref-create-dataset-and-controlblocks/scd_create_dataset_and_controlblocks_extref_errors.xml",
+            "scd-extref-create-dataset-and-controlblocks/scd_create_dataset_and_controlblocks_ied_errors.xml"
+    })
+    void createDataSetAndControlBlocksInParallel_should_give_same_result_as_sequential(String scdResource) {
+        // Given
+        SCL sequentialScd = SclTestMarshaller.getSCLFromResource(scdResource);
+        SCL parallelScd = SclTestMarshaller.getSCLFromResource(scdResource);
+        DACOMM allowedFcdas = DaComTestMarshallerHelper.getDACOMMFromResource("cb_comm/Template_DA_COMM_v1.xml");
+        List<SclReportItem> sequentialSclReportItems = controlBlockEditorService.createDataSetAndControlBlocks(sequentialScd, allowedFcdas);
+        // When
+        List<SclReportItem> parallelSclReportItems = controlBlockEditorService.createDataSetAndControlBlocksInParallel(parallelScd, allowedFcdas);
+        // Then
+        assertThat(parallelSclReportItems).containsExactlyElementsOf(sequentialSclReportItems);
+        assertThat(SclTestMarshaller.marshal(parallelScd)).isEqualTo(SclTestMarshaller.marshal(sequentialScd));
+    }
+
     @ParameterizedTest
     @MethodSource("provideSubnetworksToReuse")
     void configureNetworkForAllControlBlocks_should_create_GSE_elements(List<TSubNetwork> subnetworksToReuse) {
@@ -0,0 +1,130 @@
+// SPDX-FileCopyrightText: 2025 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons;
+
+import org.junit.jupiter.api.Test;
+import org.lfenergy.compas.scl2007b4.model.*;
+import org.lfenergy.compas.sct.commons.ControlBlockEditorService.CbKey;
+import org.lfenergy.compas.sct.commons.scl.ExtRefService;
+import org.lfenergy.compas.sct.commons.util.Utils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.lfenergy.compas.sct.commons.util.SclConstructorHelper.newAddress;
+import static org.lfenergy.compas.sct.commons.util.SclConstructorHelper.newP;
+
+class ControlBlockNetworkGraphTest {
+
+    private static final String PUBLISHER = "IED_PUB";
+    private static final String SUBSCRIBER = "IED_SUB";
+    private static final String OTHER = "IED_OTHER";
+
+    @Test
+    void of_should_link_publishers_to_subscribers() {
+        // Given
+        SCL scl = newScl();
+        // When
+        ControlBlockNetworkGraph graph = ControlBlockNetworkGraph.of(scl, new LdeviceService(new LnService()), new ExtRefService());
+        // Then
+        assertThat(graph.getSubscriberIedNames(PUBLISHER)).containsExactly(SUBSCRIBER);
+        assertThat(graph.getSubscriberIedNames(SUBSCRIBER)).isEmpty();
+        assertThat(graph.getSubscriberIedNames(new CbKey(PUBLISHER, "LD_INST", "CB_GOOSE"))).containsExactly(SUBSCRIBER);
+        assertThat(graph.getSubscriberIedNames(new CbKey(PUBLISHER, "LD_INST", "CB_UNKNOWN"))).isEmpty();
+    }
+
+    @Test
+    void findExcludedMacAddresses_should_return_addresses_of_linked_control_blocks() {
+        // Given
+        SCL scl = newScl();
+        ControlBlockNetworkGraph graph = ControlBlockNetworkGraph.of(scl, new LdeviceService(new LnService()), new ExtRefService());
+        // When Then
+        assertThat(graph.findExcludedMacAddresses(SUBSCRIBER, TCBType.GOOSE).boxed())
+                .containsExactly(mac("01-0C-CD-01-00-01"));
+        assertThat(graph.findExcludedMacAddresses(PUBLISHER, TCBType.GOOSE).boxed())
+                .containsExactlyInAnyOrder(mac("01-0C-CD-01-00-03"), mac("01-0C-CD-01-00-01"));
+        assertThat(graph.findExcludedMacAddresses(PUBLISHER, TCBType.SV).boxed())
+                .containsExactly(mac("01-0C-CD-01-00-01"));
+        assertThat(graph.findExcludedMacAddresses(OTHER, TCBType.GOOSE)).isEmpty();
+    }
+
+    @Test
+    void findExcludedMacAddresses_should_see_added_and_updated_control_blocks() {
+        // Given
+        SCL scl = newScl();
+        ControlBlockNetworkGraph graph = ControlBlockNetworkGraph.of(scl, new LdeviceService(new LnService()), new ExtRefService());
+        TConnectedAP subscriberConnectedAP = scl.getCommunication().getSubNetwork().getFirst().getConnectedAP().get(1);
+        TGSE newGse = newGse("LD_INST", "CB_NEW", "01-0C-CD-01-00-04");
+        subscriberConnectedAP.getGSE().add(newGse);
+        // When
+        graph.addControlBlock(SUBSCRIBER, newGse);
+        graph.addControlBlock(SUBSCRIBER, newGse);
+        subscriberConnectedAP.getGSE().getFirst().setAddress(newAddress(List.of(newP("MAC-Address", "01-0C-CD-01-00-05"))));
+        // Then
+        assertThat(graph.findExcludedMacAddresses(PUBLISHER, TCBType.GOOSE).boxed())
+                .containsExactlyInAnyOrder(mac("01-0C-CD-01-00-05"), mac("01-0C-CD-01-00-04"), mac("01-0C-CD-01-00-01"));
+    }
+
+    private static SCL newScl() {
+        SCL scl = new SCL();
+        scl.getIED().add(newIed(PUBLISHER));
+        TIED subscriber = newIed(SUBSCRIBER);
+        TExtRef tExtRef = new TExtRef();
+        tExtRef.setIedName(PUBLISHER);
+        tExtRef.setLdInst("LD_INST");
+        tExtRef.setSrcCBName("CB_GOOSE");
+        TInputs tInputs = new TInputs();
+        tInputs.getExtRef().add(tExtRef);
+        subscriber.getAccessPoint().getFirst().getServer().getLDevice().getFirst().getLN0().setInputs(tInputs);
+        scl.getIED().add(subscriber);
+        scl.getIED().add(newIed(OTHER));
+
+        TConnectedAP publisherConnectedAP = newConnectedAP(PUBLISHER);
+        publisherConnectedAP.getGSE().add(newGse("LD_INST", "CB_GOOSE", "01-0C-CD-01-00-01"));
+        publisherConnectedAP.getGSE().add(newGse("LD_INST", "CB_GOOSE_2", "01-0C-CD-01-00-02"));
+        TConnectedAP subscriberConnectedAP = newConnectedAP(SUBSCRIBER);
+        subscriberConnectedAP.getGSE().add(newGse("LD_INST", "CB_GOOSE", "01-0C-CD-01-00-03"));
+        TSubNetwork tSubNetwork = new TSubNetwork();
+        tSubNetwork.getConnectedAP().addAll(List.of(publisherConnectedAP, subscriberConnectedAP, newConnectedAP(OTHER)));
+        TCommunication tCommunication = new TCommunication();
+        tCommunication.getSubNetwork().add(tSubNetwork);
+        scl.setCommunication(tCommunication);
+        return scl;
+    }
+
+    private static TIED newIed(String iedName) {
+        TIED tied = new TIED();
+        tied.setName(iedName);
+        TLDevice tlDevice = new TLDevice();
+        tlDevice.setInst("LD_INST");
+        tlDevice.setLN0(new LN0());
+        TServer tServer = new TServer();
+        tServer.getLDevice().add(tlDevice);
+        TAccessPoint tAccessPoint = new TAccessPoint();
+        tAccessPoint.setName("AP_NAME");
+        tAccessPoint.setServer(tServer);
+        tied.getAccessPoint().add(tAccessPoint);
+        return tied;
+    }
+
+    private static TConnectedAP newConnectedAP(String iedName) {
+        TConnectedAP tConnectedAP = new TConnectedAP();
+        tConnectedAP.setIedName(iedName);
+        tConnectedAP.setApName("AP_NAME");
+        return tConnectedAP;
+    }
+
+    private static TGSE newGse(String ldInst, String cbName, String macAddress) {
+        TGSE tgse = new TGSE();
+        tgse.setLdInst(ldInst);
+        tgse.setCbName(cbName);
+        tgse.setAddress(newAddress(List.of(newP("MAC-Address", macAddress))));
+        return tgse;
+    }
+
+    private static long mac(String macAddress) {
+        return Utils.macAddressToLong(macAddress);
+    }
+}
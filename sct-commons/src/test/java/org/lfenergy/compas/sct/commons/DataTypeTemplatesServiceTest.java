@@ -10,12 +10,15 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.lfenergy.compas.scl2007b4.model.*;
 import org.lfenergy.compas.sct.commons.domain.*;
+import org.lfenergy.compas.sct.commons.dto.DttCanonicalizationReport;
+import org.lfenergy.compas.sct.commons.scl.dtt.DataAttributeCatalogue;
 import org.lfenergy.compas.sct.commons.testhelpers.SclTestMarshaller;
 
 import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 import static org.assertj.core.api.AssertionsForClassTypes.tuple;
 import static org.lfenergy.compas.sct.commons.scl.dtt.DataTypeTemplateTestUtils.initDttFromFile;
 import static org.lfenergy.compas.sct.commons.util.SclConstructorHelper.newVal;
@@ -438,6 +441,42 @@ class DataTypeTemplatesServiceTest {
                 );
     }
 
+    @Test
+    void getAllDOAndDA_should_return_copies_of_cached_dataReference() {
+        // Given
+        TDataTypeTemplates dtt = initDttFromFile("dtt-test-schema-conf/scd_dtt_do_sdo_da_bda_tests.xml");
+        DoLinkedToDa firstResult = dataTypeTemplatesService.getAllDoLinkedToDa(dtt, "LN2", "Do21").findFirst().orElseThrow();
+        List<String> sdoNames = List.copyOf(firstResult.dataObject().getSdoNames());
+        List<DaVal> daiValues = List.copyOf(firstResult.dataAttribute().getDaiValues());
+        firstResult.dataAttribute().getDaiValues().clear();
+        firstResult.dataObject().getSdoNames().add("modified");
+        DataAttributeCatalogue.Statistics statisticsBefore = DataAttributeCatalogue.statistics();
+        // When
+        DoLinkedToDa secondResult = dataTypeTemplatesService.getAllDoLinkedToDa(dtt, "LN2", "Do21").findFirst().orElseThrow();
+        // Then
+        assertThat(secondResult).isNotSameAs(firstResult);
+        assertThat(secondResult.dataObject().getSdoNames()).isEqualTo(sdoNames);
+        assertThat(secondResult.dataAttribute().getDaiValues()).isEqualTo(daiValues);
+        assertThat(DataAttributeCatalogue.statistics().hitCount()).isGreaterThan(statisticsBefore.hitCount());
+    }
+
+    @Test
+    void getAllDOAndDA_after_invalidate_should_see_modified_types() {
+        // Given
+        TDataTypeTemplates dtt = initDttFromFile("dtt-test-schema-conf/scd_dtt_do_sdo_da_bda_tests.xml");
+        long countBefore = dataTypeTemplatesService.getAllDoLinkedToDa(dtt, "LN2").count();
+        dtt.getLNodeType().stream().filter(tlNodeType -> tlNodeType.getId().equals("LN2")).findFirst().orElseThrow()
+                .getDO().clear();
+        // When
+        long cachedCount = dataTypeTemplatesService.getAllDoLinkedToDa(dtt, "LN2").count();
+        DataAttributeCatalogue.invalidate(dtt);
+        long countAfterInvalidate = dataTypeTemplatesService.getAllDoLinkedToDa(dtt, "LN2").count();
+        // Then
+        assertThat(countBefore).isPositive();
+        assertThat(cachedCount).isEqualTo(countBefore);
+        assertThat(countAfterInvalidate).isZero();
+    }
+
     @Test
     void getEnumValues_should_succeed() {
         // Given
@@ -448,4 +487,215 @@ class DataTypeTemplatesServiceTest {
         assertThat(enumValues).containsExactly("REB", "RVB", "RVL", "RVB+L");
     }
 
+    @Test
+    void canonicalizeDataTypeTemplates_should_merge_equal_types_and_rewrite_references() {
+        // Given
+        SCL scd = newScdWithDttCopy("IED1_");
+        TLN tln = scd.getIED().getFirst().getAccessPoint().getFirst().getServer().getLDevice().getFirst().getLN().getFirst();
+        // When
+        DttCanonicalizationReport report = dataTypeTemplatesService.canonicalizeDataTypeTemplates(scd);
+        // Then
+        assertThat(report.removedLNodeTypeCount()).isEqualTo(1);
+        assertThat(report.removedDOTypeCount()).isEqualTo(1);
+        assertThat(report.removedDATypeCount()).isEqualTo(1);
+        assertThat(report.removedEnumTypeCount()).isEqualTo(1);
+        assertThat(report.removedTypeCount()).isEqualTo(4);
+        assertThat(report.replacedLNodeTypeIds()).containsOnly(entry("IED1_LN", "LN"));
+        assertThat(report.replacedDOTypeIds()).containsOnly(entry("IED1_DO", "DO"));
+        assertThat(report.replacedDATypeIds()).containsOnly(entry("IED1_DA", "DA"));
+        assertThat(report.replacedEnumTypeIds()).containsOnly(entry("IED1_ENUM", "ENUM"));
+        TDataTypeTemplates dtt = scd.getDataTypeTemplates();
+        assertThat(dtt.getLNodeType()).extracting(TLNodeType::getId).containsExactly("LN");
+        assertThat(dtt.getDOType()).extracting(TDOType::getId).containsExactly("DO");
+        assertThat(dtt.getDAType()).extracting(TDAType::getId).containsExactly("DA");
+        assertThat(dtt.getEnumType()).extracting(TEnumType::getId).containsExactly("ENUM");
+        assertThat(tln.getLnType()).isEqualTo("LN");
+    }
+
+    @Test
+    void canonicalizeDataTypeTemplates_should_rewrite_lnType_of_substation_LNodes() {
+        // Given
+        SCL scd = newScdWithDttCopy("IED1_");
+        TLNode tlNode = new TLNode();
+        tlNode.setIedName("IED1");
+        tlNode.setLdInst("LD_INST");
+        tlNode.getLnClass().add("GGIO");
+        tlNode.setLnInst("1");
+        tlNode.setLnType("IED1_LN");
+        TFunction tFunction = new TFunction();
+        tFunction.setName("FUNCTION");
+        tFunction.getLNode().add(tlNode);
+        TBay tBay = new TBay();
+        tBay.setName("BAY");
+        tBay.getFunction().add(tFunction);
+        TVoltageLevel tVoltageLevel = new TVoltageLevel();
+        tVoltageLevel.setName("VOLTAGE_LEVEL");
+        tVoltageLevel.getBay().add(tBay);
+        TSubstation tSubstation = new TSubstation();
+        tSubstation.setName("SUBSTATION");
+        tSubstation.getVoltageLevel().add(tVoltageLevel);
+        scd.getSubstation().add(tSubstation);
+        // When
+        dataTypeTemplatesService.canonicalizeDataTypeTemplates(scd);
+        // Then
+        assertThat(scd.getDataTypeTemplates().getLNodeType()).extracting(TLNodeType::getId).containsExactly("LN");
+        assertThat(tlNode.getLnType()).isEqualTo("LN");
+    }
+
+    @Test
+    void canonicalizeDataTypeTemplates_when_copy_is_referenced_first_should_keep_first_type_in_document_order() {
+        // Given
+        SCL scd = newScdWithDttCopy("IED1_");
+        TDataTypeTemplates dtt = scd.getDataTypeTemplates();
+        TBDA tbda = new TBDA();
+        tbda.setName("outerBda");
+        tbda.setBType(TPredefinedBasicTypeEnum.STRUCT);
+        tbda.setType("IED1_DA");
+        TDAType outerDaType = new TDAType();
+        outerDaType.setId("OUTER_DA");
+        outerDaType.getBDA().add(tbda);
+        dtt.getDAType().addFirst(outerDaType);
+        // When
+        DttCanonicalizationReport report = dataTypeTemplatesService.canonicalizeDataTypeTemplates(scd);
+        // Then
+        assertThat(report.replacedDATypeIds()).containsOnly(entry("IED1_DA", "DA"));
+        assertThat(dtt.getDAType()).extracting(TDAType::getId).containsExactly("OUTER_DA", "DA");
+        assertThat(tbda.getType()).isEqualTo("DA");
+    }
+
+    @Test
+    void canonicalizeDataTypeTemplates_should_keep_types_with_different_content() {
+        // Given
+        SCL scd = newScdWithDttCopy("IED1_");
+        TDataTypeTemplates dtt = scd.getDataTypeTemplates();
+        dtt.getEnumType().get(1).getEnumVal().getFirst().setValue("other");
+        // When
+        DttCanonicalizationReport report = dataTypeTemplatesService.canonicalizeDataTypeTemplates(scd);
+        // Then
+        assertThat(report.removedTypeCount()).isZero();
+        assertThat(report.replacedLNodeTypeIds()).isEmpty();
+        assertThat(report.replacedEnumTypeIds()).isEmpty();
+        assertThat(dtt.getLNodeType()).extracting(TLNodeType::getId).containsExactly("LN", "IED1_LN");
+        assertThat(dtt.getEnumType()).extracting(TEnumType::getId).containsExactly("ENUM", "IED1_ENUM");
+    }
+
+    @Test
+    void canonicalizeDataTypeTemplates_when_child_has_private_should_not_merge_parent_type() {
+        // Given
+        SCL scd = newScdWithDttCopy("IED1_");
+        TDataTypeTemplates dtt = scd.getDataTypeTemplates();
+        TPrivate tPrivate = new TPrivate();
+        tPrivate.setType("PRIVATE_TYPE");
+        ((TDA) dtt.getDOType().get(1).getSDOOrDA().getFirst()).getPrivate().add(tPrivate);
+        // When
+        DttCanonicalizationReport report = dataTypeTemplatesService.canonicalizeDataTypeTemplates(scd);
+        // Then
+        assertThat(report.replacedDOTypeIds()).isEmpty();
+        assertThat(report.replacedLNodeTypeIds()).isEmpty();
+        assertThat(report.replacedDATypeIds()).containsOnly(entry("IED1_DA", "DA"));
+        assertThat(report.replacedEnumTypeIds()).containsOnly(entry("IED1_ENUM", "ENUM"));
+        assertThat(dtt.getDOType()).extracting(TDOType::getId).containsExactly("DO", "IED1_DO");
+        assertThat(dtt.getLNodeType()).extracting(TLNodeType::getId).containsExactly("LN", "IED1_LN");
+    }
+
+    @Test
+    void canonicalizeDataTypeTemplates_should_report_replaced_ids_by_kind_of_type() {
+        // Given
+        SCL scd = newScdWithDttCopy("IED1_");
+        TDataTypeTemplates dtt = scd.getDataTypeTemplates();
+        for (String prefix : List.of("", "IED1_")) {
+            int i = prefix.isEmpty() ? 0 : 1;
+            dtt.getEnumType().get(i).setId(prefix + "TYPE");
+            dtt.getDAType().get(i).setId(prefix + "TYPE");
+            dtt.getDAType().get(i).getBDA().getFirst().setType(prefix + "TYPE");
+            dtt.getDOType().get(i).setId(prefix + "TYPE");
+            ((TDA) dtt.getDOType().get(i).getSDOOrDA().getFirst()).setType(prefix + "TYPE");
+            dtt.getLNodeType().get(i).setId(prefix + "TYPE");
+            dtt.getLNodeType().get(i).getDO().getFirst().setType(prefix + "TYPE");
+        }
+        TLN tln = scd.getIED().getFirst().getAccessPoint().getFirst().getServer().getLDevice().getFirst().getLN().getFirst();
+        tln.setLnType("IED1_TYPE");
+        // When
+        DttCanonicalizationReport report = dataTypeTemplatesService.canonicalizeDataTypeTemplates(scd);
+        // Then
+        assertThat(report.removedTypeCount()).isEqualTo(4);
+        assertThat(List.of(report.replacedLNodeTypeIds(), report.replacedDOTypeIds(), report.replacedDATypeIds(), report.replacedEnumTypeIds()))
+                .allSatisfy(replacedIds -> assertThat(replacedIds).containsOnly(entry("IED1_TYPE", "TYPE")));
+        assertThat(tln.getLnType()).isEqualTo("TYPE");
+    }
+
+    @Test
+    void canonicalizeDataTypeTemplates_when_no_DataTypeTemplates_should_remove_nothing() {
+        // Given
+        SCL scd = new SCL();
+        // When
+        DttCanonicalizationReport report = dataTypeTemplatesService.canonicalizeDataTypeTemplates(scd);
+        // Then
+        assertThat(report.removedTypeCount()).isZero();
+        assertThat(scd.getDataTypeTemplates()).isNull();
+    }
+
+    /**
+     * SCD with the types LN > DO > DA > ENUM, and a copy of all of them with prefixed ids, used by the LN of the IED
+     */
+    private static SCL newScdWithDttCopy(String prefix) {
+        TDataTypeTemplates dtt = new TDataTypeTemplates();
+        for (String idPrefix : List.of("", prefix)) {
+            TEnumType tEnumType = new TEnumType();
+            tEnumType.setId(idPrefix + "ENUM");
+            TEnumVal tEnumVal = new TEnumVal();
+            tEnumVal.setOrd(1);
+            tEnumVal.setValue("on");
+            tEnumType.getEnumVal().add(tEnumVal);
+            dtt.getEnumType().add(tEnumType);
+
+            TBDA tbda = new TBDA();
+            tbda.setName("bda");
+            tbda.setBType(TPredefinedBasicTypeEnum.ENUM);
+            tbda.setType(idPrefix + "ENUM");
+            TDAType tdaType = new TDAType();
+            tdaType.setId(idPrefix + "DA");
+            tdaType.getBDA().add(tbda);
+            dtt.getDAType().add(tdaType);
+
+            TDA tda = new TDA();
+            tda.setName("da");
+            tda.setFc(TFCEnum.ST);
+            tda.setBType(TPredefinedBasicTypeEnum.STRUCT);
+            tda.setType(idPrefix + "DA");
+            TDOType tdoType = new TDOType();
+            tdoType.setId(idPrefix + "DO");
+            tdoType.setCdc(TPredefinedCDCEnum.SPS);
+            tdoType.getSDOOrDA().add(tda);
+            dtt.getDOType().add(tdoType);
+
+            TDO tdo = new TDO();
+            tdo.setName("Do");
+            tdo.setType(idPrefix + "DO");
+            TLNodeType tlNodeType = new TLNodeType();
+            tlNodeType.setId(idPrefix + "LN");
+            tlNodeType.getLnClass().add("GGIO");
+            tlNodeType.getDO().add(tdo);
+            dtt.getLNodeType().add(tlNodeType);
+        }
+        TLN tln = new TLN();
+        tln.getLnClass().add("GGIO");
+        tln.setInst("1");
+        tln.setLnType(prefix + "LN");
+        TLDevice tlDevice = new TLDevice();
+        tlDevice.setInst("LD_INST");
+        tlDevice.getLN().add(tln);
+        TServer tServer = new TServer();
+        tServer.getLDevice().add(tlDevice);
+        TAccessPoint tAccessPoint = new TAccessPoint();
+        tAccessPoint.setServer(tServer);
+        TIED tied = new TIED();
+        tied.setName("IED1");
+        tied.getAccessPoint().add(tAccessPoint);
+        SCL scd = new SCL();
+        scd.getIED().add(tied);
+        scd.setDataTypeTemplates(dtt);
+        return scd;
+    }
+
 }
@@ -0,0 +1,99 @@
+// SPDX-FileCopyrightText: 2025 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons;
+
+import org.junit.jupiter.api.Test;
+import org.lfenergy.compas.scl2007b4.model.*;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DataTypeTemplatesUsageTest {
+
+    @Test
+    void referencedBy_should_return_types_reachable_from_ied_lns() {
+        // Given
+        TDataTypeTemplates dtt = newDataTypeTemplates();
+        TIED tied = newIed("LNT_USED");
+        // When
+        DataTypeTemplatesUsage usage = DataTypeTemplatesUsage.referencedBy(dtt, List.of(tied));
+        // Then
+        assertThat(usage.ids()).containsExactly("DAT_USED", "DOT_USED", "ENUM_USED", "LNT_USED", "SDOT_USED");
+    }
+
+    @Test
+    void minus_and_removeFrom_should_remove_types_used_only_by_given_ieds() {
+        // Given
+        TDataTypeTemplates dtt = newDataTypeTemplates();
+        DataTypeTemplatesUsage usedByRemovedIed = DataTypeTemplatesUsage.referencedBy(dtt, List.of(newIed("LNT_USED")));
+        DataTypeTemplatesUsage usedByOtherIed = DataTypeTemplatesUsage.referencedBy(dtt, List.of(newIed("LNT_UNUSED")));
+        // When
+        DataTypeTemplatesUsage removedTypes = usedByRemovedIed.minus(usedByOtherIed);
+        removedTypes.removeFrom(dtt);
+        // Then
+        assertThat(removedTypes.ids()).containsExactly("DAT_USED", "DOT_USED", "ENUM_USED", "LNT_USED", "SDOT_USED");
+        assertThat(DataTypeTemplatesUsage.allTypes(dtt).ids()).containsExactly("LNT_UNUSED");
+    }
+
+    private static TDataTypeTemplates newDataTypeTemplates() {
+        TDataTypeTemplates dtt = new TDataTypeTemplates();
+        dtt.getLNodeType().add(newLNodeType("LNT_USED", "DOT_USED"));
+        dtt.getLNodeType().add(newLNodeType("LNT_UNUSED", null));
+        TDOType tdoType = new TDOType();
+        tdoType.setId("DOT_USED");
+        TSDO tsdo = new TSDO();
+        tsdo.setName("sdo");
+        tsdo.setType("SDOT_USED");
+        tdoType.getSDOOrDA().add(tsdo);
+        TDA structDa = new TDA();
+        structDa.setName("struct");
+        structDa.setBType(TPredefinedBasicTypeEnum.STRUCT);
+        structDa.setType("DAT_USED");
+        tdoType.getSDOOrDA().add(structDa);
+        dtt.getDOType().add(tdoType);
+        TDOType sdoType = new TDOType();
+        sdoType.setId("SDOT_USED");
+        dtt.getDOType().add(sdoType);
+        TDAType tdaType = new TDAType();
+        tdaType.setId("DAT_USED");
+        TBDA enumBda = new TBDA();
+        enumBda.setName("enum");
+        enumBda.setBType(TPredefinedBasicTypeEnum.ENUM);
+        enumBda.setType("ENUM_USED");
+        tdaType.getBDA().add(enumBda);
+        dtt.getDAType().add(tdaType);
+        TEnumType tEnumType = new TEnumType();
+        tEnumType.setId("ENUM_USED");
+        dtt.getEnumType().add(tEnumType);
+        return dtt;
+    }
+
+    private static TLNodeType newLNodeType(String id, String doTypeId) {
+        TLNodeType tlNodeType = new TLNodeType();
+        tlNodeType.setId(id);
+        if (doTypeId != null) {
+            TDO tdo = new TDO();
+            tdo.setName("Mod");
+            tdo.setType(doTypeId);
+            tlNodeType.getDO().add(tdo);
+        }
+        return tlNodeType;
+    }
+
+    private static TIED newIed(String lnType) {
+        LN0 ln0 = new LN0();
+        ln0.setLnType(lnType);
+        TLDevice tlDevice = new TLDevice();
+        tlDevice.setLN0(ln0);
+        TServer tServer = new TServer();
+        tServer.getLDevice().add(tlDevice);
+        TAccessPoint tAccessPoint = new TAccessPoint();
+        tAccessPoint.setServer(tServer);
+        TIED tied = new TIED();
+        tied.getAccessPoint().add(tAccessPoint);
+        return tied;
+    }
+}
@@ -11,6 +11,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.lfenergy.compas.scl2007b4.model.SCL;
+import org.lfenergy.compas.scl2007b4.model.TAnyLN;
 import org.lfenergy.compas.scl2007b4.model.TExtRef;
 import org.lfenergy.compas.scl2007b4.model.TLLN0Enum;
 import org.lfenergy.compas.scl2007b4.model.TServiceType;
@@ -18,6 +19,7 @@ import org.lfenergy.compas.sct.commons.dto.*;
 import org.lfenergy.compas.sct.commons.exception.ScdException;
 import org.lfenergy.compas.sct.commons.testhelpers.SclTestMarshaller;
 
+import java.util.List;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -265,4 +267,128 @@ class ExtRefEditorServiceTest {
         assertThat(extRef.getSrcLNClass()).contains(extRefInfo.getBindingInfo().getLnClass());
     }
 
+    @Test
+    void updateExtRefBinders_with_list_should_update_valid_extRefs_and_report_invalid_ones() {
+        //Given
+        SCL scd = SclTestMarshaller.getSCLFromResource("ied-test-schema-conf/ied_unit_test.xml");
+        ExtRefInfo validExtRefInfo = createAncrExtRefInfo("LD_INS2", "INT_ADDR2");
+        ExtRefInfo withoutBindingInfo = createAncrExtRefInfo("LD_INS2", "INT_ADDR2");
+        withoutBindingInfo.setBindingInfo(null);
+        ExtRefInfo withUnknownLD = createAncrExtRefInfo("UNKNOWN_LD", "INT_ADDR2");
+        ExtRefInfo withUnknownSignal = createAncrExtRefInfo("LD_INS2", "UNKNOWN_INT_ADDR");
+        //When
+        List<SclReportItem> sclReportItems = extRefEditorService.updateExtRefBinders(scd,
+                List.of(withoutBindingInfo, validExtRefInfo, withUnknownLD, withUnknownSignal));
+        //Then
+        assertThat(sclReportItems).extracting(SclReportItem::message).containsExactly(
+                "ExtRef Signal and/or Binding information are missing",
+                "Unknown LDevice (UNKNOWN_LD) in IED (IED_NAME)",
+                "Unknown ExtRef [pDO(StrVal.sdo2),intAddr(UNKNOWN_INT_ADDR)] in IED_NAME/LD_INS2.ANCR");
+        assertThat(sclReportItems.get(1).xpath()).isEqualTo("/SCL/IED[@name=\"IED_NAME\"]/AccessPoint/Server/LDevice[@inst=\"UNKNOWN_LD\"]");
+        TExtRef extRef = findExtRef(scd, "IED_NAME", "LD_INS2", "INT_ADDR2");
+        assertThat(extRef.getIedName()).isEqualTo(validExtRefInfo.getBindingInfo().getIedName());
+        assertThat(extRef.getLdInst()).isEqualTo(validExtRefInfo.getBindingInfo().getLdInst());
+    }
+
+    @Test
+    void updateExtRefBinders_with_list_should_update_like_updateExtRefBinders() {
+        //Given
+        SCL expectedScd = SclTestMarshaller.getSCLFromResource("ied-test-schema-conf/ied_unit_test.xml");
+        SCL scd = SclTestMarshaller.getSCLFromResource("ied-test-schema-conf/ied_unit_test.xml");
+        extRefEditorService.updateExtRefBinders(expectedScd, createAncrExtRefInfo("LD_INS2", "INT_ADDR2"));
+        //When
+        List<SclReportItem> sclReportItems = extRefEditorService.updateExtRefBinders(scd, List.of(createAncrExtRefInfo("LD_INS2", "INT_ADDR2")));
+        //Then
+        assertThat(sclReportItems).isEmpty();
+        assertThat(SclTestMarshaller.marshal(scd)).isEqualTo(SclTestMarshaller.marshal(expectedScd));
+    }
+
+    @Test
+    void updateExtRefSources_should_update_valid_extRefs_and_report_invalid_ones() {
+        //Given
+        SCL scd = SclTestMarshaller.getSCLFromResource("scl-srv-scd-extref-cb/scd_get_cbs_test.xml");
+        ExtRefInfo validExtRefInfo = createLdInst21ExtRefInfo("LD_INST21", "goose1");
+        ExtRefInfo withUnknownControlBlock = createLdInst21ExtRefInfo("LD_INST21", "unknownCB");
+        ExtRefInfo withInternalBinding = createLdInst21ExtRefInfo("LD_INST21", "goose1");
+        withInternalBinding.getBindingInfo().setIedName("IED_NAME2");
+        ExtRefInfo withUnknownLD = createLdInst21ExtRefInfo("UNKNOWN_LD", "goose1");
+        //When
+        List<SclReportItem> sclReportItems = extRefEditorService.updateExtRefSources(scd,
+                List.of(withUnknownControlBlock, withInternalBinding, validExtRefInfo, withUnknownLD));
+        //Then
+        assertThat(sclReportItems).extracting(SclReportItem::message).containsExactly(
+                "Unknown control block unknownCB in Ied: IED_NAME1 / LdInst: LD_INST12 / LnPrefix: null LnClass: LLN0 LnInst: null",
+                "Internal binding can't have control block",
+                "Unknown LDevice (UNKNOWN_LD) in IED (IED_NAME2)");
+        TExtRef extRef = findExtRef(scd, "IED_NAME2", "LD_INST21", "INT_ADDR21");
+        assertThat(extRef.getSrcCBName()).isEqualTo("goose1");
+        assertThat(extRef.getSrcLDInst()).isEqualTo("LD_INST12");
+        assertThat(extRef.getSrcLNClass()).containsExactly(TLLN0Enum.LLN_0.value());
+    }
+
+    @Test
+    void updateExtRefSources_should_update_like_updateExtRefSource() {
+        //Given
+        SCL expectedScd = SclTestMarshaller.getSCLFromResource("scl-srv-scd-extref-cb/scd_get_cbs_test.xml");
+        SCL scd = SclTestMarshaller.getSCLFromResource("scl-srv-scd-extref-cb/scd_get_cbs_test.xml");
+        extRefEditorService.updateExtRefSource(expectedScd, createLdInst21ExtRefInfo("LD_INST21", "goose1"));
+        //When
+        List<SclReportItem> sclReportItems = extRefEditorService.updateExtRefSources(scd, List.of(createLdInst21ExtRefInfo("LD_INST21", "goose1")));
+        //Then
+        assertThat(sclReportItems).isEmpty();
+        assertThat(SclTestMarshaller.marshal(scd)).isEqualTo(SclTestMarshaller.marshal(expectedScd));
+    }
+
+    private static ExtRefInfo createAncrExtRefInfo(String holderLdInst, String intAddr) {
+        ExtRefInfo extRefInfo = DTO.createExtRefInfo();
+        extRefInfo.setHolderIEDName("IED_NAME");
+        extRefInfo.setHolderLDInst(holderLdInst);
+        extRefInfo.setHolderLnClass("ANCR");
+        extRefInfo.setHolderLnInst("1");
+        extRefInfo.setHolderLnPrefix(null);
+        extRefInfo.getSignalInfo().setPDO("StrVal.sdo2");
+        extRefInfo.getSignalInfo().setPDA("antRef.bda1.bda2.bda3");
+        extRefInfo.getSignalInfo().setIntAddr(intAddr);
+        extRefInfo.getSignalInfo().setDesc(null);
+        extRefInfo.getSignalInfo().setPServT(null);
+        return extRefInfo;
+    }
+
+    private static ExtRefInfo createLdInst21ExtRefInfo(String holderLdInst, String srcCBName) {
+        ExtRefInfo extRefInfo = new ExtRefInfo();
+        extRefInfo.setHolderIEDName("IED_NAME2");
+        extRefInfo.setHolderLDInst(holderLdInst);
+        extRefInfo.setHolderLnClass(TLLN0Enum.LLN_0.value());
+        ExtRefSignalInfo extRefSignalInfo = new ExtRefSignalInfo();
+        extRefSignalInfo.setIntAddr("INT_ADDR21");
+        extRefSignalInfo.setPDA("da21.bda211.bda212.bda213");
+        extRefSignalInfo.setPDO("Do21.sdo21");
+        extRefInfo.setSignalInfo(extRefSignalInfo);
+        ExtRefBindingInfo extRefBindingInfo = new ExtRefBindingInfo();
+        extRefBindingInfo.setIedName("IED_NAME1");
+        extRefBindingInfo.setLdInst("LD_INST12");
+        extRefBindingInfo.setLnClass(TLLN0Enum.LLN_0.value());
+        extRefInfo.setBindingInfo(extRefBindingInfo);
+        ExtRefSourceInfo sourceInfo = new ExtRefSourceInfo();
+        sourceInfo.setSrcLDInst("LD_INST12");
+        sourceInfo.setSrcLNClass(TLLN0Enum.LLN_0.value());
+        sourceInfo.setSrcCBName(srcCBName);
+        extRefInfo.setSourceInfo(sourceInfo);
+        return extRefInfo;
+    }
+
+    private static TExtRef findExtRef(SCL scd, String iedName, String ldInst, String intAddr) {
+        return scd.getIED().stream()
+                .filter(tied -> tied.getName().equals(iedName))
+                .flatMap(tied -> tied.getAccessPoint().stream())
+                .flatMap(tAccessPoint -> tAccessPoint.getServer().getLDevice().stream())
+                .filter(tlDevice -> tlDevice.getInst().equals(ldInst))
+                .flatMap(tlDevice -> Stream.<TAnyLN>concat(Stream.ofNullable(tlDevice.getLN0()), tlDevice.getLN().stream()))
+                .filter(TAnyLN::isSetInputs)
+                .flatMap(tAnyLN -> tAnyLN.getInputs().getExtRef().stream())
+                .filter(tExtRef -> intAddr.equals(tExtRef.getIntAddr()))
+                .findFirst()
+                .orElseThrow();
+    }
+
 }
@@ -15,14 +15,21 @@ import org.lfenergy.compas.sct.commons.exception.ScdException;
 import org.lfenergy.compas.sct.commons.scl.ExtRefService;
 import org.lfenergy.compas.sct.commons.scl.SclRootAdapter;
 import org.lfenergy.compas.sct.commons.scl.ldevice.LDeviceAdapter;
+import org.lfenergy.compas.sct.commons.scl.ln.AbstractLNAdapter;
 import org.lfenergy.compas.sct.commons.scl.ln.LNAdapter;
+import org.lfenergy.compas.sct.commons.testhelpers.SclHelper;
 import org.lfenergy.compas.sct.commons.testhelpers.SclTestMarshaller;
+import org.lfenergy.compas.sct.commons.util.PrivateUtils;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatCode;
 import static org.assertj.core.api.AssertionsForClassTypes.tuple;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
@@ -261,6 +268,86 @@ class SclServiceTest {
         assertSclValidateXsd(scd);
     }
 
+    @Test
+    void updateDAIs_should_update_valid_dais_and_report_invalid_ones() {
+        //Given
+        SCL scd = SclTestMarshaller.getSCLFromResource("ied-test-schema-conf/ied_unit_test.xml");
+        DaiUpdate validUpdate = new DaiUpdate("IED_NAME", "LD_INS1", newLn0DataAttributeRef("LNO1", "newValue"));
+        DaiUpdate invalidEnumValUpdate = new DaiUpdate("IED_NAME", "LD_INS1", newLn0DataAttributeRef("LNO1", "unknownValue"));
+        DaiUpdate unknownLnTypeUpdate = new DaiUpdate("IED_NAME", "LD_INS1", newLn0DataAttributeRef("unknownID", "newValue"));
+        DaiUpdate unknownIedUpdate = new DaiUpdate("unknownIED", "LD_INS1", newLn0DataAttributeRef("LNO1", "newValue"));
+        //When
+        List<SclReportItem> sclReportItems = sclService.updateDAIs(scd, List.of(invalidEnumValUpdate, unknownIedUpdate, validUpdate, unknownLnTypeUpdate));
+        //Then
+        assertThat(sclReportItems)
+                .extracting(SclReportItem::xpath, SclReportItem::message, SclReportItem::isError)
+                .containsExactly(
+                        tuple("/SCL/IED[@name=\"IED_NAME\"]/AccessPoint/Server/LDevice[@inst=\"LD_INS1\"]/LN0",
+                                "Unknown EnumVal(unknownValue) in EnumType(RecCycModKind) referenced by BDA(bda3) in 'antRef.bda1.bda2.bda3'", true),
+                        tuple("/SCL/IED[@name=\"unknownIED\"]/AccessPoint/Server/LDevice[@inst=\"LD_INS1\"]",
+                                "IED.name 'unknownIED' not found in SCD", true),
+                        tuple("/SCL/IED[@name=\"IED_NAME\"]/AccessPoint/Server/LDevice[@inst=\"LD_INS1\"]/LN0",
+                                "Unknown LNodeType : unknownID", true));
+        AbstractLNAdapter<?> ln0Adapter = new SclRootAdapter(scd).getIEDAdapterByName("IED_NAME").getLDeviceAdapterByLdInst("LD_INS1").getLN0Adapter();
+        assertThat(SclHelper.getValue(SclHelper.findDai(ln0Adapter, "Do.sdo1.d.antRef.bda1.bda2.bda3"))).isEqualTo("newValue");
+        assertSclValidateXsd(scd);
+    }
+
+    @Test
+    void updateDAIs_should_update_like_updateDAI() {
+        //Given
+        SCL bulkScd = SclTestMarshaller.getSCLFromResource("ied-test-schema-conf/ied_unit_test.xml");
+        SCL scd = SclTestMarshaller.getSCLFromResource("ied-test-schema-conf/ied_unit_test.xml");
+        DataAttributeRef dataAttributeRef = newLn0DataAttributeRef("LNO1", "newValue");
+        //When
+        List<SclReportItem> sclReportItems = sclService.updateDAIs(bulkScd, List.of(new DaiUpdate("IED_NAME", "LD_INS1", DataAttributeRef.copyFrom(dataAttributeRef))));
+        sclService.updateDAI(scd, "IED_NAME", "LD_INS1", dataAttributeRef);
+        //Then
+        assertThat(sclReportItems).isEmpty();
+        assertThat(SclTestMarshaller.marshal(bulkScd)).isEqualTo(SclTestMarshaller.marshal(scd));
+    }
+
+    @Test
+    void updateDAIs_when_do_and_da_names_are_split_differently_should_check_each_split() {
+        //Given
+        SCL scd = SclTestMarshaller.getSCLFromResource("ied-test-schema-conf/ied_unit_test.xml");
+        DataAttributeRef validDataAttributeRef = newLn0DataAttributeRef("LNO1", "newValue");
+        DataAttributeRef sameDottedPathDataAttributeRef = newLn0DataAttributeRef("LNO1", "newValue");
+        sameDottedPathDataAttributeRef.setDoName(new DoTypeName("Do.sdo1"));
+        sameDottedPathDataAttributeRef.setDaName(new DaTypeName("d.antRef.bda1.bda2.bda3"));
+        sameDottedPathDataAttributeRef.setDaiValues(List.of(newTVal("newValue")));
+        SCL otherScd = SclTestMarshaller.getSCLFromResource("ied-test-schema-conf/ied_unit_test.xml");
+        DataAttributeRef expectedErrorDataAttributeRef = DataAttributeRef.copyFrom(sameDottedPathDataAttributeRef);
+        String expectedMessage = catchThrowableOfType(ScdException.class,
+                () -> sclService.updateDAI(otherScd, "IED_NAME", "LD_INS1", expectedErrorDataAttributeRef)).getMessage();
+        //When
+        List<SclReportItem> sclReportItems = sclService.updateDAIs(scd, List.of(
+                new DaiUpdate("IED_NAME", "LD_INS1", validDataAttributeRef),
+                new DaiUpdate("IED_NAME", "LD_INS1", sameDottedPathDataAttributeRef)));
+        //Then
+        assertThat(sclReportItems)
+                .extracting(SclReportItem::message)
+                .containsExactly(expectedMessage);
+    }
+
+    private static TVal newTVal(String value) {
+        TVal tVal = new TVal();
+        tVal.setValue(value);
+        return tVal;
+    }
+
+    private static DataAttributeRef newLn0DataAttributeRef(String lnType, String value) {
+        DataAttributeRef dataAttributeRef = new DataAttributeRef();
+        dataAttributeRef.setLnType(lnType);
+        dataAttributeRef.setLnClass(TLLN0Enum.LLN_0.value());
+        dataAttributeRef.setDoName(new DoTypeName("Do.sdo1.d"));
+        dataAttributeRef.setDaName(new DaTypeName("antRef.bda1.bda2.bda3"));
+        TVal tVal = new TVal();
+        tVal.setValue(value);
+        dataAttributeRef.setDaiValues(List.of(tVal));
+        return dataAttributeRef;
+    }
+
     @Test
     void testImportSTDElementsInSCD_whenCalledWithOneSTD_shouldNotThrowException() {
         //Given
@@ -340,6 +427,63 @@ class SclServiceTest {
                 .hasMessage("There is no STD file found corresponding to headerId = f8dbc8c1-2db7-4652-a9d6-0b414bdeccfa, headerVersion = 01.00.00, headerRevision = 01.00.00 and ICDSystemVersionUUID = IED4d4fe1a8cda64cf88a5ee4176a1a0eef");
     }
 
+    @Test
+    void importSTDElementsInSCD_with_stds_by_icdSystemVersionUuid_should_import_like_with_list_of_stds() {
+        //Given
+        SCL scd = SclTestMarshaller.getSCLFromResource("scd-ied-dtt-com-import-stds/scd_lnode_with_many_compas_icdheader.xml");
+        SCL expectedScd = SclTestMarshaller.getSCLFromResource("scd-ied-dtt-com-import-stds/scd_lnode_with_many_compas_icdheader.xml");
+        List<String> stdFiles = List.of("scd-ied-dtt-com-import-stds/std.xml", "scd-ied-dtt-com-import-stds/std_SITESITE1SCU1.xml",
+                "scd-ied-dtt-com-import-stds/std_SITESITE1SCU2.xml");
+        Map<String, PrivateLinkedToStds> stdsByIcdSystemVersionUuid = PrivateUtils.createMapICDSystemVersionUuidAndSTDFile(
+                stdFiles.stream().map(SclTestMarshaller::getSCLFromResource).toList());
+        sclService.importSTDElementsInSCD(expectedScd, stdFiles.stream().map(SclTestMarshaller::getSCLFromResource).toList());
+        //When
+        sclService.importSTDElementsInSCD(scd, stdsByIcdSystemVersionUuid);
+        //Then
+        assertThat(SclTestMarshaller.marshal(scd)).isEqualTo(SclTestMarshaller.marshal(expectedScd));
+    }
+
+    @Test
+    void updateSTDElementsInSCD_should_replace_ied_of_changed_std_only() {
+        //Given
+        SCL scd = SclTestMarshaller.getSCLFromResource("scd-ied-dtt-com-import-stds/scd_lnode_with_many_compas_icdheader.xml");
+        sclService.importSTDElementsInSCD(scd, List.of(
+                SclTestMarshaller.getSCLFromResource("scd-ied-dtt-com-import-stds/std.xml"),
+                SclTestMarshaller.getSCLFromResource("scd-ied-dtt-com-import-stds/std_SITESITE1SCU1.xml"),
+                SclTestMarshaller.getSCLFromResource("scd-ied-dtt-com-import-stds/std_SITESITE1SCU2.xml")));
+        List<String> iedNames = scd.getIED().stream().map(TIED::getName).toList();
+        TIED unchangedIed = scd.getIED().stream().filter(tied -> tied.getName().equals("SITESITE1SCU0")).findFirst().orElseThrow();
+        SCL changedStd = SclTestMarshaller.getSCLFromResource("scd-ied-dtt-com-import-stds/std_SITESITE1SCU1.xml");
+        //When
+        StdUpdateReport stdUpdateReport = sclService.updateSTDElementsInSCD(scd, List.of(changedStd));
+        //Then
+        assertThat(stdUpdateReport.updatedIedNames()).containsExactly("SITESITE1SCU1");
+        assertThat(stdUpdateReport.connectedAPs()).isNotEmpty()
+                .allMatch(connectedApDTO -> connectedApDTO.iedName().equals("SITESITE1SCU1"));
+        assertThat(stdUpdateReport.removedConnectedAPs()).isEmpty();
+        assertThat(stdUpdateReport.addedTypeIds()).isEmpty();
+        assertThat(stdUpdateReport.removedTypeIds()).isEmpty();
+        assertThat(scd.getIED()).extracting(TIED::getName).containsExactlyElementsOf(iedNames);
+        assertThat(scd.getIED()).filteredOn(tied -> tied.getName().equals("SITESITE1SCU0")).containsExactly(unchangedIed);
+        assertThat(scd.getIED()).filteredOn(tied -> tied.getName().equals("SITESITE1SCU1")).singleElement()
+                .isSameAs(changedStd.getIED().getFirst());
+        assertThat(scd.getCommunication().getSubNetwork()).hasSize(2);
+        assertSclValidateXsd(scd);
+    }
+
+    @Test
+    void updateSTDElementsInSCD_when_std_matches_no_compasICDHeader_should_throw_exception() {
+        //Given
+        SCL scd = SclTestMarshaller.getSCLFromResource("scd-ied-dtt-com-import-stds/scd.xml");
+        sclService.importSTDElementsInSCD(scd, List.of(SclTestMarshaller.getSCLFromResource("scd-ied-dtt-com-import-stds/std.xml")));
+        List<SCL> changedStds = List.of(SclTestMarshaller.getSCLFromResource("scd-ied-dtt-com-import-stds/std_SITESITE1SCU1.xml"));
+        //When Then
+        assertThatThrownBy(() -> sclService.updateSTDElementsInSCD(scd, changedStds))
+                .isInstanceOf(ScdException.class)
+                .hasMessageStartingWith("There is no COMPAS-ICDHeader in Substation corresponding to STD file with");
+        assertThat(scd.getIED()).extracting(TIED::getName).containsExactly("SITESITE1SCU0");
+    }
+
     @Test
     void manageMonitoringLns_should_update_and_create_lsvs_and_goose() {
         // Given
@@ -560,6 +704,38 @@ class SclServiceTest {
                         });
     }
 
+    @Test
+    void manageMonitoringLns_with_executor_should_create_lns_in_extRef_order() {
+        // Given
+        SCL expectedScd = SclTestMarshaller.getSCLFromResource("monitoring_lns/scd_monitoring_lsvs_lgos.xml");
+        SCL scd = SclTestMarshaller.getSCLFromResource("monitoring_lns/scd_monitoring_lsvs_lgos.xml");
+        sclService.manageMonitoringLns(expectedScd, Runnable::run);
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        // When
+        List<SclReportItem> sclReportItems;
+        try {
+            sclReportItems = sclService.manageMonitoringLns(scd, executorService);
+        } finally {
+            executorService.shutdown();
+        }
+        //Then
+        assertThat(sclReportItems).isEmpty();
+        assertThat(SclTestMarshaller.marshal(scd)).isEqualTo(SclTestMarshaller.marshal(expectedScd));
+        assertThat(scd.getIED())
+                .filteredOn(tied -> tied.getName().equals("IED_NAME1"))
+                .flatExtracting(TIED::getAccessPoint)
+                .extracting(TAccessPoint::getServer)
+                .flatExtracting(TServer::getLDevice)
+                .filteredOn(tlDevice -> tlDevice.getInst().equals(LD_LDSUIED))
+                .flatExtracting(TLDevice::getLN)
+                .filteredOn(tln -> tln.getLnClass().contains("LGOS"))
+                .flatExtracting(TAnyLN::getDOI)
+                .flatExtracting(TDOI::getSDIOrDAI)
+                .filteredOn(tUnNaming -> tUnNaming instanceof TDAI tdai && tdai.getName().equals("setSrcRef"))
+                .map(tUnNaming -> ((TDAI) tUnNaming).getVal().getFirst().getValue())
+                .containsExactly("IED_NAME2LD_INST22/LLN0.goose1", "IED_NAME2LD_INST21/LLN0.goose1");
+    }
+
     @Test
     void manageMonitoringLns_should_clean_remove_all_lsvs_lgos_with_instance_not_equals_one(){
         // Given
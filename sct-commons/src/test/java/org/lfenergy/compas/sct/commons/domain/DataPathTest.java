@@ -0,0 +1,80 @@
+// SPDX-FileCopyrightText: 2025 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DataPathTest {
+
+    @Test
+    void append_should_share_prefix_and_keep_original_path() {
+        // Given
+        DataPath prefix = DataPath.empty().append("sdo1");
+        // When
+        DataPath path1 = prefix.append("sdo2");
+        DataPath path2 = prefix.append("sdo3");
+        // Then
+        assertThat(prefix.toList()).containsExactly("sdo1");
+        assertThat(path1.toList()).containsExactly("sdo1", "sdo2");
+        assertThat(path2.toList()).containsExactly("sdo1", "sdo3");
+        assertThat(path1.parent()).isSameAs(prefix).isSameAs(path2.parent());
+        assertThat(path1.size()).isEqualTo(2);
+        assertThat(path1.last()).isEqualTo("sdo2");
+    }
+
+    @Test
+    void append_should_intern_names() {
+        // Given
+        String name1 = new String("bda1");
+        String name2 = new String("bda1");
+        // When
+        DataPath path1 = DataPath.empty().append(name1);
+        DataPath path2 = DataPath.empty().append(name2);
+        // Then
+        assertThat(path1.last()).isSameAs(path2.last());
+    }
+
+    @Test
+    void of_should_be_equal_to_appended_path() {
+        // Given
+        DataPath appended = DataPath.empty().append("bda1").append("bda2");
+        // When
+        DataPath fromList = DataPath.of(List.of("bda1", "bda2"));
+        // Then
+        assertThat(fromList).isEqualTo(appended).hasSameHashCodeAs(appended)
+                .isNotEqualTo(DataPath.of(List.of("bda1", "bda3")))
+                .isNotEqualTo(DataPath.of(List.of("bda1")));
+        assertThat(fromList).hasToString("bda1.bda2");
+    }
+
+    @Test
+    void toList_should_return_mutable_copy() {
+        // Given
+        DataPath dataPath = DataPath.of(List.of("sdo1"));
+        // When
+        List<String> names = dataPath.toList();
+        names.add("sdo2");
+        // Then
+        assertThat(dataPath.toList()).containsExactly("sdo1");
+    }
+
+    @Test
+    void empty_path_should_have_no_name() {
+        // Given
+        DataPath empty = DataPath.empty();
+        // When Then
+        assertThat(empty.isEmpty()).isTrue();
+        assertThat(empty.toList()).isEmpty();
+        assertThat(empty.parent()).isSameAs(empty);
+        assertThat(empty).hasToString("");
+        assertThatThrownBy(empty::last).isInstanceOf(NoSuchElementException.class);
+    }
+}
@@ -180,6 +180,43 @@ class ControlBlockTargetTest {
         Assertions.assertThat(result).isFalse();
     }
 
+    @Test
+    void normalized_should_replace_blank_values_by_null() {
+        //Given
+        ControlBlockTarget controlBlockTarget = new ControlBlockTarget(
+            AP_REF, IED_NAME, LD_INST, " ", "", "", " ");
+        //When
+        ControlBlockTarget result = controlBlockTarget.normalized();
+        //Then
+        Assertions.assertThat(result).isEqualTo(new ControlBlockTarget(AP_REF, IED_NAME, LD_INST, null, null, null, null));
+    }
+
+    @Test
+    void normalized_should_be_equal_when_equalsTClientLn_matches() {
+        //Given
+        TClientLN tClientLN = createTClientLN();
+        tClientLN.setLnInst("");
+        tClientLN.setPrefix(null);
+        ControlBlockTarget controlBlockTarget = new ControlBlockTarget(
+            AP_REF, IED_NAME, LD_INST, null, LN_CLASS, "", DESC);
+        //When
+        ControlBlockTarget result = ControlBlockTarget.from(tClientLN).normalized();
+        //Then
+        Assertions.assertThat(controlBlockTarget.equalsTClientLn(tClientLN)).isTrue();
+        Assertions.assertThat(result).isEqualTo(controlBlockTarget.normalized());
+    }
+
+    @Test
+    void withoutDesc_should_be_equal_to_normalized_iedName_target() {
+        //Given
+        ControlBlockTarget controlBlockTarget = createControlBlockTarget();
+        //When
+        ControlBlockTarget result = controlBlockTarget.normalized().withoutDesc();
+        //Then
+        Assertions.assertThat(result).isEqualTo(ControlBlockTarget.from(controlBlockTarget.toIedName()).normalized());
+        Assertions.assertThat(result.withoutDesc()).isSameAs(result);
+    }
+
     private static ControlBlockTarget createControlBlockTarget() {
         return new ControlBlockTarget(
             AP_REF, IED_NAME, LD_INST, LN_INST, LN_CLASS, PREFIX, DESC);
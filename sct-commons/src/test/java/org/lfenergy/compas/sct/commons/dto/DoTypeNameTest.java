@@ -24,6 +24,20 @@ class DoTypeNameTest {
         assertThat(doTypeName.getStructNames()).containsExactly("bdo1", "bdo2");
     }
 
+    @Test
+    void from_whenCalledWithDoTypeName_shouldCopyNamesAndCdc() {
+        // given
+        DoTypeName doTypeName = new DoTypeName("do1.bdo1");
+        doTypeName.setCdc(TPredefinedCDCEnum.WYE);
+        // when
+        DoTypeName copy = DoTypeName.from(doTypeName);
+        copy.addStructName("bdo2");
+        // then
+        assertThat(copy.getCdc()).isEqualTo(TPredefinedCDCEnum.WYE);
+        assertThat(copy.getStructNames()).containsExactly("bdo1", "bdo2");
+        assertThat(doTypeName.getStructNames()).containsExactly("bdo1");
+    }
+
     @Test
     void constructor_whenCalledWithDoNameWithDotSeparatedValues_shouldFillValues() {
         // given : nothing
@@ -0,0 +1,40 @@
+// SPDX-FileCopyrightText: 2025 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.dto;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DttCanonicalizationReportTest {
+
+    @Test
+    void constructor_should_sort_replaced_ids_and_make_them_unmodifiable() {
+        // Given
+        Map<String, String> replacedDOTypeIds = new HashMap<>(Map.of("DO_C", "DO_A", "DO_B", "DO_A"));
+        // When
+        DttCanonicalizationReport report = new DttCanonicalizationReport(Map.of(), replacedDOTypeIds, Map.of(), Map.of());
+        replacedDOTypeIds.put("DO_D", "DO_A");
+        // Then
+        assertThat(report.replacedDOTypeIds().keySet()).containsExactly("DO_B", "DO_C");
+        assertThat(report.removedDOTypeCount()).isEqualTo(2);
+        assertThat(report.removedTypeCount()).isEqualTo(2);
+        Map<String, String> result = report.replacedDOTypeIds();
+        assertThatThrownBy(() -> result.put("DO_E", "DO_A")).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void empty_should_report_no_removed_type() {
+        // When
+        DttCanonicalizationReport report = DttCanonicalizationReport.empty();
+        // Then
+        assertThat(report.removedTypeCount()).isZero();
+        assertThat(report.replacedLNodeTypeIds()).isEmpty();
+    }
+}
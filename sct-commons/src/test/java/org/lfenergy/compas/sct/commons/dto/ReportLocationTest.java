@@ -0,0 +1,105 @@
+// SPDX-FileCopyrightText: 2025 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.dto;
+
+import org.junit.jupiter.api.Test;
+import org.lfenergy.compas.scl2007b4.model.SCL;
+import org.lfenergy.compas.sct.commons.scl.SclRootAdapter;
+import org.lfenergy.compas.sct.commons.scl.ied.IEDAdapter;
+import org.lfenergy.compas.sct.commons.scl.ldevice.LDeviceAdapter;
+import org.lfenergy.compas.sct.commons.scl.ln.AbstractLNAdapter;
+import org.lfenergy.compas.sct.commons.scl.ln.LNAdapter;
+import org.lfenergy.compas.sct.commons.testhelpers.SclTestMarshaller;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ReportLocationTest {
+
+    @Test
+    void toXPath_should_render_element_chain() {
+        // Given
+        ReportLocation location = ReportLocation.ROOT.child("SCL")
+                .child("IED", "name", "IED_NAME1")
+                .child("LN", "lnClass", List.of("LLN0"), "inst", null);
+        // When
+        String result = location.toXPath();
+        // Then
+        assertThat(result).isEqualTo("/SCL/IED[@name=\"IED_NAME1\"]/LN[@lnClass=\"LLN0\" and not(@inst)]");
+        assertThat(location.toXPath()).isSameAs(result);
+        assertThat(location.getAttribute("inst")).isNull();
+        assertThat(location.getParent().getAttribute("name")).isEqualTo("IED_NAME1");
+    }
+
+    @Test
+    void toXPath_when_location_is_given_as_xpath_should_render_it_as_is() {
+        // Given
+        ReportLocation location = ReportLocation.of("Control Block Communication setting files").child("Settings");
+        // When
+        String result = location.toXPath();
+        // Then
+        assertThat(result).isEqualTo("Control Block Communication setting files/Settings");
+        assertThat(ReportLocation.ROOT.toXPath()).isEmpty();
+    }
+
+    @Test
+    void equals_should_compare_rendered_xpath() {
+        // Given
+        ReportLocation location = ReportLocation.ROOT.child("SCL").child("IED", "name", "IED_NAME1");
+        // When Then
+        assertThat(location).isEqualTo(ReportLocation.of("/SCL/IED[@name=\"IED_NAME1\"]"))
+                .hasSameHashCodeAs(ReportLocation.of("/SCL/IED[@name=\"IED_NAME1\"]"));
+        assertThat(SclReportItem.error(location, "message")).isEqualTo(SclReportItem.error("/SCL/IED[@name=\"IED_NAME1\"]", "message"));
+    }
+
+    @Test
+    void child_when_attribute_value_is_missing_should_throw_exception() {
+        // Given
+        ReportLocation location = ReportLocation.ROOT.child("SCL");
+        // When Then
+        assertThatThrownBy(() -> location.child("IED", "name"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Each attribute name must be followed by its value");
+    }
+
+    @Test
+    void getReportLocation_should_render_same_xpath_as_adapters() {
+        // Given
+        SCL scd = SclTestMarshaller.getSCLFromResource("limitation_cb_dataset_fcda/scd_check_limitation_bound_ied_controls_fcda.xml");
+        List<LDeviceAdapter> lDeviceAdapters = new SclRootAdapter(scd).streamIEDAdapters()
+                .flatMap(IEDAdapter::streamLDeviceAdapters)
+                .toList();
+        List<AbstractLNAdapter<?>> lnAdapters = lDeviceAdapters.stream()
+                .flatMap(LDeviceAdapter::streamLNAdaptersIncludingLN0)
+                .toList();
+        // When Then
+        assertThat(lDeviceAdapters).isNotEmpty()
+                .allSatisfy(lDeviceAdapter -> {
+                    assertThat(lDeviceAdapter.getReportLocation().toXPath()).isEqualTo(lDeviceAdapter.getXPath());
+                    assertThat(lDeviceAdapter.getParentAdapter().getReportLocation().toXPath()).isEqualTo(lDeviceAdapter.getParentAdapter().getXPath());
+                });
+        assertThat(lnAdapters).isNotEmpty()
+                .allSatisfy(lnAdapter -> assertThat(lnAdapter.getReportLocation().toXPath()).isEqualTo(lnAdapter.getXPath()));
+    }
+
+    @Test
+    void getReportLocation_of_ln_should_not_change_when_lnClass_changes() {
+        // Given
+        SCL scd = SclTestMarshaller.getSCLFromResource("limitation_cb_dataset_fcda/scd_check_limitation_bound_ied_controls_fcda.xml");
+        LNAdapter lnAdapter = new SclRootAdapter(scd).streamIEDAdapters()
+                .flatMap(IEDAdapter::streamLDeviceAdapters)
+                .flatMap(LDeviceAdapter::streamLnAdapters)
+                .findFirst()
+                .orElseThrow();
+        String expectedXPath = lnAdapter.getXPath();
+        ReportLocation location = lnAdapter.getReportLocation();
+        // When
+        lnAdapter.getCurrentElem().getLnClass().set(0, "NEWCLASS");
+        // Then
+        assertThat(location.toXPath()).isEqualTo(expectedXPath);
+    }
+}
@@ -0,0 +1,121 @@
+// SPDX-FileCopyrightText: 2025 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.dto;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SclReportSinkTest {
+
+    private static final SclReportItem ERROR_1 = SclReportItem.error("/SCL/IED[@name=\"IED_NAME1\"]", "error 1");
+    private static final SclReportItem ERROR_2 = SclReportItem.error("/SCL/IED[@name=\"IED_NAME2\"]", "error 2");
+    private static final SclReportItem WARNING = SclReportItem.warning("/SCL/IED[@name=\"IED_NAME1\"]", "warning");
+
+    @Test
+    void collectingAll_should_keep_all_items_in_order() {
+        // Given
+        SclReportSink sclReportSink = SclReportSink.collectingAll();
+        // When
+        sclReportSink.addAll(List.of(ERROR_1, WARNING, ERROR_2));
+        // Then
+        assertThat(sclReportSink.getItems()).containsExactly(ERROR_1, WARNING, ERROR_2);
+        assertThat(sclReportSink.getErrorCount()).isEqualTo(2);
+        assertThat(sclReportSink.getWarningCount()).isEqualTo(1);
+        assertThat(sclReportSink.hasError()).isTrue();
+        assertThat(sclReportSink.isAborted()).isFalse();
+    }
+
+    @Test
+    void collectingErrors_should_count_warnings_without_keeping_them() {
+        // Given
+        SclReportSink sclReportSink = SclReportSink.collectingErrors();
+        // When
+        sclReportSink.addAll(List.of(ERROR_1, WARNING, ERROR_2));
+        // Then
+        assertThat(sclReportSink.getItems()).containsExactly(ERROR_1, ERROR_2);
+        assertThat(sclReportSink.getWarningCount()).isEqualTo(1);
+    }
+
+    @Test
+    void countingOnly_should_count_items_without_keeping_them() {
+        // Given
+        SclReportSink sclReportSink = SclReportSink.countingOnly();
+        // When
+        sclReportSink.addAll(List.of(ERROR_1, WARNING, ERROR_2));
+        // Then
+        assertThat(sclReportSink.getItems()).isEmpty();
+        assertThat(sclReportSink.getErrorCount()).isEqualTo(2);
+        assertThat(sclReportSink.getWarningCount()).isEqualTo(1);
+    }
+
+    @Test
+    void error_and_warning_with_location_should_count_and_keep_items_of_kept_severities() {
+        // Given
+        SclReportSink sclReportSink = SclReportSink.collectingErrors();
+        ReportLocation location = ReportLocation.ROOT.child("SCL").child("IED", "name", "IED_NAME1");
+        // When
+        sclReportSink.error(location, "error 1");
+        sclReportSink.warning(location, "warning");
+        // Then
+        assertThat(sclReportSink.getItems()).containsExactly(ERROR_1);
+        assertThat(sclReportSink.getErrorCount()).isEqualTo(1);
+        assertThat(sclReportSink.getWarningCount()).isEqualTo(1);
+    }
+
+    @Test
+    void error_with_location_when_aborted_should_be_ignored() {
+        // Given
+        SclReportSink sclReportSink = SclReportSink.firstErrors(1);
+        sclReportSink.accept(ERROR_1);
+        // When
+        sclReportSink.error(ReportLocation.ROOT.child("SCL").child("IED", "name", "IED_NAME2"), "error 2");
+        // Then
+        assertThat(sclReportSink.getItems()).containsExactly(ERROR_1);
+        assertThat(sclReportSink.getErrorCount()).isEqualTo(1);
+    }
+
+    @Test
+    void firstErrors_should_stop_pulling_items_from_stream_when_aborted() {
+        // Given
+        SclReportSink sclReportSink = SclReportSink.firstErrors(2);
+        AtomicInteger computedItems = new AtomicInteger();
+        // When
+        sclReportSink.addAll(IntStream.range(0, 100)
+                .peek(i -> computedItems.incrementAndGet())
+                .mapToObj(i -> SclReportItem.error(ReportLocation.ROOT.child("SCL").child("IED", "name", "IED_NAME" + i), "error " + i)));
+        sclReportSink.accept(ERROR_1);
+        // Then
+        assertThat(sclReportSink.isAborted()).isTrue();
+        assertThat(sclReportSink.getErrorCount()).isEqualTo(2);
+        assertThat(sclReportSink.getItems()).extracting(SclReportItem::xpath)
+                .containsExactly("/SCL/IED[@name=\"IED_NAME0\"]", "/SCL/IED[@name=\"IED_NAME1\"]");
+        assertThat(computedItems).hasValue(3);
+    }
+
+    @Test
+    void abortingAfter_should_keep_severities() {
+        // Given
+        SclReportSink sclReportSink = SclReportSink.collectingAll().abortingAfter(1);
+        // When
+        sclReportSink.addAll(List.of(WARNING, ERROR_1, ERROR_2));
+        // Then
+        assertThat(sclReportSink.getItems()).containsExactly(WARNING, ERROR_1);
+        assertThat(sclReportSink.isAborted()).isTrue();
+    }
+
+    @Test
+    void firstErrors_when_maxErrors_is_not_positive_should_throw_exception() {
+        // When Then
+        assertThatThrownBy(() -> SclReportSink.firstErrors(0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Maximum number of errors must be positive: 0");
+    }
+}
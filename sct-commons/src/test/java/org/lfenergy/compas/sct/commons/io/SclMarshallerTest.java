@@ -0,0 +1,129 @@
+// SPDX-FileCopyrightText: 2025 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.io;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.lfenergy.compas.scl2007b4.model.SCL;
+import org.lfenergy.compas.scl2007b4.model.TIED;
+import org.lfenergy.compas.sct.commons.exception.ScdException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SclMarshallerTest {
+
+    private static final String SCD_RESOURCE = "scd-ied-dtt-com-import-stds/scd.xml";
+
+    private final SclMarshaller sclMarshaller = new SclMarshaller();
+
+    @Test
+    void unmarshal_should_read_byte_array_input_stream_and_path(@TempDir Path tempDir) throws IOException {
+        // Given
+        byte[] content = readResource(SCD_RESOURCE);
+        Path path = tempDir.resolve("scd.xml");
+        sclMarshaller.marshal(sclMarshaller.unmarshal(content), path);
+        // When
+        SCL fromBytes = sclMarshaller.unmarshal(content);
+        SCL fromPath = sclMarshaller.unmarshal(path);
+        // Then
+        assertThat(fromBytes.getHeader().getId()).isNotBlank();
+        assertThat(fromPath.getHeader().getId()).isEqualTo(fromBytes.getHeader().getId());
+        assertThat(new String(sclMarshaller.marshal(fromPath), StandardCharsets.UTF_8))
+                .isEqualTo(new String(sclMarshaller.marshal(fromBytes), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void unmarshal_when_content_is_not_scl_should_throw_exception() {
+        // Given
+        byte[] content = "<IED xmlns=\"http://www.iec.ch/61850/2003/SCL\" name=\"IED_1\"/>".getBytes(StandardCharsets.UTF_8);
+        // When Then
+        assertThatThrownBy(() -> sclMarshaller.unmarshal(content))
+                .isInstanceOf(ScdException.class);
+    }
+
+    @Test
+    void unmarshal_when_path_does_not_exist_should_throw_exception(@TempDir Path tempDir) {
+        // Given
+        Path path = tempDir.resolve("unknown.xml");
+        // When Then
+        assertThatThrownBy(() -> sclMarshaller.unmarshal(path))
+                .isInstanceOf(ScdException.class)
+                .hasMessageStartingWith("Unable to read SCL file");
+    }
+
+    @Test
+    void unmarshal_with_schema_validation_should_accept_valid_scd() throws IOException {
+        // Given
+        SclMarshaller validatingSclMarshaller = new SclMarshaller(true);
+        byte[] content = readResource(SCD_RESOURCE);
+        // When
+        SCL scl = validatingSclMarshaller.unmarshal(content);
+        // Then
+        assertThat(scl.getHeader()).isNotNull();
+    }
+
+    @Test
+    void unmarshal_with_schema_validation_should_reject_invalid_scd() {
+        // Given
+        SclMarshaller validatingSclMarshaller = new SclMarshaller(true);
+        byte[] content = """
+                <SCL xmlns="http://www.iec.ch/61850/2003/SCL" version="2007" revision="B" release="4">
+                    <IED name="IED_1"/>
+                </SCL>""".getBytes(StandardCharsets.UTF_8);
+        // When Then
+        assertThatThrownBy(() -> validatingSclMarshaller.unmarshal(content))
+                .isInstanceOf(ScdException.class)
+                .hasMessageStartingWith("Unable to unmarshal SCL");
+    }
+
+    @Test
+    void unmarshal_should_be_thread_safe() throws Exception {
+        // Given
+        byte[] content = readResource(SCD_RESOURCE);
+        String expected = new String(sclMarshaller.marshal(sclMarshaller.unmarshal(content)), StandardCharsets.UTF_8);
+        List<Future<String>> results;
+        // When
+        try (ExecutorService executorService = Executors.newFixedThreadPool(8)) {
+            results = IntStream.range(0, 32)
+                    .mapToObj(i -> executorService.submit(() -> new String(sclMarshaller.marshal(sclMarshaller.unmarshal(content)), StandardCharsets.UTF_8)))
+                    .toList();
+        }
+        // Then
+        for (Future<String> result : results) {
+            assertThat(result.get()).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void copy_should_create_deep_copy() {
+        // Given
+        TIED tied = new TIED();
+        tied.setName("IED_1");
+        // When
+        TIED copy = sclMarshaller.copy(tied, TIED.class);
+        copy.setName("IED_2");
+        // Then
+        assertThat(copy).isNotSameAs(tied);
+        assertThat(tied.getName()).isEqualTo("IED_1");
+    }
+
+    private static byte[] readResource(String name) throws IOException {
+        try (InputStream inputStream = SclMarshallerTest.class.getClassLoader().getResourceAsStream(name)) {
+            assertThat(inputStream).isNotNull();
+            return inputStream.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,114 @@
+// SPDX-FileCopyrightText: 2025 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.io;
+
+import org.junit.jupiter.api.Test;
+import org.lfenergy.compas.scl2007b4.model.*;
+import org.lfenergy.compas.sct.commons.exception.ScdException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.lfenergy.compas.sct.commons.io.SclStreamTestData.inputStream;
+import static org.lfenergy.compas.sct.commons.io.SclStreamTestData.sclInputStream;
+
+class SclStreamReaderTest {
+
+    private final SclStreamReader sclStreamReader = new SclStreamReader();
+
+    @Test
+    void read_should_give_all_sections_in_document_order() {
+        // Given
+        List<String> sections = new ArrayList<>();
+        SclStreamHandler handler = new SclStreamHandler() {
+            @Override
+            public void header(THeader tHeader) {
+                sections.add("Header " + tHeader.getId());
+            }
+
+            @Override
+            public void substation(TSubstation tSubstation) {
+                sections.add("Substation " + tSubstation.getName());
+            }
+
+            @Override
+            public void communication(TCommunication tCommunication) {
+                sections.add("Communication " + tCommunication.getSubNetwork().getFirst().getName());
+            }
+
+            @Override
+            public void ied(TIED tied) {
+                sections.add("IED " + tied.getName() + " " + tied.getAccessPoint().getFirst().getName());
+            }
+
+            @Override
+            public void dataTypeTemplates(TDataTypeTemplates tDataTypeTemplates) {
+                sections.add("DataTypeTemplates " + tDataTypeTemplates.getEnumType().getFirst().getId());
+            }
+        };
+        // When
+        sclStreamReader.read(sclInputStream(), handler);
+        // Then
+        assertThat(sections).containsExactly(
+                "Header hId",
+                "Substation SUBSTATION",
+                "Communication SUBNETWORK",
+                "IED IED_1 AP_1",
+                "IED IED_2 AP_1",
+                "DataTypeTemplates ENUM_1");
+    }
+
+    @Test
+    void read_should_unmarshal_only_accepted_sections() {
+        // Given
+        List<String> iedNames = new ArrayList<>();
+        List<String> acceptedNames = new ArrayList<>();
+        SclStreamHandler handler = new SclStreamHandler() {
+            @Override
+            public boolean accepts(SclSection section, String name) {
+                acceptedNames.add(section + " " + name);
+                return section == SclSection.IED && "IED_2".equals(name);
+            }
+
+            @Override
+            public void ied(TIED tied) {
+                iedNames.add(tied.getName());
+            }
+
+            @Override
+            public void header(THeader tHeader) {
+                throw new AssertionError("Header should not be unmarshalled");
+            }
+        };
+        // When
+        sclStreamReader.read(sclInputStream(), handler);
+        // Then
+        assertThat(iedNames).containsExactly("IED_2");
+        assertThat(acceptedNames).containsExactly("HEADER null", "SUBSTATION SUBSTATION", "COMMUNICATION null",
+                "IED IED_1", "IED IED_2", "DATA_TYPE_TEMPLATES null");
+    }
+
+    @Test
+    void read_when_root_is_not_scl_should_throw_exception() {
+        // Given
+        SclStreamHandler handler = new SclStreamHandler() {};
+        // When Then
+        assertThatThrownBy(() -> sclStreamReader.read(inputStream("<IED name=\"IED_1\"/>"), handler))
+                .isInstanceOf(ScdException.class)
+                .hasMessageContaining("is not a SCL element");
+    }
+
+    @Test
+    void read_when_file_is_not_well_formed_should_throw_exception() {
+        // Given
+        SclStreamHandler handler = new SclStreamHandler() {};
+        // When Then
+        assertThatThrownBy(() -> sclStreamReader.read(inputStream("<SCL xmlns=\"http://www.iec.ch/61850/2003/SCL\"><IED></SCL>"), handler))
+                .isInstanceOf(ScdException.class)
+                .hasMessageStartingWith("Unable to read SCL file");
+    }
+}
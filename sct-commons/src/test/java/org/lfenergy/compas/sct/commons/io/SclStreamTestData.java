@@ -0,0 +1,45 @@
+// SPDX-FileCopyrightText: 2025 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.io;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+final class SclStreamTestData {
+
+    static final String SCL = """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <SCL xmlns="http://www.iec.ch/61850/2003/SCL" xmlns:compas="https://www.lfenergy.org/compas/extension/v1" version="2007" revision="B" release="4">
+                <Private type="COMPAS-SclFileType"><compas:SclFileType>SCD</compas:SclFileType></Private>
+                <Header id="hId" version="1" revision="A"/>
+                <Substation name="SUBSTATION"/>
+                <Communication>
+                    <SubNetwork name="SUBNETWORK"/>
+                </Communication>
+                <IED name="IED_1" desc="first">
+                    <!-- kept comment -->
+                    <AccessPoint name="AP_1"/>
+                </IED>
+                <IED name="IED_2" desc="second">
+                    <AccessPoint name="AP_1"/>
+                </IED>
+                <DataTypeTemplates>
+                    <EnumType id="ENUM_1"><EnumVal ord="1">on</EnumVal></EnumType>
+                </DataTypeTemplates>
+            </SCL>
+            """;
+
+    private SclStreamTestData() {
+    }
+
+    static InputStream sclInputStream() {
+        return new ByteArrayInputStream(SCL.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static InputStream inputStream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,111 @@
+// SPDX-FileCopyrightText: 2025 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.io;
+
+import org.junit.jupiter.api.Test;
+import org.lfenergy.compas.scl2007b4.model.TDataTypeTemplates;
+import org.lfenergy.compas.scl2007b4.model.TIED;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.lfenergy.compas.sct.commons.io.SclStreamTestData.inputStream;
+import static org.lfenergy.compas.sct.commons.io.SclStreamTestData.sclInputStream;
+
+class SclStreamWriterTest {
+
+    private final SclStreamWriter sclStreamWriter = new SclStreamWriter();
+
+    @Test
+    void transform_without_accepted_section_should_copy_file_verbatim() {
+        // Given
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        // When
+        sclStreamWriter.transform(sclInputStream(), outputStream, new SclStreamTransformer() {});
+        // Then
+        String result = outputStream.toString(StandardCharsets.UTF_8);
+        assertThat(result)
+                .contains("<!-- kept comment -->")
+                .contains("<compas:SclFileType>SCD</compas:SclFileType>")
+                .contains("<IED name=\"IED_2\" desc=\"second\">");
+        assertThat(readIedDescs(result)).containsExactly("first", "second");
+    }
+
+    @Test
+    void transform_should_replace_remove_and_add_ieds() {
+        // Given
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        SclStreamTransformer transformer = new SclStreamTransformer() {
+            @Override
+            public boolean accepts(SclSection section, String name) {
+                return section == SclSection.IED && "IED_2".equals(name) || section == SclSection.DATA_TYPE_TEMPLATES;
+            }
+
+            @Override
+            public TIED ied(TIED tied) {
+                tied.setDesc("updated");
+                return tied;
+            }
+
+            @Override
+            public TDataTypeTemplates dataTypeTemplates(TDataTypeTemplates tDataTypeTemplates) {
+                return null;
+            }
+
+            @Override
+            public List<TIED> additionalIeds() {
+                TIED tied = new TIED();
+                tied.setName("IED_3");
+                tied.setDesc("added");
+                return List.of(tied);
+            }
+        };
+        // When
+        sclStreamWriter.transform(sclInputStream(), outputStream, transformer);
+        // Then
+        String result = outputStream.toString(StandardCharsets.UTF_8);
+        assertThat(result)
+                .contains("<!-- kept comment -->")
+                .doesNotContain("DataTypeTemplates");
+        assertThat(readIedDescs(result)).containsExactly("first", "updated", "added");
+    }
+
+    @Test
+    void transform_should_add_ieds_at_end_of_scl_when_no_element_follows_ieds() {
+        // Given
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        String scl = """
+                <SCL xmlns="http://www.iec.ch/61850/2003/SCL" version="2007" revision="B" release="4">
+                    <Header id="hId"/>
+                </SCL>""";
+        SclStreamTransformer transformer = new SclStreamTransformer() {
+            @Override
+            public List<TIED> additionalIeds() {
+                TIED tied = new TIED();
+                tied.setName("IED_1");
+                tied.setDesc("added");
+                return List.of(tied);
+            }
+        };
+        // When
+        sclStreamWriter.transform(inputStream(scl), outputStream, transformer);
+        // Then
+        assertThat(readIedDescs(outputStream.toString(StandardCharsets.UTF_8))).containsExactly("added");
+    }
+
+    private static List<String> readIedDescs(String scl) {
+        List<String> iedDescs = new ArrayList<>();
+        new SclStreamReader().read(inputStream(scl), new SclStreamHandler() {
+            @Override
+            public void ied(TIED tied) {
+                iedDescs.add(tied.getDesc());
+            }
+        });
+        return iedDescs;
+    }
+}
@@ -0,0 +1,113 @@
+// SPDX-FileCopyrightText: 2025 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.io;
+
+import org.junit.jupiter.api.Test;
+import org.lfenergy.compas.scl2007b4.model.SCL;
+import org.lfenergy.compas.scl2007b4.model.TCompasICDHeader;
+import org.lfenergy.compas.sct.commons.dto.PrivateLinkedToStds;
+import org.lfenergy.compas.sct.commons.exception.ScdException;
+import org.lfenergy.compas.sct.commons.testhelpers.SclTestMarshaller;
+import org.lfenergy.compas.sct.commons.util.PrivateUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StdLoaderTest {
+
+    private static final String STD = "scd-ied-dtt-com-import-stds/std.xml";
+    private static final String STD_SCU1 = "scd-ied-dtt-com-import-stds/std_SITESITE1SCU1.xml";
+    private static final String STD_SCU2 = "scd-ied-dtt-com-import-stds/std_SITESITE1SCU2.xml";
+
+    private final StdLoader stdLoader = new StdLoader(new SclMarshaller(), 2);
+
+    @Test
+    void loadReferencedStds_should_keep_only_stds_referenced_by_scd() throws IOException {
+        // Given
+        SCL scd = SclTestMarshaller.getSCLFromResource("scd-ied-dtt-com-import-stds/scd.xml");
+        List<SclSource> stdSources = List.of(source(STD_SCU1), source(STD), source(STD_SCU2));
+        // When
+        Map<String, PrivateLinkedToStds> stds = stdLoader.loadReferencedStds(scd, stdSources);
+        // Then
+        assertThat(stds).containsOnlyKeys("IED4d4fe1a8cda64cf88a5ee4176a1a0eef");
+        PrivateLinkedToStds privateLinkedToStds = stds.get("IED4d4fe1a8cda64cf88a5ee4176a1a0eef");
+        assertThat(privateLinkedToStds.stdList()).singleElement()
+                .extracting(StdLoaderTest::icdSystemVersionUuid)
+                .isEqualTo("IED4d4fe1a8cda64cf88a5ee4176a1a0eef");
+        assertThat(PrivateUtils.extractCompasICDHeader(privateLinkedToStds.tPrivate()))
+                .map(TCompasICDHeader::getICDSystemVersionUUID)
+                .contains("IED4d4fe1a8cda64cf88a5ee4176a1a0eef");
+    }
+
+    @Test
+    void loadReferencedStds_should_keep_order_of_sources() throws IOException {
+        // Given
+        SCL scd = SclTestMarshaller.getSCLFromResource("scd-ied-dtt-com-import-stds/scd_lnode_with_many_compas_icdheader.xml");
+        List<SclSource> stdSources = List.of(source(STD_SCU2), source(STD), source(STD_SCU1));
+        // When
+        Map<String, PrivateLinkedToStds> stds = stdLoader.loadReferencedStds(scd, stdSources);
+        // Then
+        assertThat(stds.keySet())
+                .containsExactly("03d7e1c7-d490-4768-a968-23c7a42cca28", "IED4d4fe1a8cda64cf88a5ee4176a1a0eef", "53a72621-4f96-4cc5-b1da-3171c1705bea");
+        assertThat(stds.values()).extracting(privateLinkedToStds -> icdSystemVersionUuid(privateLinkedToStds.stdList().getFirst()))
+                .containsExactly("03d7e1c7-d490-4768-a968-23c7a42cca28", "IED4d4fe1a8cda64cf88a5ee4176a1a0eef", "53a72621-4f96-4cc5-b1da-3171c1705bea");
+    }
+
+    @Test
+    void loadReferencedStds_when_several_stds_have_same_icdSystemVersionUuid_should_throw_exception() throws IOException {
+        // Given
+        SCL scd = SclTestMarshaller.getSCLFromResource("scd-ied-dtt-com-import-stds/scd.xml");
+        List<SclSource> stdSources = List.of(source(STD_SCU1), source(STD_SCU1));
+        // When Then
+        assertThatThrownBy(() -> stdLoader.loadReferencedStds(scd, stdSources))
+                .isInstanceOf(ScdException.class)
+                .hasMessageStartingWith("There are several STD files corresponding to ")
+                .hasMessageContaining("53a72621-4f96-4cc5-b1da-3171c1705bea");
+    }
+
+    @Test
+    void loadReferencedStds_when_std_is_not_a_scl_file_should_throw_exception_with_source_name() throws IOException {
+        // Given
+        SCL scd = SclTestMarshaller.getSCLFromResource("scd-ied-dtt-com-import-stds/scd.xml");
+        List<SclSource> stdSources = List.of(source(STD), SclSource.of("broken.xml", "<SCL".getBytes(StandardCharsets.UTF_8)));
+        // When Then
+        assertThatThrownBy(() -> stdLoader.loadReferencedStds(scd, stdSources))
+                .isInstanceOf(ScdException.class)
+                .hasMessageStartingWith("Unable to parse STD file broken.xml : ");
+    }
+
+    @Test
+    void constructor_when_maxParallelism_is_not_positive_should_throw_exception() {
+        // Given
+        SclMarshaller sclMarshaller = new SclMarshaller();
+        // When Then
+        assertThatThrownBy(() -> new StdLoader(sclMarshaller, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Maximum parallelism must be positive: 0");
+    }
+
+    private static SclSource source(String name) throws IOException {
+        try (InputStream inputStream = StdLoaderTest.class.getClassLoader().getResourceAsStream(name)) {
+            assertThat(inputStream).isNotNull();
+            return SclSource.of(name, inputStream.readAllBytes());
+        }
+    }
+
+    private static String icdSystemVersionUuid(SCL std) {
+        return std.getIED().getFirst().getPrivate().stream()
+                .map(PrivateUtils::extractCompasICDHeader)
+                .flatMap(Optional::stream)
+                .map(TCompasICDHeader::getICDSystemVersionUUID)
+                .findFirst()
+                .orElseThrow();
+    }
+}
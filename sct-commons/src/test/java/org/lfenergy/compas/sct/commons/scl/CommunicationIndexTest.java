@@ -0,0 +1,178 @@
+// SPDX-FileCopyrightText: 2025 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.scl;
+
+import org.junit.jupiter.api.Test;
+import org.lfenergy.compas.scl2007b4.model.*;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CommunicationIndexTest {
+
+    @Test
+    void findConnectedAP_should_return_first_connectedAP_with_given_iedName_and_apName() {
+        // Given
+        TSubNetwork tSubNetwork = new TSubNetwork();
+        TConnectedAP connectedAP1 = newConnectedAP("IED_NAME1", "AP_NAME");
+        TConnectedAP connectedAP2 = newConnectedAP("IED_NAME2", "AP_NAME");
+        TConnectedAP duplicatedConnectedAP2 = newConnectedAP("IED_NAME2", "AP_NAME");
+        tSubNetwork.getConnectedAP().addAll(List.of(connectedAP1, connectedAP2, duplicatedConnectedAP2));
+        // When
+        Optional<TConnectedAP> result = CommunicationIndex.findConnectedAP(tSubNetwork, "IED_NAME2", "AP_NAME");
+        // Then
+        assertThat(result).containsSame(connectedAP2);
+        assertThat(CommunicationIndex.findConnectedAP(tSubNetwork, "IED_NAME1", "OTHER_AP_NAME")).isEmpty();
+        assertThat(CommunicationIndex.findConnectedAP(new TSubNetwork(), "IED_NAME1", "AP_NAME")).isEmpty();
+    }
+
+    @Test
+    void findConnectedAP_should_see_added_and_renamed_connectedAPs() {
+        // Given
+        TSubNetwork tSubNetwork = new TSubNetwork();
+        TConnectedAP connectedAP1 = newConnectedAP("IED_NAME1", "AP_NAME");
+        tSubNetwork.getConnectedAP().add(connectedAP1);
+        assertThat(CommunicationIndex.findConnectedAP(tSubNetwork, "IED_NAME1", "AP_NAME")).containsSame(connectedAP1);
+        // When
+        TConnectedAP connectedAP2 = newConnectedAP("IED_NAME2", "AP_NAME");
+        tSubNetwork.getConnectedAP().add(connectedAP2);
+        connectedAP1.setIedName("IED_NAME3");
+        // Then
+        assertThat(CommunicationIndex.findConnectedAP(tSubNetwork, "IED_NAME2", "AP_NAME")).containsSame(connectedAP2);
+        assertThat(CommunicationIndex.findConnectedAP(tSubNetwork, "IED_NAME1", "AP_NAME")).isEmpty();
+        assertThat(CommunicationIndex.findConnectedAP(tSubNetwork, "IED_NAME3", "AP_NAME")).containsSame(connectedAP1);
+    }
+
+    @Test
+    void findConnectedAP_should_see_connectedAP_renamed_without_list_size_change_after_invalidation() {
+        // Given
+        TSubNetwork tSubNetwork = new TSubNetwork();
+        TConnectedAP connectedAP1 = newConnectedAP("IED_NAME1", "AP_NAME");
+        TConnectedAP connectedAP2 = newConnectedAP("IED_NAME2", "AP_NAME");
+        tSubNetwork.getConnectedAP().addAll(List.of(connectedAP1, connectedAP2));
+        assertThat(CommunicationIndex.findConnectedAP(tSubNetwork, "IED_NAME1", "AP_NAME")).containsSame(connectedAP1);
+        // When
+        connectedAP2.setIedName("IED_NAME3");
+        connectedAP1.setApName("OTHER_AP_NAME");
+        CommunicationIndex.invalidate(tSubNetwork);
+        // Then
+        assertThat(CommunicationIndex.findConnectedAP(tSubNetwork, "IED_NAME3", "AP_NAME")).containsSame(connectedAP2);
+        assertThat(CommunicationIndex.findConnectedAP(tSubNetwork, "IED_NAME1", "OTHER_AP_NAME")).containsSame(connectedAP1);
+        assertThat(CommunicationIndex.findConnectedAP(tSubNetwork, "IED_NAME2", "AP_NAME")).isEmpty();
+        assertThat(CommunicationIndex.findConnectedAP(tSubNetwork, "IED_NAME1", "AP_NAME")).isEmpty();
+    }
+
+    @Test
+    void findGse_should_not_find_gse_under_its_old_name() {
+        // Given
+        TConnectedAP tConnectedAP = newConnectedAP("IED_NAME", "AP_NAME");
+        TGSE gse = CommunicationIndex.findOrCreateGse(tConnectedAP, "LD_INST", "CB_NAME1");
+        // When
+        gse.setCbName("CB_NAME2");
+        // Then
+        assertThat(CommunicationIndex.findGse(tConnectedAP, "LD_INST", "CB_NAME1")).isEmpty();
+        assertThat(CommunicationIndex.findGse(tConnectedAP, "LD_INST", "CB_NAME2")).containsSame(gse);
+    }
+
+    @Test
+    void findOrCreateGse_should_create_gse_only_once() {
+        // Given
+        TConnectedAP tConnectedAP = newConnectedAP("IED_NAME", "AP_NAME");
+        TGSE existingGse = new TGSE();
+        existingGse.setLdInst("LD_INST");
+        existingGse.setCbName("CB_NAME1");
+        tConnectedAP.getGSE().add(existingGse);
+        // When
+        TGSE createdGse = CommunicationIndex.findOrCreateGse(tConnectedAP, "LD_INST", "CB_NAME2");
+        TGSE foundGse = CommunicationIndex.findOrCreateGse(tConnectedAP, "LD_INST", "CB_NAME2");
+        // Then
+        assertThat(foundGse).isSameAs(createdGse);
+        assertThat(createdGse).extracting(TGSE::getLdInst, TGSE::getCbName).containsExactly("LD_INST", "CB_NAME2");
+        assertThat(tConnectedAP.getGSE()).containsExactly(existingGse, createdGse);
+        assertThat(CommunicationIndex.findOrCreateGse(tConnectedAP, "LD_INST", "CB_NAME1")).isSameAs(existingGse);
+    }
+
+    @Test
+    void findOrCreateGse_when_gse_is_missing_should_not_scan_existing_gses() {
+        // Given
+        TConnectedAP tConnectedAP = newConnectedAP("IED_NAME", "AP_NAME");
+        AtomicInteger keyReads = new AtomicInteger();
+        for (int i = 0; i < 100; i++) {
+            tConnectedAP.getGSE().add(new KeyReadCountingGse("LD_INST", "EXISTING_CB_NAME" + i, keyReads));
+        }
+        assertThat(CommunicationIndex.findGse(tConnectedAP, "LD_INST", "EXISTING_CB_NAME0")).isPresent();
+        keyReads.set(0);
+        // When
+        for (int i = 0; i < 100; i++) {
+            CommunicationIndex.findOrCreateGse(tConnectedAP, "LD_INST", "CB_NAME" + i);
+        }
+        // Then
+        assertThat(keyReads).hasValue(0);
+        assertThat(tConnectedAP.getGSE()).hasSize(200);
+        assertThat(CommunicationIndex.findGse(tConnectedAP, "LD_INST", "CB_NAME50"))
+                .hasValueSatisfying(gse -> assertThat(gse.getCbName()).isEqualTo("CB_NAME50"));
+    }
+
+    @Test
+    void findOrCreateSmv_should_create_smv_only_once() {
+        // Given
+        TConnectedAP tConnectedAP = newConnectedAP("IED_NAME", "AP_NAME");
+        // When
+        TSMV createdSmv1 = CommunicationIndex.findOrCreateSmv(tConnectedAP, "LD_INST", "CB_NAME1");
+        TSMV createdSmv2 = CommunicationIndex.findOrCreateSmv(tConnectedAP, "LD_INST", "CB_NAME2");
+        TSMV foundSmv1 = CommunicationIndex.findOrCreateSmv(tConnectedAP, "LD_INST", "CB_NAME1");
+        // Then
+        assertThat(foundSmv1).isSameAs(createdSmv1);
+        assertThat(tConnectedAP.getSMV()).containsExactly(createdSmv1, createdSmv2);
+        assertThat(CommunicationIndex.findGse(tConnectedAP, "LD_INST", "CB_NAME1")).isEmpty();
+    }
+
+    @Test
+    void findSmv_should_see_smv_removed_and_added_by_caller() {
+        // Given
+        TConnectedAP tConnectedAP = newConnectedAP("IED_NAME", "AP_NAME");
+        TSMV createdSmv = CommunicationIndex.findOrCreateSmv(tConnectedAP, "LD_INST", "CB_NAME");
+        // When
+        tConnectedAP.getSMV().remove(createdSmv);
+        TSMV newSmv = new TSMV();
+        newSmv.setLdInst("LD_INST");
+        newSmv.setCbName("CB_NAME");
+        tConnectedAP.getSMV().add(newSmv);
+        // Then
+        assertThat(CommunicationIndex.findSmv(tConnectedAP, "LD_INST", "CB_NAME")).containsSame(newSmv);
+    }
+
+    private static class KeyReadCountingGse extends TGSE {
+        private final transient AtomicInteger keyReads;
+
+        KeyReadCountingGse(String ldInst, String cbName, AtomicInteger keyReads) {
+            this.keyReads = keyReads;
+            setLdInst(ldInst);
+            setCbName(cbName);
+        }
+
+        @Override
+        public String getLdInst() {
+            keyReads.incrementAndGet();
+            return super.getLdInst();
+        }
+
+        @Override
+        public String getCbName() {
+            keyReads.incrementAndGet();
+            return super.getCbName();
+        }
+    }
+
+    private static TConnectedAP newConnectedAP(String iedName, String apName) {
+        TConnectedAP tConnectedAP = new TConnectedAP();
+        tConnectedAP.setIedName(iedName);
+        tConnectedAP.setApName(apName);
+        return tConnectedAP;
+    }
+}
@@ -0,0 +1,183 @@
+// SPDX-FileCopyrightText: 2025 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.scl;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.lfenergy.compas.scl2007b4.model.*;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DataInstanceIndexTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 20})
+    void findDoi_should_return_first_doi_with_given_name(int doiCount) {
+        // Given
+        TLN tln = new TLN();
+        for (int i = 0; i < doiCount; i++) {
+            tln.getDOI().add(newDoi("DO" + i));
+        }
+        TDOI duplicatedDoi = newDoi("DO0");
+        tln.getDOI().add(duplicatedDoi);
+        // When
+        Optional<TDOI> result = DataInstanceIndex.findDoi(tln, "DO0");
+        // Then
+        assertThat(result).containsSame(tln.getDOI().getFirst());
+        assertThat(DataInstanceIndex.findDoi(tln, "unknown")).isEmpty();
+        assertThat(DataInstanceIndex.findDoi(tln, null)).isEmpty();
+    }
+
+    @Test
+    void findDoi_should_see_added_removed_and_renamed_dois() {
+        // Given
+        TLN tln = new TLN();
+        for (int i = 0; i < 20; i++) {
+            tln.getDOI().add(newDoi("DO" + i));
+        }
+        assertThat(DataInstanceIndex.findDoi(tln, "NEW_DO")).isEmpty();
+        // When
+        TDOI newDoi = newDoi("NEW_DO");
+        tln.getDOI().add(newDoi);
+        TDOI removedDoi = tln.getDOI().removeFirst();
+        tln.getDOI().getFirst().setName("RENAMED_DO");
+        // Then
+        assertThat(DataInstanceIndex.findDoi(tln, "NEW_DO")).containsSame(newDoi);
+        assertThat(DataInstanceIndex.findDoi(tln, removedDoi.getName())).isEmpty();
+        assertThat(DataInstanceIndex.findDoi(tln, "DO1")).isEmpty();
+        assertThat(DataInstanceIndex.findDoi(tln, "RENAMED_DO")).containsSame(tln.getDOI().getFirst());
+    }
+
+    @Test
+    void findOrCreateDoi_should_create_doi_once() {
+        // Given
+        TLN tln = new TLN();
+        for (int i = 0; i < 20; i++) {
+            tln.getDOI().add(newDoi("DO" + i));
+        }
+        assertThat(DataInstanceIndex.findDoi(tln, "DO0")).isPresent();
+        // When
+        TDOI createdDoi = DataInstanceIndex.findOrCreateDoi(tln, "NEW_DO");
+        TDOI foundDoi = DataInstanceIndex.findOrCreateDoi(tln, "NEW_DO");
+        // Then
+        assertThat(foundDoi).isSameAs(createdDoi);
+        assertThat(tln.getDOI()).hasSize(21).last().isSameAs(createdDoi);
+        assertThat(DataInstanceIndex.findOrCreateDoi(tln, "DO5")).isSameAs(tln.getDOI().get(5));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 20})
+    void findSdi_and_findDai_should_not_mix_sdi_and_dai_with_same_name(int childCount) {
+        // Given
+        TDOI tdoi = newDoi("DO");
+        for (int i = 0; i < childCount; i++) {
+            tdoi.getSDIOrDAI().add(newDai("DA" + i));
+        }
+        TSDI tsdi = newSdi("NAME");
+        TDAI tdai = newDai("NAME");
+        tdoi.getSDIOrDAI().addAll(List.of(tsdi, tdai));
+        // When
+        Optional<TSDI> sdiResult = DataInstanceIndex.findSdi(tdoi, "NAME");
+        Optional<TDAI> daiResult = DataInstanceIndex.findDai(tdoi, "NAME");
+        // Then
+        assertThat(sdiResult).containsSame(tsdi);
+        assertThat(daiResult).containsSame(tdai);
+        assertThat(DataInstanceIndex.findSdi(tdoi, "DA0")).isEmpty();
+    }
+
+    @Test
+    void findDai_with_name_path_should_return_dai() {
+        // Given
+        TLN tln = new TLN();
+        TDOI tdoi = newDoi("DO");
+        TSDI sdi1 = newSdi("SDI1");
+        TSDI sdi2 = newSdi("SDI2");
+        TDAI tdai = newDai("DA");
+        sdi2.getSDIOrDAI().add(tdai);
+        sdi1.getSDIOrDAI().add(sdi2);
+        tdoi.getSDIOrDAI().add(sdi1);
+        tln.getDOI().add(tdoi);
+        // When
+        Optional<TDAI> result = DataInstanceIndex.findDai(tln, "DO", List.of("SDI1", "SDI2"), "DA");
+        // Then
+        assertThat(result).containsSame(tdai);
+        assertThat(DataInstanceIndex.findDai(tln, "DO", List.of("SDI1"), "DA")).isEmpty();
+        assertThat(DataInstanceIndex.findDai(tln, "DO", List.of("SDI2", "SDI1"), "DA")).isEmpty();
+        assertThat(DataInstanceIndex.findDai(tln, "unknown", List.of("SDI1", "SDI2"), "DA")).isEmpty();
+    }
+
+    @Test
+    void findOrCreateDai_with_name_path_should_create_missing_instances_only() {
+        // Given
+        TLN tln = new TLN();
+        TDOI tdoi = newDoi("DO");
+        TSDI sdi1 = newSdi("SDI1");
+        tdoi.getSDIOrDAI().add(sdi1);
+        tln.getDOI().add(tdoi);
+        // When
+        TDAI createdDai = DataInstanceIndex.findOrCreateDai(tln, "DO", List.of("SDI1", "SDI2"), "DA");
+        TDAI foundDai = DataInstanceIndex.findOrCreateDai(tln, "DO", List.of("SDI1", "SDI2"), "DA");
+        // Then
+        assertThat(foundDai).isSameAs(createdDai);
+        assertThat(tln.getDOI()).containsExactly(tdoi);
+        assertThat(tdoi.getSDIOrDAI()).containsExactly(sdi1);
+        assertThat(sdi1.getSDIOrDAI()).singleElement()
+                .isInstanceOfSatisfying(TSDI.class, sdi2 -> {
+                    assertThat(sdi2.getName()).isEqualTo("SDI2");
+                    assertThat(sdi2.getSDIOrDAI()).containsExactly(createdDai);
+                });
+        assertThat(createdDai.getName()).isEqualTo("DA");
+    }
+
+    @Test
+    void findOrCreateDai_should_index_created_dai_in_large_sdi() {
+        // Given
+        TSDI tsdi = newSdi("SDI");
+        for (int i = 0; i < 20; i++) {
+            tsdi.getSDIOrDAI().add(newDai("DA" + i));
+        }
+        assertThat(DataInstanceIndex.findDai(tsdi, "DA0")).isPresent();
+        // When
+        List<TDAI> createdDais = List.of(DataInstanceIndex.findOrCreateDai(tsdi, "NEW_DA1"), DataInstanceIndex.findOrCreateDai(tsdi, "NEW_DA2"));
+        // Then
+        assertThat(tsdi.getSDIOrDAI()).hasSize(22).endsWith(createdDais.toArray(TUnNaming[]::new));
+        assertThat(DataInstanceIndex.findDai(tsdi, "NEW_DA1")).containsSame(createdDais.getFirst());
+        assertThat(DataInstanceIndex.findDai(tsdi, "NEW_DA2")).containsSame(createdDais.getLast());
+        assertThat(DataInstanceIndex.findDai(tsdi, "DA19")).containsSame(tsdi.getSDIOrDAI().get(19));
+    }
+
+    @Test
+    void findDai_when_parent_is_not_doi_or_sdi_should_throw_exception() {
+        // Given
+        TDAI tdai = newDai("DA");
+        // When Then
+        assertThatThrownBy(() -> DataInstanceIndex.findDai(tdai, "DA"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Expecting a DOI or a SDI but got TDAI");
+    }
+
+    private static TDOI newDoi(String name) {
+        TDOI tdoi = new TDOI();
+        tdoi.setName(name);
+        return tdoi;
+    }
+
+    private static TSDI newSdi(String name) {
+        TSDI tsdi = new TSDI();
+        tsdi.setName(name);
+        return tsdi;
+    }
+
+    private static TDAI newDai(String name) {
+        TDAI tdai = new TDAI();
+        tdai.setName(name);
+        return tdai;
+    }
+}
@@ -0,0 +1,85 @@
+// SPDX-FileCopyrightText: 2025 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.scl;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ElementIndexTest {
+
+    @Test
+    void find_when_key_is_missing_should_not_scan_the_list() {
+        // Given
+        AtomicInteger keyReads = new AtomicInteger();
+        ElementIndex<String, String> elementIndex = new ElementIndex<>(element -> {
+            keyReads.incrementAndGet();
+            return element;
+        });
+        List<String> elements = new ArrayList<>(List.of("A", "B", "C"));
+        assertThat(elementIndex.find(elements, "A")).contains("A");
+        keyReads.set(0);
+        // When
+        for (int i = 0; i < 100; i++) {
+            assertThat(elementIndex.find(elements, "D" + i)).isEmpty();
+            elementIndex.add(elements, "D" + i);
+        }
+        // Then
+        assertThat(keyReads).hasValue(100);
+        assertThat(elementIndex.find(elements, "D50")).contains("D50");
+    }
+
+    @Test
+    void insert_should_index_element_without_rebuilding_the_index() {
+        // Given
+        AtomicInteger keyReads = new AtomicInteger();
+        ElementIndex<String, String> elementIndex = new ElementIndex<>(element -> {
+            keyReads.incrementAndGet();
+            return element;
+        });
+        List<String> elements = new ArrayList<>(List.of("A", "C"));
+        assertThat(elementIndex.find(elements, "A")).contains("A");
+        keyReads.set(0);
+        // When
+        elementIndex.insert(elements, 1, "B");
+        // Then
+        assertThat(elements).containsExactly("A", "B", "C");
+        assertThat(elementIndex.find(elements, "B")).contains("B");
+        assertThat(elementIndex.find(elements, "C")).contains("C");
+        assertThat(keyReads).hasValue(3);
+    }
+
+    @Test
+    void insert_when_key_is_already_indexed_should_find_first_element_in_list_order() {
+        // Given
+        ElementIndex<String, String[]> elementIndex = new ElementIndex<>(element -> element[0]);
+        String[] existingA = {"A"};
+        String[] insertedA = {"A"};
+        List<String[]> elements = new ArrayList<>(List.of(new String[]{"B"}, existingA));
+        assertThat(elementIndex.find(elements, "A")).containsSame(existingA);
+        // When
+        elementIndex.insert(elements, 0, insertedA);
+        // Then
+        assertThat(elementIndex.find(elements, "A")).containsSame(insertedA);
+    }
+
+    @Test
+    void find_should_see_elements_added_and_removed_by_other_code() {
+        // Given
+        ElementIndex<String, String> elementIndex = new ElementIndex<>(element -> element);
+        List<String> elements = new ArrayList<>(List.of("A", "B", "C"));
+        assertThat(elementIndex.find(elements, "A")).contains("A");
+        // When
+        elements.removeFirst();
+        elements.add("D");
+        // Then
+        assertThat(elementIndex.find(elements, "A")).isEmpty();
+        assertThat(elementIndex.find(elements, "D")).contains("D");
+    }
+}
@@ -106,11 +106,16 @@ class ExtRefServiceTest {
     private static Stream<Arguments> provideExtRefsFedBySameControlBlock() {
         TExtRef tExtRefLnClass = createExtRefExample("CB_1", TServiceType.GOOSE);
         tExtRefLnClass.getSrcLNClass().add(TLLN0Enum.LLN_0.value());
+        TExtRef tExtRefWithoutSrcLdInst = createExtRefExample("CB_1", TServiceType.GOOSE);
+        tExtRefWithoutSrcLdInst.setSrcLDInst(null);
+        tExtRefWithoutSrcLdInst.setLdInst("Inst_2");
 
         return Stream.of(
                 Arguments.of(createExtRefExample("CB_1", TServiceType.GOOSE), createExtRefExample("CB_1", TServiceType.GOOSE)),
                 Arguments.of(tExtRefLnClass, createExtRefExample("CB_1", TServiceType.GOOSE)),
-                Arguments.of(createExtRefExample("CB_1", TServiceType.GOOSE), tExtRefLnClass)
+                Arguments.of(createExtRefExample("CB_1", TServiceType.GOOSE), tExtRefLnClass),
+                Arguments.of(named("ExtRef without SrcLdInst is fed by a CB of its ldInst", tExtRefWithoutSrcLdInst),
+                        createExtRefExample("CB_1", TServiceType.GOOSE))
         );
     }
 
@@ -135,6 +140,9 @@ class ExtRefServiceTest {
         tExtRefLnInst.setSrcLNInst("X");
         TExtRef tExtRefPrefix = createExtRefExample("CB_1", TServiceType.GOOSE);
         tExtRefPrefix.setSrcPrefix("X");
+        TExtRef tExtRefWithoutSrcLdInst = createExtRefExample("CB_1", TServiceType.GOOSE);
+        tExtRefWithoutSrcLdInst.setSrcLDInst(null);
+        tExtRefWithoutSrcLdInst.setLdInst("LD_XXX");
 
         return Stream.of(
                 Arguments.of(named("ExtRef is not fed by same CB when different ServiceType", createExtRefExample("CB_1", TServiceType.GOOSE)),
@@ -150,7 +158,9 @@ class ExtRefServiceTest {
                 Arguments.of(named("ExtRef is not fed by same CB when different SrcLnInst", createExtRefExample("CB_1", TServiceType.GOOSE)),
                         tExtRefLnInst),
                 Arguments.of(named("ExtRef is not fed by same CB when different SrcPrefix", createExtRefExample("CB_1", TServiceType.GOOSE)),
-                        tExtRefPrefix)
+                        tExtRefPrefix),
+                Arguments.of(named("ExtRef is not fed by same CB when SrcLdInst is missing and ldInst is different", createExtRefExample("CB_1", TServiceType.GOOSE)),
+                        tExtRefWithoutSrcLdInst)
         );
     }
 
@@ -180,6 +190,9 @@ class ExtRefServiceTest {
         tExtRefLnInst.setSrcLNInst("X");
         TExtRef tExtRefPrefix = createExtRefExample("CB_1", TServiceType.GOOSE);
         tExtRefPrefix.setSrcPrefix("X");
+        TExtRef tExtRefWithoutSrcLdInst = createExtRefExample("CB_1", TServiceType.GOOSE);
+        tExtRefWithoutSrcLdInst.setSrcLDInst(null);
+        tExtRefWithoutSrcLdInst.setLdInst("LD_XXX");
         List<TExtRef> tExtRefList = List.of(tExtRefIedName, tExtRefLdInst, tExtRefLnInst, tExtRefPrefix,
                 createExtRefExample("CB_1", TServiceType.GOOSE), createExtRefExample("CB_1", TServiceType.SMV));
         // When
@@ -189,6 +202,23 @@ class ExtRefServiceTest {
                 .hasSize(6);
     }
 
+    @Test
+    void filterDuplicatedExtRefs_should_keep_first_extref_of_each_control_block_when_values_are_blank() {
+        // Given
+        TExtRef tExtRef = createExtRefExample("CB_1", TServiceType.GOOSE);
+        tExtRef.setSrcPrefix(null);
+        TExtRef tExtRefBlankPrefix = createExtRefExample("CB_1", TServiceType.GOOSE);
+        tExtRefBlankPrefix.setSrcPrefix(" ");
+        TExtRef tExtRefOtherCB = createExtRefExample("CB_2", TServiceType.GOOSE);
+        tExtRefOtherCB.setSrcPrefix(null);
+        TExtRef tExtRefEmptyPrefix = createExtRefExample("CB_2", TServiceType.GOOSE);
+        tExtRefEmptyPrefix.setSrcPrefix("");
+        // When
+        List<TExtRef> result = extRefService.filterDuplicatedExtRefs(List.of(tExtRef, tExtRefBlankPrefix, tExtRefOtherCB, tExtRefEmptyPrefix));
+        // Then
+        assertThat(result).containsExactly(tExtRef, tExtRefOtherCB);
+    }
+
     private TExtRef createExtRef(String desc, String iedName, String ldInst) {
         TExtRef tExtRef1 = new TExtRef();
         tExtRef1.setDesc(desc);
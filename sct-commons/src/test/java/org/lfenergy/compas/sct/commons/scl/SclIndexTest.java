@@ -0,0 +1,221 @@
+// SPDX-FileCopyrightText: 2025 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.scl;
+
+import org.junit.jupiter.api.Test;
+import org.lfenergy.compas.scl2007b4.model.*;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+class SclIndexTest {
+
+    @Test
+    void of_when_scl_is_null_should_throw_exception() {
+        // When Then
+        assertThatCode(() -> SclIndex.of(null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("SCL to index must be defined");
+    }
+
+    @Test
+    void findIed_should_return_first_ied_with_given_name() {
+        // Given
+        SCL scl = new SCL();
+        TIED ied1 = newIed("IED_NAME1");
+        TIED ied2 = newIed("IED_NAME2");
+        TIED duplicatedIed2 = newIed("IED_NAME2");
+        scl.getIED().addAll(List.of(ied1, ied2, duplicatedIed2));
+        // When
+        Optional<TIED> result = SclIndex.of(scl).findIed("IED_NAME2");
+        // Then
+        assertThat(result).containsSame(ied2);
+        assertThat(SclIndex.of(scl).findIed("unknown")).isEmpty();
+        assertThat(SclIndex.of(scl).findIed(null)).isEmpty();
+    }
+
+    @Test
+    void findIed_should_see_added_and_removed_ieds() {
+        // Given
+        SCL scl = new SCL();
+        TIED ied1 = newIed("IED_NAME1");
+        scl.getIED().add(ied1);
+        SclIndex sclIndex = SclIndex.of(scl);
+        assertThat(sclIndex.findIed("IED_NAME2")).isEmpty();
+        // When
+        TIED ied2 = newIed("IED_NAME2");
+        scl.getIED().add(ied2);
+        scl.getIED().remove(ied1);
+        // Then
+        assertThat(sclIndex.findIed("IED_NAME2")).containsSame(ied2);
+        assertThat(sclIndex.findIed("IED_NAME1")).isEmpty();
+    }
+
+    @Test
+    void findIed_should_see_renamed_ied() {
+        // Given
+        SCL scl = new SCL();
+        TIED ied = newIed("IED_NAME1");
+        scl.getIED().add(ied);
+        SclIndex sclIndex = SclIndex.of(scl);
+        assertThat(sclIndex.findIed("IED_NAME1")).containsSame(ied);
+        // When
+        ied.setName("IED_NAME2");
+        // Then
+        assertThat(sclIndex.findIed("IED_NAME1")).isEmpty();
+        assertThat(sclIndex.findIed("IED_NAME2")).containsSame(ied);
+    }
+
+    @Test
+    void findIed_should_see_ied_renamed_to_a_key_not_searched_yet_after_invalidation() {
+        // Given
+        SCL scl = new SCL();
+        TIED ied1 = newIed("IED_NAME1");
+        TIED ied2 = newIed("IED_NAME2");
+        scl.getIED().addAll(List.of(ied1, ied2));
+        SclIndex sclIndex = SclIndex.of(scl);
+        assertThat(sclIndex.findIed("IED_NAME2")).containsSame(ied2);
+        // When
+        ied1.setName("IED_NAME3");
+        sclIndex.invalidateIeds();
+        // Then
+        assertThat(sclIndex.findIed("IED_NAME3")).containsSame(ied1);
+        assertThat(sclIndex.findIed("IED_NAME1")).isEmpty();
+    }
+
+    @Test
+    void findLn_should_see_ln_renamed_to_a_key_not_searched_yet_after_invalidation() {
+        // Given
+        TLDevice tlDevice = new TLDevice();
+        TLN ln = newLn("LLN1", "1", null);
+        tlDevice.getLN().add(ln);
+        assertThat(SclIndex.findLn(tlDevice, "LLN1", "1", null)).containsSame(ln);
+        // When
+        ln.setInst("2");
+        SclIndex.invalidate(tlDevice);
+        // Then
+        assertThat(SclIndex.findLn(tlDevice, "LLN1", "2", null)).containsSame(ln);
+    }
+
+    @Test
+    void findLDevice_should_search_in_all_access_points() {
+        // Given
+        TIED tied = new TIED();
+        tied.getAccessPoint().add(newAccessPoint("LD_INST11"));
+        tied.getAccessPoint().add(new TAccessPoint());
+        tied.getAccessPoint().add(newAccessPoint("LD_INST21", "LD_INST22"));
+        // When
+        Optional<TLDevice> result = SclIndex.findLDevice(tied, "LD_INST22");
+        // Then
+        assertThat(result).map(TLDevice::getInst).contains("LD_INST22");
+        assertThat(SclIndex.findLDevice(tied, "unknown")).isEmpty();
+        assertThat(SclIndex.findLDevice(tied, null)).isEmpty();
+    }
+
+    @Test
+    void findLDevice_should_see_ldevice_replaced_after_invalidation() {
+        // Given
+        TIED tied = new TIED();
+        tied.getAccessPoint().add(newAccessPoint("LD_INST11"));
+        TLDevice oldLDevice = SclIndex.findLDevice(tied, "LD_INST11").orElseThrow();
+        TLDevice newLDevice = new TLDevice();
+        newLDevice.setInst("LD_INST11");
+        // When
+        tied.getAccessPoint().getFirst().getServer().getLDevice().set(0, newLDevice);
+        SclIndex.invalidate(tied);
+        // Then
+        assertThat(SclIndex.findLDevice(tied, "LD_INST11"))
+                .containsSame(newLDevice)
+                .doesNotContain(oldLDevice);
+    }
+
+    @Test
+    void findLn_should_consider_blank_prefix_as_equals() {
+        // Given
+        TLDevice tlDevice = new TLDevice();
+        TLN ln1 = newLn("LLN1", "1", null);
+        TLN ln2 = newLn("LLN1", "1", "PRE");
+        tlDevice.getLN().add(ln1);
+        tlDevice.getLN().add(ln2);
+        // When Then
+        assertThat(SclIndex.findLn(tlDevice, "LLN1", "1", "")).containsSame(ln1);
+        assertThat(SclIndex.findLn(tlDevice, "LLN1", "1", null)).containsSame(ln1);
+        assertThat(SclIndex.findLn(tlDevice, "LLN1", "1", "PRE")).containsSame(ln2);
+        assertThat(SclIndex.findLn(tlDevice, "LLN1", "2", "PRE")).isEmpty();
+    }
+
+    @Test
+    void findLn_when_no_ln_should_return_empty() {
+        // Given
+        TLDevice tlDevice = new TLDevice();
+        // When Then
+        assertThat(SclIndex.findLn(tlDevice, "LLN1", "1", null)).isEmpty();
+    }
+
+    @Test
+    void findDataTypeTemplates_should_return_types_by_id() {
+        // Given
+        SCL scl = new SCL();
+        TDataTypeTemplates dtt = new TDataTypeTemplates();
+        scl.setDataTypeTemplates(dtt);
+        TLNodeType lNodeType = new TLNodeType();
+        lNodeType.setId("LNODE_TYPE_ID");
+        dtt.getLNodeType().add(lNodeType);
+        TDOType doType = new TDOType();
+        doType.setId("DO_TYPE_ID");
+        dtt.getDOType().add(doType);
+        TDAType daType = new TDAType();
+        daType.setId("DA_TYPE_ID");
+        dtt.getDAType().add(daType);
+        TEnumType enumType = new TEnumType();
+        enumType.setId("ENUM_TYPE_ID");
+        dtt.getEnumType().add(enumType);
+        SclIndex sclIndex = SclIndex.of(scl);
+        // When Then
+        assertThat(sclIndex.findLNodeType("LNODE_TYPE_ID")).containsSame(lNodeType);
+        assertThat(sclIndex.findDOType("DO_TYPE_ID")).containsSame(doType);
+        assertThat(sclIndex.findDAType("DA_TYPE_ID")).containsSame(daType);
+        assertThat(sclIndex.findEnumType("ENUM_TYPE_ID")).containsSame(enumType);
+        assertThat(sclIndex.findDOType("LNODE_TYPE_ID")).isEmpty();
+    }
+
+    @Test
+    void findDataTypeTemplates_when_no_dtt_should_return_empty() {
+        // Given
+        SclIndex sclIndex = SclIndex.of(new SCL());
+        // When Then
+        assertThat(sclIndex.findLNodeType("LNODE_TYPE_ID")).isEmpty();
+        assertThat(sclIndex.findEnumType("ENUM_TYPE_ID")).isEmpty();
+    }
+
+    private static TIED newIed(String iedName) {
+        TIED tied = new TIED();
+        tied.setName(iedName);
+        return tied;
+    }
+
+    private static TAccessPoint newAccessPoint(String... ldInsts) {
+        TAccessPoint tAccessPoint = new TAccessPoint();
+        TServer tServer = new TServer();
+        for (String ldInst : ldInsts) {
+            TLDevice tlDevice = new TLDevice();
+            tlDevice.setInst(ldInst);
+            tServer.getLDevice().add(tlDevice);
+        }
+        tAccessPoint.setServer(tServer);
+        return tAccessPoint;
+    }
+
+    private static TLN newLn(String lnClass, String lnInst, String prefix) {
+        TLN tln = new TLN();
+        tln.getLnClass().add(lnClass);
+        tln.setInst(lnInst);
+        tln.setPrefix(prefix);
+        return tln;
+    }
+}
@@ -0,0 +1,89 @@
+// SPDX-FileCopyrightText: 2025 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.scl.dtt;
+
+import org.junit.jupiter.api.Test;
+import org.lfenergy.compas.scl2007b4.model.TDataTypeTemplates;
+import org.lfenergy.compas.scl2007b4.model.TLNodeType;
+import org.lfenergy.compas.sct.commons.scl.dtt.DataAttributeCatalogue.DoAttributes;
+import org.lfenergy.compas.sct.commons.scl.dtt.DataAttributeCatalogue.Kind;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DataAttributeCatalogueTest {
+
+    private static final Kind<String> NAMES = new Kind<>("names");
+    private static final Kind<Integer> LENGTHS = new Kind<>("lengths");
+
+    @Test
+    void get_should_flatten_lNodeType_once() {
+        // Given
+        TDataTypeTemplates dtt = new TDataTypeTemplates();
+        TLNodeType tlNodeType = new TLNodeType();
+        AtomicInteger flattenCount = new AtomicInteger();
+        Function<TLNodeType, List<DoAttributes<String>>> flattener = lNodeType -> {
+            flattenCount.incrementAndGet();
+            return List.of(new DoAttributes<>("Mod", false, List.of("Mod.stVal", "Mod.q")));
+        };
+        DataAttributeCatalogue.Statistics statisticsBefore = DataAttributeCatalogue.statistics();
+        // When
+        List<DoAttributes<String>> first = DataAttributeCatalogue.of(dtt).get(NAMES, tlNodeType, flattener);
+        List<DoAttributes<String>> second = DataAttributeCatalogue.of(dtt).get(NAMES, tlNodeType, flattener);
+        // Then
+        assertThat(flattenCount).hasValue(1);
+        assertThat(second).isSameAs(first);
+        assertThat(first.getFirst().attributes()).containsExactly("Mod.stVal", "Mod.q");
+        DataAttributeCatalogue.Statistics statisticsAfter = DataAttributeCatalogue.statistics();
+        assertThat(statisticsAfter.missCount() - statisticsBefore.missCount()).isGreaterThanOrEqualTo(1);
+        assertThat(statisticsAfter.hitCount() - statisticsBefore.hitCount()).isGreaterThanOrEqualTo(1);
+    }
+
+    @Test
+    void get_should_keep_kinds_and_lNodeTypes_apart() {
+        // Given
+        TDataTypeTemplates dtt = new TDataTypeTemplates();
+        TLNodeType tlNodeType1 = new TLNodeType();
+        TLNodeType tlNodeType2 = new TLNodeType();
+        DataAttributeCatalogue catalogue = DataAttributeCatalogue.of(dtt);
+        // When
+        catalogue.get(NAMES, tlNodeType1, lNodeType -> List.of(new DoAttributes<>("Mod", false, List.of("Mod.stVal"))));
+        List<DoAttributes<String>> names2 = catalogue.get(NAMES, tlNodeType2, lNodeType -> List.of(new DoAttributes<>("Beh", false, List.of("Beh.stVal"))));
+        List<DoAttributes<Integer>> lengths1 = catalogue.get(LENGTHS, tlNodeType1, lNodeType -> List.of(new DoAttributes<>("Mod", false, List.of(9))));
+        // Then
+        assertThat(names2.getFirst().attributes()).containsExactly("Beh.stVal");
+        assertThat(lengths1.getFirst().attributes()).containsExactly(9);
+    }
+
+    @Test
+    void invalidate_should_flatten_lNodeType_again() {
+        // Given
+        TDataTypeTemplates dtt = new TDataTypeTemplates();
+        TLNodeType tlNodeType = new TLNodeType();
+        AtomicInteger flattenCount = new AtomicInteger();
+        Function<TLNodeType, List<DoAttributes<String>>> flattener = lNodeType -> List.of(
+                new DoAttributes<>("Mod", false, List.of("v" + flattenCount.incrementAndGet())));
+        DataAttributeCatalogue.of(dtt).get(NAMES, tlNodeType, flattener);
+        // When
+        DataAttributeCatalogue.invalidate(dtt);
+        List<DoAttributes<String>> result = DataAttributeCatalogue.of(dtt).get(NAMES, tlNodeType, flattener);
+        // Then
+        assertThat(result.getFirst().attributes()).containsExactly("v2");
+    }
+
+    @Test
+    void doAttributes_should_be_immutable() {
+        // Given
+        DoAttributes<String> doAttributes = new DoAttributes<>("Mod", false, new ArrayList<>(List.of("Mod.stVal")));
+        List<String> attributes = doAttributes.attributes();
+        // When Then
+        assertThatThrownBy(() -> attributes.add("Mod.q")).isInstanceOf(UnsupportedOperationException.class);
+    }
+}
@@ -0,0 +1,109 @@
+// SPDX-FileCopyrightText: 2025 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.scl.dtt;
+
+import org.junit.jupiter.api.Test;
+import org.lfenergy.compas.scl2007b4.model.*;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.lfenergy.compas.sct.commons.scl.dtt.DataTypeTemplateTestUtils.SCD_DTT;
+import static org.lfenergy.compas.sct.commons.scl.dtt.DataTypeTemplateTestUtils.initDttFromFile;
+
+class DataTypeTemplateFingerprintsTest {
+
+    @Test
+    void compute_should_be_equal_for_all_types_with_same_content() {
+        // Given
+        TDataTypeTemplates dtt1 = initDttFromFile(SCD_DTT);
+        TDataTypeTemplates dtt2 = initDttFromFile(SCD_DTT);
+        // When
+        List<Integer> fingerprints1 = allTypes(dtt1).map(DataTypeTemplateFingerprints::compute).toList();
+        List<Integer> fingerprints2 = allTypes(dtt2).map(DataTypeTemplateFingerprints::compute).toList();
+        // Then
+        assertThat(fingerprints1).isNotEmpty().isEqualTo(fingerprints2);
+    }
+
+    @Test
+    void compute_should_ignore_id_and_enumVal_order() {
+        // Given
+        TEnumType tEnumType1 = newEnumType("ENUM_1", "on", "off");
+        TEnumType tEnumType2 = newEnumType("ENUM_2", "on", "off");
+        tEnumType2.getEnumVal().add(tEnumType2.getEnumVal().removeFirst());
+        // When Then
+        assertThat(DataTypeTemplateFingerprints.compute(tEnumType1)).isEqualTo(DataTypeTemplateFingerprints.compute(tEnumType2));
+    }
+
+    @Test
+    void compute_should_differ_when_content_differs() {
+        // Given
+        TDOType tdoType1 = newDoType("DO_TYPE", "stVal", TFCEnum.ST);
+        TDOType tdoType2 = newDoType("DO_TYPE", "stVal", TFCEnum.MX);
+        TDOType tdoType3 = newDoType("DO_TYPE", "q", TFCEnum.ST);
+        // When
+        int fingerprint1 = DataTypeTemplateFingerprints.compute(tdoType1);
+        // Then
+        assertThat(fingerprint1)
+                .isNotEqualTo(DataTypeTemplateFingerprints.compute(tdoType2))
+                .isNotEqualTo(DataTypeTemplateFingerprints.compute(tdoType3));
+    }
+
+    @Test
+    void compute_when_type_is_not_supported_should_throw_exception() {
+        // When Then
+        assertThatThrownBy(() -> DataTypeTemplateFingerprints.compute(new TIDNaming() {}))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void get_should_keep_fingerprint_until_invalidate() {
+        // Given
+        TDataTypeTemplates dtt = new TDataTypeTemplates();
+        TDOType tdoType = newDoType("DO_TYPE", "stVal", TFCEnum.ST);
+        dtt.getDOType().add(tdoType);
+        int fingerprint = DataTypeTemplateFingerprints.of(dtt).get(tdoType);
+        ((TDA) tdoType.getSDOOrDA().getFirst()).setFc(TFCEnum.MX);
+        // When
+        int cachedFingerprint = DataTypeTemplateFingerprints.of(dtt).get(tdoType);
+        DataTypeTemplateFingerprints.invalidate(dtt);
+        int newFingerprint = DataTypeTemplateFingerprints.of(dtt).get(tdoType);
+        // Then
+        assertThat(cachedFingerprint).isEqualTo(fingerprint);
+        assertThat(newFingerprint).isEqualTo(DataTypeTemplateFingerprints.compute(tdoType))
+                .isNotEqualTo(fingerprint);
+    }
+
+    private static Stream<TIDNaming> allTypes(TDataTypeTemplates dtt) {
+        return Stream.<List<? extends TIDNaming>>of(dtt.getLNodeType(), dtt.getDOType(), dtt.getDAType(), dtt.getEnumType())
+                .flatMap(List::stream);
+    }
+
+    private static TEnumType newEnumType(String id, String... values) {
+        TEnumType tEnumType = new TEnumType();
+        tEnumType.setId(id);
+        for (int i = 0; i < values.length; i++) {
+            TEnumVal tEnumVal = new TEnumVal();
+            tEnumVal.setOrd(i);
+            tEnumVal.setValue(values[i]);
+            tEnumType.getEnumVal().add(tEnumVal);
+        }
+        return tEnumType;
+    }
+
+    private static TDOType newDoType(String id, String daName, TFCEnum fc) {
+        TDA tda = new TDA();
+        tda.setName(daName);
+        tda.setFc(fc);
+        tda.setBType(TPredefinedBasicTypeEnum.BOOLEAN);
+        TDOType tdoType = new TDOType();
+        tdoType.setId(id);
+        tdoType.setCdc(TPredefinedCDCEnum.SPS);
+        tdoType.getSDOOrDA().add(tda);
+        return tdoType;
+    }
+}
@@ -15,11 +15,14 @@ import org.lfenergy.compas.scl2007b4.model.TAccessPoint;
 import org.lfenergy.compas.scl2007b4.model.TExtRef;
 import org.lfenergy.compas.scl2007b4.model.TIED;
 import org.lfenergy.compas.sct.commons.dto.SclReportItem;
+import org.lfenergy.compas.sct.commons.scl.ExtRefService;
 import org.lfenergy.compas.sct.commons.scl.SclRootAdapter;
 import org.lfenergy.compas.sct.commons.testhelpers.SclTestMarshaller;
 import org.lfenergy.compas.sct.commons.util.ServicesConfigEnum;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -304,6 +307,27 @@ class AccessPointAdapterTest {
         assertThat(sclReportItems).isEmpty();
     }
 
+    @Test
+    void checkLimitationForBoundIEDFCDAs_should_count_fcdas_of_each_control_block_once() {
+        //Given
+        SCL scd = SclTestMarshaller.getSCLFromResource("limitation_cb_dataset_fcda/scd_check_limitation_bound_ied_controls_fcda.xml");
+        SclRootAdapter sclRootAdapter = new SclRootAdapter(scd);
+        IEDAdapter iedAdapter = sclRootAdapter.getIEDAdapterByName("IED_NAME1");
+        AccessPointAdapter accessPointAdapter = new AccessPointAdapter(iedAdapter, iedAdapter.getCurrentElem().getAccessPoint().getFirst());
+        accessPointAdapter.getCurrentElem().getServices().getClientServices().setMaxAttributes(4L);
+        List<TExtRef> tExtRefs = accessPointAdapter.getAllCoherentExtRefForAnalyze().tExtRefs();
+        Map<ExtRefService.SourceControlBlockKey, Integer> fcdaCountByControlBlock = new HashMap<>();
+        accessPointAdapter.checkLimitationForBoundIedFcdas(tExtRefs, fcdaCountByControlBlock);
+        fcdaCountByControlBlock.replaceAll((sourceControlBlockKey, fcdaCount) -> 0);
+
+        //When
+        Optional<SclReportItem> sclReportItem = accessPointAdapter.checkLimitationForBoundIedFcdas(tExtRefs, fcdaCountByControlBlock);
+
+        //Then
+        assertThat(fcdaCountByControlBlock).isNotEmpty();
+        assertThat(sclReportItem).isEmpty();
+    }
+
     @Test
     void getAllCoherentExtRefForAnalyze_succeed() {
         //Given
@@ -7,6 +7,7 @@ package org.lfenergy.compas.sct.commons.scl.ied;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.lfenergy.compas.scl2007b4.model.*;
+import org.lfenergy.compas.sct.commons.dto.ControlBlockTarget;
 import org.lfenergy.compas.sct.commons.scl.ln.LN0Adapter;
 import org.lfenergy.compas.sct.commons.scl.ln.LNAdapter;
 import org.lfenergy.compas.sct.commons.testhelpers.SclTestMarshaller;
@@ -87,4 +88,93 @@ class ControlBlockAdapterTest {
                 .containsExactly("AP_NAME", "IED_NAME2", "LD_INST21", List.of("ANCR"), "1", "prefix", "");
     }
 
+    @Test
+    void addTargetIfNotExists_when_target_already_exists_should_not_add_target() {
+        // Given
+        SCL scd = SclTestMarshaller.getSCLFromResource("scl-ln-adapter/scd_with_ln.xml");
+        LN0Adapter ln0 = findLn0(scd, "IED_NAME1", "LD_INST11");
+        ln0.createDataSetIfNotExists("datSet", ControlBlockEnum.GSE);
+        ControlBlockAdapter controlBlockAdapter = ln0.createControlBlockIfNotExists("cbName", "cbId", "datSet", ControlBlockEnum.GSE);
+        TControlWithIEDName.IEDName existingIedName = new ControlBlockTarget("AP_NAME", "IED_NAME2", "LD_INST21", "1", "ANCR", "prefix").toIedName();
+        ((TGSEControl) controlBlockAdapter.getCurrentElem()).getIEDName().add(existingIedName);
+        LNAdapter targetLn = findLn(scd, "IED_NAME2", "LD_INST21", "ANCR", "1", "prefix");
+        // When
+        controlBlockAdapter.addTargetIfNotExists(targetLn);
+        controlBlockAdapter.addTargetIfNotExists(targetLn);
+        // Then
+        assertThat(((TGSEControl) controlBlockAdapter.getCurrentElem()).getIEDName()).containsExactly(existingIedName);
+        assertThat(controlBlockAdapter.getTargetCount()).isEqualTo(1);
+    }
+
+    @Test
+    void hasTarget_and_removeTarget_should_use_normalized_targets() {
+        // Given
+        TGSEControl tgseControl = new TGSEControl();
+        tgseControl.setName("cbName");
+        ControlBlockAdapter controlBlockAdapter = new ControlBlockAdapter(null, tgseControl);
+        controlBlockAdapter.addTargetIfNotExists(new ControlBlockTarget("AP_NAME", "IED_NAME1", "LD_INST11", null, "LLN0", null));
+        controlBlockAdapter.addTargetIfNotExists(new ControlBlockTarget("AP_NAME", "IED_NAME2", "LD_INST21", "1", "ANCR", "prefix"));
+        ControlBlockTarget blankTarget = new ControlBlockTarget("AP_NAME", "IED_NAME1", "LD_INST11", "", "LLN0", " ");
+        // When
+        boolean hasTarget = controlBlockAdapter.hasTarget(blankTarget);
+        boolean removed = controlBlockAdapter.removeTarget(blankTarget);
+        // Then
+        assertThat(hasTarget).isTrue();
+        assertThat(removed).isTrue();
+        assertThat(controlBlockAdapter.hasTarget(blankTarget)).isFalse();
+        assertThat(controlBlockAdapter.removeTarget(blankTarget)).isFalse();
+        assertThat(tgseControl.getIEDName()).singleElement()
+                .extracting(TControlWithIEDName.IEDName::getValue)
+                .isEqualTo("IED_NAME2");
+        assertThat(controlBlockAdapter.getTargetCount()).isEqualTo(1);
+    }
+
+    @Test
+    void getTargetCount_when_reportControl_has_no_rptEnabled_should_return_0() {
+        // Given
+        TReportControl tReportControl = new TReportControl();
+        tReportControl.setName("cbName");
+        ControlBlockAdapter controlBlockAdapter = new ControlBlockAdapter(null, tReportControl);
+        // When
+        int result = controlBlockAdapter.getTargetCount();
+        // Then
+        assertThat(result).isZero();
+    }
+
+    @Test
+    void addTargetIfNotExists_when_gse_target_has_desc_should_not_add_target_twice() {
+        // Given
+        TGSEControl tgseControl = new TGSEControl();
+        tgseControl.setName("cbName");
+        ControlBlockAdapter controlBlockAdapter = new ControlBlockAdapter(null, tgseControl);
+        ControlBlockTarget targetWithDesc = new ControlBlockTarget("AP_NAME", "IED_NAME2", "LD_INST21", "1", "ANCR", "prefix", "desc");
+        // When
+        controlBlockAdapter.addTargetIfNotExists(targetWithDesc);
+        controlBlockAdapter.addTargetIfNotExists(targetWithDesc);
+        // Then
+        assertThat(tgseControl.getIEDName()).hasSize(1);
+        assertThat(controlBlockAdapter.hasTarget(targetWithDesc)).isTrue();
+        assertThat(controlBlockAdapter.getTargetCount()).isEqualTo(1);
+        assertThat(controlBlockAdapter.removeTarget(targetWithDesc)).isTrue();
+        assertThat(tgseControl.getIEDName()).isEmpty();
+    }
+
+    @Test
+    void hasTarget_when_smv_target_has_desc_should_match_existing_iedName() {
+        // Given
+        TSampledValueControl tSampledValueControl = new TSampledValueControl();
+        tSampledValueControl.setName("cbName");
+        tSampledValueControl.getIEDName().add(new ControlBlockTarget("AP_NAME", "IED_NAME2", "LD_INST21", "1", "ANCR", "prefix").toIedName());
+        ControlBlockAdapter controlBlockAdapter = new ControlBlockAdapter(null, tSampledValueControl);
+        ControlBlockTarget targetWithDesc = new ControlBlockTarget("AP_NAME", "IED_NAME2", "LD_INST21", "1", "ANCR", "prefix", "desc");
+        // When
+        boolean hasTarget = controlBlockAdapter.hasTarget(targetWithDesc);
+        controlBlockAdapter.addTargetIfNotExists(targetWithDesc);
+        // Then
+        assertThat(hasTarget).isTrue();
+        assertThat(tSampledValueControl.getIEDName()).hasSize(1);
+        assertThat(controlBlockAdapter.removeTarget(targetWithDesc)).isTrue();
+        assertThat(tSampledValueControl.getIEDName()).isEmpty();
+    }
+
 }
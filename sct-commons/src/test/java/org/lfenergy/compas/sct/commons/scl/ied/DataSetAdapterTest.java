@@ -11,8 +11,11 @@ import org.lfenergy.compas.scl2007b4.model.TFCDA;
 import org.lfenergy.compas.scl2007b4.model.TFCEnum;
 import org.lfenergy.compas.sct.commons.scl.ln.LN0Adapter;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.Random;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
@@ -103,6 +106,97 @@ class DataSetAdapterTest {
             .isSameAs(existingFCDA);
     }
 
+    @Test
+    void createFCDAIfNotExists_should_keep_FCDA_sorted_like_full_sort() {
+        //Given
+        TDataSet dataSet = new TDataSet();
+        DataSetAdapter dataSetAdapter = new DataSetAdapter(null, dataSet);
+        List<String> insertedDoNames = new ArrayList<>();
+        Random random = new Random(42);
+        //When
+        for (int i = 0; i < 200; i++) {
+            String doName = "Do" + random.nextInt(50);
+            String lnInst = random.nextBoolean() ? null : String.valueOf(random.nextInt(12));
+            TFCDA result = new DataSetAdapter(null, dataSet).createFCDAIfNotExists("LDINST" + random.nextInt(3), null, "GGIO", lnInst, doName, null, TFCEnum.ST);
+            insertedDoNames.add(result.getDoName());
+        }
+        //Then
+        List<TFCDA> sortedCopy = new ArrayList<>(dataSet.getFCDA());
+        sortedCopy.sort(Comparator.comparing(TFCDA::getLdInst)
+                .thenComparing(tfcda -> tfcda.getLnInst() != null ? Integer.valueOf(tfcda.getLnInst()) : null, Comparator.nullsFirst(Integer::compareTo))
+                .thenComparing(TFCDA::getDoName));
+        assertThat(dataSet.getFCDA()).containsExactlyElementsOf(sortedCopy)
+                .doesNotHaveDuplicates();
+        assertThat(dataSet.getFCDA()).extracting(TFCDA::getDoName).containsAll(insertedDoNames);
+        assertThat(dataSetAdapter.findFCDA(sortedCopy.getFirst().getLdInst(), "", "GGIO", sortedCopy.getFirst().getLnInst(), sortedCopy.getFirst().getDoName(), "", TFCEnum.ST))
+                .containsSame(sortedCopy.getFirst());
+    }
+
+    @Test
+    void createFCDAIfNotExists_when_FCDA_list_is_not_sorted_should_sort_it() {
+        //Given
+        TDataSet dataSet = new TDataSet();
+        TFCDA fcda2 = createFCDA();
+        fcda2.setLnInst("2");
+        TFCDA fcda1 = createFCDA();
+        fcda1.setLnInst("1");
+        dataSet.getFCDA().addAll(List.of(fcda2, fcda1));
+        DataSetAdapter dataSetAdapter = new DataSetAdapter(null, dataSet);
+        //When
+        TFCDA result = dataSetAdapter.createFCDAIfNotExists("LDINST", null, "LLN0", "3", "DoName", "daName", TFCEnum.ST);
+        TFCDA existing = dataSetAdapter.createFCDAIfNotExists("LDINST", "", "LLN0", "2", "DoName", "daName", TFCEnum.ST);
+        //Then
+        assertThat(dataSet.getFCDA()).containsExactly(fcda1, fcda2, result);
+        assertThat(existing).isSameAs(fcda2);
+    }
+
+    @Test
+    void findFCDA_when_FCDA_list_is_modified_should_find_new_FCDA() {
+        //Given
+        TDataSet dataSet = new TDataSet();
+        DataSetAdapter dataSetAdapter = new DataSetAdapter(null, dataSet);
+        dataSetAdapter.createFCDAIfNotExists("LDINST", null, "LLN0", null, "DoName", "daName", TFCEnum.ST);
+        TFCDA addedFcda = createFCDA();
+        addedFcda.setDoName("OtherDoName");
+        dataSet.getFCDA().add(addedFcda);
+        //When
+        Optional<TFCDA> result = dataSetAdapter.findFCDA("LDINST", null, "LLN0", null, "OtherDoName", "daName", TFCEnum.ST);
+        //Then
+        assertThat(result).containsSame(addedFcda);
+    }
+
+    @Test
+    void findFCDA_when_FCDA_is_changed_in_place_should_not_find_it_under_its_old_key() {
+        //Given
+        TDataSet dataSet = new TDataSet();
+        DataSetAdapter dataSetAdapter = new DataSetAdapter(null, dataSet);
+        TFCDA fcda1 = dataSetAdapter.createFCDAIfNotExists("LDINST", null, "LLN0", "1", "DoName", "daName", TFCEnum.ST);
+        TFCDA fcda2 = dataSetAdapter.createFCDAIfNotExists("LDINST", null, "LLN0", "2", "DoName", "daName", TFCEnum.ST);
+        //When
+        fcda2.setDoName("OtherDoName");
+        //Then
+        assertThat(dataSetAdapter.findFCDA("LDINST", null, "LLN0", "2", "DoName", "daName", TFCEnum.ST)).isEmpty();
+        assertThat(dataSetAdapter.findFCDA("LDINST", null, "LLN0", "2", "OtherDoName", "daName", TFCEnum.ST)).containsSame(fcda2);
+        assertThat(dataSetAdapter.createFCDAIfNotExists("LDINST", null, "LLN0", "2", "OtherDoName", "daName", TFCEnum.ST)).isSameAs(fcda2);
+        assertThat(dataSet.getFCDA()).containsExactly(fcda1, fcda2);
+    }
+
+    @Test
+    void findFCDA_should_find_FCDAs_inserted_before_other_FCDAs() {
+        //Given
+        TDataSet dataSet = new TDataSet();
+        DataSetAdapter dataSetAdapter = new DataSetAdapter(null, dataSet);
+        TFCDA fcda3 = dataSetAdapter.createFCDAIfNotExists("LDINST", null, "LLN0", "3", "DoName", "daName", TFCEnum.ST);
+        TFCDA fcda1 = dataSetAdapter.createFCDAIfNotExists("LDINST", null, "LLN0", "1", "DoName", "daName", TFCEnum.ST);
+        //When
+        TFCDA fcda2 = dataSetAdapter.createFCDAIfNotExists("LDINST", null, "LLN0", "2", "DoName", "daName", TFCEnum.ST);
+        //Then
+        assertThat(dataSet.getFCDA()).containsExactly(fcda1, fcda2, fcda3);
+        assertThat(dataSetAdapter.findFCDA("LDINST", null, "LLN0", "1", "DoName", "daName", TFCEnum.ST)).containsSame(fcda1);
+        assertThat(dataSetAdapter.findFCDA("LDINST", null, "LLN0", "2", "DoName", "daName", TFCEnum.ST)).containsSame(fcda2);
+        assertThat(dataSetAdapter.findFCDA("LDINST", null, "LLN0", "3", "DoName", "daName", TFCEnum.ST)).containsSame(fcda3);
+    }
+
     private static TFCDA createFCDA() {
         TFCDA existingFCDA = new TFCDA();
         existingFCDA.setLdInst("LDINST");
@@ -18,6 +18,7 @@ import org.lfenergy.compas.sct.commons.dto.DTO;
 import org.lfenergy.compas.sct.commons.dto.DataAttributeRef;
 import org.lfenergy.compas.sct.commons.dto.ExtRefInfo;
 import org.lfenergy.compas.sct.commons.dto.ExtRefSignalInfo;
+import org.lfenergy.compas.sct.commons.dto.ReportLocation;
 import org.lfenergy.compas.sct.commons.exception.ScdException;
 import org.lfenergy.compas.sct.commons.scl.SclRootAdapter;
 import org.lfenergy.compas.sct.commons.scl.ied.IEDAdapter;
@@ -188,6 +189,18 @@ class LDeviceAdapterTest {
         assertThat(elementXPathResult).isEqualTo(message);
     }
 
+    @Test
+    void reportLocation_should_render_same_xpath_as_LDeviceAdapter() {
+        // Given
+        LDeviceAdapter lDeviceAdapter = iedAdapter.getLDeviceAdapterByLdInst("LD_INS2");
+        // When
+        ReportLocation reportLocation = LDeviceAdapter.reportLocation(iedAdapter.getName(), "LD_INS2");
+        // Then
+        assertThat(reportLocation.toXPath())
+                .isEqualTo(lDeviceAdapter.getReportLocation().toXPath())
+                .isEqualTo("/SCL/IED[@name=\"IED_NAME\"]/AccessPoint/Server/LDevice[@inst=\"LD_INS2\"]");
+    }
+
     @Test
     void getLNAdaptersIncludingLN0_should_return_expected_list_of_AbstractLNAdapter() {
         //Given
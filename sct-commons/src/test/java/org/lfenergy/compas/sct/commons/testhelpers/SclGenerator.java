@@ -0,0 +1,627 @@
+// SPDX-FileCopyrightText: 2025 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.testhelpers;
+
+import jakarta.xml.bind.JAXBContext;
+import jakarta.xml.bind.JAXBException;
+import jakarta.xml.bind.Marshaller;
+import lombok.Builder;
+import lombok.Getter;
+import org.lfenergy.compas.scl2007b4.model.*;
+import org.lfenergy.compas.sct.commons.model.cbcom.*;
+import org.lfenergy.compas.sct.commons.model.da_comm.DACOMM;
+import org.lfenergy.compas.sct.commons.model.da_comm.FCDAs;
+import org.lfenergy.compas.sct.commons.model.da_comm.TgooseType;
+import org.lfenergy.compas.sct.commons.model.da_comm.Tfc;
+import org.lfenergy.compas.sct.commons.scl.SclRootAdapter;
+import org.lfenergy.compas.sct.commons.util.PrivateUtils;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.lfenergy.compas.sct.commons.util.SclConstructorHelper.newConnectedAp;
+import static org.lfenergy.compas.sct.commons.util.SclConstructorHelper.newVal;
+
+/**
+ * Generator of synthetic SCL inputs of the SCD generation pipeline, used by integration tests and benchmarks to work
+ * on substations of realistic size.
+ * <p>
+ * The size of the generated substation is set with the {@link #builder() builder} :
+ * </p>
+ * <ul>
+ *     <li><em>bayCount</em> and <em>iedsPerBay</em> : number of Bays, and of IEDs in each Bay</li>
+ *     <li><em>lDeviceCount</em> : number of LDevices of each IED, LDSUIED excluded</li>
+ *     <li><em>lnCount</em> : number of GGIO LN instances in each LDevice</li>
+ *     <li><em>extRefsPerLn</em> : number of ExtRefs in the Inputs of each GGIO LN</li>
+ *     <li><em>dttVariantCount</em> : number of different GGIO LNodeTypes, so that DataTypeTemplates of the IEDs differ</li>
+ *     <li><em>gooseFanOut</em> and <em>smvFanOut</em> : number of IEDs each IED subscribes to in GOOSE and in SMV</li>
+ *     <li><em>seed</em> : seed of all random choices</li>
+ * </ul>
+ * <p>
+ * Generated files are coherent with each other :
+ * </p>
+ * <ul>
+ *     <li>the SSD has one Bay per Bay of IEDs, with one LNode per IED holding its COMPAS-ICDHeader</li>
+ *     <li>each STD holds one IED with its DataTypeTemplates and Communication. IEDs have a LDSUIED LDevice with LGOS and
+ *     LSVS LNs, and LDevices with GOOSE and SMV ExtRefs pointing to GGIO LNs of other IEDs</li>
+ *     <li>the CBCom and the DACOMM cover all ControlBlocks and FCDAs which can be created from the ExtRefs</li>
+ * </ul>
+ * <p>
+ * Generation is deterministic : the same parameters and seed always give the same files. Each STD is generated from
+ * its own random generator, so that it can be generated alone with {@link #generateStd(int)}. Each call returns new
+ * objects, so that the result can be modified by the tested services.
+ * Large substations can be written to disk with {@link #writeTo(Path)} without keeping all STDs in memory.
+ * </p>
+ */
+@Getter
+public class SclGenerator {
+
+    public static final String AP_NAME = "PROCESS_AP";
+    public static final String LD_SUIED = "LDSUIED";
+    public static final String SUBNETWORK_NAME = "PROCESS_NETWORK";
+    public static final String SOURCE_LN_CLASS = "GGIO";
+    public static final String SSD_FILE_NAME = "ssd.xml";
+    public static final String CBCOM_FILE_NAME = "cbcom.xml";
+    public static final String DACOMM_FILE_NAME = "dacomm.xml";
+
+    private static final String MAIN_SYSTEM_VERSION = "01.00";
+    private static final String MINOR_SYSTEM_VERSION = "009.001.001";
+    private static final String IED_TYPE = "BCU";
+    private static final BigInteger IED_SYSTEM_VERSION_INSTANCE = BigInteger.ONE;
+    private static final int DO_PER_SOURCE_LN = 8;
+    private static final String GOOSE_DO_NAME = "Ind";
+    private static final String GOOSE_DA_NAME = "stVal";
+    private static final String SMV_DO_NAME = "AnIn";
+    private static final String SMV_DA_NAME = "instMag";
+
+    private static final String LLN0_TYPE_ID = "GEN_LLN0";
+    private static final String GGIO_TYPE_ID_PREFIX = "GEN_GGIO_";
+    private static final String LGOS_TYPE_ID = "GEN_LGOS";
+    private static final String LSVS_TYPE_ID = "GEN_LSVS";
+    private static final String ENC_TYPE_ID = "GEN_ENC_Mod";
+    private static final String SPS_TYPE_ID = "GEN_SPS";
+    private static final String MV_TYPE_ID = "GEN_MV";
+    private static final String ORG_TYPE_ID = "GEN_ORG";
+    private static final String BEH_ENUM_TYPE_ID = "BehaviourModeKind";
+
+    private final int bayCount;
+    private final int iedsPerBay;
+    private final int lDeviceCount;
+    private final int lnCount;
+    private final int extRefsPerLn;
+    private final int dttVariantCount;
+    private final int gooseFanOut;
+    private final int smvFanOut;
+    private final long seed;
+
+    /**
+     * Constructor of a generator with one IED per Bay, one GGIO LN per LDevice, a single GGIO LNodeType, and ExtRefs
+     * pointing to any other IED
+     *
+     * @param iedCount     number of IEDs (one STD per IED)
+     * @param lDeviceCount number of LDevices with ExtRefs per IED, LDSUIED excluded
+     * @param extRefCount  number of ExtRefs per LDevice
+     * @param seed         seed of the random choice of the source of each ExtRef
+     */
+    public SclGenerator(int iedCount, int lDeviceCount, int extRefCount, long seed) {
+        this(iedCount, 1, lDeviceCount, 1, extRefCount, 1, iedCount - 1, iedCount - 1, seed);
+    }
+
+    @Builder
+    private SclGenerator(int bayCount, int iedsPerBay, int lDeviceCount, int lnCount, int extRefsPerLn, int dttVariantCount,
+                         int gooseFanOut, int smvFanOut, long seed) {
+        if (bayCount < 1 || iedsPerBay < 1 || lDeviceCount < 1 || lnCount < 1 || dttVariantCount < 1) {
+            throw new IllegalArgumentException("Expecting at least 1 Bay, 1 IED per Bay, 1 LDevice, 1 LN and 1 DataTypeTemplates variant, but got %d Bays, %d IEDs per Bay, %d LDevices, %d LNs and %d variants"
+                    .formatted(bayCount, iedsPerBay, lDeviceCount, lnCount, dttVariantCount));
+        }
+        if (extRefsPerLn < 0 || gooseFanOut < 0 || smvFanOut < 0) {
+            throw new IllegalArgumentException("Expecting a positive number of ExtRefs and fan-out, but got %d ExtRefs, %d GOOSE fan-out and %d SMV fan-out"
+                    .formatted(extRefsPerLn, gooseFanOut, smvFanOut));
+        }
+        this.bayCount = bayCount;
+        this.iedsPerBay = iedsPerBay;
+        this.lDeviceCount = lDeviceCount;
+        this.lnCount = lnCount;
+        this.extRefsPerLn = extRefsPerLn;
+        this.dttVariantCount = dttVariantCount;
+        this.gooseFanOut = Math.min(gooseFanOut, bayCount * iedsPerBay - 1);
+        this.smvFanOut = Math.min(smvFanOut, bayCount * iedsPerBay - 1);
+        this.seed = seed;
+    }
+
+    /**
+     * Builder with default values : 1 Bay of 1 IED, 1 LDevice of 1 LN, no ExtRef, 1 DataTypeTemplates variant, seed 0
+     */
+    public static class SclGeneratorBuilder {
+        private int bayCount = 1;
+        private int iedsPerBay = 1;
+        private int lDeviceCount = 1;
+        private int lnCount = 1;
+        private int dttVariantCount = 1;
+    }
+
+    /**
+     * @return total number of IEDs, which is also the number of STDs
+     */
+    public int getIedCount() {
+        return bayCount * iedsPerBay;
+    }
+
+    public static String iedName(int iedIndex) {
+        return "IED_%04d".formatted(iedIndex);
+    }
+
+    public static String ldInst(int lDeviceIndex) {
+        return "LD_INST_%02d".formatted(lDeviceIndex);
+    }
+
+    /**
+     * Generate the SSD, with one Bay per Bay of IEDs, and one LNode per IED holding its COMPAS-ICDHeader
+     *
+     * @return new SSD
+     */
+    public SCL generateSsd() {
+        TVoltageLevel tVoltageLevel = new TVoltageLevel();
+        tVoltageLevel.setName("0");
+        IntStream.range(0, bayCount).forEach(bayIndex -> {
+            TFunction tFunction = new TFunction();
+            tFunction.setName("FUNCTION_1");
+            IntStream.range(bayIndex * iedsPerBay, (bayIndex + 1) * iedsPerBay).forEach(iedIndex -> {
+                TLNode tlNode = new TLNode();
+                tlNode.setIedName("None");
+                tlNode.setLdInst(LD_SUIED);
+                tlNode.getLnClass().add(TLLN0Enum.LLN_0.value());
+                tlNode.getPrivate().add(PrivateUtils.createPrivate(newIcdHeader(iedIndex)));
+                tFunction.getLNode().add(tlNode);
+            });
+            TBay tBay = new TBay();
+            tBay.setName(bayName(bayIndex));
+            tBay.getFunction().add(tFunction);
+            tVoltageLevel.getBay().add(tBay);
+        });
+        TSubstation tSubstation = new TSubstation();
+        tSubstation.setName("SITE");
+        tSubstation.getVoltageLevel().add(tVoltageLevel);
+        SCL ssd = newScl();
+        ssd.getSubstation().add(tSubstation);
+        return ssd;
+    }
+
+    /**
+     * Generate the STDs, one per IED, in IED order
+     *
+     * @return new STDs
+     */
+    public List<SCL> generateStds() {
+        return IntStream.range(0, getIedCount())
+                .mapToObj(this::generateStd)
+                .toList();
+    }
+
+    /**
+     * Generate the STD of one IED
+     *
+     * @param iedIndex index of the IED, from 0 to {@link #getIedCount()} excluded
+     * @return new STD
+     */
+    public SCL generateStd(int iedIndex) {
+        if (iedIndex < 0 || iedIndex >= getIedCount()) {
+            throw new IllegalArgumentException("IED index %d is out of range [0, %d[".formatted(iedIndex, getIedCount()));
+        }
+        Random random = new Random(31 * seed + iedIndex);
+        String iedName = iedName(iedIndex);
+        TIED tied = new TIED();
+        tied.setName(iedName);
+        TCompasSystemVersion compasSystemVersion = new TCompasSystemVersion();
+        compasSystemVersion.setMainSystemVersion(MAIN_SYSTEM_VERSION);
+        compasSystemVersion.setMinorSystemVersion(MINOR_SYSTEM_VERSION);
+        tied.getPrivate().add(PrivateUtils.createPrivate(compasSystemVersion));
+        tied.getPrivate().add(PrivateUtils.createPrivate(newIcdHeader(iedIndex)));
+        TCompasBay compasBay = new TCompasBay();
+        compasBay.setUUID(bayName(iedIndex / iedsPerBay));
+        tied.getPrivate().add(PrivateUtils.createPrivate(compasBay));
+
+        int[] gooseSourceIedIndexes = pickSourceIeds(iedIndex, gooseFanOut, random);
+        int[] smvSourceIedIndexes = pickSourceIeds(iedIndex, smvFanOut, random);
+        TServer tServer = new TServer();
+        tServer.getLDevice().add(newLdSuied(iedName));
+        IntStream.range(0, lDeviceCount)
+                .mapToObj(lDeviceIndex -> newLDevice(iedIndex, lDeviceIndex, gooseSourceIedIndexes, smvSourceIedIndexes, random))
+                .forEach(tServer.getLDevice()::add);
+        TAccessPoint tAccessPoint = new TAccessPoint();
+        tAccessPoint.setName(AP_NAME);
+        tAccessPoint.setServer(tServer);
+        tAccessPoint.setServices(newServices());
+        tied.getAccessPoint().add(tAccessPoint);
+
+        TSubNetwork tSubNetwork = new TSubNetwork();
+        tSubNetwork.setName(SUBNETWORK_NAME);
+        tSubNetwork.setType("8-MMS");
+        tSubNetwork.getConnectedAP().add(newConnectedAp(iedName, AP_NAME));
+        TCommunication tCommunication = new TCommunication();
+        tCommunication.getSubNetwork().add(tSubNetwork);
+
+        SCL std = newScl();
+        std.getIED().add(tied);
+        std.setCommunication(tCommunication);
+        std.setDataTypeTemplates(newDataTypeTemplates());
+        return std;
+    }
+
+    /**
+     * Generate the ControlBlock communication settings, with address ranges and VLANs matching the generated IEDs
+     *
+     * @return new CBCom
+     */
+    public CBCom generateCbCom() {
+        CBCom cbCom = new CBCom();
+        cbCom.setMacRanges(new MacRanges());
+        cbCom.setAppIdRanges(new AppIdRanges());
+        cbCom.setVlans(new Vlans());
+        cbCom.getMacRanges().getMacRange().add(newRange(TCBType.GOOSE, "01-0C-CD-01-00-00", "01-0C-CD-01-FF-FF"));
+        cbCom.getMacRanges().getMacRange().add(newRange(TCBType.SV, "01-0C-CD-04-00-00", "01-0C-CD-04-FF-FF"));
+        cbCom.getAppIdRanges().getAppIdRange().add(newRange(TCBType.GOOSE, "0000", "3FFF"));
+        cbCom.getAppIdRanges().getAppIdRange().add(newRange(TCBType.SV, "4000", "7FFF"));
+        cbCom.getVlans().getVlan().addAll(List.of(
+                newVlan(TCBType.GOOSE, TBayIntOrExt.BAY_INTERNAL, "301", "1"),
+                newVlan(TCBType.GOOSE, TBayIntOrExt.BAY_EXTERNAL, "302", "2"),
+                newVlan(TCBType.SV, TBayIntOrExt.BAY_INTERNAL, "303", "3"),
+                newVlan(TCBType.SV, TBayIntOrExt.BAY_EXTERNAL, "304", "4")
+        ));
+        return cbCom;
+    }
+
+    /**
+     * Generate the DACOMM, allowing all source DAs of the generated ExtRefs
+     *
+     * @return new DACOMM
+     */
+    public DACOMM generateDaComm() {
+        FCDAs fcdas = new FCDAs();
+        IntStream.range(0, lDeviceCount).mapToObj(SclGenerator::ldInst).forEach(ldInst -> {
+            fcdas.getFCDA().add(newDaCommFcda(ldInst, GOOSE_DO_NAME, GOOSE_DA_NAME, Tfc.ST, TgooseType.GM));
+            fcdas.getFCDA().add(newDaCommFcda(ldInst, SMV_DO_NAME, SMV_DA_NAME, Tfc.MX, TgooseType.GS));
+        });
+        DACOMM dacomm = new DACOMM();
+        dacomm.setFCDAs(fcdas);
+        return dacomm;
+    }
+
+    /**
+     * Write all generated files in a directory : {@value #SSD_FILE_NAME}, one file per STD named after its IED,
+     * {@value #CBCOM_FILE_NAME} and {@value #DACOMM_FILE_NAME}. STDs are generated and written one at a time.
+     *
+     * @param directory directory to write to, created if it does not exist
+     * @return paths of the STD files, in IED order
+     * @throws UncheckedIOException when a file cannot be written
+     */
+    public List<Path> writeTo(Path directory) {
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        write(generateSsd(), JaxbContexts.SCL_CONTEXT, directory.resolve(SSD_FILE_NAME));
+        List<Path> stdPaths = IntStream.range(0, getIedCount())
+                .mapToObj(iedIndex -> {
+                    Path stdPath = directory.resolve(stdFileName(iedIndex));
+                    write(generateStd(iedIndex), JaxbContexts.SCL_CONTEXT, stdPath);
+                    return stdPath;
+                })
+                .toList();
+        write(generateCbCom(), JaxbContexts.CBCOM_CONTEXT, directory.resolve(CBCOM_FILE_NAME));
+        write(generateDaComm(), JaxbContexts.DACOMM_CONTEXT, directory.resolve(DACOMM_FILE_NAME));
+        return stdPaths;
+    }
+
+    public static String stdFileName(int iedIndex) {
+        return "std_%s.xml".formatted(iedName(iedIndex));
+    }
+
+    private static void write(Object jaxbElement, JAXBContext jaxbContext, Path path) {
+        try (OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(path))) {
+            // Create Marshaller instance each time to ensure thread safety
+            Marshaller marshaller = jaxbContext.createMarshaller();
+            marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
+            marshaller.marshal(jaxbElement, outputStream);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (JAXBException e) {
+            throw new RuntimeException("Unable to write : '%s'".formatted(path), e);
+        }
+    }
+
+    /**
+     * JAXB contexts are created on first write only, as most users of the generator never write to disk
+     */
+    private static final class JaxbContexts {
+        private static final JAXBContext SCL_CONTEXT = newContext(SCL.class.getPackageName());
+        private static final JAXBContext CBCOM_CONTEXT = newContext(CBCom.class.getPackageName());
+        private static final JAXBContext DACOMM_CONTEXT = newContext(DACOMM.class.getPackageName());
+
+        private static JAXBContext newContext(String contextPath) {
+            try {
+                return JAXBContext.newInstance(contextPath);
+            } catch (JAXBException e) {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+
+    private TLDevice newLdSuied(String iedName) {
+        TLDevice tlDevice = new TLDevice();
+        tlDevice.setInst(LD_SUIED);
+        tlDevice.setLdName(iedName + LD_SUIED);
+        tlDevice.setLN0(newLn0());
+        tlDevice.getLN().add(newMonitoringLn("LGOS", LGOS_TYPE_ID, "GoCBRef"));
+        tlDevice.getLN().add(newMonitoringLn("LSVS", LSVS_TYPE_ID, "SvCBRef"));
+        return tlDevice;
+    }
+
+    /**
+     * Choose the IEDs an IED subscribes to, with a partial Fisher-Yates shuffle of the other IEDs
+     */
+    private int[] pickSourceIeds(int iedIndex, int fanOut, Random random) {
+        int[] otherIedIndexes = IntStream.range(0, getIedCount()).filter(i -> i != iedIndex).toArray();
+        for (int i = 0; i < fanOut; i++) {
+            int j = i + random.nextInt(otherIedIndexes.length - i);
+            int tmp = otherIedIndexes[i];
+            otherIedIndexes[i] = otherIedIndexes[j];
+            otherIedIndexes[j] = tmp;
+        }
+        return Arrays.copyOf(otherIedIndexes, fanOut);
+    }
+
+    private TLDevice newLDevice(int iedIndex, int lDeviceIndex, int[] gooseSourceIedIndexes, int[] smvSourceIedIndexes, Random random) {
+        String ldInst = ldInst(lDeviceIndex);
+        TLDevice tlDevice = new TLDevice();
+        tlDevice.setInst(ldInst);
+        tlDevice.setLdName(iedName(iedIndex) + ldInst);
+        tlDevice.setLN0(newLn0());
+        for (int lnIndex = 0; lnIndex < lnCount; lnIndex++) {
+            TLN tln = new TLN();
+            tln.getLnClass().add(SOURCE_LN_CLASS);
+            tln.setInst(String.valueOf(lnIndex + 1));
+            tln.setLnType(ggioTypeId((iedIndex + lDeviceIndex + lnIndex) % dttVariantCount));
+            if (extRefsPerLn > 0 && (gooseSourceIedIndexes.length > 0 || smvSourceIedIndexes.length > 0)) {
+                TInputs tInputs = new TInputs();
+                IntStream.range(0, extRefsPerLn)
+                        .mapToObj(extRefIndex -> newExtRef(extRefIndex, gooseSourceIedIndexes, smvSourceIedIndexes, random))
+                        .forEach(tInputs.getExtRef()::add);
+                tln.setInputs(tInputs);
+            }
+            tlDevice.getLN().add(tln);
+        }
+        return tlDevice;
+    }
+
+    /**
+     * ExtRefs alternate between GOOSE and SMV. When the IED does not subscribe to any IED for one type, the other type is used.
+     */
+    private TExtRef newExtRef(int extRefIndex, int[] gooseSourceIedIndexes, int[] smvSourceIedIndexes, Random random) {
+        boolean isGoose = smvSourceIedIndexes.length == 0 || (extRefIndex % 2 == 0 && gooseSourceIedIndexes.length > 0);
+        int[] sourceIedIndexes = isGoose ? gooseSourceIedIndexes : smvSourceIedIndexes;
+        TExtRef tExtRef = new TExtRef();
+        tExtRef.setDesc("EXTREF_%d".formatted(extRefIndex));
+        tExtRef.setIntAddr("INT_ADDR_%d".formatted(extRefIndex));
+        tExtRef.setIedName(iedName(sourceIedIndexes[random.nextInt(sourceIedIndexes.length)]));
+        tExtRef.setLdInst(ldInst(random.nextInt(lDeviceCount)));
+        tExtRef.getLnClass().add(SOURCE_LN_CLASS);
+        tExtRef.setLnInst(String.valueOf(random.nextInt(lnCount) + 1));
+        tExtRef.setDoName((isGoose ? GOOSE_DO_NAME : SMV_DO_NAME) + (random.nextInt(DO_PER_SOURCE_LN) + 1));
+        tExtRef.setDaName(isGoose ? GOOSE_DA_NAME : SMV_DA_NAME);
+        tExtRef.setServiceType(isGoose ? TServiceType.GOOSE : TServiceType.SMV);
+        return tExtRef;
+    }
+
+    private static LN0 newLn0() {
+        TDAI tdai = new TDAI();
+        tdai.setName("stVal");
+        tdai.getVal().add(newVal("on"));
+        TDOI tdoi = new TDOI();
+        tdoi.setName("Mod");
+        tdoi.getSDIOrDAI().add(tdai);
+        LN0 ln0 = new LN0();
+        ln0.getLnClass().add(TLLN0Enum.LLN_0.value());
+        ln0.setInst("");
+        ln0.setLnType(LLN0_TYPE_ID);
+        ln0.getDOI().add(tdoi);
+        return ln0;
+    }
+
+    private static TLN newMonitoringLn(String lnClass, String lnType, String doName) {
+        TDOI tdoi = new TDOI();
+        tdoi.setName(doName);
+        tdoi.getSDIOrDAI().add(newMonitoringDai("setSrcRef"));
+        tdoi.getSDIOrDAI().add(newMonitoringDai("setSrcCB"));
+        TLN tln = new TLN();
+        tln.getLnClass().add(lnClass);
+        tln.setInst("1");
+        tln.setLnType(lnType);
+        tln.getDOI().add(tdoi);
+        return tln;
+    }
+
+    private static TDAI newMonitoringDai(String daName) {
+        TDAI tdai = new TDAI();
+        tdai.setName(daName);
+        tdai.setValKind(TValKindEnum.RO);
+        tdai.setValImport(true);
+        return tdai;
+    }
+
+    private static TServices newServices() {
+        TGSESettings tgseSettings = new TGSESettings();
+        tgseSettings.setDatSet(TServiceSettingsEnum.CONF);
+        tgseSettings.setCbName(TServiceSettingsNoDynEnum.CONF);
+        TSMVSettings tsmvSettings = new TSMVSettings();
+        tsmvSettings.setDatSet(TServiceSettingsEnum.CONF);
+        tsmvSettings.setCbName(TServiceSettingsNoDynEnum.CONF);
+        TServices tServices = new TServices();
+        tServices.setGSESettings(tgseSettings);
+        tServices.setSMVSettings(tsmvSettings);
+        return tServices;
+    }
+
+    private TCompasICDHeader newIcdHeader(int iedIndex) {
+        TCompasICDHeader compasICDHeader = new TCompasICDHeader();
+        compasICDHeader.setIEDName(iedName(iedIndex));
+        compasICDHeader.setICDSystemVersionUUID("STD_UUID_%04d".formatted(iedIndex));
+        compasICDHeader.setIEDType(IED_TYPE);
+        compasICDHeader.setIEDSubstationinstance(BigInteger.valueOf(iedIndex));
+        compasICDHeader.setIEDSystemVersioninstance(IED_SYSTEM_VERSION_INSTANCE);
+        compasICDHeader.setIEDredundancy(TCompasIEDRedundancy.A);
+        compasICDHeader.setBayLabel(bayName(iedIndex / iedsPerBay));
+        compasICDHeader.setVendorName("VENDOR");
+        compasICDHeader.setIEDmodel("MODEL");
+        compasICDHeader.setHwRev("01.00.00");
+        compasICDHeader.setSwRev("01.00.00");
+        compasICDHeader.setHeaderId("HEADER_ID");
+        compasICDHeader.setHeaderVersion("01.00.00");
+        compasICDHeader.setHeaderRevision("01.00.00");
+        return compasICDHeader;
+    }
+
+    public static String bayName(int bayIndex) {
+        return "BAY_%04d".formatted(bayIndex);
+    }
+
+    private static String ggioTypeId(int variant) {
+        return GGIO_TYPE_ID_PREFIX + variant;
+    }
+
+    /**
+     * GGIO LNodeType variant v has DO_PER_SOURCE_LN + v DOs of each kind, so that all variants contain the source DOs
+     * of the ExtRefs
+     */
+    private TDataTypeTemplates newDataTypeTemplates() {
+        TDataTypeTemplates tDataTypeTemplates = new TDataTypeTemplates();
+        tDataTypeTemplates.getLNodeType().add(newLNodeType(LLN0_TYPE_ID, TLLN0Enum.LLN_0.value(), List.of(newDo("Mod", ENC_TYPE_ID))));
+        for (int variant = 0; variant < dttVariantCount; variant++) {
+            List<TDO> sourceDos = new ArrayList<>();
+            for (int i = 1; i <= DO_PER_SOURCE_LN + variant; i++) {
+                sourceDos.add(newDo(GOOSE_DO_NAME + i, SPS_TYPE_ID));
+                sourceDos.add(newDo(SMV_DO_NAME + i, MV_TYPE_ID));
+            }
+            tDataTypeTemplates.getLNodeType().add(newLNodeType(ggioTypeId(variant), SOURCE_LN_CLASS, sourceDos));
+        }
+        tDataTypeTemplates.getLNodeType().add(newLNodeType(LGOS_TYPE_ID, "LGOS", List.of(newDo("GoCBRef", ORG_TYPE_ID))));
+        tDataTypeTemplates.getLNodeType().add(newLNodeType(LSVS_TYPE_ID, "LSVS", List.of(newDo("SvCBRef", ORG_TYPE_ID))));
+
+        tDataTypeTemplates.getDOType().add(newDoType(ENC_TYPE_ID, TPredefinedCDCEnum.ENC,
+                newDa("stVal", TFCEnum.ST, TPredefinedBasicTypeEnum.ENUM, BEH_ENUM_TYPE_ID)));
+        tDataTypeTemplates.getDOType().add(newDoType(SPS_TYPE_ID, TPredefinedCDCEnum.SPS,
+                newDa(GOOSE_DA_NAME, TFCEnum.ST, TPredefinedBasicTypeEnum.BOOLEAN, null),
+                newDa("q", TFCEnum.ST, TPredefinedBasicTypeEnum.QUALITY, null),
+                newDa("t", TFCEnum.ST, TPredefinedBasicTypeEnum.TIMESTAMP, null)));
+        tDataTypeTemplates.getDOType().add(newDoType(MV_TYPE_ID, TPredefinedCDCEnum.MV,
+                newDa(SMV_DA_NAME, TFCEnum.MX, TPredefinedBasicTypeEnum.FLOAT_32, null),
+                newDa("q", TFCEnum.MX, TPredefinedBasicTypeEnum.QUALITY, null),
+                newDa("t", TFCEnum.MX, TPredefinedBasicTypeEnum.TIMESTAMP, null)));
+        tDataTypeTemplates.getDOType().add(newDoType(ORG_TYPE_ID, TPredefinedCDCEnum.ORG,
+                newDa("setSrcRef", TFCEnum.SP, TPredefinedBasicTypeEnum.OBJ_REF, null),
+                newDa("setSrcCB", TFCEnum.SP, TPredefinedBasicTypeEnum.OBJ_REF, null)));
+
+        TEnumType tEnumType = new TEnumType();
+        tEnumType.setId(BEH_ENUM_TYPE_ID);
+        List<String> enumValues = List.of("on", "blocked", "test", "test/blocked", "off");
+        for (int i = 0; i < enumValues.size(); i++) {
+            TEnumVal tEnumVal = new TEnumVal();
+            tEnumVal.setOrd(i + 1);
+            tEnumVal.setValue(enumValues.get(i));
+            tEnumType.getEnumVal().add(tEnumVal);
+        }
+        tDataTypeTemplates.getEnumType().add(tEnumType);
+        return tDataTypeTemplates;
+    }
+
+    private static TLNodeType newLNodeType(String id, String lnClass, List<TDO> tdos) {
+        TLNodeType tlNodeType = new TLNodeType();
+        tlNodeType.setId(id);
+        tlNodeType.getLnClass().add(lnClass);
+        tlNodeType.getDO().addAll(tdos);
+        return tlNodeType;
+    }
+
+    private static TDO newDo(String name, String type) {
+        TDO tdo = new TDO();
+        tdo.setName(name);
+        tdo.setType(type);
+        return tdo;
+    }
+
+    private static TDOType newDoType(String id, TPredefinedCDCEnum cdc, TDA... tdas) {
+        TDOType tdoType = new TDOType();
+        tdoType.setId(id);
+        tdoType.setCdc(cdc);
+        tdoType.getSDOOrDA().addAll(List.of(tdas));
+        return tdoType;
+    }
+
+    private static TDA newDa(String name, TFCEnum fc, TPredefinedBasicTypeEnum bType, String type) {
+        TDA tda = new TDA();
+        tda.setName(name);
+        tda.setFc(fc);
+        tda.setBType(bType);
+        tda.setType(type);
+        return tda;
+    }
+
+    private static SCL newScl() {
+        THeader tHeader = new THeader();
+        tHeader.setId("GENERATED");
+        SCL scl = new SCL();
+        scl.setVersion(SclRootAdapter.VERSION);
+        scl.setRevision(SclRootAdapter.REVISION);
+        scl.setRelease(SclRootAdapter.RELEASE);
+        scl.setHeader(tHeader);
+        return scl;
+    }
+
+    private static TRange newRange(TCBType tcbType, String start, String end) {
+        TRange tRange = new TRange();
+        tRange.setCBType(tcbType);
+        tRange.setStart(start);
+        tRange.setEnd(end);
+        return tRange;
+    }
+
+    private static TVlan newVlan(TCBType tcbType, TBayIntOrExt tBayIntOrExt, String vlanId, String vlanPriority) {
+        TVlan tVlan = new TVlan();
+        tVlan.setCBType(tcbType);
+        tVlan.setXY(MAIN_SYSTEM_VERSION);
+        tVlan.setZW(MINOR_SYSTEM_VERSION.substring(0, MINOR_SYSTEM_VERSION.lastIndexOf('.')));
+        tVlan.setIEDType(IED_TYPE);
+        tVlan.setIEDRedundancy(TIEDRedundancy.A);
+        tVlan.setIEDSystemVersionInstance(IED_SYSTEM_VERSION_INSTANCE.toString());
+        tVlan.setBayIntOrExt(tBayIntOrExt);
+        tVlan.setVlanId(vlanId);
+        tVlan.setVlanPriority(vlanPriority);
+        tVlan.setMinTime("10");
+        tVlan.setMaxTime("2000");
+        return tVlan;
+    }
+
+    private static org.lfenergy.compas.sct.commons.model.da_comm.TFCDA newDaCommFcda(String ldInst, String doName, String daName, Tfc fc, TgooseType gooseType) {
+        org.lfenergy.compas.sct.commons.model.da_comm.TFCDA tfcda = new org.lfenergy.compas.sct.commons.model.da_comm.TFCDA();
+        tfcda.setLdInst(ldInst);
+        tfcda.setLnClass(SOURCE_LN_CLASS);
+        tfcda.setDoName(doName);
+        tfcda.setDaName(daName);
+        tfcda.setFc(fc);
+        tfcda.setGooseType(gooseType);
+        return tfcda;
+    }
+}
@@ -0,0 +1,69 @@
+// SPDX-FileCopyrightText: 2025 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.testhelpers;
+
+import org.junit.jupiter.api.Test;
+import org.lfenergy.compas.scl2007b4.model.*;
+import org.lfenergy.compas.sct.commons.*;
+import org.lfenergy.compas.sct.commons.scl.ExtRefService;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.lfenergy.compas.sct.commons.testhelpers.SclTestMarshaller.assertSclValidateXsd;
+
+class SclGeneratorTest {
+
+    private final SclGenerator sclGenerator = SclGenerator.builder()
+            .bayCount(2)
+            .iedsPerBay(2)
+            .lDeviceCount(2)
+            .lnCount(3)
+            .extRefsPerLn(4)
+            .dttVariantCount(2)
+            .gooseFanOut(2)
+            .smvFanOut(1)
+            .seed(7L)
+            .build();
+
+    @Test
+    void generated_scd_should_have_expected_ieds_lns_and_extRefs_and_be_valid() {
+        // Given
+        LnService lnService = new LnService();
+        SclService sclService = new SclService(new IedService(), new LdeviceService(lnService), lnService, new ExtRefService(), new DataTypeTemplatesService());
+        SCL scd = sclService.initScl(UUID.randomUUID(), "1.0", "1.0");
+        new SubstationService(new VoltageLevelService()).addSubstation(scd, sclGenerator.generateSsd());
+        // When
+        sclService.importSTDElementsInSCD(scd, sclGenerator.generateStds());
+        // Then
+        assertThat(scd.getIED()).extracting(TIED::getName)
+                .containsExactly(SclGenerator.iedName(0), SclGenerator.iedName(1), SclGenerator.iedName(2), SclGenerator.iedName(3));
+        assertThat(scd.getIED()).allSatisfy(tied -> {
+            // LDSUIED and the generated LDevices
+            assertThat(tied.getAccessPoint().getFirst().getServer().getLDevice()).hasSize(3);
+            // LGOS and LSVS of LDSUIED, and the GGIOs of the generated LDevices
+            assertThat(tied.getAccessPoint().getFirst().getServer().getLDevice().stream()
+                    .mapToInt(tlDevice -> tlDevice.getLN().size()).sum()).isEqualTo(2 + 2 * 3);
+        });
+        assertThat(scd.getIED().stream()
+                .flatMap(tied -> tied.getAccessPoint().getFirst().getServer().getLDevice().stream())
+                .flatMap(tlDevice -> tlDevice.getLN().stream())
+                .filter(TLN::isSetInputs)
+                .mapToInt(tln -> tln.getInputs().getExtRef().size())
+                .sum()).isEqualTo(4 * 2 * 3 * 4);
+        assertThat(scd.getSubstation().getFirst().getVoltageLevel().getFirst().getBay()).hasSize(2);
+        assertSclValidateXsd(scd);
+    }
+
+    @Test
+    void generateStd_should_generate_same_valid_std_for_same_seed() {
+        // When
+        SCL std = sclGenerator.generateStd(2);
+        // Then
+        assertSclValidateXsd(std);
+        assertThat(SclTestMarshaller.marshal(std)).isEqualTo(SclTestMarshaller.marshal(sclGenerator.generateStd(2)));
+        assertThat(std.getIED()).singleElement().extracting(TIED::getName).isEqualTo(SclGenerator.iedName(2));
+    }
+}
@@ -9,6 +9,8 @@ import jakarta.xml.bind.JAXBException;
 import jakarta.xml.bind.Marshaller;
 import org.apache.commons.lang3.StringUtils;
 import org.lfenergy.compas.scl2007b4.model.SCL;
+import org.lfenergy.compas.sct.commons.io.SclMarshaller;
+import org.lfenergy.compas.sct.commons.util.SclElementCopier;
 import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
 import org.xml.sax.SAXParseException;
@@ -30,26 +32,19 @@ import java.io.UncheckedIOException;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 public class SclTestMarshaller {
 
-    private static final String CONTEXT_PATH = "org.lfenergy.compas.scl2007b4.model";
-
-    private static JAXBContext jaxbContext;
+    private static final Map<String, SCL> SCL_BY_RESOURCE_NAME = new ConcurrentHashMap<>();
     private static Schema schema;
 
     private static JAXBContext getJAXBContextInstance() {
-        if (jaxbContext == null) {
-            try {
-                jaxbContext = JAXBContext.newInstance(CONTEXT_PATH);
-            } catch (JAXBException e) {
-                throw new RuntimeException(e);
-            }
-        }
-        return jaxbContext;
+        return SclMarshaller.jaxbContext();
     }
 
     private static Schema getSchemaInstance() {
@@ -95,7 +90,18 @@ public class SclTestMarshaller {
         return throwable.getCause().getMessage();
     }
 
+    /**
+     * Each resource is unmarshalled once : next calls return a copy of it, so that tests can modify the result.
+     *
+     * @param name name of the resource
+     * @return new SCL
+     */
     public static SCL getSCLFromResource(String name) {
+        SCL scl = SCL_BY_RESOURCE_NAME.computeIfAbsent(name, SclTestMarshaller::unmarshalResource);
+        return SclElementCopier.DEEP.copy(scl, SCL.class);
+    }
+
+    private static SCL unmarshalResource(String name) {
         InputStream inputStream = SclTestMarshaller.class.getClassLoader().getResourceAsStream(name);
         if (inputStream == null) {
             throw new UncheckedIOException(new IOException("Resource not found : " + name));
@@ -0,0 +1,102 @@
+// SPDX-FileCopyrightText: 2025 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AddressRangeAllocatorTest {
+
+    @Test
+    void constructor_when_range_is_too_large_should_throw_exception() {
+        // When Then
+        assertThatThrownBy(() -> new AddressRangeAllocator(0, Integer.MAX_VALUE))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Address range [0, 2147483647] is too large");
+    }
+
+    @Test
+    void constructor_when_last_address_is_lower_than_first_should_create_empty_range() {
+        // When
+        AddressRangeAllocator allocator = new AddressRangeAllocator(10, 5);
+        // Then
+        assertThat(allocator.size()).isZero();
+        assertThat(allocator.cursor().hasNext()).isFalse();
+        assertThat(allocator.fillRate()).isEqualTo(1);
+    }
+
+    @Test
+    void cursor_should_give_addresses_in_ascending_order_skipping_reserved_ones() {
+        // Given
+        AddressRangeAllocator allocator = new AddressRangeAllocator(0x1000, 0x1005);
+        allocator.reserveAll(LongStream.of(0x1001, 0x1003, 0x2000));
+        // When
+        PrimitiveIterator.OfLong cursor = allocator.cursor();
+        // Then
+        assertThat(cursor).toIterable().containsExactly(0x1000L, 0x1002L, 0x1004L, 0x1005L);
+        assertThatThrownBy(cursor::nextLong)
+                .isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void cursor_should_skip_excluded_addresses_of_this_cursor_only() {
+        // Given
+        AddressRangeAllocator allocator = new AddressRangeAllocator(1, 4);
+        // When
+        PrimitiveIterator.OfLong cursor1 = allocator.cursor(LongStream.of(1, 3, 42));
+        PrimitiveIterator.OfLong cursor2 = allocator.cursor();
+        // Then
+        assertThat(cursor1).toIterable().containsExactly(2L, 4L);
+        assertThat(cursor2).toIterable().containsExactly(1L, 2L, 3L, 4L);
+    }
+
+    @Test
+    void cursor_should_not_see_reservations_done_after_its_creation() {
+        // Given
+        AddressRangeAllocator allocator = new AddressRangeAllocator(1, 3);
+        PrimitiveIterator.OfLong cursor = allocator.cursor();
+        // When
+        allocator.reserve(2);
+        // Then
+        assertThat(cursor).toIterable().containsExactly(1L, 2L, 3L);
+        assertThat(allocator.cursor()).toIterable().containsExactly(1L, 3L);
+    }
+
+    @Test
+    void reserve_should_return_true_only_when_address_is_newly_reserved() {
+        // Given
+        AddressRangeAllocator allocator = new AddressRangeAllocator(1, 3);
+        // When Then
+        assertThat(allocator.reserve(2)).isTrue();
+        assertThat(allocator.reserve(2)).isFalse();
+        assertThat(allocator.reserve(4)).isFalse();
+        assertThat(allocator.isReserved(2)).isTrue();
+        assertThat(allocator.isReserved(3)).isFalse();
+        assertThat(allocator.isReserved(4)).isFalse();
+    }
+
+    @Test
+    void usedCount_should_count_reserved_and_given_addresses() {
+        // Given
+        AddressRangeAllocator allocator = new AddressRangeAllocator(0, 9);
+        allocator.reserve(0);
+        PrimitiveIterator.OfLong cursor1 = allocator.cursor();
+        PrimitiveIterator.OfLong cursor2 = allocator.cursor();
+        // When
+        cursor1.nextLong();
+        cursor1.nextLong();
+        cursor2.nextLong();
+        // Then
+        assertThat(allocator.usedCount()).isEqualTo(3);
+        assertThat(allocator.fillRate()).isEqualTo(0.3);
+        assertThat(allocator).hasToString("AddressRangeAllocator[0..9, used 3/10]");
+    }
+}
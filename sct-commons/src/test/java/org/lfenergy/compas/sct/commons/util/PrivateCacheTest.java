@@ -0,0 +1,126 @@
+// SPDX-FileCopyrightText: 2025 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.util;
+
+import org.junit.jupiter.api.Test;
+import org.lfenergy.compas.scl2007b4.model.TCompasICDHeader;
+import org.lfenergy.compas.scl2007b4.model.TIED;
+import org.lfenergy.compas.scl2007b4.model.TPrivate;
+import org.lfenergy.compas.sct.commons.exception.ScdException;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PrivateCacheTest {
+
+    @Test
+    void extractCompasPrivate_should_return_same_object_as_PrivateUtils() {
+        // Given
+        TIED tied = newIedWithIcdHeader("UUID-1");
+        PrivateCache privateCache = new PrivateCache();
+        // When
+        Optional<TCompasICDHeader> result = privateCache.extractCompasPrivate(tied, TCompasICDHeader.class);
+        // Then
+        assertThat(result).containsSame(PrivateUtils.extractCompasPrivate(tied, TCompasICDHeader.class).orElseThrow());
+    }
+
+    @Test
+    void extractCompasPrivate_should_return_private_added_after_first_call() {
+        // Given
+        TIED tied = new TIED();
+        PrivateCache privateCache = new PrivateCache();
+        tied.getPrivate().add(PrivateUtils.createStringPrivate("privateType", "value"));
+        assertThat(privateCache.extractCompasPrivate(tied, TCompasICDHeader.class)).isEmpty();
+        tied.getPrivate().add(newIcdHeaderPrivate("UUID-1"));
+        // When
+        Optional<TCompasICDHeader> result = privateCache.extractCompasPrivate(tied, TCompasICDHeader.class);
+        // Then
+        assertThat(result).map(TCompasICDHeader::getICDSystemVersionUUID).hasValue("UUID-1");
+    }
+
+    @Test
+    void extractCompasPrivate_should_return_changed_private_after_invalidate() {
+        // Given
+        TIED tied = newIedWithIcdHeader("UUID-1");
+        PrivateCache privateCache = new PrivateCache();
+        assertThat(privateCache.extractCompasPrivate(tied, TCompasICDHeader.class)).map(TCompasICDHeader::getICDSystemVersionUUID).hasValue("UUID-1");
+        PrivateUtils.copyCompasICDHeaderFromLNodePrivateIntoSTDPrivate(tied.getPrivate().getFirst(), newIcdHeader("UUID-2"));
+        // When
+        privateCache.invalidate(tied);
+        Optional<TCompasICDHeader> result = privateCache.extractCompasPrivate(tied, TCompasICDHeader.class);
+        // Then
+        assertThat(result).map(TCompasICDHeader::getICDSystemVersionUUID).hasValue("UUID-2");
+    }
+
+    @Test
+    void extractCompasPrivate_with_new_cache_should_return_private_changed_outside_of_previous_cache() {
+        // Given
+        TIED tied = newIedWithIcdHeader("UUID-1");
+        assertThat(new PrivateCache().extractCompasPrivate(tied, TCompasICDHeader.class)).map(TCompasICDHeader::getICDSystemVersionUUID).hasValue("UUID-1");
+        PrivateUtils.copyCompasICDHeaderFromLNodePrivateIntoSTDPrivate(tied.getPrivate().getFirst(), newIcdHeader("UUID-2"));
+        // When
+        Optional<TCompasICDHeader> result = new PrivateCache().extractCompasPrivate(tied, TCompasICDHeader.class);
+        // Then
+        assertThat(result).map(TCompasICDHeader::getICDSystemVersionUUID).hasValue("UUID-2");
+        assertThat(PrivateUtils.extractCompasPrivate(tied, TCompasICDHeader.class)).map(TCompasICDHeader::getICDSystemVersionUUID).hasValue("UUID-2");
+    }
+
+    @Test
+    void extractCompasPrivate_when_several_privates_should_throw_exception() {
+        // Given
+        TIED tied = newIedWithIcdHeader("UUID-1");
+        tied.getPrivate().add(newIcdHeaderPrivate("UUID-2"));
+        PrivateCache privateCache = new PrivateCache();
+        // When Then
+        assertThatThrownBy(() -> privateCache.extractCompasPrivate(tied, TCompasICDHeader.class))
+                .isInstanceOf(ScdException.class)
+                .hasMessageContaining("Expecting maximum 1 element of type");
+    }
+
+    @Test
+    void extractCompasPrivates_when_no_private_should_return_empty_list() {
+        // Given
+        TIED tied = new TIED();
+        // When
+        List<TCompasICDHeader> result = new PrivateCache().extractCompasPrivates(tied, TCompasICDHeader.class);
+        // Then
+        assertThat(result).isEmpty();
+        assertThat(tied.isSetPrivate()).isFalse();
+    }
+
+    @Test
+    void extractStringPrivate_should_return_value_set_by_setStringPrivate() {
+        // Given
+        TIED tied = new TIED();
+        PrivateCache privateCache = new PrivateCache();
+        PrivateUtils.setStringPrivate(tied, "privateType", "oldValue");
+        assertThat(privateCache.extractStringPrivate(tied, "privateType")).hasValue("oldValue");
+        // When
+        PrivateUtils.setStringPrivate(tied, "privateType", "newValue");
+        privateCache.invalidate(tied);
+        // Then
+        assertThat(privateCache.extractStringPrivate(tied, "privateType")).hasValue("newValue");
+        assertThat(privateCache.extractStringPrivate(tied, "otherType")).isEmpty();
+    }
+
+    private static TIED newIedWithIcdHeader(String icdSystemVersionUUID) {
+        TIED tied = new TIED();
+        tied.getPrivate().add(newIcdHeaderPrivate(icdSystemVersionUUID));
+        return tied;
+    }
+
+    private static TPrivate newIcdHeaderPrivate(String icdSystemVersionUUID) {
+        return PrivateUtils.createPrivate(newIcdHeader(icdSystemVersionUUID));
+    }
+
+    private static TCompasICDHeader newIcdHeader(String icdSystemVersionUUID) {
+        TCompasICDHeader compasICDHeader = new TCompasICDHeader();
+        compasICDHeader.setICDSystemVersionUUID(icdSystemVersionUUID);
+        return compasICDHeader;
+    }
+}
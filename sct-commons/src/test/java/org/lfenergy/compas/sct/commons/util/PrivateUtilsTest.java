@@ -568,6 +568,19 @@ class PrivateUtilsTest {
                 .containsExactlyInAnyOrder("UUID-2", "IED-1", BigInteger.ONE, "BAY-1");
     }
 
+    @Test
+    void extractCompasPrivates_should_return_private_added_after_first_call() {
+        // Given
+        TBaseElement baseElement = new SCL();
+        baseElement.getPrivate().add(privateSCD);
+        assertThat(PrivateUtils.extractCompasPrivates(baseElement, TCompasSclFileType.class)).containsExactly(TCompasSclFileType.SCD);
+        baseElement.getPrivate().add(privateICD);
+        // When
+        List<TCompasSclFileType> result = PrivateUtils.extractCompasPrivates(baseElement, TCompasSclFileType.class).toList();
+        // Then
+        assertThat(result).containsExactly(TCompasSclFileType.SCD, TCompasSclFileType.ICD);
+    }
+
     @Test
     void getCompasICDHeaders_should_return_ICDHeaders() {
         //Given
@@ -675,4 +688,16 @@ class PrivateUtilsTest {
                 .extracting(TPrivate::getType, TPrivate::getContent)
                 .containsExactly("privateType", List.of("newValue"));
     }
+
+    @Test
+    void setStringPrivate_should_update_value_returned_by_extractStringPrivate() {
+        // Given
+        TIED tied = new TIED();
+        PrivateUtils.setStringPrivate(tied, "privateType", "oldValue");
+        assertThat(PrivateUtils.extractStringPrivate(tied, "privateType")).hasValue("oldValue");
+        // When
+        PrivateUtils.setStringPrivate(tied, "privateType", "newValue");
+        // Then
+        assertThat(PrivateUtils.extractStringPrivate(tied, "privateType")).hasValue("newValue");
+    }
 }
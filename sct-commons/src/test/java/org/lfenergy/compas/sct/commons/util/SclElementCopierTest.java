@@ -0,0 +1,141 @@
+// SPDX-FileCopyrightText: 2025 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.util;
+
+import jakarta.xml.bind.JAXBElement;
+import org.junit.jupiter.api.Test;
+import org.lfenergy.compas.scl2007b4.model.*;
+import org.lfenergy.compas.sct.commons.dto.FCDAInfo;
+import org.lfenergy.compas.sct.commons.exception.ScdException;
+import org.w3c.dom.Element;
+
+import javax.xml.namespace.QName;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SclElementCopierTest {
+
+    @Test
+    void copy_should_copy_by_value() {
+        // Given
+        TLN tln = newLn();
+        // When
+        TLN result = SclElementCopier.DEEP.copy(tln, TLN.class);
+        // Then
+        assertThat(result).isNotSameAs(tln);
+        assertThat(result).usingRecursiveComparison().isEqualTo(tln);
+        assertThat(result.getInputs()).isNotSameAs(tln.getInputs());
+        assertThat(result.getDataSet().getFirst()).isNotSameAs(tln.getDataSet().getFirst());
+        assertThat(result.getPrivate().getFirst()).isNotSameAs(tln.getPrivate().getFirst());
+        assertThat(result.getPrivate().getFirst().getContent().getFirst())
+                .isInstanceOfSatisfying(JAXBElement.class, jaxbElement -> assertThat(jaxbElement.getValue())
+                        .isNotSameAs(((JAXBElement<?>) tln.getPrivate().getFirst().getContent().getFirst()).getValue()));
+        result.getInputs().getExtRef().getFirst().setIedName("IED_NAME2");
+        result.getDOI().getFirst().getSDIOrDAI().add(new TDAI());
+        result.getOtherAttributes().clear();
+        assertThat(tln.getInputs().getExtRef().getFirst().getIedName()).isEqualTo("IED_NAME1");
+        assertThat(tln.getDOI().getFirst().getSDIOrDAI()).hasSize(1);
+        assertThat(tln.getOtherAttributes()).hasSize(1);
+    }
+
+    @Test
+    void copy_should_keep_unset_elements_unset() {
+        // Given
+        TLN tln = new TLN();
+        tln.setLnType("T1");
+        // When
+        TLN result = SclElementCopier.DEEP.copy(tln, TLN.class);
+        // Then
+        assertThat(result.isSetDOI()).isFalse();
+        assertThat(result.isSetDataSet()).isFalse();
+        assertThat(result.isSetInputs()).isFalse();
+        assertThat(result.isSetPrefix()).isFalse();
+        assertThat(result.getLnType()).isEqualTo("T1");
+    }
+
+    @Test
+    void copy_should_clone_dom_elements() throws ParserConfigurationException {
+        // Given
+        TLN tln = new TLN();
+        Element element = DocumentBuilderFactory.newInstance().newDocumentBuilder().newDocument().createElementNS("http://www.example.com", "Any");
+        element.setAttribute("attribute", "value");
+        tln.getAny().add(element);
+        // When
+        TLN result = SclElementCopier.DEEP.copy(tln, TLN.class);
+        // Then
+        assertThat(result.getAny()).singleElement()
+                .isNotSameAs(element)
+                .isInstanceOfSatisfying(Element.class, copy -> assertThat(copy.isEqualNode(element)).isTrue());
+    }
+
+    @Test
+    void sharing_should_share_given_types_only() {
+        // Given
+        TLN tln = newLn();
+        // When
+        TLN result = SclElementCopier.sharing(TPrivate.class, TText.class).copy(tln, TLN.class);
+        // Then
+        assertThat(result).usingRecursiveComparison().isEqualTo(tln);
+        assertThat(result.getPrivate().getFirst()).isSameAs(tln.getPrivate().getFirst());
+        assertThat(result.getDOI().getFirst().getText()).isSameAs(tln.getDOI().getFirst().getText());
+        assertThat(result.getDOI().getFirst()).isNotSameAs(tln.getDOI().getFirst());
+        assertThat(result.getInputs()).isNotSameAs(tln.getInputs());
+    }
+
+    @Test
+    void sharing_should_copy_root_element_of_shared_type() {
+        // Given
+        TPrivate tPrivate = PrivateUtils.createPrivate(TCompasSclFileType.SCD);
+        // When
+        TPrivate result = SclElementCopier.sharing(TPrivate.class).copy(tPrivate, TPrivate.class);
+        // Then
+        assertThat(result).isNotSameAs(tPrivate);
+        assertThat(result).usingRecursiveComparison().isEqualTo(tPrivate);
+    }
+
+    @Test
+    void copy_when_class_is_not_in_scl_model_should_throw_exception() {
+        // Given
+        FCDAInfo fcdaInfo = new FCDAInfo();
+        // When Then
+        assertThatThrownBy(() -> SclElementCopier.DEEP.copy(fcdaInfo, FCDAInfo.class))
+                .isInstanceOf(ScdException.class)
+                .hasMessage("org.lfenergy.compas.sct.commons.dto.FCDAInfo is not known to this context");
+    }
+
+    private static TLN newLn() {
+        TLN tln = new TLN();
+        tln.setLnType("T1");
+        tln.getLnClass().add("LGOS");
+        tln.setInst("1");
+        tln.getOtherAttributes().put(new QName("http://www.example.com", "attribute"), "value");
+        TDAI tdai = new TDAI();
+        tdai.setName("setSrcRef");
+        tdai.setValImport(true);
+        tdai.getVal().add(SclConstructorHelper.newVal("value", 1L));
+        TDOI tdoi = new TDOI();
+        tdoi.setName("GoCBRef");
+        tdoi.setText(new TText());
+        tdoi.getSDIOrDAI().add(tdai);
+        tln.getDOI().add(tdoi);
+        TExtRef tExtRef = new TExtRef();
+        tExtRef.setIedName("IED_NAME1");
+        tExtRef.setServiceType(TServiceType.GOOSE);
+        TInputs tInputs = new TInputs();
+        tInputs.getExtRef().add(tExtRef);
+        tln.setInputs(tInputs);
+        TDataSet tDataSet = new TDataSet();
+        tDataSet.setName("DATASET");
+        tDataSet.getFCDA().add(SclConstructorHelper.newFcda("LD_INST", "GGIO", "1", null, "Ind", "stVal", TFCEnum.ST));
+        tln.getDataSet().add(tDataSet);
+        TCompasICDHeader tCompasICDHeader = new TCompasICDHeader();
+        tCompasICDHeader.setIEDName("IED_NAME1");
+        tln.getPrivate().add(PrivateUtils.createPrivate(tCompasICDHeader));
+        return tln;
+    }
+}
@@ -0,0 +1,63 @@
+// SPDX-FileCopyrightText: 2025 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.util;
+
+import org.junit.jupiter.api.Test;
+import org.lfenergy.compas.scl2007b4.model.*;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+class SclListInitializerTest {
+
+    @Test
+    void initializeLists_should_create_missing_lists_of_element_and_descendants() throws IllegalAccessException {
+        // Given
+        TDAI tdai = new TDAI();
+        tdai.setName("da");
+        TDOI tdoi = new TDOI();
+        tdoi.setName("Do");
+        tdoi.getSDIOrDAI().add(tdai);
+        TExtRef tExtRef = new TExtRef();
+        TInputs tInputs = new TInputs();
+        tInputs.getExtRef().add(tExtRef);
+        TLN tln = new TLN();
+        tln.getDOI().add(tdoi);
+        tln.setInputs(tInputs);
+        // When
+        SclListInitializer.initializeLists(tln);
+        // Then
+        for (Object element : List.of(tln, tdoi, tdai, tInputs, tExtRef)) {
+            assertThat(listFieldValues(element)).isNotEmpty().doesNotContainNull();
+        }
+        assertThat(tln.getDOI()).containsExactly(tdoi);
+        assertThat(tdai.isSetVal()).isFalse();
+        assertThat(tExtRef.isSetLnClass()).isFalse();
+    }
+
+    @Test
+    void initializeLists_when_element_is_null_should_do_nothing() {
+        // When Then
+        assertThatCode(() -> SclListInitializer.initializeLists(null)).doesNotThrowAnyException();
+    }
+
+    private static List<Object> listFieldValues(Object element) throws IllegalAccessException {
+        List<Object> values = new ArrayList<>();
+        for (Class<?> type = element.getClass(); type != Object.class; type = type.getSuperclass()) {
+            for (Field field : type.getDeclaredFields()) {
+                if (field.getType() == List.class && !Modifier.isStatic(field.getModifiers())) {
+                    field.setAccessible(true);
+                    values.add(field.get(element));
+                }
+            }
+        }
+        return values;
+    }
+}